@@ -0,0 +1,79 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.service.AlteracoesService;
+
+/**
+ * Controlador REST do feed de alterações, usado por sistemas externos para receber apenas
+ * o que mudou nos eventos e usuários desde a última leitura.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@RestController
+public class AlteracaoApiController {
+
+    private final AlteracoesService alteracoesService;
+
+    /**
+     * Construtor para injeção de dependências.
+     * @param alteracoesService Serviço que lê e transmite o feed de alterações.
+     */
+    @Autowired
+    public AlteracaoApiController(AlteracoesService alteracoesService) {
+        this.alteracoesService = alteracoesService;
+    }
+
+    /**
+     * Lê uma página do feed. O consumidor guarda o valor de "proxima" e o envia como
+     * "desde" na leitura seguinte.
+     *
+     * @param desde A última sequência já processada (0 para ler do início).
+     * @param limite O tamanho máximo da página.
+     * @return 200 com as alterações, a posição para a próxima leitura e a sequência mais recente;
+     * 400 se os parâmetros forem inválidos.
+     */
+    @GetMapping("/api/alteracoes")
+    public ResponseEntity<Map<String, Object>> listar(@RequestParam(value = "desde", defaultValue = "0") long desde,
+            @RequestParam(value = "limite", defaultValue = "100") int limite) {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        try {
+            List<Alteracao> alteracoes = alteracoesService.buscar(desde, limite);
+            corpo.put("alteracoes", alteracoes);
+            corpo.put("proxima", alteracoes.isEmpty() ? desde : alteracoes.get(alteracoes.size() - 1).getSequencia());
+            corpo.put("ultima", alteracoesService.getUltimaSequencia());
+            return ResponseEntity.ok(corpo);
+        } catch (IllegalArgumentException e) {
+            corpo.put("erro", e.getMessage());
+            return ResponseEntity.badRequest().body(corpo);
+        }
+    }
+
+    /**
+     * Endpoint SSE que transmite as alterações posteriores a "desde" e, em seguida, as novas.
+     * Ao reconectar, o cabeçalho "Last-Event-ID" enviado pelo navegador tem precedência.
+     *
+     * @param desde A última sequência já processada.
+     * @param ultimoId O ID da última mensagem recebida antes de uma reconexão, se houver.
+     * @return O fluxo SSE.
+     */
+    @GetMapping(value = "/api/alteracoes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanhar(@RequestParam(value = "desde", defaultValue = "0") long desde,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long ultimoId) {
+        return alteracoesService.assinar(ultimoId != null ? ultimoId : desde);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.service.AssentoService;
+import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+
+/**
+ * Controlador REST que expõe os mapas de assentos numerados dos eventos.
+ * <p>
+ * O comprador consulta a ocupação dos setores para escolher os lugares, ou pede uma
+ * sugestão dos melhores disponíveis, e envia os códigos escolhidos no checkout
+ * ({@code /api/pedidos}).
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@RestController
+public class AssentoApiController {
+
+    private final AssentoService assentoService;
+    private final EventoService eventoService;
+
+    /**
+     * Construtor para injeção de dependências.
+     * @param assentoService Serviço que mantém a ocupação dos assentos.
+     * @param eventoService Serviço usado para obter os setores do evento.
+     */
+    @Autowired
+    public AssentoApiController(AssentoService assentoService, EventoService eventoService) {
+        this.assentoService = assentoService;
+        this.eventoService = eventoService;
+    }
+
+    /**
+     * Obtém o mapa de assentos de um evento.
+     *
+     * @param id O ID do evento.
+     * @return 200 com os setores e a ocupação de cada fileira ('1' ocupado, '0' livre);
+     * 404 se o evento não existir ou não tiver lugares marcados.
+     */
+    @GetMapping("/api/eventos/{id}/assentos")
+    public ResponseEntity<Map<String, Object>> mapa(@PathVariable("id") int id) {
+        Optional<Evento> evento = eventoService.buscarPorId(id).filter(Evento::hasMapaAssentos);
+        if (evento.isEmpty()) {
+            return erro(HttpStatus.NOT_FOUND, "Este evento não possui assentos numerados.");
+        }
+        List<Map<String, Object>> setores = new ArrayList<>();
+        List<SetorAssentos> layout = evento.get().getSetores();
+        for (int i = 0; i < layout.size(); i++) {
+            Map<String, Object> setor = new LinkedHashMap<>();
+            setor.put("setor", i + 1);
+            setor.put("nome", layout.get(i).getNome());
+            setor.put("fileiras", layout.get(i).getFileiras());
+            setor.put("assentosPorFileira", layout.get(i).getAssentosPorFileira());
+            setor.put("ocupacao", assentoService.ocupacao(id, i + 1));
+            setores.add(setor);
+        }
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("eventoId", id);
+        corpo.put("setores", setores);
+        return ResponseEntity.ok(corpo);
+    }
+
+    /**
+     * Sugere os melhores assentos disponíveis, sem reservá-los.
+     *
+     * @param id O ID do evento.
+     * @param quantidade A quantidade de assentos.
+     * @param setor O setor desejado (opcional).
+     * @return 200 com os códigos sugeridos (lista vazia se não houver lugares suficientes);
+     * 400 se o setor for inválido; 404 se o evento não tiver lugares marcados.
+     */
+    @GetMapping("/api/eventos/{id}/assentos/melhores")
+    public ResponseEntity<Map<String, Object>> melhores(@PathVariable("id") int id,
+            @RequestParam(defaultValue = "1") int quantidade,
+            @RequestParam(required = false) Integer setor) {
+        if (eventoService.buscarPorId(id).filter(Evento::hasMapaAssentos).isEmpty()) {
+            return erro(HttpStatus.NOT_FOUND, "Este evento não possui assentos numerados.");
+        }
+        try {
+            Map<String, Object> corpo = new LinkedHashMap<>();
+            corpo.put("eventoId", id);
+            corpo.put("assentos", assentoService.sugerir(id, quantidade, setor));
+            return ResponseEntity.ok(corpo);
+        } catch (IllegalArgumentException e) {
+            return erro(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Monta uma resposta de erro no formato {"erro": mensagem}.
+     */
+    private ResponseEntity<Map<String, Object>> erro(HttpStatus status, String mensagem) {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("erro", mensagem);
+        return ResponseEntity.status(status).body(corpo);
+    }
+}
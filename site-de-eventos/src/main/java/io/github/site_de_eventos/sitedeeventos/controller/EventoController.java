@@ -2,10 +2,15 @@ package io.github.site_de_eventos.sitedeeventos.controller;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,13 +18,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
 import io.github.site_de_eventos.sitedeeventos.model.Organizador;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.service.DisponibilidadeService;
 import io.github.site_de_eventos.sitedeeventos.service.EventoService;
-import jakarta.servlet.http.HttpSession;
+import io.github.site_de_eventos.sitedeeventos.service.PainelVendasService;
 
 /**
  * Controlador responsável por gerenciar as requisições web relacionadas a
@@ -42,15 +50,33 @@ public class EventoController {
     @Autowired // Anotação que instrui o Spring a injetar uma instância de EventoService aqui.
     private EventoService eventoService;
 
+    /**
+     * Serviço que transmite ao vivo a disponibilidade de ingressos de cada evento.
+     */
+    @Autowired
+    private DisponibilidadeService disponibilidadeService;
+
+    /**
+     * Serviço com os agregados de vendas exibidos no painel do organizador.
+     */
+    @Autowired
+    private PainelVendasService painelVendasService;
+
+    /**
+     * Acesso ao usuário logado, resolvido uma vez por requisição a partir do ID guardado na sessão.
+     */
+    @Autowired
+    private SessaoUsuario sessaoUsuario;
+
     /**
      * Exibe a página principal (index) com a lista de eventos, com suporte a busca.
      * Mapeado para requisições GET em "/".
      */
     @GetMapping("/") // Mapeia requisições HTTP GET para a URL raiz ("/") para este método.
-    public String index(Model model, HttpSession session, @RequestParam(name = "q", required = false) String query) {
-        // Pega o objeto 'usuarioLogado' da sessão HTTP. Se não houver ninguém logado,
-        // será null.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+    public String index(Model model, @RequestParam(name = "q", required = false) String query) {
+        // Pega o usuário logado na requisição (a sessão HTTP guarda só o seu ID). Se não
+        // houver ninguém logado, será null.
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         // Adiciona o objeto do usuário ao 'Model', para que a página (view) possa
         // acessá-lo.
         model.addAttribute("usuarioLogado", usuarioLogado);
@@ -73,9 +99,9 @@ public class EventoController {
      * Apenas usuários do tipo {@link Organizador} podem acessar esta página.
      */
     @GetMapping("/eventos/novo")
-    public String exibirFormularioCriacao(HttpSession session) {
+    public String exibirFormularioCriacao() {
         // Pega o usuário da sessão para verificar suas permissões.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         // Verifica se o usuário logado é uma instância da classe Organizador.
         if (usuarioLogado instanceof Organizador) {
             // Se for um organizador, renderiza a página de criação de evento.
@@ -96,9 +122,12 @@ public class EventoController {
             @RequestParam(required = false) String imageUrl,
             @RequestParam(required = false) String cupomCode,
             @RequestParam(defaultValue = "0.0") double cupomDiscountValue,
-            HttpSession session, RedirectAttributes redirectAttributes, Model model) {
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) String mapaAssentos,
+            @RequestParam(required = false) String tiposIngresso, RedirectAttributes redirectAttributes, Model model) {
         // Pega o usuário da sessão para verificar se ele pode criar eventos.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
 
         // Apenas continua se o usuário for um organizador.
         if (usuarioLogado instanceof Organizador) {
@@ -108,7 +137,7 @@ public class EventoController {
                 // Delega toda a lógica de criação do evento para a camada de serviço.
                 eventoService.criarNovoEvento(nomeEvento, dataEvento, local, descricao, categoria,
                         preco, capacidade, imageUrl, cupomCode,
-                        cupomDiscountValue, organizador);
+                        cupomDiscountValue, latitude, longitude, mapaAssentos, tiposIngresso, organizador);
                 // Adiciona uma mensagem de sucesso que será exibida após o redirecionamento.
                 redirectAttributes.addFlashAttribute("sucesso", "Evento criado com sucesso!");
                 // Redireciona para a página que lista os eventos do organizador.
@@ -124,6 +153,10 @@ public class EventoController {
                 model.addAttribute("preco_old", preco);
                 model.addAttribute("ingressosDisponiveis_old", capacidade);
                 model.addAttribute("imagem_old", imageUrl);
+                model.addAttribute("latitude_old", latitude);
+                model.addAttribute("longitude_old", longitude);
+                model.addAttribute("mapaAssentos_old", mapaAssentos);
+                model.addAttribute("tiposIngresso_old", tiposIngresso);
                 // Redireciona de volta para o formulário de criação.
                 return "criar-evento";
             }
@@ -148,9 +181,9 @@ public class EventoController {
      * Exibe a página "Meus Eventos", que lista os pedidos do usuário logado.
      */
     @GetMapping("/meus-eventos")
-    public String exibirMeusEventos(HttpSession session, Model model) {
+    public String exibirMeusEventos(Model model) {
         // Pega o objeto do usuário da sessão.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         // Verifica se o usuário está logado e se a lista de pedidos não é nula.
         if (usuarioLogado != null && usuarioLogado.getPedidos() != null) {
             // Se sim, adiciona a lista de pedidos ao 'Model'.
@@ -188,18 +221,71 @@ public class EventoController {
      */
     @GetMapping("/api/eventos")
     @ResponseBody // Indica que o retorno do método é o corpo da resposta, não o nome de uma view.
-    public List<Evento> getEventosParaMapa() {
-        // Retorna a lista de eventos, que o Spring automaticamente converte para JSON.
-        return eventoService.buscarTodos();
+    public ResponseEntity<List<Evento>> getEventosParaMapa(@RequestParam(required = false) String bbox) {
+        // Sem área informada, retorna a lista completa, que o Spring converte para JSON.
+        if (bbox == null || bbox.isBlank()) {
+            return ResponseEntity.ok(eventoService.buscarTodos());
+        }
+        // A área é resolvida pelo índice espacial.
+        try {
+            double[] area = lerBbox(bbox);
+            return ResponseEntity.ok(eventoService.buscarPorArea(area[1], area[0], area[3], area[2]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException também é uma IllegalArgumentException.
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint de API que retorna os eventos de uma área do mapa já agrupados para o nível de zoom,
+     * com a quantidade e o centróide de cada grupo.
+     */
+    @GetMapping("/api/eventos/clusters")
+    @ResponseBody
+    public ResponseEntity<List<ClusterEventos>> getClustersParaMapa(@RequestParam String bbox, @RequestParam int zoom) {
+        try {
+            double[] area = lerBbox(bbox);
+            return ResponseEntity.ok(eventoService.buscarClusters(area[1], area[0], area[3], area[2], zoom));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Converte o parâmetro "bbox" do mapa, na ordem "lngOeste,latSul,lngLeste,latNorte".
+     *
+     * @throws IllegalArgumentException se o parâmetro não tiver quatro números.
+     */
+    private double[] lerBbox(String bbox) {
+        String[] partes = bbox.split(",");
+        if (partes.length != 4) {
+            throw new IllegalArgumentException("A área deve ter quatro coordenadas.");
+        }
+        double[] area = new double[4];
+        for (int i = 0; i < 4; i++) {
+            area[i] = Double.parseDouble(partes[i].trim());
+        }
+        return area;
+    }
+
+    /**
+     * Endpoint SSE que transmite a quantidade de ingressos disponíveis de um evento.
+     * Usado pelas páginas de detalhes e de pedido no lugar de recarregar a página.
+     */
+    @GetMapping(value = "/api/eventos/{id}/disponibilidade", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter acompanharDisponibilidade(@PathVariable("id") int id) {
+        // Mantém a conexão aberta; o serviço envia o estado atual e as próximas mudanças.
+        return disponibilidadeService.assinar(id);
     }
 
     /**
      * Exibe a página com os eventos criados pelo organizador logado.
      */
     @GetMapping("/meus-eventos-organizados")
-    public String exibirMeusEventosOrganizados(HttpSession session, Model model) {
+    public String exibirMeusEventosOrganizados(Model model) {
         // Pega o usuário da sessão.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
 
         // Verifica se o usuário logado NÃO é um organizador.
         if (!(usuarioLogado instanceof Organizador)) {
@@ -212,19 +298,63 @@ public class EventoController {
         List<Evento> meusEventos = eventoService.buscarPorOrganizador(organizador);
         // Adiciona a lista encontrada ao 'Model'.
         model.addAttribute("eventosOrganizados", meusEventos);
+        // Adiciona o resumo de vendas de cada evento, mantido incrementalmente pelo painel.
+        Map<Integer, Map<String, Object>> painelVendas = new HashMap<>();
+        for (Evento evento : meusEventos) {
+            painelVendas.put(evento.getIdEvento(), painelVendasService.resumo(evento.getIdEvento()));
+        }
+        model.addAttribute("painelVendas", painelVendas);
         // Renderiza a página correspondente.
         return "meus-eventos-organizados";
     }
     // ... (demais métodos já comentados anteriormente) ...
 
+    /**
+     * Endpoint de API que retorna o resumo de vendas de um evento ao seu organizador.
+     */
+    @GetMapping("/api/organizador/eventos/{id}/vendas")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getResumoVendas(@PathVariable("id") int eventoId) {
+        // Apenas o organizador dono do evento pode ver seus números.
+        if (!isOrganizadorDoEvento(eventoId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(painelVendasService.resumo(eventoId));
+    }
+
+    /**
+     * Endpoint SSE que transmite o resumo de vendas de um evento ao seu organizador.
+     */
+    @GetMapping(value = "/api/organizador/eventos/{id}/vendas/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> acompanharVendas(@PathVariable("id") int eventoId) {
+        if (!isOrganizadorDoEvento(eventoId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(painelVendasService.assinar(eventoId));
+    }
+
+    /**
+     * Verifica se o usuário da sessão é o organizador responsável pelo evento.
+     */
+    private boolean isOrganizadorDoEvento(int eventoId) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (!(usuarioLogado instanceof Organizador)) {
+            return false;
+        }
+        return eventoService.buscarPorId(eventoId)
+                .map(evento -> evento.getOrganizadorId() == usuarioLogado.getIdUsuario())
+                .orElse(false);
+    }
+
     /**
      * Processa a solicitação de cancelamento de um evento por seu organizador.
      */
     @PostMapping("/eventos/{id}/cancelar") // Mapeia requisições POST para esta URL com ID variável.
-    public String cancelarEvento(@PathVariable("id") int eventoId, HttpSession session,
+    public String cancelarEvento(@PathVariable("id") int eventoId,
             RedirectAttributes redirectAttributes) {
         // Pega o usuário logado da sessão.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
 
         // Medida de segurança: verifica se o usuário é um organizador.
         if (!(usuarioLogado instanceof Organizador)) {
@@ -0,0 +1,184 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService.DadosIngresso;
+import io.github.site_de_eventos.sitedeeventos.service.CheckinService;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService.RegistroIngresso;
+import io.github.site_de_eventos.sitedeeventos.service.checkin.ResultadoCheckin;
+
+/**
+ * Controlador REST usado pelos leitores da portaria para validar ingressos.
+ * <p>
+ * Cada leitura resolve o código de inscrição com uma única consulta ao
+ * {@link IndiceIngressosService} e as entradas são registradas pelo
+ * {@link CheckinService}. Apenas o organizador do evento pode validar
+ * os ingressos dele.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@RestController
+public class IngressoApiController {
+
+    private final IndiceIngressosService indiceIngressosService;
+    private final CheckinService checkinService;
+    private final AssinaturaIngressoService assinaturaIngressoService;
+    private final SessaoUsuario sessaoUsuario;
+
+    /**
+     * Construtor para injeção de dependências.
+     * @param indiceIngressosService Índice dos ingressos por código de inscrição.
+     * @param checkinService Serviço que registra as entradas nos eventos.
+     * @param assinaturaIngressoService Serviço que confere os códigos assinados dos QR Codes.
+     * @param sessaoUsuario Acesso ao organizador logado na requisição.
+     */
+    @Autowired
+    public IngressoApiController(IndiceIngressosService indiceIngressosService, CheckinService checkinService,
+            AssinaturaIngressoService assinaturaIngressoService, SessaoUsuario sessaoUsuario) {
+        this.indiceIngressosService = indiceIngressosService;
+        this.checkinService = checkinService;
+        this.assinaturaIngressoService = assinaturaIngressoService;
+        this.sessaoUsuario = sessaoUsuario;
+    }
+
+    /**
+     * Confere a autenticidade do código lido de um QR Code. A verificação é feita apenas
+     * com a chave de assinatura, sem consultar pedidos ou eventos.
+     *
+     * @param codigo O código assinado impresso no ingresso.
+     * @return 200 com os dados do ingresso se o código for autêntico; 400 caso contrário.
+     */
+    @GetMapping("/api/ingressos/verificacao")
+    public ResponseEntity<Map<String, Object>> verificar(@RequestParam("codigo") String codigo) {
+        Optional<DadosIngresso> dados = assinaturaIngressoService.verificar(codigo);
+        if (dados.isEmpty()) {
+            Map<String, Object> corpo = new LinkedHashMap<>();
+            corpo.put("autentico", false);
+            corpo.put("erro", "Código de ingresso inválido ou adulterado.");
+            return ResponseEntity.badRequest().body(corpo);
+        }
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("autentico", true);
+        corpo.put("idInscricao", dados.get().getIdInscricao());
+        corpo.put("eventoId", dados.get().getEventoId());
+        corpo.put("pedidoId", dados.get().getPedidoId());
+        return ResponseEntity.ok(corpo);
+    }
+
+    /**
+     * Valida um ingresso pelo código de inscrição.
+     *
+     * @param idInscricao O código lido na portaria.
+     * @return 200 com o resultado da validação; 401 sem login; 403 se o ingresso for de
+     * outro organizador; 404 se o código não existir.
+     */
+    @GetMapping("/api/ingressos/{idInscricao}/validacao")
+    public ResponseEntity<Map<String, Object>> validar(@PathVariable("idInscricao") String idInscricao) {
+        Optional<RegistroIngresso> registro = indiceIngressosService.buscar(idInscricao);
+        ResponseEntity<Map<String, Object>> negado = verificarAcesso(registro);
+        if (negado != null) {
+            return negado;
+        }
+        return ResponseEntity.ok(descrever(registro.get()));
+    }
+
+    /**
+     * Registra a entrada de um ingresso no evento. Cada ingresso entra uma única vez,
+     * mesmo que seja lido ao mesmo tempo em portarias diferentes.
+     *
+     * @param idInscricao O código lido na portaria.
+     * @return 200 se a entrada foi registrada; 409 se o ingresso já entrou; 422 se o pedido
+     * ou o evento foi cancelado; 503 se a entrada não pôde ser gravada; 401, 403 ou 404 como na validação.
+     */
+    @PostMapping("/api/ingressos/{idInscricao}/checkin")
+    public ResponseEntity<Map<String, Object>> checkin(@PathVariable("idInscricao") String idInscricao) {
+        Optional<RegistroIngresso> registro = indiceIngressosService.buscar(idInscricao);
+        ResponseEntity<Map<String, Object>> negado = verificarAcesso(registro);
+        if (negado != null) {
+            return negado;
+        }
+
+        ResultadoCheckin resultado = checkinService.realizarCheckin(idInscricao);
+        Map<String, Object> corpo = descrever(registro.get());
+        corpo.put("resultado", resultado);
+        switch (resultado) {
+            case ADMITIDO:
+                return ResponseEntity.ok(corpo);
+            case JA_UTILIZADO:
+                corpo.put("erro", "Este ingresso já foi utilizado.");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(corpo);
+            case INVALIDO:
+                corpo.put("erro", "Este ingresso foi cancelado.");
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(corpo);
+            case FALHA_REGISTRO:
+                corpo.put("erro", "Não foi possível registrar a entrada. Tente novamente.");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(corpo);
+            default:
+                return erro(HttpStatus.NOT_FOUND, "Ingresso não encontrado.");
+        }
+    }
+
+    /**
+     * Confere se o usuário da sessão é o organizador do evento do ingresso.
+     *
+     * @return A resposta de erro a ser enviada, ou {@code null} se o acesso for permitido.
+     */
+    private ResponseEntity<Map<String, Object>> verificarAcesso(Optional<RegistroIngresso> registro) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (!(usuarioLogado instanceof Organizador)) {
+            return erro(HttpStatus.UNAUTHORIZED, "Faça login como organizador para validar ingressos.");
+        }
+        if (registro.isEmpty()) {
+            return erro(HttpStatus.NOT_FOUND, "Ingresso não encontrado.");
+        }
+        Evento evento = registro.get().getPedido().getEvento();
+        if (evento == null || evento.getOrganizadorId() != usuarioLogado.getIdUsuario()) {
+            return erro(HttpStatus.FORBIDDEN, "Este ingresso não pertence a um evento seu.");
+        }
+        return null;
+    }
+
+    /**
+     * Monta o corpo com os dados do ingresso exibidos na portaria.
+     */
+    private Map<String, Object> descrever(RegistroIngresso registro) {
+        Ingresso ingresso = registro.getIngresso();
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("idInscricao", ingresso.getIdIncricao());
+        corpo.put("valido", registro.isValido());
+        corpo.put("utilizado", checkinService.foiUtilizado(ingresso));
+        corpo.put("statusPedido", registro.getPedido().getStatus());
+        corpo.put("eventoId", ingresso.getIdEvento());
+        corpo.put("nomeEvento", registro.getPedido().getEvento().getNomeEvento());
+        corpo.put("nomeParticipante", ingresso.getNomeParticipante());
+        return corpo;
+    }
+
+    /**
+     * Monta uma resposta de erro no formato {"erro": mensagem}.
+     */
+    private ResponseEntity<Map<String, Object>> erro(HttpStatus status, String mensagem) {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("erro", mensagem);
+        return ResponseEntity.status(status).body(corpo);
+    }
+}
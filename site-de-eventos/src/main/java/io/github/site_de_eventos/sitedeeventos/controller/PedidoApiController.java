@@ -0,0 +1,232 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.site_de_eventos.sitedeeventos.controller.dto.CheckoutRequest;
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+import io.github.site_de_eventos.sitedeeventos.service.PedidoGrupoService;
+import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.ProgressoPedidoGrupo;
+
+/**
+ * Controlador REST que expõe o fluxo de compra de ingressos em formato JSON.
+ * <p>
+ * Enquanto o {@link PedidoController} conduz o comprador por várias páginas
+ * (quantidade, participantes, revisão e finalização), esta API recebe todos os
+ * dados em um único corpo JSON, valida, cria o pedido e devolve os ingressos
+ * gerados em uma só requisição. É o caminho indicado para clientes móveis e
+ * totens de autoatendimento. Pedidos em grupo, com milhares de participantes,
+ * são enviados como um arquivo CSV e processados em segundo plano.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@RestController
+public class PedidoApiController {
+
+    private final PedidoService pedidoService;
+    private final EventoService eventoService;
+    private final SessaoUsuario sessaoUsuario;
+    private final PedidoGrupoService pedidoGrupoService;
+
+    /**
+     * Construtor para injeção de dependências dos serviços e repositórios necessários.
+     * @param pedidoService Serviço para a lógica de negócio de pedidos.
+     * @param eventoService Serviço para a lógica de negócio de eventos.
+     * @param sessaoUsuario Acesso ao usuário logado na requisição.
+     * @param pedidoGrupoService Serviço que processa os pedidos em grupo.
+     */
+    @Autowired
+    public PedidoApiController(PedidoService pedidoService, EventoService eventoService, SessaoUsuario sessaoUsuario,
+            PedidoGrupoService pedidoGrupoService) {
+        this.pedidoService = pedidoService;
+        this.eventoService = eventoService;
+        this.sessaoUsuario = sessaoUsuario;
+        this.pedidoGrupoService = pedidoGrupoService;
+    }
+
+    /**
+     * Calcula a cotação de um pedido sem criá-lo.
+     * Devolve os mesmos valores exibidos na página de pedido (ingressos, taxa,
+     * desconto, total e validade do cupom), que são os valores cobrados em
+     * {@code POST /api/pedidos}.
+     *
+     * @param request O corpo JSON com o evento, o cupom e os participantes.
+     * @return 200 com o resumo de valores, ou 400 se os dados forem inválidos.
+     */
+    @PostMapping("/api/pedidos/cotacao")
+    public ResponseEntity<Map<String, Object>> cotar(@RequestBody CheckoutRequest request) {
+        if (request.getParticipantes() == null || request.getParticipantes().isEmpty()) {
+            return erro(HttpStatus.BAD_REQUEST, "Informe pelo menos um participante.");
+        }
+        try {
+            Evento evento = eventoService.buscarPorId(request.getEventoId())
+                    .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado com ID: " + request.getEventoId()));
+            List<String> nomes = request.nomes();
+            pedidoService.validarParticipantes(nomes, request.emails());
+            return ResponseEntity.ok(pedidoService.calcularPrecoPreview(evento, request.tipos(),
+                    nomes.size(), request.getCupomCode()));
+        } catch (RuntimeException e) {
+            return erro(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Valida e efetiva um pedido completo em uma única requisição.
+     * <p>
+     * Equivale às etapas {@code /pedidos}, {@code /pedidos/participantes},
+     * {@code /pedidos/confirmar} e {@code /pedidos/finalizar} do fluxo de páginas.
+     *
+     * @param request O corpo JSON com o evento, o cupom e os participantes.
+     * @return 201 com o pedido e seus ingressos, 401 se não houver usuário logado
+     *         ou 400 se o pedido não puder ser criado.
+     */
+    @PostMapping("/api/pedidos")
+    public ResponseEntity<Map<String, Object>> finalizar(@RequestBody CheckoutRequest request) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (usuarioLogado == null) {
+            return erro(HttpStatus.UNAUTHORIZED, "É necessário estar logado para comprar ingressos.");
+        }
+
+        try {
+            Pedido pedido = pedidoService.criarPedido(usuarioLogado.getIdUsuario(), request.getEventoId(),
+                    request.nomes(), request.emails(), request.getCupomCode(), request.getAssentos(), request.tipos());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(converterPedido(pedido));
+        } catch (RuntimeException e) {
+            return erro(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Recebe um pedido em grupo: o corpo da requisição é o arquivo CSV de participantes
+     * (colunas nome, e-mail e, opcionalmente, tipo de ingresso), lido como fluxo.
+     * <p>
+     * O pedido é processado em segundo plano; o andamento é consultado em
+     * {@code GET /api/pedidos/grupo/{id}}.
+     *
+     * @param eventoId O ID do evento.
+     * @param cupomCode O código do cupom de desconto (opcional).
+     * @param csv O corpo da requisição.
+     * @return 202 com o progresso inicial, 401 se não houver usuário logado ou 400 se o arquivo não puder ser recebido.
+     */
+    @PostMapping(value = "/api/pedidos/grupo", consumes = "text/csv")
+    public ResponseEntity<Map<String, Object>> iniciarPedidoEmGrupo(@RequestParam int eventoId,
+            @RequestParam(required = false) String cupomCode, InputStream csv) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (usuarioLogado == null) {
+            return erro(HttpStatus.UNAUTHORIZED, "É necessário estar logado para comprar ingressos.");
+        }
+        try {
+            ProgressoPedidoGrupo progresso = pedidoGrupoService.iniciar(usuarioLogado.getIdUsuario(), eventoId, csv, cupomCode);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header("Location", "/api/pedidos/grupo/" + progresso.getId())
+                    .body(converterProgresso(progresso));
+        } catch (IOException e) {
+            return erro(HttpStatus.BAD_REQUEST, "Não foi possível receber o arquivo: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Consulta o andamento de um pedido em grupo.
+     *
+     * @param id O identificador devolvido no envio do arquivo.
+     * @return 200 com o progresso, 401 se não houver usuário logado ou 404 se o processamento não existir.
+     */
+    @GetMapping("/api/pedidos/grupo/{id}")
+    public ResponseEntity<Map<String, Object>> progressoPedidoEmGrupo(@PathVariable("id") String id) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (usuarioLogado == null) {
+            return erro(HttpStatus.UNAUTHORIZED, "É necessário estar logado para consultar o pedido.");
+        }
+        return pedidoGrupoService.buscar(id, usuarioLogado.getIdUsuario())
+                .map(progresso -> ResponseEntity.ok(converterProgresso(progresso)))
+                .orElseGet(() -> erro(HttpStatus.NOT_FOUND, "Pedido em grupo não encontrado."));
+    }
+
+    /**
+     * Converte o progresso de um pedido em grupo em um mapa para a resposta JSON.
+     */
+    private Map<String, Object> converterProgresso(ProgressoPedidoGrupo progresso) {
+        Map<String, Object> resposta = new LinkedHashMap<>();
+        resposta.put("id", progresso.getId());
+        resposta.put("eventoId", progresso.getEventoId());
+        resposta.put("etapa", progresso.getEtapa());
+        resposta.put("linhasLidas", progresso.getLinhasLidas());
+        resposta.put("totalIngressos", progresso.getTotalIngressos());
+        resposta.put("ingressosEmitidos", progresso.getIngressosEmitidos());
+        resposta.put("idPedido", progresso.getIdPedido());
+        resposta.put("erros", progresso.getErros());
+        return resposta;
+    }
+
+    /**
+     * Converte um pedido em um mapa simples para a resposta JSON.
+     * O {@link Pedido} não é serializado diretamente porque suas referências ao
+     * usuário e dos ingressos ao pedido formam ciclos.
+     *
+     * @param pedido O pedido criado.
+     * @return Um mapa com os dados do pedido e a lista de ingressos.
+     */
+    private Map<String, Object> converterPedido(Pedido pedido) {
+        Map<String, Object> resposta = new LinkedHashMap<>();
+        resposta.put("idPedido", pedido.getIdPedido());
+        resposta.put("eventoId", pedido.getEvento().getIdEvento());
+        resposta.put("nomeEvento", pedido.getEvento().getNomeEvento());
+        resposta.put("status", pedido.getStatus());
+        resposta.put("dataPedido", pedido.getDataPedido());
+        resposta.put("quantidadeIngressos", pedido.getQuantidadeIngressos());
+        resposta.put("valorBase", pedido.getValorBase());
+        resposta.put("valorTotal", pedido.getValorTotal());
+
+        List<Map<String, Object>> ingressos = new ArrayList<>();
+        for (Ingresso ingresso : pedido.getIngressos()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("idInscricao", ingresso.getIdIncricao());
+            item.put("nomeParticipante", ingresso.getNomeParticipante());
+            item.put("emailParticipante", ingresso.getEmailParticipante());
+            item.put("precoIngresso", ingresso.getPrecoIngresso());
+            if (ingresso.getTipoIngresso() != null) {
+                item.put("tipoIngresso", ingresso.getTipoIngresso());
+            }
+            if (ingresso.getAssento() != null) {
+                item.put("assento", ingresso.getAssento());
+            }
+            ingressos.add(item);
+        }
+        resposta.put("ingressos", ingressos);
+        return resposta;
+    }
+
+    /**
+     * Monta uma resposta de erro no formato {@code {"erro": "mensagem"}}.
+     * @param status O status HTTP da resposta.
+     * @param mensagem A mensagem de erro.
+     * @return A resposta de erro.
+     */
+    private ResponseEntity<Map<String, Object>> erro(HttpStatus status, String mensagem) {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("erro", mensagem);
+        return ResponseEntity.status(status).body(corpo);
+    }
+}
@@ -1,13 +1,13 @@
 package io.github.site_de_eventos.sitedeeventos.controller;
 
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
-import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
 import io.github.site_de_eventos.sitedeeventos.model.Pedido;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
-import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService;
 import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService;
+import io.github.site_de_eventos.sitedeeventos.service.ListaEsperaService;
 import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -38,32 +38,42 @@ public class PedidoController {
 
     private final PedidoService pedidoService;
     private final EventoService eventoService;
-    private final UsuarioRepository usuarioRepository;
+    private final SessaoUsuario sessaoUsuario;
+    private final IndiceIngressosService indiceIngressosService;
+    private final AssinaturaIngressoService assinaturaIngressoService;
+    private final ListaEsperaService listaEsperaService;
 
     /**
      * Construtor para injeção de dependências dos serviços e repositórios necessários.
      * @param pedidoService Serviço para a lógica de negócio de pedidos.
      * @param eventoService Serviço para a lógica de negócio de eventos.
-     * @param usuarioRepository Repositório para acesso direto aos dados do usuário.
+     * @param sessaoUsuario Acesso ao usuário logado na requisição.
+     * @param indiceIngressosService Índice dos ingressos por código de inscrição.
+     * @param assinaturaIngressoService Serviço que gera o código assinado exibido no QR Code.
+     * @param listaEsperaService Serviço da lista de espera dos eventos esgotados.
      */
     @Autowired
-    public PedidoController(PedidoService pedidoService, EventoService eventoService, UsuarioRepository usuarioRepository) {
+    public PedidoController(PedidoService pedidoService, EventoService eventoService, SessaoUsuario sessaoUsuario,
+            IndiceIngressosService indiceIngressosService, AssinaturaIngressoService assinaturaIngressoService,
+            ListaEsperaService listaEsperaService) {
         this.pedidoService = pedidoService;
         this.eventoService = eventoService;
-        this.usuarioRepository = usuarioRepository;
+        this.sessaoUsuario = sessaoUsuario;
+        this.indiceIngressosService = indiceIngressosService;
+        this.assinaturaIngressoService = assinaturaIngressoService;
+        this.listaEsperaService = listaEsperaService;
     }
 
     /**
      * Já calcula o preço inicial para 1 ingresso.
      * @param id O ID do evento a ser comprado.
      * @param model Objeto para passar dados para a view.
-     * @param session A sessão HTTP para verificar o login do usuário.
      * @return O nome da view "pedido" para renderização.
      */
     @GetMapping("/pedidos/evento/{id}")
-    public String exibirPaginaPedido(@PathVariable("id") int id, Model model, HttpSession session) {
+    public String exibirPaginaPedido(@PathVariable("id") int id, Model model) {
         // Verifica se o usuário está logado; se não, redireciona para a página de login.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         if (usuarioLogado == null) {
             return "redirect:/login";
         }
@@ -81,10 +91,54 @@ public class PedidoController {
         // Adiciona a quantidade e o cupom atuais ao model para preencher o formulário.
         model.addAttribute("quantidadeAtual", 1);
         model.addAttribute("cupomAtual", "");
+        // Informa a situação do usuário na lista de espera, se o evento estiver esgotado.
+        listaEsperaService.buscarReserva(id, usuarioLogado.getIdUsuario())
+                .ifPresent(reserva -> model.addAttribute("reservaListaEspera", reserva));
+        model.addAttribute("posicaoListaEspera", listaEsperaService.posicao(id, usuarioLogado.getIdUsuario()));
         // Renderiza a página "pedido.html".
         return "pedido";
     }
 
+    /**
+     * Coloca o usuário na lista de espera de um evento esgotado.
+     * @param id O ID do evento.
+     * @param quantidade A quantidade de ingressos desejada.
+     * @param redirectAttributes Objeto para passar a mensagem após o redirecionamento.
+     * @return Redirecionamento para a página de compra do evento.
+     */
+    @PostMapping("/pedidos/evento/{id}/lista-espera")
+    public String entrarNaListaEspera(@PathVariable("id") int id, @RequestParam int quantidade, RedirectAttributes redirectAttributes) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (usuarioLogado == null) { return "redirect:/login"; }
+        try {
+            int posicao = listaEsperaService.entrar(id, usuarioLogado.getIdUsuario(), quantidade);
+            redirectAttributes.addFlashAttribute("sucesso", "Você entrou na lista de espera na posição " + posicao + ".");
+        } catch (RuntimeException e) {
+            redirectAttributes.addFlashAttribute("erro", e.getMessage());
+        }
+        return "redirect:/pedidos/evento/" + id;
+    }
+
+    /**
+     * Retira o usuário da lista de espera de um evento.
+     * @param id O ID do evento.
+     * @param redirectAttributes Objeto para passar a mensagem após o redirecionamento.
+     * @return Redirecionamento para a página de compra do evento.
+     */
+    @PostMapping("/pedidos/evento/{id}/lista-espera/sair")
+    public String sairDaListaEspera(@PathVariable("id") int id, RedirectAttributes redirectAttributes) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
+        if (usuarioLogado == null) { return "redirect:/login"; }
+        try {
+            if (listaEsperaService.sair(id, usuarioLogado.getIdUsuario())) {
+                redirectAttributes.addFlashAttribute("sucesso", "Você saiu da lista de espera.");
+            }
+        } catch (RuntimeException e) {
+            redirectAttributes.addFlashAttribute("erro", e.getMessage());
+        }
+        return "redirect:/pedidos/evento/" + id;
+    }
+
     /**
      * e renderiza a mesma página com os valores atualizados.
      * @param eventoId ID do evento.
@@ -159,8 +213,8 @@ public class PedidoController {
      * @param nomeParticipante Lista com os nomes dos participantes.
      * @param emailParticipante Lista com os e-mails dos participantes.
      * @param cupomCode Cupom de desconto.
+     * @param tipoIngresso Lista com o tipo de ingresso de cada participante (eventos com tipos de ingresso).
      * @param model Objeto para passar todos os dados para a página de confirmação.
-     * @param session A sessão HTTP.
      * @return O nome da view "confirmacao-pedido" para renderização.
      */
     @PostMapping("/pedidos/confirmar")
@@ -169,11 +223,12 @@ public class PedidoController {
             @RequestParam List<String> nomeParticipante,
             @RequestParam List<String> emailParticipante,
             @RequestParam(required = false) String cupomCode,
-            Model model, HttpSession session) {
+            @RequestParam(required = false) List<String> tipoIngresso,
+            Model model) {
 
         try {
             // Garante que o usuário ainda está logado.
-            if (session.getAttribute("usuarioLogado") == null) {
+            if (sessaoUsuario.getUsuario() == null) {
                 return "redirect:/login";
             }
 
@@ -190,11 +245,14 @@ public class PedidoController {
                 Map<String, String> participante = new HashMap<>();
                 participante.put("nome", nomeParticipante.get(i));
                 participante.put("email", emailParticipante.get(i));
+                if (tipoIngresso != null && i < tipoIngresso.size()) {
+                    participante.put("tipo", tipoIngresso.get(i));
+                }
                 participantes.add(participante);
             }
 
             // Calcula novamente o resumo final do preço para exibir na tela de confirmação.
-            Map<String, Object> resumoMap = pedidoService.calcularPrecoPreview(evento, quantidade, cupomCode);
+            Map<String, Object> resumoMap = pedidoService.calcularPrecoPreview(evento, tipoIngresso, quantidade, cupomCode);
 
             // Adiciona todos os dados necessários para a página de confirmação ao model.
             model.addAttribute("evento", evento);
@@ -218,7 +276,7 @@ public class PedidoController {
      * @param nomeParticipante Lista com os nomes dos participantes.
      * @param emailParticipante Lista com os e-mails dos participantes.
      * @param cupomCode Cupom de desconto.
-     * @param session A sessão HTTP.
+     * @param tipoIngresso Lista com o tipo de ingresso de cada participante (eventos com tipos de ingresso).
      * @param redirectAttributes Objeto para passar a mensagem de sucesso após o redirecionamento.
      * @return Uma string de redirecionamento para a página de "meus-eventos".
      */
@@ -228,22 +286,18 @@ public class PedidoController {
             @RequestParam List<String> nomeParticipante,
             @RequestParam List<String> emailParticipante,
             @RequestParam(required = false) String cupomCode,
-            HttpSession session, RedirectAttributes redirectAttributes) {
+            @RequestParam(required = false) List<String> tipoIngresso, RedirectAttributes redirectAttributes) {
 
         // Pega o usuário logado da sessão.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         if (usuarioLogado == null) {
             return "redirect:/login";
         }
 
         try {
             // Chama o serviço para efetivamente criar o pedido, os ingressos e salvar no banco.
-            pedidoService.criarPedido(usuarioLogado.getIdUsuario(), eventoId, nomeParticipante, emailParticipante, cupomCode);
-            
-            // Busca a versão mais recente do usuário no banco para atualizar a sessão.
-            Usuario usuarioAtualizado = usuarioRepository.findById(usuarioLogado.getIdUsuario()).get();
-            // Substitui o objeto antigo na sessão pelo novo, que agora contém o pedido recém-criado.
-            session.setAttribute("usuarioLogado", usuarioAtualizado);
+            pedidoService.criarPedido(usuarioLogado.getIdUsuario(), eventoId, nomeParticipante, emailParticipante, cupomCode,
+                    null, tipoIngresso);
             
             // Adiciona uma mensagem de sucesso que será exibida na página "meus-eventos".
             redirectAttributes.addFlashAttribute("sucesso", "Compra realizada com sucesso! Seus ingressos foram gerados.");
@@ -262,17 +316,14 @@ public class PedidoController {
      * Processa o cancelamento de um pedido.
      */
     @PostMapping("/pedidos/{pedidoId}/cancelar")
-    public String cancelarPedido(@PathVariable("pedidoId") int pedidoId, HttpSession session, RedirectAttributes redirectAttributes) {
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+    public String cancelarPedido(@PathVariable("pedidoId") int pedidoId, RedirectAttributes redirectAttributes) {
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         if (usuarioLogado == null) { return "redirect:/login"; }
         try {
             // Chama o serviço para executar a lógica de cancelamento.
             pedidoService.cancelarPedido(usuarioLogado.getIdUsuario(), pedidoId);
             // Adiciona mensagem de sucesso.
             redirectAttributes.addFlashAttribute("sucesso", "Sua compra foi cancelada.");
-            // Atualiza a sessão para remover o pedido cancelado da lista do usuário.
-            Usuario usuarioAtualizado = usuarioRepository.findById(usuarioLogado.getIdUsuario()).get();
-            session.setAttribute("usuarioLogado", usuarioAtualizado);
         } catch (RuntimeException e) {
             // Em caso de erro, adiciona a mensagem de falha.
             redirectAttributes.addFlashAttribute("erro", e.getMessage());
@@ -286,30 +337,30 @@ public class PedidoController {
      */
     @GetMapping("/ingressos/{ingressoId}/imprimir")
     public String exibirPaginaIngresso(@PathVariable("ingressoId") String ingressoId, 
-                                       HttpSession session, 
                                        Model model, 
                                        RedirectAttributes redirectAttributes) {
         // Garante que o usuário está logado.
-        Usuario usuarioLogado = (Usuario) session.getAttribute("usuarioLogado");
+        Usuario usuarioLogado = sessaoUsuario.getUsuario();
         if (usuarioLogado == null) { return "redirect:/login"; }
 
-        // Itera sobre os pedidos e ingressos do usuário logado para encontrar o ingresso solicitado.
+        // Consulta o índice de ingressos, exigindo que o ingresso pertença ao usuário logado.
         // Isso garante que um usuário não possa acessar o ingresso de outro pela URL.
-        for (Pedido pedido : usuarioLogado.getPedidos()) {
-            for (Ingresso ingresso : pedido.getIngressos()) {
-                if (ingresso.getIdIncricao().equals(ingressoId)) {
-                    // Se o ingresso for encontrado, adiciona todos os dados necessários ao model.
-                    model.addAttribute("usuario", usuarioLogado);
-                    model.addAttribute("ingresso", ingresso);
-                    model.addAttribute("pedido", pedido);
-                    model.addAttribute("evento", pedido.getEvento());
-                    // Renderiza a página "ingresso.html".
-                    return "ingresso";
-                }
-            }
+        Optional<IndiceIngressosService.RegistroIngresso> registro =
+                indiceIngressosService.buscarDoUsuario(ingressoId, usuarioLogado.getIdUsuario());
+        if (registro.isPresent()) {
+            // Se o ingresso for encontrado, adiciona todos os dados necessários ao model.
+            Pedido pedido = registro.get().getPedido();
+            // Ingressos emitidos antes da assinatura recebem o código na primeira impressão.
+            assinaturaIngressoService.garantirCodigo(registro.get().getIngresso(), pedido);
+            model.addAttribute("usuario", usuarioLogado);
+            model.addAttribute("ingresso", registro.get().getIngresso());
+            model.addAttribute("pedido", pedido);
+            model.addAttribute("evento", pedido.getEvento());
+            // Renderiza a página "ingresso.html".
+            return "ingresso";
         }
 
-        // Se o loop terminar e o ingresso não for encontrado, significa que ele não existe ou não pertence ao usuário.
+        // Se o ingresso não for encontrado, significa que ele não existe ou não pertence ao usuário.
         redirectAttributes.addFlashAttribute("erro", "Ingresso não encontrado ou você não tem permissão para acessá-lo.");
         return "redirect:/meus-eventos";
     }
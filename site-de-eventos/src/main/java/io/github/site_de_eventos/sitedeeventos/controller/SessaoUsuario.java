@@ -0,0 +1,203 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.TokenSessaoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Acesso ao usuário logado durante uma requisição.
+ * <p>
+ * O login é representado apenas por uma {@link Referencia} com o ID do usuário e a versão das
+ * suas credenciais ({@link Usuario#getCarimboCredenciais()}, um valor aleatório que não é
+ * derivado da senha); o {@link Usuario} é buscado no {@link UsuarioRepository} na primeira
+ * consulta da requisição e reaproveitado até o fim dela. Se o e-mail ou a senha do usuário
+ * mudarem, o carimbo é sorteado de novo, a versão deixa de bater e o login deixa de valer.
+ * <p>
+ * A referência fica em um de dois lugares, conforme a propriedade {@code sessao.modo}:
+ * <ul>
+ * <li>{@value #MODO_SESSAO} (padrão): na {@link HttpSession}, que ocupa poucos bytes;</li>
+ * <li>{@value #MODO_TOKEN}: em um cookie assinado, conferido pelo {@link TokenSessaoFilter},
+ * sem nenhum estado no servidor. Permite várias instâncias sem sessão fixa no balanceador.</li>
+ * </ul>
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Component
+@RequestScope
+public class SessaoUsuario {
+
+    /**
+     * Nome do atributo, da sessão HTTP ou da requisição, com a {@link Referencia} do usuário logado.
+     */
+    public static final String ATRIBUTO = "usuarioLogado";
+
+    /**
+     * Modo em que a referência fica na {@link HttpSession}.
+     */
+    public static final String MODO_SESSAO = "sessao";
+
+    /**
+     * Modo em que a referência fica em um cookie assinado.
+     */
+    public static final String MODO_TOKEN = "token";
+
+    private final UsuarioRepository usuarioRepository;
+    private final HttpServletRequest request;
+    private final TokenSessaoService tokenSessaoService;
+    private final boolean modoToken;
+
+    private boolean resolvido;
+    private Usuario usuario;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param usuarioRepository Repositório de onde o usuário logado é lido.
+     * @param request A requisição atual.
+     * @param tokenSessaoService Serviço que emite os tokens do modo {@value #MODO_TOKEN}.
+     * @param modo O valor de {@code sessao.modo}.
+     */
+    public SessaoUsuario(UsuarioRepository usuarioRepository, HttpServletRequest request,
+            TokenSessaoService tokenSessaoService, @Value("${sessao.modo:" + MODO_SESSAO + "}") String modo) {
+        this.usuarioRepository = usuarioRepository;
+        this.request = request;
+        this.tokenSessaoService = tokenSessaoService;
+        this.modoToken = MODO_TOKEN.equals(modo);
+    }
+
+    /**
+     * Obtém o usuário logado, lido do repositório uma única vez por requisição.
+     *
+     * @return O {@link Usuario} logado, ou {@code null} se não houver login válido.
+     */
+    public Usuario getUsuario() {
+        if (!resolvido) {
+            usuario = resolver();
+            resolvido = true;
+        }
+        return usuario;
+    }
+
+    /**
+     * Registra o login do usuário: guarda a referência na sessão ou emite o cookie assinado.
+     *
+     * @param usuario O usuário autenticado.
+     * @param response A resposta, que recebe o cookie no modo {@value #MODO_TOKEN}.
+     */
+    public void entrar(Usuario usuario, HttpServletResponse response) {
+        boolean organizador = usuario instanceof Organizador;
+        if (modoToken) {
+            String token = tokenSessaoService.emitir(usuario.getIdUsuario(), organizador, versaoDe(usuario));
+            response.addCookie(TokenSessaoFilter.criarCookie(token,
+                    (int) tokenSessaoService.getValidade().getSeconds(), request.isSecure()));
+        } else {
+            request.getSession().setAttribute(ATRIBUTO, new Referencia(usuario.getIdUsuario(), versaoDe(usuario), organizador));
+        }
+        this.usuario = usuario;
+        this.resolvido = true;
+    }
+
+    /**
+     * Encerra o login: invalida a sessão HTTP, se houver, e apaga o cookie assinado.
+     *
+     * @param response A resposta, que recebe o cookie vencido no modo {@value #MODO_TOKEN}.
+     */
+    public void sair(HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        if (modoToken) {
+            response.addCookie(TokenSessaoFilter.criarCookie("", 0, request.isSecure()));
+        }
+        this.usuario = null;
+        this.resolvido = true;
+    }
+
+    private Usuario resolver() {
+        // Sem criar sessão: visitantes e o modo token não guardam nada no servidor.
+        HttpSession session = modoToken ? null : request.getSession(false);
+        Object atributo = modoToken ? request.getAttribute(ATRIBUTO)
+                : session != null ? session.getAttribute(ATRIBUTO) : null;
+        if (!(atributo instanceof Referencia referencia)) {
+            return null;
+        }
+        Optional<Usuario> encontrado = usuarioRepository.findById(referencia.getIdUsuario())
+                .filter(u -> versaoDe(u) == referencia.getVersao());
+        if (encontrado.isEmpty()) {
+            // Usuário removido ou com credenciais alteradas: o login deixa de valer.
+            if (session != null) {
+                session.removeAttribute(ATRIBUTO);
+            }
+            return null;
+        }
+        return encontrado.get();
+    }
+
+    /**
+     * Obtém a versão das credenciais de um usuário.
+     *
+     * @param usuario O usuário.
+     * @return O carimbo das credenciais, que é sorteado de novo quando o e-mail ou a senha mudam.
+     */
+    static int versaoDe(Usuario usuario) {
+        return usuario.getCarimboCredenciais();
+    }
+
+    /**
+     * O login de um usuário: o ID, a versão das suas credenciais e se ele é organizador.
+     */
+    public static final class Referencia implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int idUsuario;
+        private final int versao;
+        private final boolean organizador;
+
+        /**
+         * @param idUsuario O ID do usuário logado.
+         * @param versao A versão das credenciais no momento do login.
+         * @param organizador Se o usuário é organizador.
+         */
+        public Referencia(int idUsuario, int versao, boolean organizador) {
+            this.idUsuario = idUsuario;
+            this.versao = versao;
+            this.organizador = organizador;
+        }
+
+        /**
+         * @return O ID (int) do usuário logado.
+         */
+        public int getIdUsuario() {
+            return idUsuario;
+        }
+
+        /**
+         * @return A versão (int) das credenciais no momento do login.
+         */
+        public int getVersao() {
+            return versao;
+        }
+
+        /**
+         * @return {@code true} se o usuário é organizador.
+         */
+        public boolean isOrganizador() {
+            return organizador;
+        }
+    }
+}
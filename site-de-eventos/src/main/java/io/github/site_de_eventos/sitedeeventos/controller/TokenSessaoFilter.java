@@ -0,0 +1,98 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.github.site_de_eventos.sitedeeventos.service.TokenSessaoService;
+import io.github.site_de_eventos.sitedeeventos.service.TokenSessaoService.DadosSessao;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro do login sem estado no servidor, ativo quando {@code sessao.modo=token}.
+ * <p>
+ * Confere o cookie "{@value #COOKIE}" de cada requisição e, se o token for autêntico e não
+ * estiver vencido, deixa a {@link SessaoUsuario.Referencia} do usuário como atributo da
+ * requisição, de onde a {@link SessaoUsuario} a lê. Nenhuma {@code HttpSession} é criada,
+ * então qualquer instância atrás do balanceador atende qualquer requisição.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Component
+@ConditionalOnProperty(name = "sessao.modo", havingValue = SessaoUsuario.MODO_TOKEN)
+public class TokenSessaoFilter extends OncePerRequestFilter {
+
+    /**
+     * Nome do cookie com o token de sessão.
+     */
+    public static final String COOKIE = "sessao";
+
+    private final TokenSessaoService tokenSessaoService;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param tokenSessaoService Serviço que confere os tokens.
+     */
+    public TokenSessaoFilter(TokenSessaoService tokenSessaoService) {
+        this.tokenSessaoService = tokenSessaoService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = lerCookie(request);
+        if (token != null) {
+            Optional<DadosSessao> dados = tokenSessaoService.verificar(token);
+            if (dados.isPresent()) {
+                DadosSessao sessao = dados.get();
+                request.setAttribute(SessaoUsuario.ATRIBUTO, new SessaoUsuario.Referencia(
+                        sessao.getIdUsuario(), sessao.getVersaoCredenciais(), sessao.isOrganizador()));
+            } else {
+                // Token vencido ou adulterado: o navegador não precisa continuar enviando.
+                response.addCookie(criarCookie("", 0, request.isSecure()));
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String lerCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cria o cookie do token, inacessível a scripts da página.
+     *
+     * @param valor O token, ou vazio para apagar o cookie.
+     * @param segundos A validade do cookie, ou 0 para apagá-lo.
+     * @param seguro Se o cookie só deve trafegar por HTTPS.
+     * @return O cookie.
+     */
+    static Cookie criarCookie(String valor, int segundos, boolean seguro) {
+        Cookie cookie = new Cookie(COOKIE, valor);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(seguro);
+        cookie.setPath("/");
+        cookie.setMaxAge(segundos);
+        cookie.setAttribute("SameSite", "Lax");
+        return cookie;
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
 import io.github.site_de_eventos.sitedeeventos.service.UsuarioService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Controlador responsável por gerenciar o ciclo de vida do usuário (cadastro, login, logout).
@@ -25,6 +25,9 @@ public class UsuarioController {
     @Autowired
     private UsuarioService usuarioService;
 
+    @Autowired
+    private SessaoUsuario sessaoUsuario;
+
     /**
      * Exibe o formulário de cadastro de usuário.
      */
@@ -83,7 +86,7 @@ public class UsuarioController {
      * Processa a submissão do formulário de login, validando e-mail e senha.
      */
     @PostMapping("/login")
-    public String processarLogin(@RequestParam String email,@RequestParam String senha, HttpSession session, Model model) {
+    public String processarLogin(@RequestParam String email,@RequestParam String senha, HttpServletResponse response, Model model) {
     	// Chama o serviço para autenticar o usuário apenas pelo e-mail primeiro.
     	Optional<Usuario> usuarioOpt = usuarioService.autenticar(email);
     	// Verifica se um usuário com este e-mail foi encontrado no banco de dados.
@@ -92,9 +95,10 @@ public class UsuarioController {
             Usuario usuario = usuarioOpt.get();
             // Agora, compara a senha enviada no formulário com a senha armazenada no banco.
             if(usuario.getSenha().equals(senha)){
-    		    // Se as senhas baterem, armazena o objeto completo do usuário na sessão HTTP.
+    		    // Se as senhas baterem, registra o login: na sessão HTTP fica apenas o ID do usuário
+                // (e a versão das credenciais); no modo token, ele vai em um cookie assinado.
                 // É isso que "mantém o usuário logado" durante a navegação.
-    		    session.setAttribute("usuarioLogado", usuario);
+    		    sessaoUsuario.entrar(usuario, response);
     		    // Redireciona para a página principal.
     		    return "redirect:/";
             } else {
@@ -115,10 +119,10 @@ public class UsuarioController {
      * Processa a solicitação de logout do usuário.
      */
     @GetMapping("/logout")
-    public String processarLogout(HttpSession session) {
-    	// Invalida a sessão HTTP atual do usuário.
+    public String processarLogout(HttpServletResponse response) {
+    	// Invalida a sessão HTTP atual do usuário e apaga o cookie de sessão, se houver.
         // Isso remove todos os atributos da sessão, incluindo o "usuarioLogado".
-    	session.invalidate();
+    	sessaoUsuario.sair(response);
     	// Redireciona o usuário para a página principal, agora como um visitante.
     	return "redirect:/";
     }
@@ -0,0 +1,150 @@
+package io.github.site_de_eventos.sitedeeventos.controller.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpo JSON aceito pela API de checkout ({@code /api/pedidos}).
+ * <p>
+ * Reúne em uma única requisição tudo o que o fluxo de páginas coleta em
+ * várias etapas: o evento, o cupom opcional e a lista de participantes.
+ * A quantidade de ingressos é o tamanho da lista de participantes.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class CheckoutRequest {
+
+    /**
+     * ID do evento para o qual os ingressos estão sendo comprados.
+     */
+    private int eventoId;
+
+    /**
+     * Código do cupom de desconto (opcional).
+     */
+    private String cupomCode;
+
+    /**
+     * Participantes do pedido, um para cada ingresso.
+     */
+    private List<ParticipanteRequest> participantes = new ArrayList<>();
+
+    /**
+     * Códigos dos assentos escolhidos ("setor-fileira-assento"), um por participante e na mesma
+     * ordem (opcional). Em eventos com lugares marcados, sem esta lista são reservados os melhores disponíveis.
+     */
+    private List<String> assentos;
+
+    /**
+     * Construtor padrão, necessário para a desserialização do JSON.
+     */
+    public CheckoutRequest() {}
+
+    /**
+     * Obtém o ID do evento.
+     * @return O ID (int) do evento.
+     */
+    public int getEventoId() {
+        return eventoId;
+    }
+
+    /**
+     * Define o ID do evento.
+     * @param eventoId (int) O novo ID do evento.
+     */
+    public void setEventoId(int eventoId) {
+        this.eventoId = eventoId;
+    }
+
+    /**
+     * Obtém o código do cupom.
+     * @return O código (String) do cupom, ou {@code null}.
+     */
+    public String getCupomCode() {
+        return cupomCode;
+    }
+
+    /**
+     * Define o código do cupom.
+     * @param cupomCode (String) O novo código do cupom.
+     */
+    public void setCupomCode(String cupomCode) {
+        this.cupomCode = cupomCode;
+    }
+
+    /**
+     * Obtém a lista de participantes.
+     * @return A lista (List) de {@link ParticipanteRequest}.
+     */
+    public List<ParticipanteRequest> getParticipantes() {
+        return participantes;
+    }
+
+    /**
+     * Define a lista de participantes.
+     * @param participantes (List) A nova lista de participantes.
+     */
+    public void setParticipantes(List<ParticipanteRequest> participantes) {
+        this.participantes = participantes;
+    }
+
+    /**
+     * Obtém os assentos escolhidos.
+     * @return A lista (List) de códigos de assento, ou {@code null}.
+     */
+    public List<String> getAssentos() {
+        return assentos;
+    }
+
+    /**
+     * Define os assentos escolhidos.
+     * @param assentos (List) Os novos códigos de assento.
+     */
+    public void setAssentos(List<String> assentos) {
+        this.assentos = assentos;
+    }
+
+    /**
+     * Extrai os nomes dos participantes, na ordem em que foram enviados.
+     * @return A lista (List) de nomes.
+     */
+    public List<String> nomes() {
+        List<String> nomes = new ArrayList<>();
+        if (participantes != null) {
+            for (ParticipanteRequest p : participantes) {
+                nomes.add(p == null ? null : p.getNome());
+            }
+        }
+        return nomes;
+    }
+
+    /**
+     * Extrai os tipos de ingresso dos participantes, na ordem em que foram enviados.
+     * @return A lista (List) de nomes de tipos; os participantes sem tipo aparecem como {@code null}.
+     */
+    public List<String> tipos() {
+        List<String> tipos = new ArrayList<>();
+        if (participantes != null) {
+            for (ParticipanteRequest p : participantes) {
+                tipos.add(p == null ? null : p.getTipoIngresso());
+            }
+        }
+        return tipos;
+    }
+
+    /**
+     * Extrai os e-mails dos participantes, na ordem em que foram enviados.
+     * @return A lista (List) de e-mails.
+     */
+    public List<String> emails() {
+        List<String> emails = new ArrayList<>();
+        if (participantes != null) {
+            for (ParticipanteRequest p : participantes) {
+                emails.add(p == null ? null : p.getEmail());
+            }
+        }
+        return emails;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.site_de_eventos.sitedeeventos.controller.dto;
+
+/**
+ * Representa os dados de um participante enviados no corpo JSON de um checkout.
+ * <p>
+ * Cada participante corresponde a exatamente um ingresso do pedido.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ParticipanteRequest {
+
+    /**
+     * Nome do participante titular do ingresso.
+     */
+    private String nome;
+
+    /**
+     * E-mail do participante titular do ingresso.
+     */
+    private String email;
+
+    /**
+     * Nome do tipo de ingresso do participante (opcional; ex: "Meia-entrada").
+     */
+    private String tipoIngresso;
+
+    /**
+     * Construtor padrão, necessário para a desserialização do JSON.
+     */
+    public ParticipanteRequest() {}
+
+    /**
+     * Construtor de conveniência com todos os campos.
+     * @param nome (String) O nome do participante.
+     * @param email (String) O e-mail do participante.
+     */
+    public ParticipanteRequest(String nome, String email) {
+        this.nome = nome;
+        this.email = email;
+    }
+
+    /**
+     * Obtém o nome do participante.
+     * @return O nome (String) do participante.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Define o nome do participante.
+     * @param nome (String) O novo nome do participante.
+     */
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * Obtém o e-mail do participante.
+     * @return O e-mail (String) do participante.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Define o e-mail do participante.
+     * @param email (String) O novo e-mail do participante.
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    /**
+     * Obtém o tipo de ingresso do participante.
+     * @return O nome (String) do tipo, ou {@code null}.
+     */
+    public String getTipoIngresso() {
+        return tipoIngresso;
+    }
+
+    /**
+     * Define o tipo de ingresso do participante.
+     * @param tipoIngresso (String) O nome do tipo.
+     */
+    public void setTipoIngresso(String tipoIngresso) {
+        this.tipoIngresso = tipoIngresso;
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Conversão da lista de ingressos de um {@link Pedido} para JSON e vice-versa, com os mesmos
+ * campos do {@link Ingresso}. A leitura grava cada ingresso direto no {@link ArmazemIngressos},
+ * sem criar objetos {@link Ingresso}. Usado também pelos conversores JSON dos repositórios.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class AdaptadorListaIngressos extends TypeAdapter<List<Ingresso>> {
+
+    @Override
+    public void write(JsonWriter out, List<Ingresso> ingressos) throws IOException {
+        if (ingressos == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (Ingresso ingresso : ingressos) {
+            out.beginObject();
+            escrever(out, "idInscricao", ingresso.getIdIncricao());
+            out.name("idEvento").value(ingresso.getIdEvento());
+            escrever(out, "nomeParticipante", ingresso.getNomeParticipante());
+            escrever(out, "emailParticipante", ingresso.getEmailParticipante());
+            LocalDateTime dataCompra = ingresso.getDataCompra();
+            escrever(out, "dataCompra", dataCompra != null ? dataCompra.toString() : null);
+            out.name("precoIngresso").value(ingresso.getPrecoIngresso());
+            escrever(out, "codigoVerificacao", ingresso.getCodigoVerificacao());
+            escrever(out, "assento", ingresso.getAssento());
+            escrever(out, "tipoIngresso", ingresso.getTipoIngresso());
+            out.endObject();
+        }
+        out.endArray();
+    }
+
+    private static void escrever(JsonWriter out, String nome, String valor) throws IOException {
+        // Como na serialização padrão do Gson, campos nulos são omitidos.
+        if (valor != null) {
+            out.name(nome).value(valor);
+        }
+    }
+
+    @Override
+    public List<Ingresso> read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        ListaIngressos ingressos = new ListaIngressos();
+        in.beginArray();
+        while (in.hasNext()) {
+            String idInscricao = null;
+            int idEvento = 0;
+            String nome = null;
+            String email = null;
+            LocalDateTime dataCompra = null;
+            double preco = 0;
+            String codigo = null;
+            String assento = null;
+            String tipo = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String campo = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (campo) {
+                    case "idInscricao" -> idInscricao = in.nextString();
+                    case "idEvento" -> idEvento = in.nextInt();
+                    case "nomeParticipante" -> nome = in.nextString();
+                    case "emailParticipante" -> email = in.nextString();
+                    case "dataCompra" -> dataCompra = LocalDateTime.parse(in.nextString());
+                    case "precoIngresso" -> preco = in.nextDouble();
+                    case "codigoVerificacao" -> codigo = in.nextString();
+                    case "assento" -> assento = in.nextString();
+                    case "tipoIngresso" -> tipo = in.nextString();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            ingressos.adicionar(idInscricao, idEvento, nome, email, dataCompra, preco, codigo, assento, tipo);
+        }
+        in.endArray();
+        return ingressos;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+/**
+ * Uma alteração gravada por um repositório (um evento ou usuário salvo ou removido),
+ * publicada no feed de alterações para sistemas externos.
+ * <p>
+ * A alteração indica apenas o que mudou e a versão resultante; quem consome o feed
+ * busca o estado atual do registro, se precisar dele.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class Alteracao {
+
+    /**
+     * Operação de um registro criado ou atualizado.
+     */
+    public static final String SALVO = "SALVO";
+
+    /**
+     * Operação de um registro removido.
+     */
+    public static final String REMOVIDO = "REMOVIDO";
+
+    private long sequencia;
+    private final String entidade;
+    private final int id;
+    private final String operacao;
+    private final long versao;
+    private final long instante;
+
+    /**
+     * @param entidade O tipo do registro (ex: "evento").
+     * @param id O ID do registro.
+     * @param operacao {@link #SALVO} ou {@link #REMOVIDO}.
+     * @param versao A versão do registro depois da alteração.
+     * @param instante O momento da alteração, em milissegundos desde 1970 (UTC).
+     */
+    public Alteracao(String entidade, int id, String operacao, long versao, long instante) {
+        this.entidade = entidade;
+        this.id = id;
+        this.operacao = operacao;
+        this.versao = versao;
+        this.instante = instante;
+    }
+
+    /**
+     * @return A posição (long) da alteração no feed, única e crescente entre todos os repositórios.
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    /**
+     * Define a posição da alteração no feed. Chamado pelo log ao gravá-la.
+     * @param sequencia (long) A posição.
+     */
+    public void setSequencia(long sequencia) {
+        this.sequencia = sequencia;
+    }
+
+    /**
+     * @return O tipo (String) do registro alterado.
+     */
+    public String getEntidade() {
+        return entidade;
+    }
+
+    /**
+     * @return O ID (int) do registro alterado.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return A operação (String): {@link #SALVO} ou {@link #REMOVIDO}.
+     */
+    public String getOperacao() {
+        return operacao;
+    }
+
+    /**
+     * @return A versão (long) do registro depois da alteração.
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * @return O momento (long) da alteração, em milissegundos desde 1970 (UTC).
+     */
+    public long getInstante() {
+        return instante;
+    }
+}
@@ -0,0 +1,424 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Armazém fora do heap do Java com os dados dos ingressos, usado pela {@link ListaIngressos}.
+ * <p>
+ * Cada ingresso é um registro de tamanho fixo em um {@link ByteBuffer} direto, com os números em
+ * posições fixas e os textos (nome, e-mail, tipo, assento) como referências para uma
+ * tabela de textos internados, também fora do heap: um mesmo nome ou e-mail, repetido em todos os
+ * ingressos de um pedido, é guardado uma única vez. O código de inscrição no formato
+ * "idEvento-numero" vira apenas o número.
+ * <p>
+ * O código de verificação é único por ingresso e não passaria pela tabela de textos sem fazê-la
+ * crescer a cada venda. Os códigos gerados pela assinatura dos ingressos (34 caracteres em Base64
+ * para URL) são guardados no próprio registro, já decodificados em {@value #TAMANHO_CODIGO} bytes;
+ * só códigos em outro formato são internados.
+ * <p>
+ * No heap ficam só os vetores de blocos e o índice da tabela de textos (um {@code int[]}), que o
+ * coletor de lixo percorre sem custo por ingresso. Os registros liberados são reaproveitados; os
+ * textos internados nunca são liberados.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+final class ArmazemIngressos {
+
+    /**
+     * O armazém de todos os ingressos da aplicação.
+     */
+    static final ArmazemIngressos GLOBAL = new ArmazemIngressos();
+
+    /**
+     * Tamanho de um registro, arredondado para um múltiplo de 8 para manter os números alinhados.
+     */
+    static final int TAMANHO_REGISTRO = 88;
+
+    // Posições dos campos dentro de um registro.
+    private static final int ID_EVENTO = 0;
+    private static final int NUMERO = 4;
+    private static final int ID_INSCRICAO = 8;
+    private static final int NOME = 12;
+    private static final int EMAIL = 16;
+    private static final int TIPO = 20;
+    private static final int ASSENTO = 24;
+    private static final int CODIGO = 28;
+    private static final int DATA_SEGUNDOS = 32;
+    private static final int DATA_NANOS = 40;
+    private static final int PRECO = 48;
+    private static final int CODIGO_BYTES = 56;
+
+    /**
+     * Tamanho, em bytes, de um código de verificação guardado no registro.
+     */
+    static final int TAMANHO_CODIGO = 25;
+
+    private static final int TAMANHO_CODIGO_TEXTO = 34;
+
+    private static final int BITS_REGISTROS_POR_BLOCO = 14;
+    private static final int BITS_BLOCO_TEXTOS = 20;
+    private static final int MAXIMO_BLOCOS_TEXTOS = 1 << (31 - BITS_BLOCO_TEXTOS);
+
+    /**
+     * Referência de texto que representa {@code null}.
+     */
+    static final int NULO = -1;
+
+    /**
+     * Referência de texto que indica um código de verificação guardado no próprio registro.
+     */
+    private static final int CODIGO_NO_REGISTRO = -2;
+
+    private static final long SEM_DATA = Long.MIN_VALUE;
+
+    private volatile ByteBuffer[] blocosRegistros = new ByteBuffer[0];
+    private int proximoRegistro;
+    private int[] livres = new int[16];
+    private int quantidadeLivres;
+
+    private volatile ByteBuffer[] blocosTextos = new ByteBuffer[0];
+    private int fimTextos;
+
+    /**
+     * Índice da tabela de textos (endereçamento aberto): referência + 1, ou 0 para posição vazia.
+     */
+    private int[] indice = new int[1 << 12];
+    private int[] hashes = new int[1 << 12];
+    private int textosInternados;
+
+    /**
+     * Reserva um registro para um ingresso.
+     *
+     * @return O número do registro.
+     */
+    synchronized int alocar() {
+        if (quantidadeLivres > 0) {
+            return livres[--quantidadeLivres];
+        }
+        int registro = proximoRegistro++;
+        int bloco = registro >>> BITS_REGISTROS_POR_BLOCO;
+        if (bloco == blocosRegistros.length) {
+            ByteBuffer[] maiores = Arrays.copyOf(blocosRegistros, bloco + 1);
+            maiores[bloco] = ByteBuffer.allocateDirect(TAMANHO_REGISTRO << BITS_REGISTROS_POR_BLOCO);
+            blocosRegistros = maiores;
+        }
+        return registro;
+    }
+
+    /**
+     * Devolve registros para serem reaproveitados.
+     *
+     * @param registros Os números dos registros.
+     * @param quantidade Quantos números do vetor devolver.
+     */
+    synchronized void liberar(int[] registros, int quantidade) {
+        if (quantidadeLivres + quantidade > livres.length) {
+            livres = Arrays.copyOf(livres, Math.max(livres.length * 2, quantidadeLivres + quantidade));
+        }
+        System.arraycopy(registros, 0, livres, quantidadeLivres, quantidade);
+        quantidadeLivres += quantidade;
+    }
+
+    /**
+     * @return Quantos registros liberados aguardam para ser reaproveitados.
+     */
+    synchronized int getRegistrosLivres() {
+        return quantidadeLivres;
+    }
+
+    /**
+     * Grava todos os campos de um ingresso em um registro.
+     */
+    void gravar(int registro, String idInscricao, int idEvento, String nome, String email, LocalDateTime dataCompra,
+            double preco, String codigo, String assento, String tipo) {
+        setIdInscricao(registro, idEvento, idInscricao);
+        setTexto(registro, NOME, nome);
+        setTexto(registro, EMAIL, email);
+        setCodigo(registro, codigo);
+        setTexto(registro, ASSENTO, assento);
+        setTexto(registro, TIPO, tipo);
+        setDataCompra(registro, dataCompra);
+        setPreco(registro, preco);
+    }
+
+    /**
+     * Copia um ingresso para um registro.
+     */
+    void gravar(int registro, Ingresso ingresso) {
+        gravar(registro, ingresso.getIdIncricao(), ingresso.getIdEvento(), ingresso.getNomeParticipante(),
+                ingresso.getEmailParticipante(), ingresso.getDataCompra(), ingresso.getPrecoIngresso(),
+                ingresso.getCodigoVerificacao(), ingresso.getAssento(), ingresso.getTipoIngresso());
+    }
+
+    int getIdEvento(int registro) {
+        return bloco(registro).getInt(inicio(registro) + ID_EVENTO);
+    }
+
+    String getIdInscricao(int registro) {
+        ByteBuffer bloco = bloco(registro);
+        int numero = bloco.getInt(inicio(registro) + NUMERO);
+        if (numero >= 0) {
+            return bloco.getInt(inicio(registro) + ID_EVENTO) + "-" + numero;
+        }
+        return lerTexto(bloco.getInt(inicio(registro) + ID_INSCRICAO));
+    }
+
+    /**
+     * Grava o código de inscrição junto com o ID do evento, do qual ele depende.
+     */
+    void setIdInscricao(int registro, int idEvento, String idInscricao) {
+        int numero = numeroSeCompacto(idEvento, idInscricao);
+        ByteBuffer bloco = bloco(registro);
+        bloco.putInt(inicio(registro) + ID_EVENTO, idEvento);
+        bloco.putInt(inicio(registro) + NUMERO, numero);
+        bloco.putInt(inicio(registro) + ID_INSCRICAO, numero >= 0 ? NULO : internar(idInscricao));
+    }
+
+    String getNome(int registro) {
+        return getTexto(registro, NOME);
+    }
+
+    void setNome(int registro, String nome) {
+        setTexto(registro, NOME, nome);
+    }
+
+    String getEmail(int registro) {
+        return getTexto(registro, EMAIL);
+    }
+
+    void setEmail(int registro, String email) {
+        setTexto(registro, EMAIL, email);
+    }
+
+    String getTipo(int registro) {
+        return getTexto(registro, TIPO);
+    }
+
+    void setTipo(int registro, String tipo) {
+        setTexto(registro, TIPO, tipo);
+    }
+
+    String getAssento(int registro) {
+        return getTexto(registro, ASSENTO);
+    }
+
+    void setAssento(int registro, String assento) {
+        setTexto(registro, ASSENTO, assento);
+    }
+
+    String getCodigo(int registro) {
+        ByteBuffer bloco = bloco(registro);
+        int referencia = bloco.getInt(inicio(registro) + CODIGO);
+        if (referencia != CODIGO_NO_REGISTRO) {
+            return lerTexto(referencia);
+        }
+        byte[] bytes = new byte[TAMANHO_CODIGO];
+        bloco.get(inicio(registro) + CODIGO_BYTES, bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Grava o código de verificação no registro, se ele estiver no formato da assinatura,
+     * ou na tabela de textos, caso contrário.
+     */
+    void setCodigo(int registro, String codigo) {
+        byte[] bytes = bytesSeCompacto(codigo);
+        ByteBuffer bloco = bloco(registro);
+        if (bytes == null) {
+            bloco.putInt(inicio(registro) + CODIGO, internar(codigo));
+            return;
+        }
+        bloco.put(inicio(registro) + CODIGO_BYTES, bytes);
+        bloco.putInt(inicio(registro) + CODIGO, CODIGO_NO_REGISTRO);
+    }
+
+    LocalDateTime getDataCompra(int registro) {
+        ByteBuffer bloco = bloco(registro);
+        long segundos = bloco.getLong(inicio(registro) + DATA_SEGUNDOS);
+        return segundos == SEM_DATA ? null
+                : LocalDateTime.ofEpochSecond(segundos, bloco.getInt(inicio(registro) + DATA_NANOS), ZoneOffset.UTC);
+    }
+
+    void setDataCompra(int registro, LocalDateTime data) {
+        ByteBuffer bloco = bloco(registro);
+        bloco.putLong(inicio(registro) + DATA_SEGUNDOS, data != null ? data.toEpochSecond(ZoneOffset.UTC) : SEM_DATA);
+        bloco.putInt(inicio(registro) + DATA_NANOS, data != null ? data.getNano() : 0);
+    }
+
+    double getPreco(int registro) {
+        return bloco(registro).getDouble(inicio(registro) + PRECO);
+    }
+
+    void setPreco(int registro, double preco) {
+        bloco(registro).putDouble(inicio(registro) + PRECO, preco);
+    }
+
+    private String getTexto(int registro, int campo) {
+        return lerTexto(bloco(registro).getInt(inicio(registro) + campo));
+    }
+
+    private void setTexto(int registro, int campo, String valor) {
+        bloco(registro).putInt(inicio(registro) + campo, internar(valor));
+    }
+
+    private ByteBuffer bloco(int registro) {
+        return blocosRegistros[registro >>> BITS_REGISTROS_POR_BLOCO];
+    }
+
+    private static int inicio(int registro) {
+        return (registro & ((1 << BITS_REGISTROS_POR_BLOCO) - 1)) * TAMANHO_REGISTRO;
+    }
+
+    /**
+     * @return O número do código se ele for exatamente "idEvento-numero", ou -1.
+     */
+    private static int numeroSeCompacto(int idEvento, String idInscricao) {
+        if (idInscricao == null) {
+            return -1;
+        }
+        String prefixo = idEvento + "-";
+        if (!idInscricao.startsWith(prefixo) || idInscricao.length() == prefixo.length()
+                || idInscricao.length() - prefixo.length() > 9) {
+            return -1;
+        }
+        for (int i = prefixo.length(); i < idInscricao.length(); i++) {
+            char c = idInscricao.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        int numero = Integer.parseInt(idInscricao.substring(prefixo.length()));
+        // Zeros à esquerda não voltariam iguais.
+        return Integer.toString(numero).length() == idInscricao.length() - prefixo.length() ? numero : -1;
+    }
+
+    /**
+     * @return Os bytes do código se ele for Base64 para URL que decodifica em {@value #TAMANHO_CODIGO}
+     * bytes e volta igual ao ser codificado de novo, ou {@code null}.
+     */
+    private static byte[] bytesSeCompacto(String codigo) {
+        if (codigo == null || codigo.length() != TAMANHO_CODIGO_TEXTO) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(codigo);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        // Bits sobrando no último caractere não voltariam iguais.
+        return bytes.length == TAMANHO_CODIGO
+                && Base64.getUrlEncoder().withoutPadding().encodeToString(bytes).equals(codigo) ? bytes : null;
+    }
+
+    /**
+     * Lê um texto da tabela.
+     */
+    private String lerTexto(int referencia) {
+        if (referencia == NULO) {
+            return null;
+        }
+        ByteBuffer bloco = blocosTextos[referencia >>> BITS_BLOCO_TEXTOS];
+        int posicao = referencia & ((1 << BITS_BLOCO_TEXTOS) - 1);
+        byte[] bytes = new byte[bloco.getInt(posicao)];
+        bloco.get(posicao + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Busca um texto na tabela, acrescentando-o se ele ainda não existir.
+     *
+     * @return A referência do texto, ou {@link #NULO}.
+     */
+    synchronized int internar(String valor) {
+        if (valor == null) {
+            return NULO;
+        }
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        int hash = Arrays.hashCode(bytes);
+        int mascara = indice.length - 1;
+        int posicao = misturar(hash) & mascara;
+        while (indice[posicao] != 0) {
+            int referencia = indice[posicao] - 1;
+            if (hashes[posicao] == hash && iguais(referencia, bytes)) {
+                return referencia;
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+        int referencia = acrescentar(bytes);
+        indice[posicao] = referencia + 1;
+        hashes[posicao] = hash;
+        if (++textosInternados * 2 > indice.length) {
+            redimensionarIndice();
+        }
+        return referencia;
+    }
+
+    private boolean iguais(int referencia, byte[] bytes) {
+        ByteBuffer bloco = blocosTextos[referencia >>> BITS_BLOCO_TEXTOS];
+        int posicao = referencia & ((1 << BITS_BLOCO_TEXTOS) - 1);
+        if (bloco.getInt(posicao) != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (bloco.get(posicao + 4 + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int acrescentar(byte[] bytes) {
+        int tamanhoBloco = 1 << BITS_BLOCO_TEXTOS;
+        if (4 + bytes.length > tamanhoBloco) {
+            throw new IllegalArgumentException("Texto grande demais para um ingresso (" + bytes.length + " bytes).");
+        }
+        int atual = blocosTextos.length - 1;
+        if (atual < 0 || fimTextos - (atual << BITS_BLOCO_TEXTOS) + 4 + bytes.length > tamanhoBloco) {
+            int novo = atual + 1;
+            if (novo == MAXIMO_BLOCOS_TEXTOS) {
+                throw new IllegalStateException("A tabela de textos dos ingressos está cheia.");
+            }
+            ByteBuffer[] maiores = Arrays.copyOf(blocosTextos, novo + 1);
+            maiores[novo] = ByteBuffer.allocateDirect(tamanhoBloco);
+            blocosTextos = maiores;
+            fimTextos = novo << BITS_BLOCO_TEXTOS;
+        }
+        int referencia = fimTextos;
+        ByteBuffer bloco = blocosTextos[referencia >>> BITS_BLOCO_TEXTOS];
+        int posicao = referencia & (tamanhoBloco - 1);
+        bloco.putInt(posicao, bytes.length);
+        bloco.put(posicao + 4, bytes);
+        fimTextos += 4 + bytes.length;
+        return referencia;
+    }
+
+    private void redimensionarIndice() {
+        int[] antigo = indice;
+        int[] antigosHashes = hashes;
+        indice = new int[antigo.length * 2];
+        hashes = new int[antigo.length * 2];
+        int mascara = indice.length - 1;
+        for (int i = 0; i < antigo.length; i++) {
+            if (antigo[i] != 0) {
+                int posicao = misturar(antigosHashes[i]) & mascara;
+                while (indice[posicao] != 0) {
+                    posicao = (posicao + 1) & mascara;
+                }
+                indice[posicao] = antigo[i];
+                hashes[posicao] = antigosHashes[i];
+            }
+        }
+    }
+
+    private static int misturar(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+/**
+ * Representa um agrupamento de eventos próximos exibido como um único marcador no mapa.
+ * <p>
+ * A posição é o centróide das coordenadas dos eventos do grupo. Quando o grupo contém
+ * um único evento, o seu ID é informado para que o mapa exiba um marcador comum.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ClusterEventos {
+
+    /**
+     * Latitude do centróide do grupo.
+     */
+    private final double latitude;
+
+    /**
+     * Longitude do centróide do grupo.
+     */
+    private final double longitude;
+
+    /**
+     * Quantidade de eventos no grupo.
+     */
+    private final int quantidade;
+
+    /**
+     * ID do evento quando o grupo tem um único evento; {@code null} caso contrário.
+     */
+    private final Integer idEvento;
+
+    /**
+     * Cria um agrupamento de eventos.
+     *
+     * @param latitude (double) A latitude do centróide.
+     * @param longitude (double) A longitude do centróide.
+     * @param quantidade (int) A quantidade de eventos no grupo.
+     * @param idEvento (Integer) O ID do único evento do grupo, ou {@code null}.
+     */
+    public ClusterEventos(double latitude, double longitude, int quantidade, Integer idEvento) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.quantidade = quantidade;
+        this.idEvento = idEvento;
+    }
+
+    /**
+     * Obtém a latitude do centróide do grupo.
+     * @return A latitude (double).
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Obtém a longitude do centróide do grupo.
+     * @return A longitude (double).
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Obtém a quantidade de eventos no grupo.
+     * @return A quantidade (int) de eventos.
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Obtém o ID do evento quando o grupo tem um único evento.
+     * @return O ID (Integer) do evento, ou {@code null} se houver mais de um.
+     */
+    public Integer getIdEvento() {
+        return idEvento;
+    }
+}
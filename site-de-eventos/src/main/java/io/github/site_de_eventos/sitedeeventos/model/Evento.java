@@ -2,6 +2,9 @@ package io.github.site_de_eventos.sitedeeventos.model;
 
 import com.google.gson.annotations.Expose;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Representa a entidade Evento do sitema.
@@ -12,6 +15,14 @@ import java.time.LocalDateTime;
  * Os campos anotados com {@code @Expose} são para a conversão do objeto para 
  * o formato JSON e vice-versa.
  * 
+ * Depois de publicado pelo EventoRepository, o evento fica congelado: os setters
+ * lançam {@link IllegalStateException} e as alterações são feitas em uma cópia
+ * ({@link #copiar()}), que substitui a versão anterior de uma só vez. Assim, quem lê
+ * um evento nunca vê um estado pela metade. Os estoques (o total disponível, os tipos
+ * de ingresso e os mapas de assentos) são contadores atômicos compartilhados entre as
+ * versões, para que nenhuma venda se perca durante a troca; por isso não fazem parte da
+ * versão (veja {@link #getVersao()}).
+ * 
  * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
  * @version 1.0
  * @since 25-08-2025
@@ -32,10 +43,11 @@ public class Evento {
     private int capacidade;
     
     /**
-     * Quantidade ingressos disponíveis para venda.
+     * Quantidade ingressos disponíveis para venda. É um contador atômico para que
+     * compras simultâneas não vendam o mesmo ingresso duas vezes.
      */
     @Expose
-    private int ingressosDisponiveis;
+    private AtomicInteger ingressosDisponiveis = new AtomicInteger();
     
     /**
      * Nome oficial do evento.
@@ -111,6 +123,46 @@ public class Evento {
     @Expose 
     private int organizadorId;
 
+    /**
+     * Latitude do local do evento, usada pelo mapa. Nula se o evento não tiver coordenadas.
+     */
+    @Expose
+    private Double latitude;
+
+    /**
+     * Longitude do local do evento, usada pelo mapa. Nula se o evento não tiver coordenadas.
+     */
+    @Expose
+    private Double longitude;
+
+    /**
+     * Setores de assentos numerados. Nulo ou vazio se o evento não tiver lugares marcados.
+     * @see SetorAssentos
+     */
+    @Expose
+    private List<SetorAssentos> setores;
+
+    /**
+     * Tipos de ingresso (ex: inteira, meia-entrada, VIP), cada um com preço e estoque próprios.
+     * Nulo ou vazio se o evento vender um único tipo pelo {@link #preco}.
+     * @see TipoIngresso
+     */
+    @Expose
+    private List<TipoIngresso> tiposIngresso;
+
+    /**
+     * Versão do evento, incrementada pelo repositório a cada alteração salva.
+     * Usada para detectar alterações concorrentes (veja {@link #getVersao()}).
+     */
+    @Expose
+    private long versao;
+
+    /**
+     * Indica se o evento já foi publicado pelo repositório e não pode mais ser alterado.
+     * Não é persistido: todo evento carregado do arquivo é publicado novamente.
+     */
+    private transient volatile boolean congelado;
+
     /**
      * Construtor padrão, sem argumentos devido ao padrão de projeto BUILDER
      * que implementará a criação do objeto de uma forma mais flexivel.
@@ -141,7 +193,7 @@ public class Evento {
 	 * @return A quantidade de ingressos (inteiro) restantes.
 	 */
 	public int getIngressosDisponiveis() {
-		return ingressosDisponiveis;
+		return ingressosDisponiveis.get();
 	}
 	
 	/**
@@ -239,6 +291,112 @@ public class Evento {
     public int getOrganizadorId() {
         return organizadorId;
     }
+
+    /**
+     * Obtém a latitude do local do evento.
+     * @return A latitude (Double), ou {@code null} se não informada.
+     */
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Obtém a longitude do local do evento.
+     * @return A longitude (Double), ou {@code null} se não informada.
+     */
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Indica se o evento possui coordenadas para ser exibido no mapa.
+     * @return {@code true} se latitude e longitude estiverem definidas.
+     */
+    public boolean hasCoordenadas() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * Obtém os setores de assentos numerados do evento.
+     * @return A lista (List) de {@link SetorAssentos}, ou {@code null} se não houver lugares marcados.
+     */
+    public List<SetorAssentos> getSetores() {
+        return setores;
+    }
+
+    /**
+     * Obtém os tipos de ingresso do evento.
+     * @return A lista (List) de {@link TipoIngresso}, ou {@code null} se houver um único preço.
+     */
+    public List<TipoIngresso> getTiposIngresso() {
+        return tiposIngresso;
+    }
+
+    /**
+     * Indica se o evento vende mais de um tipo de ingresso.
+     * @return {@code true} se o evento tiver pelo menos um tipo de ingresso.
+     */
+    public boolean hasTiposIngresso() {
+        return tiposIngresso != null && !tiposIngresso.isEmpty();
+    }
+
+    /**
+     * Busca um tipo de ingresso pelo nome, sem diferenciar maiúsculas e minúsculas.
+     * @param nome (String) O nome do tipo.
+     * @return O {@link TipoIngresso} encontrado, ou {@code null}.
+     */
+    public TipoIngresso buscarTipoIngresso(String nome) {
+        if (nome == null || !hasTiposIngresso()) {
+            return null;
+        }
+        for (TipoIngresso tipo : tiposIngresso) {
+            if (tipo.getNome().equalsIgnoreCase(nome.trim())) {
+                return tipo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica se o evento vende assentos numerados.
+     * @return {@code true} se o evento tiver pelo menos um setor de assentos.
+     */
+    public boolean hasMapaAssentos() {
+        return setores != null && !setores.isEmpty();
+    }
+
+    /**
+     * Obtém a versão do evento. Começa em 1 no primeiro salvamento e aumenta a cada nova versão
+     * publicada, então duas leituras com a mesma versão viram os mesmos dados do evento, exceto
+     * os estoques: as vendas e os cancelamentos alteram os contadores compartilhados entre as
+     * versões sem criar uma nova.
+     * @return A versão (long) do evento, ou 0 se ele ainda não foi salvo.
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Descreve um assento a partir do seu código ("setor-fileira-assento").
+     * @param codigo (String) O código do assento.
+     * @return O texto exibido ao participante (ex: "Plateia A, fileira 3, assento 12"),
+     * ou o próprio código se ele não corresponder a um setor do evento.
+     */
+    public String descreverAssento(String codigo) {
+        if (codigo == null || !hasMapaAssentos()) {
+            return codigo;
+        }
+        String[] partes = codigo.split("-");
+        try {
+            int setor = Integer.parseInt(partes[0]);
+            if (partes.length == 3 && setor >= 1 && setor <= setores.size()) {
+                return setores.get(setor - 1).getNome() + ", fileira " + partes[1] + ", assento " + partes[2];
+            }
+        } catch (NumberFormatException e) {
+            // Código fora do formato esperado; é exibido como está.
+        }
+        return codigo;
+    }
     
     
 	//Setters	
@@ -248,6 +406,7 @@ public class Evento {
      * @param organizadorId (int) O novo ID do organizador.
      */
     public void setOrganizadorId(int organizadorId) {
+        verificarMutavel();
         // Atribui o ID do organizador fornecido ao campo correspondente.
         this.organizadorId = organizadorId;
     }
@@ -257,6 +416,7 @@ public class Evento {
      * @param status (String) O novo status (ex: "ATIVO", "CANCELADO").
      */
     public void setStatus(String status) {
+        verificarMutavel();
         // Atribui o status fornecido ao campo 'status' do objeto.
         this.status = status;
     }	
@@ -266,6 +426,7 @@ public class Evento {
      * @param cupomCode (String) O novo código de cupom para o evento.
      */
 	public void setCupomCode(String cupomCode) {
+		verificarMutavel();
 		this.cupomCode = cupomCode;
 	}
 
@@ -274,6 +435,7 @@ public class Evento {
      * @param cupomDiscountValue (double) O novo valor de desconto para o cupom.
      */
 	public void setCupomDiscountValue(double cupomDiscountValue) {
+		verificarMutavel();
 		this.cupomDiscountValue = cupomDiscountValue;
 	}
 	
@@ -282,6 +444,7 @@ public class Evento {
      * @param imageUrl (String) A nova URL da imagem.
      */
 	public void setImageUrl(String imageUrl) {
+	        verificarMutavel();
 	        this.imageUrl = imageUrl;
 	}
 	
@@ -290,6 +453,7 @@ public class Evento {
      * @param idEvento (inteiro) O novo ID para o evento.
      */
 	public void setIdEvento(int idEvento) {
+		verificarMutavel();
 		this.idEvento = idEvento;
 	}
 	
@@ -298,15 +462,54 @@ public class Evento {
      * @param capacidade (inteiro) A nova capacidade total de participantes.
      */
 	public void setCapacidade(int capacidade) {
+		verificarMutavel();
 		this.capacidade = capacidade;
 	}
 	
 	/**
-     * Define o número de ingressos disponíveis.
+     * Define o número de ingressos disponíveis. Em uma cópia, o total deixa de ser compartilhado
+     * com a versão de origem e passa a valer quando a cópia for publicada.
      * @param ingressosDisponiveis (inteiro) A nova quantidade de ingressos disponíveis.
      */
 	public void setIngressosDisponiveis(int ingressosDisponiveis) {
-		this.ingressosDisponiveis = ingressosDisponiveis;
+		verificarMutavel();
+		this.ingressosDisponiveis = new AtomicInteger(ingressosDisponiveis);
+	}
+
+	/**
+     * Tenta retirar ingressos do total disponível, sem travas.
+     * @param quantidade (inteiro) A quantidade de ingressos.
+     * @return {@code true} se havia ingressos suficientes e eles foram retirados.
+     */
+	public boolean reservarIngressos(int quantidade) {
+		while (true) {
+			int atual = ingressosDisponiveis.get();
+			if (atual < quantidade) {
+				return false;
+			}
+			if (ingressosDisponiveis.compareAndSet(atual, atual - quantidade)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+     * Soma uma variação ao total disponível. Usado quando o estoque já foi conferido
+     * nos tipos de ingresso, ou para devolver ingressos cancelados.
+     * @param variacao (inteiro) A variação, negativa para retirar ingressos.
+     * @return A nova quantidade (inteiro) disponível.
+     */
+	public int ajustarIngressosDisponiveis(int variacao) {
+		return ingressosDisponiveis.addAndGet(variacao);
+	}
+
+	/**
+     * Define os tipos de ingresso do evento.
+     * @param tiposIngresso (List) Os novos tipos, ou {@code null} para um único preço.
+     */
+	public void setTiposIngresso(List<TipoIngresso> tiposIngresso) {
+		verificarMutavel();
+		this.tiposIngresso = tiposIngresso;
 	}
 	
 	/**
@@ -314,6 +517,7 @@ public class Evento {
      * @param nomeEvento (String) O novo nome para o evento.
      */
 	public void setNomeEvento(String nomeEvento) {
+		verificarMutavel();
 		this.nomeEvento = nomeEvento;
 	}
 	
@@ -322,6 +526,7 @@ public class Evento {
      * @param local (String) O novo endereço ou local do evento.
      */
 	public void setLocal(String local) {
+		verificarMutavel();
 		this.local = local;
 	}
 	
@@ -330,6 +535,7 @@ public class Evento {
      * @param categoria (String) A nova categoria para o evento.
      */
 	public void setCategoria(String categoria) {
+		verificarMutavel();
 		this.categoria = categoria;
 	}
 	
@@ -338,6 +544,7 @@ public class Evento {
      * @param organizador ({@link Organizador}) O objeto a ser associado ao evento.
      */
 	public void setOrganizador(Organizador organizador) {
+		verificarMutavel();
 		this.organizador = organizador;
 	}
 	
@@ -346,6 +553,7 @@ public class Evento {
      * @param descrição (String) O novo texto descritivo para o evento.
      */
 	public void setDescrição(String descrição) {
+		verificarMutavel();
 		this.descrição = descrição;
 	}
 	
@@ -354,6 +562,7 @@ public class Evento {
      * @param preco (double) O novo preço para o ingresso.
      */
 	public void setPreco(double preco) {
+		verificarMutavel();
 		this.preco = preco;
 	}
 	
@@ -362,8 +571,97 @@ public class Evento {
      * @param dataEvento ({@link LocalDateTime}) O novo objeto de data e local para o evento.
      */
 	public void setDataEvento(LocalDateTime dataEvento) {
+		verificarMutavel();
 		this.dataEvento = dataEvento;
 	}
 
+	/**
+     * Define a latitude do local do evento.
+     * @param latitude (Double) A nova latitude, ou {@code null} para remover.
+     */
+	public void setLatitude(Double latitude) {
+		verificarMutavel();
+		this.latitude = latitude;
+	}
 
+	/**
+     * Define a longitude do local do evento.
+     * @param longitude (Double) A nova longitude, ou {@code null} para remover.
+     */
+	public void setLongitude(Double longitude) {
+		verificarMutavel();
+		this.longitude = longitude;
+	}
+
+	/**
+     * Define os setores de assentos numerados do evento.
+     * @param setores (List) Os novos setores, ou {@code null} para vender sem lugares marcados.
+     */
+	public void setSetores(List<SetorAssentos> setores) {
+		verificarMutavel();
+		this.setores = setores;
+	}
+
+	/**
+     * Define a versão do evento. Chamado pelo repositório ao salvá-lo.
+     * @param versao (long) A nova versão.
+     */
+	public void setVersao(long versao) {
+		verificarMutavel();
+		this.versao = versao;
+	}
+
+	/**
+     * Cria uma cópia não congelada do evento, para ser alterada e publicada como uma nova versão.
+     * <p>
+     * As listas de setores e de tipos de ingresso são copiadas, mas os seus elementos e o total
+     * disponível são compartilhados com a versão original, já que guardam os estoques. Para trocar
+     * um estoque na cópia, use os setters, que não alteram a versão original.
+     * @return A cópia ({@link Evento}).
+     */
+	public Evento copiar() {
+		Evento copia = new Evento();
+		copia.idEvento = idEvento;
+		copia.capacidade = capacidade;
+		copia.ingressosDisponiveis = ingressosDisponiveis;
+		copia.nomeEvento = nomeEvento;
+		copia.local = local;
+		copia.categoria = categoria;
+		copia.organizador = organizador;
+		copia.descrição = descrição;
+		copia.preco = preco;
+		copia.dataEvento = dataEvento;
+		copia.imageUrl = imageUrl;
+		copia.cupomCode = cupomCode;
+		copia.cupomDiscountValue = cupomDiscountValue;
+		copia.status = status;
+		copia.organizadorId = organizadorId;
+		copia.latitude = latitude;
+		copia.longitude = longitude;
+		copia.setores = setores == null ? null : new ArrayList<>(setores);
+		copia.tiposIngresso = tiposIngresso == null ? null : new ArrayList<>(tiposIngresso);
+		copia.versao = versao;
+		return copia;
+	}
+
+	/**
+     * Congela o evento. Chamado pelo repositório ao publicá-lo.
+     */
+	public void congelar() {
+		this.congelado = true;
+	}
+
+	/**
+     * Verifica se o evento já foi publicado pelo repositório.
+     * @return {@code true} se os setters não podem mais ser usados.
+     */
+	public boolean isCongelado() {
+		return congelado;
+	}
+
+	private void verificarMutavel() {
+		if (congelado) {
+			throw new IllegalStateException("O evento " + idEvento + " já foi publicado e não pode ser alterado; altere uma cópia pelo repositório.");
+		}
+	}
 }
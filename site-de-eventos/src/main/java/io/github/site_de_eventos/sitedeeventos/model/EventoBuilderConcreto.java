@@ -1,6 +1,7 @@
 package io.github.site_de_eventos.sitedeeventos.model;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import io.github.site_de_eventos.sitedeeventos.model.builder.IEventoBuilder;
 
 /**
@@ -181,6 +182,41 @@ public class EventoBuilderConcreto implements IEventoBuilder {
         return this;
     }
 
+    /**
+     * Define as coordenadas do local do evento.
+     * @param latitude (Double) A latitude, ou {@code null} se não houver.
+     * @param longitude (Double) A longitude, ou {@code null} se não houver.
+     * @return A própria instância do builder para chamadas encadeadas.
+     */
+    @Override
+    public IEventoBuilder coordenadas(Double latitude, Double longitude) {
+        this.evento.setLatitude(latitude);
+        this.evento.setLongitude(longitude);
+        return this;
+    }
+
+    /**
+     * Define os setores de assentos numerados do evento.
+     * @param setores (List) Os setores, ou {@code null} se o evento não tiver lugares marcados.
+     * @return A própria instância do builder para chamadas encadeadas.
+     */
+    @Override
+    public IEventoBuilder setores(List<SetorAssentos> setores) {
+        this.evento.setSetores(setores);
+        return this;
+    }
+
+    /**
+     * Define os tipos de ingresso do evento.
+     * @param tiposIngresso (List) Os tipos, ou {@code null} se o evento tiver um único preço.
+     * @return A própria instância do builder para chamadas encadeadas.
+     */
+    @Override
+    public IEventoBuilder tiposIngresso(List<TipoIngresso> tiposIngresso) {
+        this.evento.setTiposIngresso(tiposIngresso);
+        return this;
+    }
+
     /**
      * Constrói e retorna o objeto {@link Evento} final.
      * Garante que o evento tenha um status padrão "ATIVO" se nenhum for especificado.
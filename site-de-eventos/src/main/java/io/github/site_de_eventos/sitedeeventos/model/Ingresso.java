@@ -46,6 +46,25 @@ public class Ingresso {
      */
     @Expose
     private double precoIngresso;
+
+    /**
+     * Código assinado exibido no QR Code, que permite verificar o ingresso sem consultar o servidor.
+     * Gerado na emissão e guardado para que reimpressões não o recalculem.
+     */
+    @Expose
+    private String codigoVerificacao;
+
+    /**
+     * Código do assento numerado ("setor-fileira-assento"), ou nulo se o evento não tiver lugares marcados.
+     */
+    @Expose
+    private String assento;
+
+    /**
+     * Nome do tipo de ingresso (ex: "Meia-entrada"), ou nulo se o evento tiver um único preço.
+     */
+    @Expose
+    private String tipoIngresso;
     
     /**
      * Referência de volta para o Pedido ao qual este ingresso pertence.
@@ -184,4 +203,52 @@ public class Ingresso {
     public void setPrecoIngresso(double precoIngresso) {
         this.precoIngresso = precoIngresso;
     }
+
+    /**
+     * Obtém o código de verificação assinado do ingresso.
+     * @return O código (String), ou {@code null} se ainda não foi gerado.
+     */
+    public String getCodigoVerificacao() {
+        return codigoVerificacao;
+    }
+
+    /**
+     * Define o código de verificação assinado do ingresso.
+     * @param codigoVerificacao (String) O novo código.
+     */
+    public void setCodigoVerificacao(String codigoVerificacao) {
+        this.codigoVerificacao = codigoVerificacao;
+    }
+
+    /**
+     * Obtém o código do assento do ingresso.
+     * @return O código (String) do assento, ou {@code null} se não houver lugar marcado.
+     */
+    public String getAssento() {
+        return assento;
+    }
+
+    /**
+     * Define o código do assento do ingresso.
+     * @param assento (String) O novo código, no formato "setor-fileira-assento".
+     */
+    public void setAssento(String assento) {
+        this.assento = assento;
+    }
+
+    /**
+     * Obtém o nome do tipo de ingresso.
+     * @return O nome (String) do tipo, ou {@code null} se o evento tiver um único preço.
+     */
+    public String getTipoIngresso() {
+        return tipoIngresso;
+    }
+
+    /**
+     * Define o nome do tipo de ingresso.
+     * @param tipoIngresso (String) O novo nome do tipo.
+     */
+    public void setTipoIngresso(String tipoIngresso) {
+        this.tipoIngresso = tipoIngresso;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Visão (flyweight) de um ingresso guardado no {@link ArmazemIngressos}: não guarda nenhum dado,
+ * e cada getter e setter lê ou altera o registro diretamente.
+ * <p>
+ * Criada pela {@link ListaIngressos} a cada acesso; duas visões do mesmo registro são iguais
+ * ({@link #equals(Object)}). A visão mantém a lista viva, para que o registro não seja
+ * reaproveitado enquanto ela estiver em uso.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+final class IngressoCompacto extends Ingresso {
+
+    private final ListaIngressos lista;
+    private final ArmazemIngressos armazem;
+    private final int registro;
+
+    IngressoCompacto(ListaIngressos lista, ArmazemIngressos armazem, int registro) {
+        super(null, 0, null, null, null, 0);
+        this.lista = lista;
+        this.armazem = armazem;
+        this.registro = registro;
+    }
+
+    @Override
+    public String getIdIncricao() {
+        return armazem.getIdInscricao(registro);
+    }
+
+    @Override
+    public void setIdIncricao(String idInscricao) {
+        armazem.setIdInscricao(registro, armazem.getIdEvento(registro), idInscricao);
+    }
+
+    @Override
+    public int getIdEvento() {
+        return armazem.getIdEvento(registro);
+    }
+
+    @Override
+    public void setIdEvento(int idEvento) {
+        armazem.setIdInscricao(registro, idEvento, armazem.getIdInscricao(registro));
+    }
+
+    @Override
+    public String getNomeParticipante() {
+        return armazem.getNome(registro);
+    }
+
+    @Override
+    public void setNomeParticipante(String nomeParticipante) {
+        armazem.setNome(registro, nomeParticipante);
+    }
+
+    @Override
+    public String getEmailParticipante() {
+        return armazem.getEmail(registro);
+    }
+
+    @Override
+    public void setEmailParticipante(String emailParticipante) {
+        armazem.setEmail(registro, emailParticipante);
+    }
+
+    @Override
+    public LocalDateTime getDataCompra() {
+        return armazem.getDataCompra(registro);
+    }
+
+    @Override
+    public void setDataCompra(LocalDateTime dataCompra) {
+        armazem.setDataCompra(registro, dataCompra);
+    }
+
+    @Override
+    public double getPrecoIngresso() {
+        return armazem.getPreco(registro);
+    }
+
+    @Override
+    public void setPrecoIngresso(double precoIngresso) {
+        armazem.setPreco(registro, precoIngresso);
+    }
+
+    @Override
+    public String getCodigoVerificacao() {
+        return armazem.getCodigo(registro);
+    }
+
+    @Override
+    public void setCodigoVerificacao(String codigoVerificacao) {
+        armazem.setCodigo(registro, codigoVerificacao);
+    }
+
+    @Override
+    public String getAssento() {
+        return armazem.getAssento(registro);
+    }
+
+    @Override
+    public void setAssento(String assento) {
+        armazem.setAssento(registro, assento);
+    }
+
+    @Override
+    public String getTipoIngresso() {
+        return armazem.getTipo(registro);
+    }
+
+    @Override
+    public void setTipoIngresso(String tipoIngresso) {
+        armazem.setTipo(registro, tipoIngresso);
+    }
+
+    @Override
+    public Pedido getPedido() {
+        return lista.getPedido();
+    }
+
+    @Override
+    public void setPedido(Pedido pedido) {
+        lista.setPedido(pedido);
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        return outro instanceof IngressoCompacto visao && visao.armazem == armazem && visao.registro == registro;
+    }
+
+    @Override
+    public int hashCode() {
+        return registro;
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import java.lang.ref.Cleaner;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Lista dos ingressos de um {@link Pedido}, guardados fora do heap no {@link ArmazemIngressos}.
+ * <p>
+ * A lista guarda apenas os números dos registros. Cada {@link #get(int)} cria uma visão
+ * ({@link IngressoCompacto}) que lê e altera o registro diretamente, então um ingresso só existe
+ * como objeto Java enquanto uma página ou API o estiver usando. Um ingresso acrescentado é
+ * copiado para o armazém: alterações feitas depois no objeto original não chegam à lista.
+ * <p>
+ * Quando a lista é descartada pelo coletor de lixo, os seus registros voltam para o armazém.
+ * Isso vale também para os registros removidos: como cada visão mantém a lista viva, uma visão
+ * obtida antes de um {@link #remove(int)} continua lendo o ingresso removido, e nunca um outro
+ * ingresso que tenha reaproveitado o registro.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public final class ListaIngressos extends AbstractList<Ingresso> implements RandomAccess {
+
+    private static final Cleaner LIMPEZA = Cleaner.create();
+
+    private final ArmazemIngressos armazem;
+    private final Registros registros;
+
+    /**
+     * O pedido dono da lista, devolvido por {@link Ingresso#getPedido()} nas visões.
+     */
+    private Pedido pedido;
+
+    /**
+     * Cria uma lista vazia.
+     */
+    public ListaIngressos() {
+        this(ArmazemIngressos.GLOBAL);
+    }
+
+    ListaIngressos(ArmazemIngressos armazem) {
+        this.armazem = armazem;
+        this.registros = new Registros(armazem);
+        LIMPEZA.register(this, registros);
+    }
+
+    /**
+     * Cria uma lista com cópias dos ingressos informados.
+     *
+     * @param ingressos Os ingressos.
+     */
+    public ListaIngressos(Collection<? extends Ingresso> ingressos) {
+        this();
+        addAll(ingressos);
+    }
+
+    /**
+     * Devolve a própria lista, se ela já for uma {@link ListaIngressos}, ou uma cópia compacta.
+     *
+     * @param ingressos Os ingressos, ou {@code null}.
+     * @return A lista compacta, ou {@code null}.
+     */
+    public static ListaIngressos de(Collection<? extends Ingresso> ingressos) {
+        if (ingressos == null || ingressos instanceof ListaIngressos) {
+            return (ListaIngressos) ingressos;
+        }
+        return new ListaIngressos(ingressos);
+    }
+
+    void setPedido(Pedido pedido) {
+        this.pedido = pedido;
+    }
+
+    Pedido getPedido() {
+        return pedido;
+    }
+
+    @Override
+    public Ingresso get(int index) {
+        return new IngressoCompacto(this, armazem, registro(index));
+    }
+
+    @Override
+    public int size() {
+        return registros.quantidade;
+    }
+
+    @Override
+    public Ingresso set(int index, Ingresso ingresso) {
+        Ingresso anterior = copiar(index);
+        armazem.gravar(registro(index), ingresso);
+        return anterior;
+    }
+
+    @Override
+    public void add(int index, Ingresso ingresso) {
+        if (index < 0 || index > registros.quantidade) {
+            throw new IndexOutOfBoundsException("Posição " + index + " fora da lista de " + registros.quantidade + " ingressos.");
+        }
+        int registro = armazem.alocar();
+        armazem.gravar(registro, ingresso);
+        inserir(index, registro);
+    }
+
+    /**
+     * Acrescenta um ingresso a partir dos seus campos, sem criar um {@link Ingresso}.
+     * Usado pela leitura do JSON.
+     */
+    void adicionar(String idInscricao, int idEvento, String nome, String email, LocalDateTime dataCompra,
+            double preco, String codigo, String assento, String tipo) {
+        int registro = armazem.alocar();
+        armazem.gravar(registro, idInscricao, idEvento, nome, email, dataCompra, preco, codigo, assento, tipo);
+        inserir(registros.quantidade, registro);
+    }
+
+    @Override
+    public Ingresso remove(int index) {
+        Ingresso removido = copiar(index);
+        int registro = registro(index);
+        int[] numeros = registros.numeros;
+        System.arraycopy(numeros, index + 1, numeros, index, registros.quantidade - index - 1);
+        registros.quantidade--;
+        modCount++;
+        // Só é devolvido ao armazém junto com a lista, quando nenhuma visão o estiver usando.
+        registros.guardarRemovido(registro);
+        return removido;
+    }
+
+    private void inserir(int index, int registro) {
+        int[] numeros = registros.numeros;
+        if (registros.quantidade == numeros.length) {
+            numeros = Arrays.copyOf(numeros, Math.max(4, numeros.length * 2));
+            registros.numeros = numeros;
+        }
+        System.arraycopy(numeros, index, numeros, index + 1, registros.quantidade - index);
+        numeros[index] = registro;
+        registros.quantidade++;
+        modCount++;
+    }
+
+    private int registro(int index) {
+        if (index < 0 || index >= registros.quantidade) {
+            throw new IndexOutOfBoundsException("Posição " + index + " fora da lista de " + registros.quantidade + " ingressos.");
+        }
+        return registros.numeros[index];
+    }
+
+    /**
+     * Copia um ingresso para um objeto comum, que continua válido depois que o registro é trocado.
+     */
+    private Ingresso copiar(int index) {
+        Ingresso visao = get(index);
+        Ingresso copia = new Ingresso(visao.getIdIncricao(), visao.getIdEvento(), visao.getNomeParticipante(),
+                visao.getEmailParticipante(), visao.getDataCompra(), visao.getPrecoIngresso());
+        copia.setCodigoVerificacao(visao.getCodigoVerificacao());
+        copia.setAssento(visao.getAssento());
+        copia.setTipoIngresso(visao.getTipoIngresso());
+        copia.setPedido(pedido);
+        return copia;
+    }
+
+    /**
+     * Os números dos registros da lista e dos já removidos, separados dela para que a limpeza
+     * possa devolvê-los ao armazém depois que a lista for descartada.
+     */
+    private static final class Registros implements Runnable {
+
+        private final ArmazemIngressos armazem;
+        private int[] numeros = new int[0];
+        private int quantidade;
+        private int[] removidos = new int[0];
+        private int quantidadeRemovidos;
+
+        private Registros(ArmazemIngressos armazem) {
+            this.armazem = armazem;
+        }
+
+        private void guardarRemovido(int registro) {
+            if (quantidadeRemovidos == removidos.length) {
+                removidos = Arrays.copyOf(removidos, Math.max(4, removidos.length * 2));
+            }
+            removidos[quantidadeRemovidos++] = registro;
+        }
+
+        @Override
+        public void run() {
+            armazem.liberar(numeros, quantidade);
+            armazem.liberar(removidos, quantidadeRemovidos);
+        }
+    }
+}
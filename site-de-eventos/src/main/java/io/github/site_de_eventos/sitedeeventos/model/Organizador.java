@@ -84,4 +84,18 @@ public class Organizador extends Usuario {
     public void setEventoOrganizado(Evento eventoOrganizado) {
         this.eventoOrganizado = eventoOrganizado;
     }
-}
\ No newline at end of file
+
+    /**
+     * Cria uma cópia do organizador, incluindo o CNPJ e a conta bancária.
+     * @return A cópia ({@link Organizador}).
+     */
+    @Override
+    public Organizador copiar() {
+        Organizador copia = new Organizador();
+        copiarPara(copia);
+        copia.contaBancaria = contaBancaria;
+        copia.cnpj = cnpj;
+        copia.eventoOrganizado = eventoOrganizado;
+        return copia;
+    }
+}
@@ -1,8 +1,10 @@
 package io.github.site_de_eventos.sitedeeventos.model;
 
 import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.JsonAdapter;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Representa a entidade Pedido no sistema.
@@ -53,9 +55,11 @@ public class Pedido {
     @Expose
     private String status;
     /**
-     * Lista de ingressos gerados por este pedido.
+     * Lista de ingressos gerados por este pedido, guardados fora do heap.
+     * @see ListaIngressos
      */
     @Expose
+    @JsonAdapter(AdaptadorListaIngressos.class)
     private List<Ingresso> ingressos;
 
     /**
@@ -144,11 +148,16 @@ public class Pedido {
     }
 
     /**
-     * Define a lista de ingressos do pedido.
+     * Define a lista de ingressos do pedido. Os ingressos são copiados para uma {@link ListaIngressos},
+     * que passa a ter este pedido como dono. A leitura do JSON também passa por aqui.
      * @param ingressos (List) de ({@link Ingresso}) a nova lista de ingressos.
      */
     public void setIngressos(List<Ingresso> ingressos) {
-        this.ingressos = ingressos;
+        ListaIngressos lista = ListaIngressos.de(ingressos);
+        if (lista != null) {
+            lista.setPedido(this);
+        }
+        this.ingressos = lista;
     }
 
     /**
@@ -220,7 +229,7 @@ public class Pedido {
      * Obtém o status do pedido.
      * @return O status (String) do pedido.
      */
-    public String getStatus() {
+    public synchronized String getStatus() {
         return status;
     }
 
@@ -228,7 +237,23 @@ public class Pedido {
      * Define o status do pedido.
      * @param status (String) O novo status do pedido.
      */
-    public void setStatus(String status) {
+    public synchronized void setStatus(String status) {
         this.status = status;
     }
+
+    /**
+     * Troca o status do pedido apenas se ele ainda for o esperado, de forma atômica.
+     * Como o mesmo pedido é compartilhado pelas versões do usuário, garante que, entre
+     * duas operações concorrentes (ex: dois cancelamentos), só uma faça a transição.
+     * @param esperado (String) O status que o pedido deve ter.
+     * @param novo (String) O novo status.
+     * @return {@code true} se o status foi trocado; {@code false} se ele já era outro.
+     */
+    public synchronized boolean alterarStatus(String esperado, String novo) {
+        if (!Objects.equals(this.status, esperado)) {
+            return false;
+        }
+        this.status = novo;
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import com.google.gson.annotations.Expose;
+
+/**
+ * Representa um setor de assentos numerados de um evento.
+ * <p>
+ * Cada setor é uma grade retangular de fileiras com a mesma quantidade de assentos.
+ * Uma fileira tem no máximo {@value #MAX_ASSENTOS_POR_FILEIRA} assentos, para que a
+ * ocupação de cada fileira caiba em uma única palavra de 64 bits.
+ * <p>
+ * Os campos anotados com {@code @Expose} são para a conversão do objeto para
+ * o formato JSON e vice-versa.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class SetorAssentos {
+
+    /**
+     * Quantidade máxima de assentos em uma fileira.
+     */
+    public static final int MAX_ASSENTOS_POR_FILEIRA = 64;
+
+    /**
+     * Nome do setor exibido ao comprador (ex: "Plateia A").
+     */
+    @Expose
+    private String nome;
+
+    /**
+     * Quantidade de fileiras do setor. A fileira 1 é a mais próxima do palco.
+     */
+    @Expose
+    private int fileiras;
+
+    /**
+     * Quantidade de assentos em cada fileira.
+     */
+    @Expose
+    private int assentosPorFileira;
+
+    /**
+     * Construtor padrão, necessário para a desserialização do JSON.
+     */
+    public SetorAssentos() {}
+
+    /**
+     * Construtor completo.
+     * @param nome (String) O nome do setor.
+     * @param fileiras (int) A quantidade de fileiras.
+     * @param assentosPorFileira (int) A quantidade de assentos em cada fileira.
+     */
+    public SetorAssentos(String nome, int fileiras, int assentosPorFileira) {
+        this.nome = nome;
+        this.fileiras = fileiras;
+        this.assentosPorFileira = assentosPorFileira;
+    }
+
+    /**
+     * Obtém o nome do setor.
+     * @return O nome (String) do setor.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Obtém a quantidade de fileiras.
+     * @return A quantidade (int) de fileiras.
+     */
+    public int getFileiras() {
+        return fileiras;
+    }
+
+    /**
+     * Obtém a quantidade de assentos por fileira.
+     * @return A quantidade (int) de assentos em cada fileira.
+     */
+    public int getAssentosPorFileira() {
+        return assentosPorFileira;
+    }
+
+    /**
+     * Obtém a quantidade total de assentos do setor.
+     * @return O total (int) de assentos.
+     */
+    public int getTotalAssentos() {
+        return fileiras * assentosPorFileira;
+    }
+
+    /**
+     * Define o nome do setor.
+     * @param nome (String) O novo nome.
+     */
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * Define a quantidade de fileiras.
+     * @param fileiras (int) A nova quantidade de fileiras.
+     */
+    public void setFileiras(int fileiras) {
+        this.fileiras = fileiras;
+    }
+
+    /**
+     * Define a quantidade de assentos por fileira.
+     * @param assentosPorFileira (int) A nova quantidade de assentos em cada fileira.
+     */
+    public void setAssentosPorFileira(int assentosPorFileira) {
+        this.assentosPorFileira = assentosPorFileira;
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import com.google.gson.annotations.Expose;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Representa um tipo de ingresso de um evento (ex: "Inteira", "Meia-entrada", "VIP", "Lote 1").
+ * <p>
+ * Cada tipo tem o seu preço, a sua capacidade e, opcionalmente, um período de vendas.
+ * O estoque de cada tipo é um contador atômico próprio: vendas simultâneas de tipos
+ * diferentes do mesmo evento não disputam o mesmo contador.
+ * <p>
+ * Os campos anotados com {@code @Expose} são para a conversão do objeto para
+ * o formato JSON e vice-versa.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class TipoIngresso {
+
+    /**
+     * Nome do tipo, único dentro do evento.
+     */
+    @Expose
+    private String nome;
+
+    /**
+     * Preço de cada ingresso deste tipo.
+     */
+    @Expose
+    private double preco;
+
+    /**
+     * Quantidade total de ingressos deste tipo.
+     */
+    @Expose
+    private int capacidade;
+
+    /**
+     * Quantidade de ingressos deste tipo ainda disponíveis.
+     */
+    @Expose
+    private AtomicInteger disponiveis = new AtomicInteger();
+
+    /**
+     * Início das vendas deste tipo. Nulo se as vendas começam com a criação do evento.
+     */
+    @Expose
+    private LocalDateTime inicioVendas;
+
+    /**
+     * Fim das vendas deste tipo. Nulo se as vendas vão até o evento se esgotar.
+     */
+    @Expose
+    private LocalDateTime fimVendas;
+
+    /**
+     * Construtor padrão, necessário para a desserialização do JSON.
+     */
+    public TipoIngresso() {}
+
+    /**
+     * Construtor completo. Todos os ingressos do tipo começam disponíveis.
+     * @param nome (String) O nome do tipo.
+     * @param preco (double) O preço de cada ingresso.
+     * @param capacidade (int) A quantidade de ingressos do tipo.
+     * @param inicioVendas (LocalDateTime) O início das vendas, ou {@code null}.
+     * @param fimVendas (LocalDateTime) O fim das vendas, ou {@code null}.
+     */
+    public TipoIngresso(String nome, double preco, int capacidade, LocalDateTime inicioVendas, LocalDateTime fimVendas) {
+        this.nome = nome;
+        this.preco = preco;
+        this.capacidade = capacidade;
+        this.disponiveis.set(capacidade);
+        this.inicioVendas = inicioVendas;
+        this.fimVendas = fimVendas;
+    }
+
+    /**
+     * Tenta retirar ingressos do estoque deste tipo. A operação é atômica e não usa travas.
+     * @param quantidade (int) A quantidade de ingressos.
+     * @return {@code true} se havia ingressos suficientes e eles foram retirados.
+     */
+    public boolean reservar(int quantidade) {
+        while (true) {
+            int atual = disponiveis.get();
+            if (atual < quantidade) {
+                return false;
+            }
+            if (disponiveis.compareAndSet(atual, atual - quantidade)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Devolve ingressos ao estoque deste tipo, por exemplo, após um cancelamento.
+     * @param quantidade (int) A quantidade de ingressos devolvidos.
+     */
+    public void devolver(int quantidade) {
+        disponiveis.addAndGet(quantidade);
+    }
+
+    /**
+     * Indica se o tipo está à venda no momento informado.
+     * @param agora (LocalDateTime) O momento da compra.
+     * @return {@code true} se o momento estiver dentro do período de vendas.
+     */
+    public boolean isEmVenda(LocalDateTime agora) {
+        return (inicioVendas == null || !agora.isBefore(inicioVendas))
+                && (fimVendas == null || !agora.isAfter(fimVendas));
+    }
+
+    /**
+     * Obtém o nome do tipo.
+     * @return O nome (String) do tipo.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Obtém o preço de cada ingresso do tipo.
+     * @return O preço (double).
+     */
+    public double getPreco() {
+        return preco;
+    }
+
+    /**
+     * Obtém a capacidade do tipo.
+     * @return A quantidade (int) total de ingressos do tipo.
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Obtém a quantidade de ingressos disponíveis do tipo.
+     * @return A quantidade (int) disponível.
+     */
+    public int getDisponiveis() {
+        return disponiveis.get();
+    }
+
+    /**
+     * Obtém o início das vendas.
+     * @return O início (LocalDateTime), ou {@code null}.
+     */
+    public LocalDateTime getInicioVendas() {
+        return inicioVendas;
+    }
+
+    /**
+     * Obtém o fim das vendas.
+     * @return O fim (LocalDateTime), ou {@code null}.
+     */
+    public LocalDateTime getFimVendas() {
+        return fimVendas;
+    }
+
+    /**
+     * Define a quantidade de ingressos disponíveis do tipo.
+     * @param disponiveis (int) A nova quantidade disponível.
+     */
+    public void setDisponiveis(int disponiveis) {
+        this.disponiveis.set(disponiveis);
+    }
+}
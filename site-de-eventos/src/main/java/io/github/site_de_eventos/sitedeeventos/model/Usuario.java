@@ -1,8 +1,10 @@
 package io.github.site_de_eventos.sitedeeventos.model;
 
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.google.gson.annotations.Expose;
@@ -21,6 +23,11 @@ import com.google.gson.annotations.Expose;
  */
 
 public class Usuario {
+    /**
+     * Gerador dos carimbos de credenciais.
+     */
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
     /**
      * Identificador único do usuário.
      */
@@ -74,12 +81,24 @@ public class Usuario {
     @Expose
     @JsonManagedReference
     private List<Pedido> pedidos;
+    /**
+     * Versão do cadastro, incrementada pelo repositório a cada alteração salva.
+     */
+    @Expose
+    private long versao;
+    /**
+     * Valor aleatório sorteado de novo sempre que o e-mail ou a senha mudam, usado para invalidar
+     * os logins feitos com as credenciais antigas. Não é derivado da senha.
+     */
+    @Expose
+    private int carimboCredenciais;
 
     /**
      * Construtor padrão que inicializa a lista de pedidos para evitar NullPointerException.
      */
     public Usuario() { 
         this.pedidos = new ArrayList<>();
+        this.carimboCredenciais = ALEATORIO.nextInt();
     }
 
     /**
@@ -161,6 +180,22 @@ public class Usuario {
         return this.pedidos;
     }
 
+    /**
+     * Obtém a versão do cadastro. Começa em 1 no primeiro salvamento e aumenta a cada alteração salva.
+     * @return A versão (long) do usuário, ou 0 se ele ainda não foi salvo.
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Obtém o carimbo das credenciais, que muda sempre que o e-mail ou a senha mudam.
+     * @return O carimbo (int) das credenciais atuais.
+     */
+    public int getCarimboCredenciais() {
+        return carimboCredenciais;
+    }
+
     /**
      * Define o identificador único do usuário.
      * @param idUsuario (int) O novo ID do usuário.
@@ -182,6 +217,9 @@ public class Usuario {
      * @param email (String) O novo e-mail do usuário.
      */
 	public void setEmail(String email) {
+		if (!Objects.equals(this.email, email)) {
+			renovarCarimboCredenciais();
+		}
 		this.email = email;
 	}
     /**
@@ -189,6 +227,9 @@ public class Usuario {
      * @param senha (String) A nova senha do usuário.
      */
 	public void setSenha(String senha) {
+		if (!Objects.equals(this.senha, senha)) {
+			renovarCarimboCredenciais();
+		}
 		this.senha = senha;
 	}
 
@@ -266,4 +307,60 @@ public class Usuario {
         this.pedidos = pedidos;
     }
 
+    /**
+     * Define a versão do cadastro. Chamado pelo repositório ao salvá-lo.
+     * @param versao (long) A nova versão.
+     */
+    public void setVersao(long versao) {
+        this.versao = versao;
+    }
+
+    /**
+     * Define o carimbo das credenciais. Chamado pelo repositório ao ler um usuário salvo.
+     * @param carimboCredenciais (int) O carimbo gravado.
+     */
+    public void setCarimboCredenciais(int carimboCredenciais) {
+        this.carimboCredenciais = carimboCredenciais;
+    }
+
+    /**
+     * Sorteia um novo carimbo, diferente do atual.
+     */
+    private void renovarCarimboCredenciais() {
+        int anterior = carimboCredenciais;
+        do {
+            carimboCredenciais = ALEATORIO.nextInt();
+        } while (carimboCredenciais == anterior);
+    }
+
+    /**
+     * Cria uma cópia do usuário, para ser alterada e salva como uma nova versão sem afetar
+     * quem ainda está usando a versão atual. A lista de pedidos é nova, mas os pedidos são os mesmos.
+     * @return A cópia ({@link Usuario}).
+     */
+    public Usuario copiar() {
+        Usuario copia = new Usuario();
+        copiarPara(copia);
+        return copia;
+    }
+
+    /**
+     * Copia os campos do usuário para outra instância. Usado por {@link #copiar()} e pelas subclasses.
+     * @param copia (Usuario) A instância que recebe os campos.
+     */
+    protected void copiarPara(Usuario copia) {
+        copia.idUsuario = idUsuario;
+        copia.nome = nome;
+        copia.email = email;
+        copia.senha = senha;
+        copia.cpf = cpf;
+        copia.telefone = telefone;
+        copia.cidade = cidade;
+        copia.endereco = endereco;
+        copia.dataNascimento = dataNascimento;
+        copia.pedidos = (pedidos == null) ? new ArrayList<>() : new ArrayList<>(pedidos);
+        copia.versao = versao;
+        copia.carimboCredenciais = carimboCredenciais;
+    }
+
 }
@@ -1,8 +1,11 @@
 package io.github.site_de_eventos.sitedeeventos.model.builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
 import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
 
 /**
  * Define o contrato para a construção de objetos {@link Evento} utilizando o padrão de projeto Builder.
@@ -119,5 +122,27 @@ public interface IEventoBuilder {
      * @return A própria instância do builder para chamadas encadeadas.
      */
     public IEventoBuilder organizadorId(int organizadorId);
+
+    /**
+     * Define as coordenadas do local do evento.
+     * @param latitude (Double) A latitude, ou {@code null} se não houver.
+     * @param longitude (Double) A longitude, ou {@code null} se não houver.
+     * @return A própria instância do builder para chamadas encadeadas.
+     */
+    public IEventoBuilder coordenadas(Double latitude, Double longitude);
+
+    /**
+     * Define os setores de assentos numerados do evento.
+     * @param setores (List) Os setores, ou {@code null} se o evento não tiver lugares marcados.
+     * @return A própria instância do builder para chamadas encadeadas.
+     */
+    public IEventoBuilder setores(List<SetorAssentos> setores);
+
+    /**
+     * Define os tipos de ingresso do evento.
+     * @param tiposIngresso (List) Os tipos, ou {@code null} se o evento tiver um único preço.
+     * @return A própria instância do builder para chamadas encadeadas.
+     */
+    public IEventoBuilder tiposIngresso(List<TipoIngresso> tiposIngresso);
     public Evento build();
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Fato: o organizador cancelou um evento. Os pedidos do evento são cancelados em seguida,
+ * cada um com o seu {@link PedidoCancelado}.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class EventoCancelado extends EventoDominio {
+
+    private final int idEvento;
+    private final int organizadorId;
+
+    /**
+     * @param instante O momento do cancelamento, em milissegundos desde 1970 (UTC).
+     * @param idEvento O ID do evento.
+     * @param organizadorId O ID do organizador.
+     */
+    public EventoCancelado(long instante, int idEvento, int organizadorId) {
+        super(instante);
+        this.idEvento = idEvento;
+        this.organizadorId = organizadorId;
+    }
+
+    /**
+     * @return O ID (int) do evento.
+     */
+    public int getIdEvento() {
+        return idEvento;
+    }
+
+    /**
+     * @return O ID (int) do organizador.
+     */
+    public int getOrganizadorId() {
+        return organizadorId;
+    }
+}
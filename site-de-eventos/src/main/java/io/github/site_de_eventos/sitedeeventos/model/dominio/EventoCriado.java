@@ -0,0 +1,59 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Fato: um organizador publicou um novo evento.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class EventoCriado extends EventoDominio {
+
+    private final int idEvento;
+    private final int organizadorId;
+    private final String nomeEvento;
+    private final int capacidade;
+
+    /**
+     * @param instante O momento da criação, em milissegundos desde 1970 (UTC).
+     * @param idEvento O ID do evento.
+     * @param organizadorId O ID do organizador.
+     * @param nomeEvento O nome do evento.
+     * @param capacidade A capacidade do evento.
+     */
+    public EventoCriado(long instante, int idEvento, int organizadorId, String nomeEvento, int capacidade) {
+        super(instante);
+        this.idEvento = idEvento;
+        this.organizadorId = organizadorId;
+        this.nomeEvento = nomeEvento;
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * @return O ID (int) do evento.
+     */
+    public int getIdEvento() {
+        return idEvento;
+    }
+
+    /**
+     * @return O ID (int) do organizador.
+     */
+    public int getOrganizadorId() {
+        return organizadorId;
+    }
+
+    /**
+     * @return O nome (String) do evento.
+     */
+    public String getNomeEvento() {
+        return nomeEvento;
+    }
+
+    /**
+     * @return A capacidade (int) do evento.
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+}
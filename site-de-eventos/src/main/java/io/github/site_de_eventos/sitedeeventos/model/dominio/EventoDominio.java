@@ -0,0 +1,46 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Um fato ocorrido no domínio (ex: um pedido criado), registrado no log de eventos de domínio.
+ * <p>
+ * Os fatos são imutáveis e só são acrescentados ao log, nunca alterados. Projeções como o painel
+ * de vendas são reconstruídas reproduzindo o log do início (veja {@link ProjecaoDominio}).
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public abstract class EventoDominio {
+
+    private long sequencia;
+    private long instante;
+
+    /**
+     * @param instante O momento do fato, em milissegundos desde 1970 (UTC).
+     */
+    protected EventoDominio(long instante) {
+        this.instante = instante;
+    }
+
+    /**
+     * @return A posição (long) do fato no log, atribuída ao registrá-lo; 0 antes disso.
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    /**
+     * Define a posição do fato no log. Chamado pelo log ao registrá-lo.
+     * @param sequencia (long) A posição.
+     */
+    public void setSequencia(long sequencia) {
+        this.sequencia = sequencia;
+    }
+
+    /**
+     * @return O momento (long) do fato, em milissegundos desde 1970 (UTC).
+     */
+    public long getInstante() {
+        return instante;
+    }
+}
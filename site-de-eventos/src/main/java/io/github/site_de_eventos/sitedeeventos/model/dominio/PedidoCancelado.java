@@ -0,0 +1,101 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Fato: um pedido foi cancelado, pelo comprador ou junto com o evento.
+ * Repete os valores do pedido para que as projeções não precisem guardar cada {@link PedidoCriado}.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PedidoCancelado extends EventoDominio {
+
+    private final int idPedido;
+    private final int usuarioId;
+    private final int idEvento;
+    private final int quantidade;
+    private final double valorTotal;
+    private final double taxa;
+    private final double desconto;
+    private final boolean peloOrganizador;
+
+    /**
+     * @param instante O momento do cancelamento, em milissegundos desde 1970 (UTC).
+     * @param idPedido O ID do pedido.
+     * @param usuarioId O ID do comprador.
+     * @param idEvento O ID do evento.
+     * @param quantidade A quantidade de ingressos devolvidos.
+     * @param valorTotal O valor que havia sido pago.
+     * @param taxa A parte do valor pago referente à taxa de serviço.
+     * @param desconto O desconto que havia sido concedido pelo cupom.
+     * @param peloOrganizador Se o cancelamento veio do cancelamento do evento.
+     */
+    public PedidoCancelado(long instante, int idPedido, int usuarioId, int idEvento, int quantidade,
+            double valorTotal, double taxa, double desconto, boolean peloOrganizador) {
+        super(instante);
+        this.idPedido = idPedido;
+        this.usuarioId = usuarioId;
+        this.idEvento = idEvento;
+        this.quantidade = quantidade;
+        this.valorTotal = valorTotal;
+        this.taxa = taxa;
+        this.desconto = desconto;
+        this.peloOrganizador = peloOrganizador;
+    }
+
+    /**
+     * @return O ID (int) do pedido.
+     */
+    public int getIdPedido() {
+        return idPedido;
+    }
+
+    /**
+     * @return O ID (int) do comprador.
+     */
+    public int getUsuarioId() {
+        return usuarioId;
+    }
+
+    /**
+     * @return O ID (int) do evento.
+     */
+    public int getIdEvento() {
+        return idEvento;
+    }
+
+    /**
+     * @return A quantidade (int) de ingressos devolvidos.
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * @return O valor (double) que havia sido pago.
+     */
+    public double getValorTotal() {
+        return valorTotal;
+    }
+
+    /**
+     * @return A taxa de serviço (double) incluída no valor pago.
+     */
+    public double getTaxa() {
+        return taxa;
+    }
+
+    /**
+     * @return O desconto (double) que havia sido concedido.
+     */
+    public double getDesconto() {
+        return desconto;
+    }
+
+    /**
+     * @return {@code true} se o pedido foi cancelado junto com o evento.
+     */
+    public boolean isPeloOrganizador() {
+        return peloOrganizador;
+    }
+}
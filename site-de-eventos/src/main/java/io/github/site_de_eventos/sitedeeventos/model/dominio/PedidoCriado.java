@@ -0,0 +1,90 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Fato: um pedido foi concluído e os seus ingressos, emitidos.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PedidoCriado extends EventoDominio {
+
+    private final int idPedido;
+    private final int usuarioId;
+    private final int idEvento;
+    private final int quantidade;
+    private final double valorTotal;
+    private final double taxa;
+    private final double desconto;
+
+    /**
+     * @param instante O momento da compra, em milissegundos desde 1970 (UTC).
+     * @param idPedido O ID do pedido.
+     * @param usuarioId O ID do comprador.
+     * @param idEvento O ID do evento.
+     * @param quantidade A quantidade de ingressos.
+     * @param valorTotal O valor pago.
+     * @param taxa A parte do valor pago referente à taxa de serviço.
+     * @param desconto O desconto concedido pelo cupom.
+     */
+    public PedidoCriado(long instante, int idPedido, int usuarioId, int idEvento, int quantidade,
+            double valorTotal, double taxa, double desconto) {
+        super(instante);
+        this.idPedido = idPedido;
+        this.usuarioId = usuarioId;
+        this.idEvento = idEvento;
+        this.quantidade = quantidade;
+        this.valorTotal = valorTotal;
+        this.taxa = taxa;
+        this.desconto = desconto;
+    }
+
+    /**
+     * @return O ID (int) do pedido.
+     */
+    public int getIdPedido() {
+        return idPedido;
+    }
+
+    /**
+     * @return O ID (int) do comprador.
+     */
+    public int getUsuarioId() {
+        return usuarioId;
+    }
+
+    /**
+     * @return O ID (int) do evento.
+     */
+    public int getIdEvento() {
+        return idEvento;
+    }
+
+    /**
+     * @return A quantidade (int) de ingressos.
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * @return O valor (double) pago.
+     */
+    public double getValorTotal() {
+        return valorTotal;
+    }
+
+    /**
+     * @return A taxa de serviço (double) incluída no valor pago.
+     */
+    public double getTaxa() {
+        return taxa;
+    }
+
+    /**
+     * @return O desconto (double) concedido pelo cupom.
+     */
+    public double getDesconto() {
+        return desconto;
+    }
+}
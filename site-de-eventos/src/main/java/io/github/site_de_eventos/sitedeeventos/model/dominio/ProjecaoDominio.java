@@ -0,0 +1,21 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Um modelo de leitura mantido a partir dos eventos de domínio.
+ * <p>
+ * Uma projeção não precisa de migração própria: na inicialização ela é reconstruída
+ * reproduzindo o log inteiro, na ordem em que os fatos foram registrados.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public interface ProjecaoDominio {
+
+    /**
+     * Aplica um fato à projeção. Fatos de tipos que não interessam à projeção são ignorados.
+     *
+     * @param evento O fato.
+     */
+    void aplicar(EventoDominio evento);
+}
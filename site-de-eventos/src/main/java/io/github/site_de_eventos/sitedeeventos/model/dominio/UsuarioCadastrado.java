@@ -0,0 +1,59 @@
+package io.github.site_de_eventos.sitedeeventos.model.dominio;
+
+/**
+ * Fato: um usuário ou organizador se cadastrou no sistema.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class UsuarioCadastrado extends EventoDominio {
+
+    private final int idUsuario;
+    private final String nome;
+    private final String email;
+    private final boolean organizador;
+
+    /**
+     * @param instante O momento do cadastro, em milissegundos desde 1970 (UTC).
+     * @param idUsuario O ID do usuário.
+     * @param nome O nome do usuário.
+     * @param email O e-mail do usuário.
+     * @param organizador Se o cadastro é de um organizador.
+     */
+    public UsuarioCadastrado(long instante, int idUsuario, String nome, String email, boolean organizador) {
+        super(instante);
+        this.idUsuario = idUsuario;
+        this.nome = nome;
+        this.email = email;
+        this.organizador = organizador;
+    }
+
+    /**
+     * @return O ID (int) do usuário.
+     */
+    public int getIdUsuario() {
+        return idUsuario;
+    }
+
+    /**
+     * @return O nome (String) do usuário.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * @return O e-mail (String) do usuário.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * @return {@code true} se o cadastro é de um organizador.
+     */
+    public boolean isOrganizador() {
+        return organizador;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+/**
+ * Exceção lançada quando uma gravação condicionada à versão encontra o registro em outra versão,
+ * ou seja, quando outra alteração foi salva depois que o registro foi lido.
+ * <p>
+ * Quem a recebe deve ler a versão atual, reaplicar a alteração e tentar de novo, como fazem
+ * {@link EventoRepository#atualizar(int, java.util.function.Consumer)} e
+ * {@link UsuarioRepository#atualizar(int, java.util.function.Consumer)}.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ConflitoVersaoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param entidade O nome da entidade (ex: "Evento").
+     * @param id O ID do registro.
+     * @param versaoEsperada A versão lida por quem tentou salvar.
+     * @param versaoAtual A versão encontrada no repositório, ou -1 se o registro não existir mais.
+     */
+    public ConflitoVersaoException(String entidade, int id, long versaoEsperada, long versaoAtual) {
+        super(entidade + " " + id + " foi alterado por outra operação (versão esperada: " + versaoEsperada
+                + ", versão atual: " + (versaoAtual < 0 ? "removido" : versaoAtual) + ").");
+    }
+}
@@ -2,7 +2,10 @@ package io.github.site_de_eventos.sitedeeventos.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
 
 /**
@@ -10,6 +13,11 @@ import io.github.site_de_eventos.sitedeeventos.model.Evento;
  * <p>
  * Esta abstração permite a implementação de diferentes estratégias de armazenamento (como banco de dados em memória,
  * arquivos JSON ou um banco de dados relacional) sem alterar a camada de serviço.
+ * <p>
+ * Os eventos devolvidos são versões publicadas e congeladas (veja {@link Evento#copiar()}):
+ * alterações de dados são feitas por {@link #atualizar(int, Consumer)}. Cada versão publicada tem
+ * um número ({@link Evento#getVersao()}) maior que o da anterior, usado por
+ * {@link #save(Evento, long)} para recusar alterações feitas sobre uma versão desatualizada.
  *
  * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
  * @version 1.0
@@ -20,13 +28,52 @@ public interface EventoRepository {
 	/**
 	 * Salva ou atualiza um evento no repositório.
 	 * Se o evento for novo (ID 0), um novo ID deve ser gerado e atribuído.
-	 * Se o evento já existir (ID diferente de 0), seus dados devem ser atualizados.
+	 * Se o evento já existir (ID diferente de 0), seus dados devem ser atualizados, desde que ele
+	 * tenha sido copiado da versão publicada atual; salvar de novo um evento congelado apenas o grava.
 	 *
 	 * @param evento O objeto {@link Evento} a ser salvo.
 	 * @return O evento salvo, possivelmente com o ID atualizado.
+	 * @throws ConflitoVersaoException Se outra versão foi publicada depois daquela de onde o evento foi copiado.
 	 */
 	Evento save(Evento evento);
 
+	/**
+	 * Publica uma nova versão de um evento existente apenas se a versão publicada ainda for
+	 * a esperada (compare-and-set). Em caso de sucesso, o evento recebe a versão
+	 * {@code versaoEsperada + 1} e é congelado.
+	 *
+	 * @param evento A cópia alterada do evento (veja {@link Evento#copiar()}), ainda não congelada.
+	 * @param versaoEsperada A versão (long) sobre a qual a cópia foi feita.
+	 * @return O evento publicado.
+	 * @throws ConflitoVersaoException Se outra versão foi publicada depois da leitura, ou se o evento foi excluído.
+	 */
+	Evento save(Evento evento, long versaoEsperada);
+
+	/**
+	 * Altera um evento publicando uma nova versão dele, sem modificar a versão que outros
+	 * leitores podem estar usando.
+	 * A alteração é aplicada sobre uma cópia da versão atual, salva com {@link #save(Evento, long)};
+	 * se outra alteração for publicada antes, a cópia é descartada e a alteração é aplicada de novo
+	 * sobre a versão mais recente, após uma espera aleatória que cresce a cada conflito. Por isso ela
+	 * deve apenas alterar a cópia recebida, e pode lançar uma exceção para desistir.
+	 *
+	 * @param id O ID (int) do evento.
+	 * @param alteracao A alteração a aplicar na cópia.
+	 * @return Um {@link Optional} com a nova versão publicada, ou vazio se o evento não existir.
+	 * @throws ConflitoVersaoException Se a alteração foi recusada em todas as tentativas.
+	 */
+	default Optional<Evento> atualizar(int id, Consumer<Evento> alteracao) {
+		return TentativasConflito.repetir(() -> {
+			Optional<Evento> atual = findById(id);
+			if (atual.isEmpty()) {
+				return Optional.empty();
+			}
+			Evento copia = atual.get().copiar();
+			alteracao.accept(copia);
+			return Optional.of(save(copia, atual.get().getVersao()));
+		});
+	}
+
 	/**
 	 * Busca um evento pelo seu identificador único.
 	 *
@@ -58,6 +105,44 @@ public interface EventoRepository {
 	 */
 	List<Evento> findByNomeContaining(String termo);
 
+	/**
+	 * Busca os eventos criados por um organizador.
+	 * A implementação padrão filtra {@link #findAll()}; implementações com índice podem consultá-lo.
+	 *
+	 * @param organizadorId O ID do organizador.
+	 * @return Uma {@link List} com os eventos do organizador.
+	 */
+	default List<Evento> findByOrganizadorId(int organizadorId) {
+		return findAll().stream()
+				.filter(evento -> evento.getOrganizadorId() == organizadorId)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Busca os eventos com coordenadas dentro de uma área retangular (por exemplo, a área visível do mapa).
+	 * Se {@code lngMin} for maior que {@code lngMax}, a área cruza o antimeridiano.
+	 *
+	 * @param latMin A latitude sul da área.
+	 * @param lngMin A longitude oeste da área.
+	 * @param latMax A latitude norte da área.
+	 * @param lngMax A longitude leste da área.
+	 * @return Uma {@link List} de {@link Evento} localizados dentro da área.
+	 */
+	List<Evento> findByArea(double latMin, double lngMin, double latMax, double lngMax);
+
+	/**
+	 * Retorna os agrupamentos de eventos visíveis em uma área do mapa para um nível de zoom.
+	 * Apenas eventos com coordenadas, não cancelados e ainda não realizados são agrupados.
+	 *
+	 * @param latMin A latitude sul da área.
+	 * @param lngMin A longitude oeste da área.
+	 * @param latMax A latitude norte da área.
+	 * @param lngMax A longitude leste da área.
+	 * @param zoom O nível de zoom do mapa.
+	 * @return Uma {@link List} de {@link ClusterEventos} com a quantidade e o centróide de cada grupo.
+	 */
+	List<ClusterEventos> findClusters(double latMin, double lngMin, double latMax, double lngMax, int zoom);
+
 	/**
 	 * Exclui um evento do repositório com base no seu ID.
 	 *
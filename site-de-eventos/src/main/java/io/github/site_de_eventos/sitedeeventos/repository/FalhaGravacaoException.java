@@ -0,0 +1,25 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+/**
+ * Exceção lançada quando os dados alterados não puderam ser gravados, para que a operação que os
+ * alterou não termine como se tivesse sido salva.
+ * <p>
+ * Se a falha acontecer depois que a {@link UnidadeDeTrabalho} gravou o seu marcador, a gravação é
+ * concluída antes da próxima confirmação ou na próxima inicialização.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class FalhaGravacaoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param mensagem A descrição do que não pôde ser gravado.
+     * @param causa O erro de entrada e saída original.
+     */
+    public FalhaGravacaoException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
+}
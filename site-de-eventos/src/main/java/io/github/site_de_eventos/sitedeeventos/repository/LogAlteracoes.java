@@ -0,0 +1,46 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+import java.util.List;
+
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+
+/**
+ * Interface que define o contrato do log de alterações dos repositórios, base do feed de
+ * alterações consumido por sistemas externos (BI, envio de e-mails).
+ * <p>
+ * Cada alteração recebe uma sequência global, crescente entre todos os repositórios, e quem
+ * consome o feed pede apenas as alterações posteriores à última que já processou.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public interface LogAlteracoes {
+
+	/**
+	 * Registra uma alteração. Dentro de uma {@link UnidadeDeTrabalho}, ela é gravada junto com o
+	 * arquivo do repositório e só fica visível no feed depois da confirmação.
+	 *
+	 * @param entidade O tipo do registro (ex: "evento").
+	 * @param id O ID do registro.
+	 * @param operacao {@link Alteracao#SALVO} ou {@link Alteracao#REMOVIDO}.
+	 * @param versao A versão do registro depois da alteração.
+	 */
+	void registrar(String entidade, int id, String operacao, long versao);
+
+	/**
+	 * Busca as alterações confirmadas com sequência maior que a informada, em ordem.
+	 *
+	 * @param desde A última sequência já processada pelo consumidor (0 para ler do início).
+	 * @param limite O número máximo de alterações devolvidas.
+	 * @return As alterações encontradas, possivelmente vazia.
+	 */
+	List<Alteracao> buscarDesde(long desde, int limite);
+
+	/**
+	 * Obtém a sequência da alteração confirmada mais recente.
+	 *
+	 * @return A sequência, ou 0 se nenhuma alteração foi registrada.
+	 */
+	long getUltimaSequencia();
+}
@@ -0,0 +1,45 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+import java.util.function.Consumer;
+
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoDominio;
+
+/**
+ * Interface que define o contrato do log de eventos de domínio: uma sequência de fatos
+ * ({@link EventoDominio}) que só recebe acréscimos.
+ * <p>
+ * O log guarda os fatos de que as projeções precisam (usuários cadastrados, eventos criados e
+ * cancelados, pedidos criados e cancelados) e é a fonte delas: modelos de leitura novos são
+ * construídos reproduzindo-o do início, sem migrar os arquivos dos repositórios.
+ * <p>
+ * O log não substitui os repositórios: eles continuam guardando o estado completo de cada
+ * entidade, são gravados a cada alteração e não são reconstruídos a partir dos fatos.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public interface LogEventosDominio {
+
+	/**
+	 * Acrescenta um fato ao log. Dentro de uma {@link UnidadeDeTrabalho}, o fato é gravado junto
+	 * com os arquivos dos repositórios alterados pela mesma operação.
+	 *
+	 * @param evento O fato. Recebe a sua sequência no momento da gravação.
+	 */
+	void registrar(EventoDominio evento);
+
+	/**
+	 * Reproduz os fatos já gravados, na ordem do log.
+	 *
+	 * @param destino Quem recebe cada fato.
+	 */
+	void reproduzir(Consumer<EventoDominio> destino);
+
+	/**
+	 * Verifica se o log ainda não tem nenhum fato gravado.
+	 *
+	 * @return {@code true} se o log estiver vazio.
+	 */
+	boolean isVazio();
+}
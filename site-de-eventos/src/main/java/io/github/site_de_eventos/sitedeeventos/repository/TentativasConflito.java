@@ -0,0 +1,61 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repetição das alterações recusadas por {@link ConflitoVersaoException}, usada por
+ * {@link EventoRepository#atualizar(int, java.util.function.Consumer)} e
+ * {@link UsuarioRepository#atualizar(int, java.util.function.Consumer)}.
+ * <p>
+ * O número de tentativas é limitado, e entre elas a thread espera um tempo aleatório que dobra a
+ * cada conflito, para que alterações concorrentes sobre o mesmo registro deixem de colidir.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+final class TentativasConflito {
+
+    /** Quantas vezes uma alteração é tentada antes de desistir. */
+    static final int MAXIMO_TENTATIVAS = 8;
+
+    /** Limite, em milissegundos, da espera entre duas tentativas. */
+    private static final long ESPERA_MAXIMA_MS = 64;
+
+    private TentativasConflito() {
+    }
+
+    /**
+     * Executa a tentativa até que ela termine sem conflito de versão.
+     *
+     * @param tentativa A leitura, alteração e gravação com {@code save(registro, versaoEsperada)}.
+     * @return O resultado da primeira tentativa sem conflito.
+     * @throws ConflitoVersaoException O último conflito, se todas as tentativas foram recusadas
+     *         ou se a thread foi interrompida durante a espera.
+     */
+    static <T> Optional<T> repetir(Supplier<Optional<T>> tentativa) {
+        for (int i = 1; ; i++) {
+            try {
+                return tentativa.get();
+            } catch (ConflitoVersaoException e) {
+                if (i == MAXIMO_TENTATIVAS) {
+                    throw e;
+                }
+                esperar(i, e);
+            }
+        }
+    }
+
+    private static void esperar(int tentativa, ConflitoVersaoException conflito) {
+        long limite = Math.min(ESPERA_MAXIMA_MS, 1L << tentativa);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(limite + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            conflito.addSuppressed(e);
+            throw conflito;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Unidade de trabalho que agrupa as gravações em arquivo dos repositórios feitas durante uma operação.
+ * <p>
+ * Dentro de {@link #executar(Supplier)}, os repositórios apenas registram que o seu arquivo mudou;
+ * ao final, cada arquivo alterado é gravado uma única vez, com o estado mais recente, e todos são
+ * confirmados juntos. Uma compra, por exemplo, grava "eventos.json" e a partição do comprador de uma vez,
+ * em vez de uma gravação por {@code save}.
+ * <p>
+ * Além de arquivos reescritos por inteiro, a unidade acrescenta linhas a arquivos de log
+ * ({@link #anexar(String, Conteudo)}), como o log de eventos de domínio.
+ * <p>
+ * A confirmação é atômica mesmo entre arquivos: o conteúdo novo é gravado em arquivos temporários,
+ * um marcador com a lista deles é gravado e só então os acréscimos são feitos e os arquivos
+ * reescritos substituem os originais. Se a aplicação parar no meio, {@link #recuperar()} termina
+ * o que o marcador indica na próxima inicialização, antes de os repositórios lerem os arquivos.
+ * Um acréscimo refeito pode repetir linhas; quem lê o log deve ignorar as repetidas.
+ * <p>
+ * Uma falha de gravação é lançada como {@link FalhaGravacaoException}. Antes do marcador, os
+ * temporários são apagados e os arquivos ficam como estavam; depois dele, tudo fica no disco e a
+ * troca é concluída no início da próxima confirmação ou na próxima inicialização.
+ * <p>
+ * Repositórios que gravam em outro meio, como um banco de dados, participam da unidade com um
+ * {@link Participante}, confirmado antes dos arquivos, para que a ordem das linhas dos logs siga
+ * a ordem em que os dados foram gravados.
+ * <p>
+ * Ações registradas com {@link #aposConfirmar(Runnable)} rodam logo depois da confirmação,
+ * ainda na ordem das confirmações, e não rodam se a gravação falhar.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Component
+public class UnidadeDeTrabalho {
+
+    /**
+     * Arquivo que marca uma confirmação em andamento, com um nome de arquivo por linha
+     * (com "+" na frente dos que recebem acréscimos).
+     */
+    static final String MARCADOR = "unidade-de-trabalho.pendente";
+
+    private static final String SUFIXO_TEMPORARIO = ".tmp";
+    private static final String SUFIXO_ANEXO = ".anexo";
+
+    /**
+     * Prefixo, no marcador, dos arquivos que recebem acréscimos.
+     */
+    private static final String PREFIXO_ANEXO = "+";
+
+    /**
+     * As gravações pendentes da unidade aberta na thread atual. Nulo quando não há unidade aberta.
+     */
+    private final ThreadLocal<Pendencias> pendentes = new ThreadLocal<>();
+
+    /**
+     * Escreve o conteúdo completo de um arquivo, ou o trecho a acrescentar a ele.
+     */
+    @FunctionalInterface
+    public interface Conteudo {
+
+        /**
+         * @param writer O destino do conteúdo.
+         * @throws IOException Se a escrita falhar.
+         */
+        void escrever(Writer writer) throws IOException;
+    }
+
+    /**
+     * Participante de uma unidade que grava fora dos arquivos (ex: um lote de comandos de banco de dados).
+     */
+    @FunctionalInterface
+    public interface Participante {
+
+        /**
+         * Grava tudo o que foi acumulado durante a unidade. Uma falha deve ser lançada como exceção,
+         * o que cancela a gravação dos arquivos da mesma unidade.
+         */
+        void confirmar();
+    }
+
+    /**
+     * Conclui uma confirmação interrompida, se o marcador tiver ficado para trás.
+     * Executado pelo Spring antes que os repositórios, que dependem desta classe, carreguem os seus arquivos.
+     *
+     * @throws FalhaGravacaoException Se a troca não puder ser concluída; os repositórios não devem
+     * ler os arquivos pela metade.
+     */
+    @PostConstruct
+    public void recuperar() {
+        Path marcador = Paths.get(MARCADOR);
+        if (!Files.exists(marcador)) {
+            return;
+        }
+        try {
+            concluir(marcador);
+            System.out.println("Gravação interrompida concluída a partir de " + MARCADOR);
+        } catch (IOException e) {
+            throw new FalhaGravacaoException("Erro ao concluir gravação interrompida: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Faz os acréscimos e as trocas listados no marcador que ainda não foram feitos e apaga o marcador.
+     */
+    private static void concluir(Path marcador) throws IOException {
+        for (String linha : Files.readAllLines(marcador, StandardCharsets.UTF_8)) {
+            if (linha.startsWith(PREFIXO_ANEXO)) {
+                String arquivo = linha.substring(PREFIXO_ANEXO.length());
+                Path anexo = Paths.get(arquivo + SUFIXO_ANEXO);
+                if (Files.exists(anexo)) {
+                    acrescentar(anexo, Paths.get(arquivo));
+                }
+            } else if (!linha.isBlank() && Files.exists(Paths.get(linha + SUFIXO_TEMPORARIO))) {
+                mover(Paths.get(linha + SUFIXO_TEMPORARIO), Paths.get(linha));
+            }
+        }
+        Files.delete(marcador);
+    }
+
+    /**
+     * Executa uma operação dentro de uma unidade de trabalho e grava, ao final, todos os arquivos
+     * que ela alterou. Se já houver uma unidade aberta na thread, a operação apenas participa dela.
+     * <p>
+     * Os arquivos são gravados mesmo se a operação lançar uma exceção, já que as alterações em
+     * memória feitas até ali (e as compensações da própria operação) continuam valendo. Nesse caso,
+     * a exceção da operação é a lançada, com uma eventual falha da gravação como suprimida.
+     *
+     * @param operacao A operação.
+     * @param <T> O tipo do resultado.
+     * @return O resultado da operação.
+     * @throws FalhaGravacaoException Se a operação terminar normalmente, mas os arquivos não puderem ser gravados.
+     */
+    public <T> T executar(Supplier<T> operacao) {
+        if (pendentes.get() != null) {
+            return operacao.get();
+        }
+        Pendencias pendencias = new Pendencias();
+        pendentes.set(pendencias);
+        T resultado;
+        try {
+            resultado = operacao.get();
+        } catch (RuntimeException | Error e) {
+            try {
+                encerrar(pendencias);
+            } catch (RuntimeException falha) {
+                e.addSuppressed(falha);
+            }
+            throw e;
+        }
+        encerrar(pendencias);
+        return resultado;
+    }
+
+    /**
+     * Fecha a unidade da thread atual e confirma o que ela acumulou.
+     */
+    private void encerrar(Pendencias pendencias) {
+        pendentes.remove();
+        if (!pendencias.isVazia()) {
+            confirmar(pendencias);
+        }
+    }
+
+    /**
+     * Executa uma operação sem resultado dentro de uma unidade de trabalho.
+     *
+     * @param operacao A operação.
+     * @see #executar(Supplier)
+     */
+    public void executar(Runnable operacao) {
+        executar(() -> {
+            operacao.run();
+            return null;
+        });
+    }
+
+    /**
+     * Grava um arquivo: na hora, se não houver unidade aberta na thread, ou ao final da unidade.
+     * Várias gravações do mesmo arquivo na mesma unidade resultam em uma só, com o conteúdo
+     * calculado no momento da confirmação.
+     *
+     * @param arquivo O nome do arquivo.
+     * @param conteudo O que escrever nele.
+     * @throws FalhaGravacaoException Se a gravação imediata falhar.
+     */
+    public void gravar(String arquivo, Conteudo conteudo) {
+        Pendencias pendencias = pendentes.get();
+        boolean imediata = pendencias == null;
+        if (imediata) {
+            pendencias = new Pendencias();
+        }
+        pendencias.substituicoes.put(arquivo, conteudo);
+        if (imediata) {
+            confirmar(pendencias);
+        }
+    }
+
+    /**
+     * Acrescenta conteúdo ao fim de um arquivo: na hora, se não houver unidade aberta na thread,
+     * ou ao final da unidade. Os acréscimos são escritos na ordem em que foram pedidos e, entre
+     * unidades diferentes, na ordem das confirmações, já que o conteúdo é calculado durante elas.
+     *
+     * @param arquivo O nome do arquivo.
+     * @param conteudo O que acrescentar, terminado por uma quebra de linha.
+     * @throws FalhaGravacaoException Se o acréscimo imediato falhar.
+     */
+    public void anexar(String arquivo, Conteudo conteudo) {
+        Pendencias pendencias = pendentes.get();
+        boolean imediata = pendencias == null;
+        if (imediata) {
+            pendencias = new Pendencias();
+        }
+        pendencias.acrescimos.computeIfAbsent(arquivo, chave -> new ArrayList<>()).add(conteudo);
+        if (imediata) {
+            confirmar(pendencias);
+        }
+    }
+
+    /**
+     * Obtém o participante da unidade aberta para uma chave, criando-o no primeiro uso.
+     * Ele é confirmado uma única vez, ao final da unidade.
+     *
+     * @param chave Identifica o participante (ex: a conexão com o banco de dados).
+     * @param criar Cria o participante, se a unidade ainda não tiver um para a chave.
+     * @param <P> O tipo do participante.
+     * @return O participante da unidade.
+     * @throws IllegalStateException Se não houver unidade aberta na thread.
+     */
+    @SuppressWarnings("unchecked")
+    public <P extends Participante> P participante(Object chave, Supplier<P> criar) {
+        Pendencias pendencias = pendentes.get();
+        if (pendencias == null) {
+            throw new IllegalStateException("Nenhuma unidade de trabalho aberta nesta thread.");
+        }
+        return (P) pendencias.participantes.computeIfAbsent(chave, k -> criar.get());
+    }
+
+    /**
+     * Registra uma ação a executar depois que os arquivos da unidade aberta forem confirmados,
+     * como avisar leitores de que há linhas novas em um log. Sem unidade aberta, executa na hora.
+     * <p>
+     * As ações rodam enquanto nenhuma outra confirmação acontece, então devem ser rápidas.
+     *
+     * @param acao A ação.
+     */
+    public void aposConfirmar(Runnable acao) {
+        Pendencias pendencias = pendentes.get();
+        if (pendencias == null) {
+            acao.run();
+        } else {
+            pendencias.confirmacoes.add(acao);
+        }
+    }
+
+    /**
+     * Grava os conteúdos em temporários e só então faz os acréscimos e troca os arquivos.
+     * Sincronizado para que duas confirmações não se misturem nos mesmos arquivos nem no marcador.
+     */
+    private synchronized void confirmar(Pendencias pendencias) {
+        for (Participante participante : pendencias.participantes.values()) {
+            participante.confirmar();
+        }
+        List<Path> temporarios = new ArrayList<>();
+        List<String> entradas = new ArrayList<>();
+        Path marcador = Paths.get(MARCADOR);
+        boolean marcadorGravado = false;
+        try {
+            // Uma confirmação que falhou depois do marcador é concluída antes que outro marcador o substitua.
+            if (Files.exists(marcador)) {
+                concluir(marcador);
+            }
+            for (Map.Entry<String, List<Conteudo>> acrescimo : pendencias.acrescimos.entrySet()) {
+                Path anexo = Paths.get(acrescimo.getKey() + SUFIXO_ANEXO);
+                temporarios.add(anexo);
+                entradas.add(PREFIXO_ANEXO + acrescimo.getKey());
+                escrever(anexo, writer -> {
+                    for (Conteudo conteudo : acrescimo.getValue()) {
+                        conteudo.escrever(writer);
+                    }
+                });
+            }
+            for (Map.Entry<String, Conteudo> substituicao : pendencias.substituicoes.entrySet()) {
+                Path temporario = Paths.get(substituicao.getKey() + SUFIXO_TEMPORARIO);
+                temporarios.add(temporario);
+                entradas.add(substituicao.getKey());
+                escrever(temporario, substituicao.getValue());
+            }
+            // Com um só arquivo, a troca já é atômica; com vários, o marcador permite concluí-la após uma queda.
+            boolean varios = entradas.size() > 1;
+            if (varios) {
+                temporarios.add(marcador);
+                escrever(marcador, writer -> writer.write(String.join("\n", entradas)));
+                marcadorGravado = true;
+            }
+            for (String arquivo : pendencias.acrescimos.keySet()) {
+                acrescentar(Paths.get(arquivo + SUFIXO_ANEXO), Paths.get(arquivo));
+            }
+            for (String arquivo : pendencias.substituicoes.keySet()) {
+                mover(Paths.get(arquivo + SUFIXO_TEMPORARIO), Paths.get(arquivo));
+            }
+            if (varios) {
+                Files.delete(marcador);
+            }
+            for (Runnable acao : pendencias.confirmacoes) {
+                acao.run();
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao salvar dados em " + entradas + ": " + e.getMessage());
+            // Com o marcador gravado, os temporários são o que permite concluir a troca depois.
+            if (!marcadorGravado) {
+                for (Path temporario : temporarios) {
+                    try {
+                        Files.deleteIfExists(temporario);
+                    } catch (IOException ignorada) {
+                        // O temporário é sobrescrito na próxima gravação.
+                    }
+                }
+            }
+            throw new FalhaGravacaoException("Erro ao salvar dados em " + entradas + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Escreve um arquivo e espera o conteúdo chegar ao disco.
+     */
+    private static void escrever(Path caminho, Conteudo conteudo) throws IOException {
+        try (FileOutputStream saida = new FileOutputStream(caminho.toFile());
+                Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8))) {
+            conteudo.escrever(writer);
+            writer.flush();
+            saida.getFD().sync();
+        }
+    }
+
+    /**
+     * Acrescenta o conteúdo de um arquivo temporário ao fim de outro e apaga o temporário.
+     * Se o destino terminar no meio de uma linha (uma escrita interrompida), começa em uma linha nova.
+     */
+    private static void acrescentar(Path anexo, Path destino) throws IOException {
+        try (FileChannel canal = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long tamanho = canal.size();
+            if (tamanho > 0) {
+                ByteBuffer ultimo = ByteBuffer.allocate(1);
+                canal.read(ultimo, tamanho - 1);
+                if (ultimo.get(0) != '\n') {
+                    canal.write(ByteBuffer.wrap(new byte[] { '\n' }), tamanho++);
+                }
+            }
+            canal.write(ByteBuffer.wrap(Files.readAllBytes(anexo)), tamanho);
+            canal.force(true);
+        }
+        Files.delete(anexo);
+    }
+
+    private static void mover(Path origem, Path destino) throws IOException {
+        try {
+            Files.move(origem, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origem, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * As gravações pendentes de uma unidade.
+     */
+    private static final class Pendencias {
+
+        private final Map<String, Conteudo> substituicoes = new LinkedHashMap<>();
+        private final Map<String, List<Conteudo>> acrescimos = new LinkedHashMap<>();
+        private final List<Runnable> confirmacoes = new ArrayList<>();
+        private final Map<Object, Participante> participantes = new LinkedHashMap<>();
+
+        boolean isVazia() {
+            return substituicoes.isEmpty() && acrescimos.isEmpty() && confirmacoes.isEmpty() && participantes.isEmpty();
+        }
+    }
+}
@@ -3,12 +3,17 @@ package io.github.site_de_eventos.sitedeeventos.repository;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface que define o contrato para operações de persistência de dados para a entidade {@link Usuario}.
  * <p>
  * Serve como uma abstração para a camada de acesso a dados de usuários, permitindo que a forma de armazenamento
  * seja trocada sem impactar a lógica de negócio da aplicação.
+ * <p>
+ * Cada usuário salvo tem uma versão ({@link Usuario#getVersao()}) que aumenta a cada alteração.
+ * Para alterar um usuário existente sem perder alterações concorrentes (ex: duas compras ao
+ * mesmo tempo), use {@link #atualizar(int, Consumer)}.
  *
  * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
  * @version 1.0
@@ -18,13 +23,51 @@ public interface UsuarioRepository {
 
 	/**
 	 * Salva ou atualiza um usuário no repositório.
-	 * Se o usuário for novo (ID 0), um novo ID é gerado. Se já existir, é atualizado.
+	 * Se o usuário for novo (ID 0), um novo ID é gerado. Se já existir, é atualizado apenas se a
+	 * sua versão ({@link Usuario#getVersao()}) ainda for a salva, para não desfazer uma alteração
+	 * concorrente; para alterar um usuário existente, prefira {@link #atualizar(int, Consumer)}.
 	 *
 	 * @param usuario O objeto {@link Usuario} a ser salvo.
 	 * @return O usuário salvo, possivelmente com um novo ID.
+	 * @throws ConflitoVersaoException Se outra versão foi salva depois da leitura do usuário.
 	 */
 	Usuario save(Usuario usuario);
 
+	/**
+	 * Salva uma nova versão de um usuário existente apenas se a versão salva ainda for a esperada
+	 * (compare-and-set). Em caso de sucesso, o usuário recebe a versão {@code versaoEsperada + 1}.
+	 *
+	 * @param usuario A cópia alterada do usuário (veja {@link Usuario#copiar()}).
+	 * @param versaoEsperada A versão (long) sobre a qual a cópia foi feita.
+	 * @return O usuário salvo.
+	 * @throws ConflitoVersaoException Se outra versão foi salva depois da leitura, ou se o usuário foi excluído.
+	 */
+	Usuario save(Usuario usuario, long versaoEsperada);
+
+	/**
+	 * Altera um usuário salvando uma nova versão dele.
+	 * A alteração é aplicada sobre uma cópia da versão atual, salva com {@link #save(Usuario, long)};
+	 * se outra alteração for salva antes, a alteração é aplicada de novo sobre a versão mais recente,
+	 * após uma espera aleatória que cresce a cada conflito. Por isso ela deve apenas alterar a cópia
+	 * recebida, e pode lançar uma exceção para desistir.
+	 *
+	 * @param id O ID (int) do usuário.
+	 * @param alteracao A alteração a aplicar na cópia.
+	 * @return Um {@link Optional} com a nova versão salva, ou vazio se o usuário não existir.
+	 * @throws ConflitoVersaoException Se a alteração foi recusada em todas as tentativas.
+	 */
+	default Optional<Usuario> atualizar(int id, Consumer<Usuario> alteracao) {
+		return TentativasConflito.repetir(() -> {
+			Optional<Usuario> atual = findById(id);
+			if (atual.isEmpty()) {
+				return Optional.empty();
+			}
+			Usuario copia = atual.get().copiar();
+			alteracao.accept(copia);
+			return Optional.of(save(copia, atual.get().getVersao()));
+		});
+	}
+
 	/**
 	 * Busca um usuário pelo seu identificador único.
 	 *
@@ -48,6 +91,18 @@ public interface UsuarioRepository {
 	 */
 	List<Usuario> findAll();
 
+	/**
+	 * Percorre todos os usuários cadastrados, um de cada vez.
+	 * <p>
+	 * Ao contrário de {@link #findAll()}, não exige que todos estejam em memória ao mesmo tempo:
+	 * um repositório que lê os usuários sob demanda pode descartar cada um depois de usado.
+	 *
+	 * @param acao A ação aplicada a cada usuário.
+	 */
+	default void paraCada(Consumer<Usuario> acao) {
+		findAll().forEach(acao);
+	}
+
 	/**
 	 * Exclui um usuário do repositório com base no seu ID.
 	 *
@@ -0,0 +1,38 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Adaptador do Gson que grava um {@link LocalDateTime} no formato ISO-8601 (ex: "2025-08-25T20:00"),
+ * o mesmo usado nos arquivos JSON dos repositórios.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+class AdaptadorLocalDateTime extends TypeAdapter<LocalDateTime> {
+
+    @Override
+    public void write(JsonWriter out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.value(value.toString());
+    }
+
+    @Override
+    public LocalDateTime read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return LocalDateTime.parse(in.nextString());
+    }
+}
@@ -0,0 +1,611 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Arquivo binário de registros de tamanho fixo com os eventos, lido por um {@link MappedByteBuffer}.
+ * <p>
+ * Os campos numéricos de cada evento ficam em posições fixas do seu registro, e os textos (nome,
+ * local, descrição etc.) em um segundo arquivo, o "heap" de textos, apontados pelo registro. Os
+ * setores e os tipos de ingresso, que têm tamanho variável, ficam no heap como um texto JSON.
+ * Os dois arquivos são mapeados em memória: abri-los não lê nada, e os dados ficam no cache de
+ * páginas do sistema operacional, fora do heap do Java.
+ * <p>
+ * As consultas percorrem os registros com um {@link Registro}, um cursor reposicionado a cada
+ * registro que lê só os campos pedidos, sem criar um {@link Evento} por registro.
+ * <p>
+ * Um registro alterado é regravado na mesma posição; os textos novos são acrescentados ao heap e os
+ * antigos viram desperdício, recuperado por {@link #compactar()} na abertura. Os arquivos
+ * mapeados são limitados a 2 GB cada.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+final class ArquivoRegistrosEventos implements Closeable {
+
+    /**
+     * "EVT1": identifica o arquivo de registros.
+     */
+    private static final int MAGICO = 0x45565431;
+
+    /**
+     * Cabeçalho do arquivo de registros: mágico, quantidade de registros e geração do heap de textos.
+     */
+    private static final int CABECALHO = 16;
+
+    /**
+     * Cabeçalho do heap de textos: a posição do fim da parte já confirmada.
+     */
+    private static final int CABECALHO_TEXTOS = 8;
+
+    static final int TAMANHO_REGISTRO = 104;
+
+    // Posições dos campos dentro de um registro.
+    private static final int SITUACAO = 0;
+    private static final int ID = 4;
+    private static final int VERSAO = 8;
+    private static final int CAPACIDADE = 16;
+    private static final int DISPONIVEIS = 20;
+    private static final int ORGANIZADOR = 24;
+    private static final int DATA_NANOS = 28;
+    private static final int DATA_SEGUNDOS = 32;
+    private static final int PRECO = 40;
+    private static final int DESCONTO_CUPOM = 48;
+    private static final int LATITUDE = 56;
+    private static final int LONGITUDE = 64;
+    private static final int TEXTOS = 72;
+
+    // Textos de um registro, na ordem em que as suas posições no heap são gravadas.
+    static final int NOME = 0;
+    static final int LOCAL = 1;
+    static final int CATEGORIA = 2;
+    static final int DESCRICAO = 3;
+    static final int IMAGEM = 4;
+    static final int CUPOM = 5;
+    static final int STATUS = 6;
+    static final int EXTRAS = 7;
+    private static final int QUANTIDADE_TEXTOS = 8;
+
+    private static final byte ATIVO = 1;
+    private static final byte REMOVIDO = 2;
+
+    /**
+     * Posição de texto que representa {@code null}.
+     */
+    private static final int SEM_TEXTO = -1;
+
+    private static final long SEM_DATA = Long.MIN_VALUE;
+
+    private final Gson gson = ConversoresJson.criarGson();
+    private final TypeAdapter<List<SetorAssentos>> setoresAdapter = gson.getAdapter(new TypeToken<List<SetorAssentos>>() {});
+    private final TypeAdapter<List<TipoIngresso>> tiposAdapter = gson.getAdapter(new TypeToken<List<TipoIngresso>>() {});
+
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Posição (índice do registro) de cada ID ativo.
+     */
+    private final Map<Integer, Integer> posicoes = new HashMap<>();
+
+    private final Path arquivo;
+    private final FileChannel canalRegistros;
+    private FileChannel canalTextos;
+    private volatile MappedByteBuffer registros;
+    private volatile MappedByteBuffer textos;
+    private int quantidade;
+    private int geracao;
+    private int fimTextos;
+    private int maiorId;
+    private long textosEmUso;
+
+    private ArquivoRegistrosEventos(Path arquivo, Path base, int geracaoInicial) throws IOException {
+        this.arquivo = base;
+        this.canalRegistros = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        boolean novo = canalRegistros.size() == 0;
+        this.registros = canalRegistros.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(canalRegistros.size(), CABECALHO + 1024L * TAMANHO_REGISTRO));
+        if (novo) {
+            registros.putInt(0, MAGICO);
+            registros.putInt(8, geracaoInicial);
+        } else if (registros.getInt(0) != MAGICO) {
+            throw new IllegalStateException("O arquivo " + arquivo + " não é um arquivo de registros de eventos.");
+        }
+        this.quantidade = registros.getInt(4);
+        this.geracao = registros.getInt(8);
+        abrirTextos();
+        Registro registro = new Registro();
+        for (int posicao = 0; posicao < quantidade; posicao++) {
+            registro.posicionar(posicao);
+            if (registro.isAtivo()) {
+                posicoes.put(registro.getId(), posicao);
+                maiorId = Math.max(maiorId, registro.getId());
+                textosEmUso += registro.tamanhoTextos();
+            }
+        }
+    }
+
+    /**
+     * Abre (ou cria) um arquivo de registros e o seu heap de textos. Se mais da metade do heap ou
+     * dos registros for desperdício, os arquivos são compactados antes (veja {@link #compactar()}).
+     *
+     * @param arquivo O arquivo de registros; o heap fica ao lado, com o sufixo ".textos.N".
+     * @return O arquivo aberto.
+     * @throws IOException Se os arquivos não puderem ser abertos.
+     */
+    static ArquivoRegistrosEventos abrir(Path arquivo) throws IOException {
+        ArquivoRegistrosEventos aberto = new ArquivoRegistrosEventos(arquivo, arquivo, 0);
+        if (!aberto.compactar()) {
+            return aberto;
+        }
+        return new ArquivoRegistrosEventos(arquivo, arquivo, 0);
+    }
+
+    private void abrirTextos() throws IOException {
+        canalTextos = FileChannel.open(caminhoTextos(arquivo, geracao), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        textos = canalTextos.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(canalTextos.size(), 1 << 20));
+        fimTextos = Math.max(textos.getInt(0), CABECALHO_TEXTOS);
+    }
+
+    private static Path caminhoTextos(Path arquivo, int geracao) {
+        return arquivo.resolveSibling(arquivo.getFileName() + ".textos." + geracao);
+    }
+
+    /**
+     * @return {@code true} se o arquivo ainda não tem nenhum registro gravado.
+     */
+    boolean isVazio() {
+        trava.readLock().lock();
+        try {
+            return quantidade == 0;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return O maior ID entre os registros ativos, ou 0.
+     */
+    int getMaiorId() {
+        trava.readLock().lock();
+        try {
+            return maiorId;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Percorre os registros ativos com um único {@link Registro}, reposicionado a cada um. O
+     * registro só é válido durante a chamada do visitante, que não deve guardá-lo.
+     *
+     * @param visitante Chamado uma vez para cada registro ativo.
+     */
+    void percorrer(Consumer<Registro> visitante) {
+        trava.readLock().lock();
+        try {
+            Registro registro = new Registro();
+            for (int posicao = 0; posicao < quantidade; posicao++) {
+                registro.posicionar(posicao);
+                if (registro.isAtivo()) {
+                    visitante.accept(registro);
+                }
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lê um registro pelo ID.
+     *
+     * @param id O ID do evento.
+     * @param leitura O que ler do registro.
+     * @return O resultado da leitura, ou {@code null} se não houver registro ativo com o ID.
+     */
+    <R> R ler(int id, Function<Registro, R> leitura) {
+        trava.readLock().lock();
+        try {
+            Integer posicao = posicoes.get(id);
+            if (posicao == null) {
+                return null;
+            }
+            Registro registro = new Registro();
+            registro.posicionar(posicao);
+            return leitura.apply(registro);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Grava e remove registros e força os dois arquivos para o disco. Os textos são gravados e
+     * forçados antes dos registros que apontam para eles.
+     *
+     * @param gravados Os eventos a gravar, regravados na mesma posição se já existirem.
+     * @param removidos Os IDs a marcar como removidos.
+     * @throws IOException Se os arquivos não puderem crescer ou ser forçados.
+     */
+    void gravar(Collection<Evento> gravados, Collection<Integer> removidos) throws IOException {
+        trava.writeLock().lock();
+        try {
+            Registro anterior = new Registro();
+            int[][] posicoesTextos = new int[gravados.size()][];
+            int i = 0;
+            for (Evento evento : gravados) {
+                Integer posicao = posicoes.get(evento.getIdEvento());
+                if (posicao != null) {
+                    anterior.posicionar(posicao);
+                }
+                posicoesTextos[i++] = acrescentarTextos(evento, posicao != null ? anterior : null);
+            }
+            textos.putInt(0, fimTextos);
+            textos.force();
+
+            i = 0;
+            for (Evento evento : gravados) {
+                Integer posicao = posicoes.get(evento.getIdEvento());
+                if (posicao == null) {
+                    posicao = quantidade++;
+                    garantirRegistros(quantidade);
+                    posicoes.put(evento.getIdEvento(), posicao);
+                } else {
+                    anterior.posicionar(posicao);
+                    textosEmUso -= anterior.tamanhoTextos();
+                }
+                escrever(posicao, evento, posicoesTextos[i++]);
+                anterior.posicionar(posicao);
+                textosEmUso += anterior.tamanhoTextos();
+                maiorId = Math.max(maiorId, evento.getIdEvento());
+            }
+            for (Integer id : removidos) {
+                Integer posicao = posicoes.remove(id);
+                if (posicao != null) {
+                    anterior.posicionar(posicao);
+                    textosEmUso -= anterior.tamanhoTextos();
+                    registros.put(inicio(posicao) + SITUACAO, REMOVIDO);
+                }
+            }
+            registros.putInt(4, quantidade);
+            registros.force();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Regrava os registros ativos e os seus textos em arquivos novos, descartando os registros
+     * removidos e os textos que nenhum registro usa mais, se o desperdício passar da metade.
+     * O novo heap recebe a geração seguinte e o novo arquivo de registros substitui o antigo de uma
+     * só vez, então o arquivo de registros sempre aponta para um heap completo, mesmo que a
+     * compactação seja interrompida. Depois de compactado, este objeto fica fechado.
+     *
+     * @return {@code true} se os arquivos foram compactados.
+     * @throws IOException Se os arquivos novos não puderem ser gravados.
+     */
+    private boolean compactar() throws IOException {
+        long usado = fimTextos - CABECALHO_TEXTOS;
+        if (usado - textosEmUso <= Math.max(textosEmUso, 1 << 20) && posicoes.size() * 2 >= quantidade) {
+            return false;
+        }
+        int geracaoAntiga = geracao;
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        Files.deleteIfExists(temporario);
+        Files.deleteIfExists(caminhoTextos(arquivo, geracaoAntiga + 1));
+        try (ArquivoRegistrosEventos novo = new ArquivoRegistrosEventos(temporario, arquivo, geracaoAntiga + 1)) {
+            Registro registro = new Registro();
+            for (int posicao = 0; posicao < quantidade; posicao++) {
+                registro.posicionar(posicao);
+                if (registro.isAtivo()) {
+                    novo.copiar(registro);
+                }
+            }
+            novo.textos.putInt(0, novo.fimTextos);
+            novo.textos.force();
+            novo.registros.putInt(4, novo.quantidade);
+            novo.registros.force();
+        }
+        close();
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(caminhoTextos(arquivo, geracaoAntiga));
+        return true;
+    }
+
+    /**
+     * Copia um registro de outro arquivo, com os seus textos, para o fim deste.
+     */
+    private void copiar(Registro origem) throws IOException {
+        int[] posicoesTextos = new int[QUANTIDADE_TEXTOS];
+        for (int campo = 0; campo < QUANTIDADE_TEXTOS; campo++) {
+            posicoesTextos[campo] = acrescentarTexto(origem.getTexto(campo));
+        }
+        int posicao = quantidade++;
+        garantirRegistros(quantidade);
+        int inicio = inicio(posicao);
+        for (int deslocamento = 0; deslocamento < TEXTOS; deslocamento++) {
+            registros.put(inicio + deslocamento, origem.buffer.get(origem.inicio + deslocamento));
+        }
+        for (int campo = 0; campo < QUANTIDADE_TEXTOS; campo++) {
+            registros.putInt(inicio + TEXTOS + campo * 4, posicoesTextos[campo]);
+        }
+    }
+
+    /**
+     * Acrescenta ao heap os textos de um evento, reaproveitando os do registro anterior que não mudaram.
+     */
+    private int[] acrescentarTextos(Evento evento, Registro anterior) throws IOException {
+        String[] valores = new String[QUANTIDADE_TEXTOS];
+        valores[NOME] = evento.getNomeEvento();
+        valores[LOCAL] = evento.getLocal();
+        valores[CATEGORIA] = evento.getCategoria();
+        valores[DESCRICAO] = evento.getDescrição();
+        valores[IMAGEM] = evento.getImageUrl();
+        valores[CUPOM] = evento.getCupomCode();
+        valores[STATUS] = evento.getStatus();
+        valores[EXTRAS] = evento.hasMapaAssentos() || evento.hasTiposIngresso()
+                ? escreverExtras(evento) : null;
+        int[] posicoesTextos = new int[QUANTIDADE_TEXTOS];
+        for (int campo = 0; campo < QUANTIDADE_TEXTOS; campo++) {
+            if (anterior != null && Objects.equals(valores[campo], anterior.getTexto(campo))) {
+                posicoesTextos[campo] = anterior.posicaoTexto(campo);
+            } else {
+                posicoesTextos[campo] = acrescentarTexto(valores[campo]);
+            }
+        }
+        return posicoesTextos;
+    }
+
+    private int acrescentarTexto(String valor) throws IOException {
+        if (valor == null) {
+            return SEM_TEXTO;
+        }
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        long fim = (long) fimTextos + 4 + bytes.length;
+        if (fim > Integer.MAX_VALUE) {
+            throw new IllegalStateException("O arquivo de textos dos eventos passou do limite de 2 GB.");
+        }
+        if (fim > textos.capacity()) {
+            textos = canalTextos.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.min(Integer.MAX_VALUE, Math.max(fim, 2L * textos.capacity())));
+        }
+        int posicao = fimTextos;
+        textos.putInt(posicao, bytes.length);
+        textos.put(posicao + 4, bytes);
+        fimTextos = (int) fim;
+        return posicao;
+    }
+
+    private void garantirRegistros(int total) throws IOException {
+        long necessario = CABECALHO + (long) total * TAMANHO_REGISTRO;
+        if (necessario > Integer.MAX_VALUE) {
+            throw new IllegalStateException("O arquivo de registros dos eventos passou do limite de 2 GB.");
+        }
+        if (necessario > registros.capacity()) {
+            registros = canalRegistros.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.min(Integer.MAX_VALUE, Math.max(necessario, 2L * registros.capacity())));
+        }
+    }
+
+    private void escrever(int posicao, Evento evento, int[] posicoesTextos) {
+        int inicio = inicio(posicao);
+        MappedByteBuffer buffer = registros;
+        buffer.put(inicio + SITUACAO, ATIVO);
+        buffer.putInt(inicio + ID, evento.getIdEvento());
+        buffer.putLong(inicio + VERSAO, evento.getVersao());
+        buffer.putInt(inicio + CAPACIDADE, evento.getCapacidade());
+        buffer.putInt(inicio + DISPONIVEIS, evento.getIngressosDisponiveis());
+        buffer.putInt(inicio + ORGANIZADOR, evento.getOrganizadorId());
+        LocalDateTime data = evento.getDataEvento();
+        buffer.putInt(inicio + DATA_NANOS, data != null ? data.getNano() : 0);
+        buffer.putLong(inicio + DATA_SEGUNDOS, data != null ? data.toEpochSecond(ZoneOffset.UTC) : SEM_DATA);
+        buffer.putDouble(inicio + PRECO, evento.getPreco());
+        buffer.putDouble(inicio + DESCONTO_CUPOM, evento.getCupomDiscountValue());
+        buffer.putDouble(inicio + LATITUDE, evento.getLatitude() != null ? evento.getLatitude() : Double.NaN);
+        buffer.putDouble(inicio + LONGITUDE, evento.getLongitude() != null ? evento.getLongitude() : Double.NaN);
+        for (int campo = 0; campo < QUANTIDADE_TEXTOS; campo++) {
+            buffer.putInt(inicio + TEXTOS + campo * 4, posicoesTextos[campo]);
+        }
+    }
+
+    private static int inicio(int posicao) {
+        return CABECALHO + posicao * TAMANHO_REGISTRO;
+    }
+
+    @Override
+    public void close() throws IOException {
+        trava.writeLock().lock();
+        try {
+            canalTextos.close();
+            canalRegistros.close();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cursor sobre um registro do arquivo (flyweight): lê cada campo direto do buffer mapeado,
+     * no momento em que é pedido.
+     */
+    final class Registro {
+
+        private MappedByteBuffer buffer;
+        private MappedByteBuffer heap;
+        private int inicio;
+
+        private void posicionar(int posicao) {
+            buffer = registros;
+            heap = textos;
+            inicio = inicio(posicao);
+        }
+
+        private boolean isAtivo() {
+            return buffer.get(inicio + SITUACAO) == ATIVO;
+        }
+
+        int getId() {
+            return buffer.getInt(inicio + ID);
+        }
+
+        long getVersao() {
+            return buffer.getLong(inicio + VERSAO);
+        }
+
+        int getOrganizadorId() {
+            return buffer.getInt(inicio + ORGANIZADOR);
+        }
+
+        LocalDateTime getDataEvento() {
+            long segundos = buffer.getLong(inicio + DATA_SEGUNDOS);
+            return segundos == SEM_DATA ? null
+                    : LocalDateTime.ofEpochSecond(segundos, buffer.getInt(inicio + DATA_NANOS), ZoneOffset.UTC);
+        }
+
+        Double getLatitude() {
+            double latitude = buffer.getDouble(inicio + LATITUDE);
+            return Double.isNaN(latitude) ? null : latitude;
+        }
+
+        Double getLongitude() {
+            double longitude = buffer.getDouble(inicio + LONGITUDE);
+            return Double.isNaN(longitude) ? null : longitude;
+        }
+
+        /**
+         * Lê um texto do registro no heap.
+         *
+         * @param campo O texto, por exemplo {@link #NOME}.
+         * @return O texto, ou {@code null}.
+         */
+        String getTexto(int campo) {
+            int posicao = posicaoTexto(campo);
+            if (posicao == SEM_TEXTO) {
+                return null;
+            }
+            byte[] bytes = new byte[heap.getInt(posicao)];
+            heap.get(posicao + 4, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int posicaoTexto(int campo) {
+            return buffer.getInt(inicio + TEXTOS + campo * 4);
+        }
+
+        private long tamanhoTextos() {
+            long tamanho = 0;
+            for (int campo = 0; campo < QUANTIDADE_TEXTOS; campo++) {
+                int posicao = posicaoTexto(campo);
+                if (posicao != SEM_TEXTO) {
+                    tamanho += 4 + heap.getInt(posicao);
+                }
+            }
+            return tamanho;
+        }
+
+        /**
+         * Cria um {@link Evento} com todos os campos do registro, já congelado.
+         *
+         * @return O evento.
+         */
+        Evento materializar() {
+            Evento evento = new Evento();
+            evento.setIdEvento(getId());
+            evento.setCapacidade(buffer.getInt(inicio + CAPACIDADE));
+            evento.setIngressosDisponiveis(buffer.getInt(inicio + DISPONIVEIS));
+            evento.setOrganizadorId(getOrganizadorId());
+            evento.setDataEvento(getDataEvento());
+            evento.setPreco(buffer.getDouble(inicio + PRECO));
+            evento.setCupomDiscountValue(buffer.getDouble(inicio + DESCONTO_CUPOM));
+            evento.setLatitude(getLatitude());
+            evento.setLongitude(getLongitude());
+            evento.setNomeEvento(getTexto(NOME));
+            evento.setLocal(getTexto(LOCAL));
+            evento.setCategoria(getTexto(CATEGORIA));
+            evento.setDescrição(getTexto(DESCRICAO));
+            evento.setImageUrl(getTexto(IMAGEM));
+            evento.setCupomCode(getTexto(CUPOM));
+            evento.setStatus(getTexto(STATUS));
+            String extras = getTexto(EXTRAS);
+            if (extras != null) {
+                lerExtras(extras, evento);
+            }
+            evento.setVersao(getVersao());
+            evento.congelar();
+            return evento;
+        }
+    }
+
+    /**
+     * Escreve os campos de tamanho variável de um evento (setores e tipos de ingresso) juntos,
+     * como um texto JSON.
+     */
+    private String escreverExtras(Evento evento) {
+        StringWriter texto = new StringWriter();
+        try {
+            JsonWriter out = new JsonWriter(texto);
+            out.beginObject();
+            if (evento.getSetores() != null) {
+                out.name("setores");
+                setoresAdapter.write(out, evento.getSetores());
+            }
+            if (evento.getTiposIngresso() != null) {
+                out.name("tiposIngresso");
+                tiposAdapter.write(out, evento.getTiposIngresso());
+            }
+            out.endObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao converter os extras do evento " + evento.getIdEvento() + ": " + e.getMessage(), e);
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Lê o texto gravado por {@link #escreverExtras(Evento)} para o evento.
+     */
+    private void lerExtras(String extras, Evento evento) {
+        try {
+            JsonReader in = new JsonReader(new StringReader(extras));
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "setores" -> evento.setSetores(setoresAdapter.read(in));
+                    case "tiposIngresso" -> evento.setTiposIngresso(tiposAdapter.read(in));
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao ler os extras do evento " + evento.getIdEvento() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Mapa de identidade dos registros lidos do banco de dados (ou do arquivo de registros): enquanto
+ * um registro estiver em uso, toda leitura do mesmo ID devolve a mesma instância.
+ * <p>
+ * Os serviços contam com isso, como nos repositórios em arquivo: o estoque de um evento é um
+ * contador compartilhado entre as suas versões, e o status de um pedido é alterado na própria
+ * instância antes de o usuário ser salvo. As referências são {@link SoftReference}: registros que
+ * ninguém usa podem ser descartados quando falta memória e são lidos de novo na próxima consulta,
+ * o que permite bases maiores que o heap.
+ * <p>
+ * Por isso, quem precisa lembrar de um registro entre requisições (como os índices montados na
+ * inicialização) deve guardar o ID e buscá-lo de novo, e não partes dele: a nova leitura cria
+ * outras instâncias, e as antigas deixariam de ver as alterações.
+ *
+ * @param <T> O tipo do registro.
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+class CacheIdentidade<T> {
+
+    private final ConcurrentHashMap<Integer, Referencia<T>> mapa = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> descartadas = new ReferenceQueue<>();
+
+    /**
+     * Busca um registro, carregando-o se ele não estiver em memória. O carregamento é atômico por
+     * ID: duas leituras simultâneas do mesmo registro recebem a mesma instância.
+     *
+     * @param id O ID.
+     * @param carregar Lê o registro do banco; devolve {@code null} se ele não existir.
+     * @return O registro, ou {@code null}.
+     */
+    T buscar(int id, IntFunction<T> carregar) {
+        T encontrado = obter(id);
+        if (encontrado != null) {
+            return encontrado;
+        }
+        return alterar(id, atual -> atual != null ? atual : carregar.apply(id));
+    }
+
+    /**
+     * Resolve um registro lido por uma consulta: devolve a instância em memória, se houver, ou
+     * guarda a recém-lida. Assim uma consulta nunca troca uma instância em uso por uma cópia.
+     *
+     * @param id O ID.
+     * @param lido Converte a linha lida, chamado apenas se o registro não estiver em memória.
+     * @return O registro.
+     */
+    T resolver(int id, Supplier<T> lido) {
+        T encontrado = obter(id);
+        if (encontrado != null) {
+            return encontrado;
+        }
+        return alterar(id, atual -> atual != null ? atual : lido.get());
+    }
+
+    /**
+     * Troca atomicamente o registro de um ID. A função recebe a instância em memória (ou
+     * {@code null}) e devolve a nova, ou {@code null} para retirá-la do mapa.
+     *
+     * @param id O ID.
+     * @param troca A troca; uma exceção lançada por ela deixa o mapa como estava.
+     * @return A nova instância.
+     */
+    T alterar(int id, UnaryOperator<T> troca) {
+        limpar();
+        // Guarda a instância fora da referência, que pode ser descartada a qualquer momento.
+        List<T> resultado = new ArrayList<>(1);
+        mapa.compute(id, (chave, referencia) -> {
+            T atual = referencia != null ? referencia.get() : null;
+            T novo = troca.apply(atual);
+            if (novo == null) {
+                return null;
+            }
+            resultado.add(novo);
+            return novo == atual ? referencia : new Referencia<>(chave, novo, descartadas);
+        });
+        return resultado.isEmpty() ? null : resultado.get(0);
+    }
+
+    /**
+     * Retira um registro do mapa.
+     *
+     * @param id O ID.
+     */
+    void remover(int id) {
+        mapa.remove(id);
+    }
+
+    private T obter(int id) {
+        Referencia<T> referencia = mapa.get(id);
+        return referencia != null ? referencia.get() : null;
+    }
+
+    /**
+     * Retira do mapa as entradas cujos registros já foram descartados pelo coletor de lixo.
+     */
+    @SuppressWarnings("unchecked")
+    private void limpar() {
+        Referencia<T> descartada;
+        while ((descartada = (Referencia<T>) descartadas.poll()) != null) {
+            mapa.remove(descartada.id, descartada);
+        }
+    }
+
+    private static final class Referencia<T> extends SoftReference<T> {
+
+        private final int id;
+
+        private Referencia(int id, T registro, ReferenceQueue<T> fila) {
+            super(registro, fila);
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Hierarquia de agrupamentos de eventos por nível de zoom do mapa, mantida de forma incremental.
+ * <p>
+ * Para cada nível de zoom (0 a {@value #ZOOM_MAXIMO}) o mundo, na projeção Web Mercator usada
+ * pelo Google Maps, é dividido em células de {@value #TAMANHO_CELULA_PX} pixels. Cada célula guarda
+ * a soma das coordenadas e os IDs dos seus eventos, de modo que inserir, mover ou remover um
+ * evento custa uma atualização por nível, e uma consulta retorna no máximo uma entrada por célula
+ * visível, independentemente de quantos eventos existam na área.
+ * <p>
+ * Cada evento entra com uma data de expiração (a data do evento). Os eventos expirados são
+ * retirados antes de cada consulta, a partir de um conjunto ordenado por data e ID, do qual
+ * mover ou remover um evento também custa tempo logarítmico.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+class ClustersPorZoom {
+
+    /**
+     * Maior nível de zoom com agrupamento; acima dele o mapa usa o nível máximo.
+     */
+    static final int ZOOM_MAXIMO = 18;
+
+    /**
+     * Tamanho, em pixels de tela, do lado de cada célula de agrupamento.
+     */
+    static final int TAMANHO_CELULA_PX = 64;
+
+    private static final double LATITUDE_MAXIMA = 85.05112878;
+
+    /**
+     * Células ocupadas de cada nível de zoom.
+     */
+    private final List<Map<Long, Celula>> niveis = new ArrayList<>(ZOOM_MAXIMO + 1);
+
+    /**
+     * Posição e expiração de cada evento agrupado.
+     */
+    private final Map<Integer, Ponto> pontos = new HashMap<>();
+
+    /**
+     * Eventos agrupados em ordem de expiração; o ID desempata eventos da mesma data.
+     */
+    private final NavigableSet<Ponto> expiracoes = new TreeSet<>(
+            Comparator.comparing((Ponto p) -> p.expiraEm).thenComparingInt(p -> p.id));
+
+    ClustersPorZoom() {
+        for (int z = 0; z <= ZOOM_MAXIMO; z++) {
+            niveis.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Insere ou move um evento em todos os níveis.
+     *
+     * @param id O ID do evento.
+     * @param latitude A latitude do evento.
+     * @param longitude A longitude do evento.
+     * @param expiraEm Quando o evento deixa de aparecer no mapa.
+     */
+    synchronized void atualizar(int id, double latitude, double longitude, LocalDateTime expiraEm) {
+        Ponto atual = pontos.get(id);
+        if (atual != null && atual.latitude == latitude && atual.longitude == longitude
+                && atual.expiraEm.equals(expiraEm)) {
+            // Salvamentos que não mudam a posição (como a venda de ingressos) não alteram a hierarquia.
+            return;
+        }
+        remover(id);
+        Ponto ponto = new Ponto(id, latitude, longitude, expiraEm);
+        pontos.put(id, ponto);
+        expiracoes.add(ponto);
+        for (int z = 0; z <= ZOOM_MAXIMO; z++) {
+            niveis.get(z).computeIfAbsent(chave(z, latitude, longitude), c -> new Celula()).adicionar(ponto);
+        }
+    }
+
+    /**
+     * Remove um evento de todos os níveis, se presente.
+     *
+     * @param id O ID do evento.
+     */
+    synchronized void remover(int id) {
+        Ponto ponto = pontos.remove(id);
+        if (ponto == null) {
+            return;
+        }
+        expiracoes.remove(ponto);
+        for (int z = 0; z <= ZOOM_MAXIMO; z++) {
+            long chave = chave(z, ponto.latitude, ponto.longitude);
+            Celula celula = niveis.get(z).get(chave);
+            if (celula != null && celula.retirar(ponto)) {
+                niveis.get(z).remove(chave);
+            }
+        }
+    }
+
+    /**
+     * Esvazia a hierarquia.
+     */
+    synchronized void limpar() {
+        pontos.clear();
+        expiracoes.clear();
+        for (Map<Long, Celula> nivel : niveis) {
+            nivel.clear();
+        }
+    }
+
+    /**
+     * Retorna os agrupamentos de um nível de zoom que cruzam uma área, após retirar os eventos expirados.
+     * Se {@code lngMin > lngMax}, a área cruza o antimeridiano.
+     *
+     * @param latMin Latitude sul.
+     * @param lngMin Longitude oeste.
+     * @param latMax Latitude norte.
+     * @param lngMax Longitude leste.
+     * @param zoom O nível de zoom do mapa.
+     * @param agora O instante atual, para a expiração.
+     * @return Os agrupamentos visíveis.
+     */
+    synchronized List<ClusterEventos> buscar(double latMin, double lngMin, double latMax, double lngMax,
+            int zoom, LocalDateTime agora) {
+        expirar(agora);
+        int z = Math.max(0, Math.min(ZOOM_MAXIMO, zoom));
+        List<ClusterEventos> clusters = new ArrayList<>();
+        if (lngMin > lngMax) {
+            buscarFaixa(z, latMin, lngMin, latMax, 180, clusters);
+            buscarFaixa(z, latMin, -180, latMax, lngMax, clusters);
+        } else {
+            buscarFaixa(z, latMin, lngMin, latMax, lngMax, clusters);
+        }
+        return clusters;
+    }
+
+    private void buscarFaixa(int z, double latMin, double lngMin, double latMax, double lngMax,
+            List<ClusterEventos> clusters) {
+        long colunas = colunas(z);
+        // No eixo y da projeção, o norte tem o menor valor.
+        long linhaMin = linha(z, latMax);
+        long linhaMax = linha(z, latMin);
+        long colunaMin = coluna(z, lngMin);
+        long colunaMax = coluna(z, lngMax);
+        Map<Long, Celula> nivel = niveis.get(z);
+
+        if ((linhaMax - linhaMin + 1) * (colunaMax - colunaMin + 1) > nivel.size()) {
+            for (Map.Entry<Long, Celula> entrada : nivel.entrySet()) {
+                long linha = entrada.getKey() / colunas;
+                long coluna = entrada.getKey() % colunas;
+                if (linha >= linhaMin && linha <= linhaMax && coluna >= colunaMin && coluna <= colunaMax) {
+                    clusters.add(entrada.getValue().paraCluster());
+                }
+            }
+            return;
+        }
+        for (long linha = linhaMin; linha <= linhaMax; linha++) {
+            for (long coluna = colunaMin; coluna <= colunaMax; coluna++) {
+                Celula celula = nivel.get(linha * colunas + coluna);
+                if (celula != null) {
+                    clusters.add(celula.paraCluster());
+                }
+            }
+        }
+    }
+
+    private void expirar(LocalDateTime agora) {
+        while (!expiracoes.isEmpty() && !expiracoes.first().expiraEm.isAfter(agora)) {
+            remover(expiracoes.first().id);
+        }
+    }
+
+    private static long colunas(int z) {
+        return (256L << z) / TAMANHO_CELULA_PX;
+    }
+
+    private static long chave(int z, double latitude, double longitude) {
+        return linha(z, latitude) * colunas(z) + coluna(z, longitude);
+    }
+
+    private static long coluna(int z, double longitude) {
+        double x = (Math.max(-180, Math.min(180, longitude)) + 180) / 360;
+        return Math.min(colunas(z) - 1, (long) Math.floor(x * colunas(z)));
+    }
+
+    private static long linha(int z, double latitude) {
+        double rad = Math.toRadians(Math.max(-LATITUDE_MAXIMA, Math.min(LATITUDE_MAXIMA, latitude)));
+        double y = (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2;
+        return Math.max(0, Math.min(colunas(z) - 1, (long) Math.floor(y * colunas(z))));
+    }
+
+    /**
+     * Posição de um evento agrupado.
+     */
+    private static final class Ponto {
+        private final int id;
+        private final double latitude;
+        private final double longitude;
+        private final LocalDateTime expiraEm;
+
+        private Ponto(int id, double latitude, double longitude, LocalDateTime expiraEm) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.expiraEm = expiraEm;
+        }
+    }
+
+    /**
+     * Célula de um nível: soma das coordenadas e eventos contidos.
+     */
+    private static final class Celula {
+        private final Set<Integer> ids = new LinkedHashSet<>();
+        private double somaLatitude;
+        private double somaLongitude;
+
+        private void adicionar(Ponto ponto) {
+            ids.add(ponto.id);
+            somaLatitude += ponto.latitude;
+            somaLongitude += ponto.longitude;
+        }
+
+        /**
+         * Retira um evento da célula.
+         * @return {@code true} se a célula ficou vazia.
+         */
+        private boolean retirar(Ponto ponto) {
+            if (ids.remove(ponto.id)) {
+                somaLatitude -= ponto.latitude;
+                somaLongitude -= ponto.longitude;
+            }
+            return ids.isEmpty();
+        }
+
+        private ClusterEventos paraCluster() {
+            int quantidade = ids.size();
+            Integer unico = (quantidade == 1) ? ids.iterator().next() : null;
+            return new ClusterEventos(somaLatitude / quantidade, somaLongitude / quantidade, quantidade, unico);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuração do banco de dados embutido usado pelo {@link EventoJdbcRepository} e pelo
+ * {@link UsuarioJdbcRepository}, ativa apenas no perfil "jdbc".
+ * <p>
+ * Por padrão, o banco é um H2 em arquivo na pasta "dados", ao lado dos arquivos JSON. As conexões
+ * vêm de um pool, reaproveitadas entre as consultas em vez de abertas a cada uma.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Configuration
+@Profile("jdbc")
+public class ConfiguracaoJdbc {
+
+    /**
+     * Cria o pool de conexões com o banco de dados.
+     *
+     * @param url A URL JDBC do banco ({@code spring.datasource.url}).
+     * @param usuario O usuário do banco ({@code spring.datasource.username}).
+     * @param senha A senha do banco ({@code spring.datasource.password}).
+     * @param tamanho O número máximo de conexões abertas ({@code spring.datasource.pool.tamanho}).
+     * @return O pool de conexões, fechado quando a aplicação termina.
+     */
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource(
+            @Value("${spring.datasource.url:jdbc:h2:file:./dados/site-de-eventos}") String url,
+            @Value("${spring.datasource.username:sa}") String usuario,
+            @Value("${spring.datasource.password:}") String senha,
+            @Value("${spring.datasource.pool.tamanho:10}") int tamanho) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(usuario);
+        config.setPassword(senha);
+        config.setMaximumPoolSize(tamanho);
+        config.setPoolName("site-de-eventos");
+        return new HikariDataSource(config);
+    }
+}
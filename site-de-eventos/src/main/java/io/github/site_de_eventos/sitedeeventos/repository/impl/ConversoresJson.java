@@ -0,0 +1,342 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.site_de_eventos.sitedeeventos.model.AdaptadorListaIngressos;
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversores JSON escritos à mão para as classes persistidas pelos repositórios: {@link Evento},
+ * {@link Pedido}, {@link TipoIngresso}, {@link SetorAssentos}, {@link Usuario} (com o
+ * {@link UsuarioTypeAdapter}) e os ingressos (com o {@link AdaptadorListaIngressos}).
+ * <p>
+ * Cada conversor lê e escreve os campos pelos getters e setters, com os mesmos nomes dos campos
+ * {@code @Expose}, de modo que os arquivos antigos continuam legíveis. O Gson não precisa de
+ * reflexão sobre os campos do modelo, e a saída é compacta, sem indentação.
+ * <p>
+ * Um campo novo anotado com {@code @Expose} no modelo também precisa entrar no conversor da sua classe.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+final class ConversoresJson {
+
+    /**
+     * Fábrica a registrar no {@link GsonBuilder}.
+     */
+    static final TypeAdapterFactory FABRICA = new TypeAdapterFactory() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> tipo) {
+            Class<? super T> classe = tipo.getRawType();
+            TypeAdapter<?> adaptador;
+            if (classe == LocalDateTime.class) {
+                adaptador = new AdaptadorLocalDateTime();
+            } else if (classe == Evento.class) {
+                adaptador = new ConversorEvento(gson.getAdapter(SetorAssentos.class), gson.getAdapter(TipoIngresso.class));
+            } else if (classe == Pedido.class) {
+                adaptador = new ConversorPedido(gson.getAdapter(Evento.class));
+            } else if (classe == TipoIngresso.class) {
+                adaptador = new ConversorTipoIngresso();
+            } else if (classe == SetorAssentos.class) {
+                adaptador = new ConversorSetorAssentos();
+            } else if (Usuario.class.isAssignableFrom(classe)) {
+                adaptador = new UsuarioTypeAdapter(gson.getAdapter(Pedido.class));
+            } else {
+                return null;
+            }
+            return (TypeAdapter<T>) adaptador.nullSafe();
+        }
+    };
+
+    private ConversoresJson() {}
+
+    /**
+     * Cria o Gson usado pelos repositórios.
+     *
+     * @return O {@link Gson} com os conversores registrados.
+     */
+    static Gson criarGson() {
+        return new GsonBuilder().registerTypeAdapterFactory(FABRICA).create();
+    }
+
+    private static void escrever(JsonWriter out, String nome, String valor) throws IOException {
+        // Como na serialização padrão do Gson, campos nulos são omitidos.
+        if (valor != null) {
+            out.name(nome).value(valor);
+        }
+    }
+
+    private static void escrever(JsonWriter out, String nome, LocalDateTime valor) throws IOException {
+        if (valor != null) {
+            out.name(nome).value(valor.toString());
+        }
+    }
+
+    private static LocalDateTime lerData(JsonReader in) throws IOException {
+        return LocalDateTime.parse(in.nextString());
+    }
+
+    private static <E> void escreverLista(JsonWriter out, String nome, List<E> lista, TypeAdapter<E> adaptador)
+            throws IOException {
+        if (lista == null) {
+            return;
+        }
+        out.name(nome).beginArray();
+        for (E elemento : lista) {
+            adaptador.write(out, elemento);
+        }
+        out.endArray();
+    }
+
+    private static <E> List<E> lerLista(JsonReader in, TypeAdapter<E> adaptador) throws IOException {
+        List<E> lista = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            lista.add(adaptador.read(in));
+        }
+        in.endArray();
+        return lista;
+    }
+
+    /**
+     * Conversor do {@link Evento}. O evento lido não é congelado; isso fica a cargo do repositório.
+     */
+    private static final class ConversorEvento extends TypeAdapter<Evento> {
+
+        private final TypeAdapter<SetorAssentos> setorAdapter;
+        private final TypeAdapter<TipoIngresso> tipoAdapter;
+
+        private ConversorEvento(TypeAdapter<SetorAssentos> setorAdapter, TypeAdapter<TipoIngresso> tipoAdapter) {
+            this.setorAdapter = setorAdapter;
+            this.tipoAdapter = tipoAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Evento evento) throws IOException {
+            out.beginObject();
+            out.name("idEvento").value(evento.getIdEvento());
+            out.name("capacidade").value(evento.getCapacidade());
+            out.name("ingressosDisponiveis").value(evento.getIngressosDisponiveis());
+            escrever(out, "nomeEvento", evento.getNomeEvento());
+            escrever(out, "local", evento.getLocal());
+            escrever(out, "categoria", evento.getCategoria());
+            escrever(out, "descrição", evento.getDescrição());
+            out.name("preco").value(evento.getPreco());
+            escrever(out, "dataEvento", evento.getDataEvento());
+            escrever(out, "imageUrl", evento.getImageUrl());
+            escrever(out, "cupomCode", evento.getCupomCode());
+            out.name("cupomDiscountValue").value(evento.getCupomDiscountValue());
+            escrever(out, "status", evento.getStatus());
+            out.name("organizadorId").value(evento.getOrganizadorId());
+            if (evento.getLatitude() != null) {
+                out.name("latitude").value(evento.getLatitude().doubleValue());
+            }
+            if (evento.getLongitude() != null) {
+                out.name("longitude").value(evento.getLongitude().doubleValue());
+            }
+            escreverLista(out, "setores", evento.getSetores(), setorAdapter);
+            escreverLista(out, "tiposIngresso", evento.getTiposIngresso(), tipoAdapter);
+            out.name("versao").value(evento.getVersao());
+            out.endObject();
+        }
+
+        @Override
+        public Evento read(JsonReader in) throws IOException {
+            Evento evento = new Evento();
+            in.beginObject();
+            while (in.hasNext()) {
+                String campo = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (campo) {
+                    case "idEvento" -> evento.setIdEvento(in.nextInt());
+                    case "capacidade" -> evento.setCapacidade(in.nextInt());
+                    case "ingressosDisponiveis" -> evento.setIngressosDisponiveis(in.nextInt());
+                    case "nomeEvento" -> evento.setNomeEvento(in.nextString());
+                    case "local" -> evento.setLocal(in.nextString());
+                    case "categoria" -> evento.setCategoria(in.nextString());
+                    case "descrição" -> evento.setDescrição(in.nextString());
+                    case "preco" -> evento.setPreco(in.nextDouble());
+                    case "dataEvento" -> evento.setDataEvento(lerData(in));
+                    case "imageUrl" -> evento.setImageUrl(in.nextString());
+                    case "cupomCode" -> evento.setCupomCode(in.nextString());
+                    case "cupomDiscountValue" -> evento.setCupomDiscountValue(in.nextDouble());
+                    case "status" -> evento.setStatus(in.nextString());
+                    case "organizadorId" -> evento.setOrganizadorId(in.nextInt());
+                    case "latitude" -> evento.setLatitude(in.nextDouble());
+                    case "longitude" -> evento.setLongitude(in.nextDouble());
+                    case "setores" -> evento.setSetores(lerLista(in, setorAdapter));
+                    case "tiposIngresso" -> evento.setTiposIngresso(lerLista(in, tipoAdapter));
+                    case "versao" -> evento.setVersao(in.nextLong());
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return evento;
+        }
+    }
+
+    /**
+     * Conversor do {@link Pedido}. Os ingressos usam o {@link AdaptadorListaIngressos}, que os grava
+     * direto no armazém fora do heap.
+     */
+    private static final class ConversorPedido extends TypeAdapter<Pedido> {
+
+        private final TypeAdapter<Evento> eventoAdapter;
+        private final AdaptadorListaIngressos ingressosAdapter = new AdaptadorListaIngressos();
+
+        private ConversorPedido(TypeAdapter<Evento> eventoAdapter) {
+            this.eventoAdapter = eventoAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Pedido pedido) throws IOException {
+            out.beginObject();
+            out.name("idPedido").value(pedido.getIdPedido());
+            if (pedido.getEvento() != null) {
+                out.name("evento");
+                eventoAdapter.write(out, pedido.getEvento());
+            }
+            out.name("quantidadeIngressos").value(pedido.getQuantidadeIngressos());
+            out.name("valorBase").value(pedido.getValorBase());
+            out.name("valorTotal").value(pedido.getValorTotal());
+            escrever(out, "dataPedido", pedido.getDataPedido());
+            escrever(out, "status", pedido.getStatus());
+            if (pedido.getIngressos() != null) {
+                out.name("ingressos");
+                ingressosAdapter.write(out, pedido.getIngressos());
+            }
+            out.endObject();
+        }
+
+        @Override
+        public Pedido read(JsonReader in) throws IOException {
+            Pedido pedido = new Pedido();
+            in.beginObject();
+            while (in.hasNext()) {
+                String campo = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (campo) {
+                    case "idPedido" -> pedido.setIdPedido(in.nextInt());
+                    case "evento" -> pedido.setEvento(eventoAdapter.read(in));
+                    case "quantidadeIngressos" -> pedido.setQuantidadeIngressos(in.nextInt());
+                    case "valorBase" -> pedido.setValorBase(in.nextDouble());
+                    case "valorTotal" -> pedido.setValorTotal(in.nextDouble());
+                    case "dataPedido" -> pedido.setDataPedido(lerData(in));
+                    case "status" -> pedido.setStatus(in.nextString());
+                    case "ingressos" -> pedido.setIngressos(ingressosAdapter.read(in));
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return pedido;
+        }
+    }
+
+    /**
+     * Conversor do {@link TipoIngresso}. O estoque lido substitui o estoque inicial do construtor.
+     */
+    private static final class ConversorTipoIngresso extends TypeAdapter<TipoIngresso> {
+
+        @Override
+        public void write(JsonWriter out, TipoIngresso tipo) throws IOException {
+            out.beginObject();
+            escrever(out, "nome", tipo.getNome());
+            out.name("preco").value(tipo.getPreco());
+            out.name("capacidade").value(tipo.getCapacidade());
+            out.name("disponiveis").value(tipo.getDisponiveis());
+            escrever(out, "inicioVendas", tipo.getInicioVendas());
+            escrever(out, "fimVendas", tipo.getFimVendas());
+            out.endObject();
+        }
+
+        @Override
+        public TipoIngresso read(JsonReader in) throws IOException {
+            String nome = null;
+            double preco = 0;
+            int capacidade = 0;
+            int disponiveis = 0;
+            LocalDateTime inicioVendas = null;
+            LocalDateTime fimVendas = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String campo = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (campo) {
+                    case "nome" -> nome = in.nextString();
+                    case "preco" -> preco = in.nextDouble();
+                    case "capacidade" -> capacidade = in.nextInt();
+                    case "disponiveis" -> disponiveis = in.nextInt();
+                    case "inicioVendas" -> inicioVendas = lerData(in);
+                    case "fimVendas" -> fimVendas = lerData(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            TipoIngresso tipo = new TipoIngresso(nome, preco, capacidade, inicioVendas, fimVendas);
+            tipo.setDisponiveis(disponiveis);
+            return tipo;
+        }
+    }
+
+    /**
+     * Conversor do {@link SetorAssentos}.
+     */
+    private static final class ConversorSetorAssentos extends TypeAdapter<SetorAssentos> {
+
+        @Override
+        public void write(JsonWriter out, SetorAssentos setor) throws IOException {
+            out.beginObject();
+            escrever(out, "nome", setor.getNome());
+            out.name("fileiras").value(setor.getFileiras());
+            out.name("assentosPorFileira").value(setor.getAssentosPorFileira());
+            out.endObject();
+        }
+
+        @Override
+        public SetorAssentos read(JsonReader in) throws IOException {
+            SetorAssentos setor = new SetorAssentos();
+            in.beginObject();
+            while (in.hasNext()) {
+                String campo = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (campo) {
+                    case "nome" -> setor.setNome(in.nextString());
+                    case "fileiras" -> setor.setFileiras(in.nextInt());
+                    case "assentosPorFileira" -> setor.setAssentosPorFileira(in.nextInt());
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return setor;
+        }
+    }
+}
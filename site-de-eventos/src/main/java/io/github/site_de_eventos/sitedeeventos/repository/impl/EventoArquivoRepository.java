@@ -1,20 +1,21 @@
 package io.github.site_de_eventos.sitedeeventos.repository.impl;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonWriter;
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
 import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -38,12 +40,13 @@ import java.util.stream.Collectors;
  * @since 25-08-2025
  */
 @Repository
+@Profile("!jdbc & !mmap")
 public class EventoArquivoRepository implements EventoRepository {
 
     /**
      * O banco de dados em memória. Utiliza um {@link ConcurrentHashMap} para garantir a segurança
      * em ambientes com múltiplas threads, como uma aplicação web. A chave é o ID do evento (Integer)
-     * e o valor é o objeto {@link Evento} completo.
+     * e o valor é a versão publicada (congelada) do {@link Evento}, trocada inteira a cada alteração.
      */
     private final Map<Integer, Evento> database = new ConcurrentHashMap<>();
 
@@ -53,41 +56,46 @@ public class EventoArquivoRepository implements EventoRepository {
      */
     private final AtomicInteger idGenerator = new AtomicInteger(0);
 
+    /**
+     * Índice espacial dos eventos com coordenadas, mantido junto com o mapa em memória
+     * para responder às consultas do mapa sem percorrer todos os eventos.
+     */
+    private final IndiceEspacialGrade indiceEspacial = new IndiceEspacialGrade();
+
+    /**
+     * Agrupamentos por nível de zoom dos eventos que aparecem no mapa, atualizados a cada alteração.
+     */
+    private final ClustersPorZoom clusters = new ClustersPorZoom();
+
     /**
      * O nome do arquivo que será usado para armazenar os dados dos eventos de forma persistente.
      */
     private static final String FILE_NAME = "eventos.json";
 
     /**
-     * Instância do Gson configurada para serializar e desserializar os objetos de Evento.
-     * A configuração inclui:
-     * - {@code excludeFieldsWithoutExposeAnnotation()}: Apenas os campos marcados com @Expose no modelo Evento serão incluídos no JSON.
-     * - {@code registerTypeAdapter(...)}: Um adaptador customizado para converter objetos {@link LocalDateTime} para o formato de String padrão ISO-8601 e vice-versa,
-     * já que o Gson não suporta nativamente os tipos de data/hora do Java 8.
-     * - {@code setPrettyPrinting()}: Formata o JSON de saída para ser legível por humanos, com indentação e quebras de linha.
-     */
-    private final Gson gson = new GsonBuilder()
-    	.excludeFieldsWithoutExposeAnnotation()
-    	.registerTypeAdapter(LocalDateTime.class, new TypeAdapter<LocalDateTime>() {
-    	    @Override
-    	    public void write(JsonWriter out, LocalDateTime value) throws IOException {
-    	        if (value == null) {
-    	            out.nullValue();
-    	            return;
-    	        }
-    	        out.value(value.toString());
-    	    }
-    	    @Override
-    	    public LocalDateTime read(JsonReader in) throws IOException {
-    	        if (in.peek() == com.google.gson.stream.JsonToken.NULL) {
-    	            in.nextNull();
-    	            return null;
-    	        }
-    	        return LocalDateTime.parse(in.nextString());
-    	    }
-    	})
-        .setPrettyPrinting()
-        .create();
+     * Nome da entidade nas alterações publicadas no feed.
+     */
+    private static final String ENTIDADE = "evento";
+
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final LogAlteracoes logAlteracoes;
+
+    /**
+     * Instância do Gson que serializa e desserializa os objetos de Evento com os {@link ConversoresJson},
+     * sem reflexão e em JSON compacto.
+     */
+    private final Gson gson = ConversoresJson.criarGson();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param unidadeDeTrabalho A unidade de trabalho que grava o arquivo "eventos.json".
+     * @param logAlteracoes O log que publica cada alteração no feed de alterações.
+     */
+    public EventoArquivoRepository(UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes) {
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.logAlteracoes = logAlteracoes;
+    }
 
     /**
      * Método de inicialização executado pelo Spring uma vez, logo após a criação do componente.
@@ -100,20 +108,65 @@ public class EventoArquivoRepository implements EventoRepository {
     }
 
     /**
-     * Se o evento for novo (ID é 0), um novo ID único é gerado. Em seguida, o evento
-     * é inserido ou atualizado no mapa em memória e o estado completo do mapa é salvo no arquivo JSON.
+     * Se o evento for novo (ID é 0), um novo ID único é gerado. Em seguida, o evento recebe a
+     * versão seguinte à sua, é congelado, inserido ou atualizado no mapa em memória e o
+     * estado completo do mapa é salvo no arquivo JSON. Como em {@link #save(Evento, long)}, um
+     * evento existente só é trocado se a versão publicada ainda for aquela de onde ele foi copiado.
+     * <p>
+     * Salvar um evento já publicado apenas grava o arquivo (por exemplo, depois de uma venda, que altera
+     * somente os contadores de estoque): a versão em memória não é trocada, para que uma versão antiga
+     * não sobrescreva uma alteração publicada por {@link #atualizar(int, Consumer)} nesse meio tempo.
+     * O número da versão também não muda, já que os estoques não fazem parte dela
+     * (veja {@link Evento#getVersao()}).
      */
     @Override
     public Evento save(Evento evento) {
+        if (evento.isCongelado()) {
+            Evento atual = database.putIfAbsent(evento.getIdEvento(), evento);
+            Evento salvo = atual != null ? atual : evento;
+            saveDataToFile(salvo.getIdEvento(), Alteracao.SALVO, salvo.getVersao());
+            return salvo;
+        }
         if (evento.getIdEvento() == 0) {
             int newId = idGenerator.incrementAndGet();
             evento.setIdEvento(newId);
         }
-        database.put(evento.getIdEvento(), evento);
-        saveDataToFile();
+        database.compute(evento.getIdEvento(), (id, atual) -> {
+            if (atual != null && atual.getVersao() != evento.getVersao()) {
+                throw new ConflitoVersaoException("Evento", id, evento.getVersao(), atual.getVersao());
+            }
+            evento.setVersao(evento.getVersao() + 1);
+            evento.congelar();
+            return evento;
+        });
+        indexar(evento);
+        saveDataToFile(evento.getIdEvento(), Alteracao.SALVO, evento.getVersao());
         return evento;
     }
 
+    /**
+     * A conferência da versão e a troca acontecem dentro de {@code computeIfPresent}, que é atômico
+     * por chave: de duas cópias feitas sobre a mesma versão, só a primeira a chegar é publicada.
+     */
+    @Override
+    public Evento save(Evento evento, long versaoEsperada) {
+        int id = evento.getIdEvento();
+        Evento publicado = database.computeIfPresent(id, (chave, atual) -> {
+            if (atual.getVersao() != versaoEsperada) {
+                throw new ConflitoVersaoException("Evento", id, versaoEsperada, atual.getVersao());
+            }
+            evento.setVersao(versaoEsperada + 1);
+            evento.congelar();
+            return evento;
+        });
+        if (publicado == null) {
+            throw new ConflitoVersaoException("Evento", id, versaoEsperada, -1);
+        }
+        indexar(publicado);
+        saveDataToFile(id, Alteracao.SALVO, publicado.getVersao());
+        return publicado;
+    }
+
     /**
      * A busca é feita diretamente no mapa em memória, que oferece acesso de tempo constante (O(1)),
      * sendo extremamente eficiente.
@@ -159,29 +212,69 @@ public class EventoArquivoRepository implements EventoRepository {
         return new ArrayList<>(database.values());
     }
 
+    /**
+     * Consulta o índice espacial e resolve os IDs encontrados no mapa em memória.
+     */
+    @Override
+    public List<Evento> findByArea(double latMin, double lngMin, double latMax, double lngMax) {
+        List<Evento> eventos = new ArrayList<>();
+        for (Integer id : indiceEspacial.buscar(latMin, lngMin, latMax, lngMax)) {
+            Evento evento = database.get(id);
+            if (evento != null) {
+                eventos.add(evento);
+            }
+        }
+        return eventos;
+    }
+
+    /**
+     * Os agrupamentos já estão calculados; a consulta apenas lê as células visíveis do nível pedido.
+     */
+    @Override
+    public List<ClusterEventos> findClusters(double latMin, double lngMin, double latMax, double lngMax, int zoom) {
+        return clusters.buscar(latMin, lngMin, latMax, lngMax, zoom, LocalDateTime.now());
+    }
+
+    /**
+     * Atualiza os índices do mapa com o estado atual de um evento. Eventos cancelados ou
+     * sem coordenadas saem dos agrupamentos; os demais expiram na data do evento.
+     */
+    private void indexar(Evento evento) {
+        indiceEspacial.atualizar(evento.getIdEvento(), evento.getLatitude(), evento.getLongitude());
+        if (!evento.hasCoordenadas() || "CANCELADO".equals(evento.getStatus())) {
+            clusters.remover(evento.getIdEvento());
+            return;
+        }
+        LocalDateTime expiraEm = evento.getDataEvento() != null ? evento.getDataEvento() : LocalDateTime.MAX;
+        clusters.atualizar(evento.getIdEvento(), evento.getLatitude(), evento.getLongitude(), expiraEm);
+    }
+
     /**
      * A operação de remoção é feita no mapa em memória. Se um item for efetivamente removido,
      * a alteração é persistida no arquivo JSON.
      */
     @Override
     public boolean deleteById(int id) {
-        boolean removed = database.remove(id) != null;
-        if (removed) {
-            saveDataToFile();
+        Evento removido = database.remove(id);
+        if (removido != null) {
+            indiceEspacial.remover(id);
+            clusters.remover(id);
+            saveDataToFile(id, Alteracao.REMOVIDO, removido.getVersao());
         }
-        return removed;
+        return removido != null;
     }
 
     /**
      * Serializa a lista completa de eventos do mapa em memória para o formato JSON
      * e sobrescreve o arquivo "eventos.json". Este método centraliza a lógica de escrita em disco.
+     * Dentro de uma {@link UnidadeDeTrabalho}, a gravação fica para o final da unidade.
+     * A alteração que motivou a gravação é registrada no feed de alterações na mesma unidade.
      */
-    private void saveDataToFile() {
-        try (Writer writer = Files.newBufferedWriter(Paths.get(FILE_NAME))) {
-            gson.toJson(new ArrayList<>(database.values()), writer);
-        } catch (IOException e) {
-            System.err.println("Erro ao salvar dados de eventos: " + e.getMessage());
-        }
+    private void saveDataToFile(int id, String operacao, long versao) {
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.gravar(FILE_NAME, writer -> gson.toJson(new ArrayList<>(database.values()), writer));
+            logAlteracoes.registrar(ENTIDADE, id, operacao, versao);
+        });
     }
 
     /**
@@ -201,8 +294,16 @@ public class EventoArquivoRepository implements EventoRepository {
 
             if (eventos != null) {
                 database.clear();
+                indiceEspacial.limpar();
+                clusters.limpar();
                 for (Evento evento : eventos) {
+                    if (evento.getVersao() == 0) {
+                        // Arquivo gravado antes da existência das versões.
+                        evento.setVersao(1);
+                    }
+                    evento.congelar();
                     database.put(evento.getIdEvento(), evento);
+                    indexar(evento);
                 }
                 // Garante que o próximo ID a ser gerado seja maior que o maior ID já existente.
                 int maxId = eventos.stream().mapToInt(Evento::getIdEvento).max().orElse(0);
@@ -0,0 +1,408 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementação do {@link EventoRepository} em um banco de dados embutido (H2 em arquivo),
+ * ativa no perfil "jdbc" do Spring no lugar do {@link EventoArquivoRepository}.
+ * <p>
+ * Cada evento é uma linha da tabela "eventos": as colunas usadas nas consultas (organizador,
+ * data, coordenadas) são indexadas, e o evento completo fica em JSON na coluna "dados". Só os
+ * eventos em uso ficam em memória, no {@link CacheIdentidade}; as consultas vão ao banco.
+ * <p>
+ * As gravações entram no {@link LoteJdbc} da {@link UnidadeDeTrabalho} e são enviadas em lote,
+ * uma linha por evento alterado, ao final da unidade. As consultas por critério enxergam apenas
+ * o que já foi confirmado; {@link #findById(int)} enxerga também as alterações ainda em lote.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Repository
+@Profile("jdbc")
+public class EventoJdbcRepository implements EventoRepository {
+
+    /**
+     * Nome da entidade nas alterações publicadas no feed.
+     */
+    private static final String ENTIDADE = "evento";
+
+    /**
+     * Arquivo do {@link EventoArquivoRepository}, importado na primeira inicialização com a tabela vazia.
+     */
+    private static final String ARQUIVO_IMPORTACAO = "eventos.json";
+
+    private static final String[] ESQUEMA = {
+        "CREATE TABLE IF NOT EXISTS eventos ("
+                + "id INT PRIMARY KEY, "
+                + "versao BIGINT NOT NULL, "
+                + "nome VARCHAR, "
+                + "organizador_id INT NOT NULL, "
+                + "data_evento TIMESTAMP, "
+                + "status VARCHAR(40), "
+                + "latitude DOUBLE PRECISION, "
+                + "longitude DOUBLE PRECISION, "
+                + "dados CLOB NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS idx_eventos_organizador ON eventos (organizador_id)",
+        "CREATE INDEX IF NOT EXISTS idx_eventos_data ON eventos (data_evento)",
+        "CREATE INDEX IF NOT EXISTS idx_eventos_coordenadas ON eventos (latitude, longitude)"
+    };
+
+    private static final String SELECAO = "SELECT id, dados FROM eventos";
+
+    private final DataSource dataSource;
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final LogAlteracoes logAlteracoes;
+
+    private final CacheIdentidade<Evento> cache = new CacheIdentidade<>();
+    private final AtomicInteger idGenerator = new AtomicInteger(0);
+
+    /**
+     * Agrupamentos do mapa, mantidos em memória como no repositório em arquivo. Guardam apenas
+     * o ID e as coordenadas de cada evento, lidos na inicialização sem carregar os eventos.
+     */
+    private final ClustersPorZoom clusters = new ClustersPorZoom();
+
+    /**
+     * IDs removidos cujo lote ainda não foi confirmado, para que não sejam lidos de novo do banco.
+     */
+    private final Set<Integer> removidosPendentes = ConcurrentHashMap.newKeySet();
+
+    private final Gson gson = ConversoresJson.criarGson();
+
+    private final TabelaJdbc<Evento> tabela = new TabelaJdbc<>() {
+        @Override
+        public String sqlGravar() {
+            return "MERGE INTO eventos (id, versao, nome, organizador_id, data_evento, status, latitude, longitude, dados) "
+                    + "KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        }
+
+        @Override
+        public String sqlRemover() {
+            return "DELETE FROM eventos WHERE id = ?";
+        }
+
+        @Override
+        public void preencher(PreparedStatement comando, Evento evento) throws SQLException {
+            comando.setInt(1, evento.getIdEvento());
+            comando.setLong(2, evento.getVersao());
+            comando.setString(3, evento.getNomeEvento());
+            comando.setInt(4, evento.getOrganizadorId());
+            comando.setTimestamp(5, evento.getDataEvento() != null ? Timestamp.valueOf(evento.getDataEvento()) : null);
+            comando.setString(6, evento.getStatus());
+            comando.setObject(7, evento.getLatitude(), Types.DOUBLE);
+            comando.setObject(8, evento.getLongitude(), Types.DOUBLE);
+            comando.setString(9, gson.toJson(evento));
+        }
+    };
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param dataSource O pool de conexões com o banco de dados.
+     * @param unidadeDeTrabalho A unidade de trabalho que agrupa as gravações em lote.
+     * @param logAlteracoes O log que publica cada alteração no feed de alterações.
+     */
+    public EventoJdbcRepository(DataSource dataSource, UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes) {
+        this.dataSource = dataSource;
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.logAlteracoes = logAlteracoes;
+    }
+
+    /**
+     * Cria a tabela e os índices, se preciso, importa o "eventos.json" se a tabela estiver vazia e
+     * carrega o maior ID e os agrupamentos do mapa.
+     */
+    @PostConstruct
+    public void init() {
+        try (Connection conexao = dataSource.getConnection(); Statement comando = conexao.createStatement()) {
+            for (String ddl : ESQUEMA) {
+                comando.execute(ddl);
+            }
+            importarArquivo(conexao);
+            try (ResultSet linhas = comando.executeQuery("SELECT COALESCE(MAX(id), 0) FROM eventos")) {
+                linhas.next();
+                idGenerator.set(linhas.getInt(1));
+            }
+            try (ResultSet linhas = comando.executeQuery("SELECT id, latitude, longitude, data_evento FROM eventos "
+                    + "WHERE latitude IS NOT NULL AND longitude IS NOT NULL AND (status IS NULL OR status <> 'CANCELADO')")) {
+                while (linhas.next()) {
+                    Timestamp data = linhas.getTimestamp("data_evento");
+                    clusters.atualizar(linhas.getInt("id"), linhas.getDouble("latitude"), linhas.getDouble("longitude"),
+                            data != null ? data.toLocalDateTime() : LocalDateTime.MAX);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao inicializar a tabela de eventos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Como no repositório em arquivo: um evento novo recebe um ID, e um evento não congelado é
+     * publicado com a versão seguinte, se a publicada ainda for aquela de onde ele foi copiado.
+     * Salvar um evento já publicado apenas o grava de novo.
+     */
+    @Override
+    public Evento save(Evento evento) {
+        if (evento.isCongelado()) {
+            Evento salvo = cache.alterar(evento.getIdEvento(), atual -> atual != null ? atual : evento);
+            gravar(salvo, Alteracao.SALVO);
+            return salvo;
+        }
+        boolean novo = evento.getIdEvento() == 0;
+        if (novo) {
+            evento.setIdEvento(idGenerator.incrementAndGet());
+        }
+        cache.alterar(evento.getIdEvento(), atual -> {
+            Evento anterior = (atual != null || novo) ? atual : carregar(evento.getIdEvento());
+            if (anterior != null && anterior.getVersao() != evento.getVersao()) {
+                throw new ConflitoVersaoException("Evento", evento.getIdEvento(), evento.getVersao(),
+                        anterior.getVersao());
+            }
+            evento.setVersao(evento.getVersao() + 1);
+            evento.congelar();
+            return evento;
+        });
+        indexar(evento);
+        gravar(evento, Alteracao.SALVO);
+        return evento;
+    }
+
+    /**
+     * A conferência da versão e a troca acontecem de forma atômica no {@link CacheIdentidade}.
+     */
+    @Override
+    public Evento save(Evento evento, long versaoEsperada) {
+        int id = evento.getIdEvento();
+        Evento publicado = cache.alterar(id, atual -> {
+            Evento anterior = atual != null ? atual : carregar(id);
+            if (anterior == null) {
+                throw new ConflitoVersaoException("Evento", id, versaoEsperada, -1);
+            }
+            if (anterior.getVersao() != versaoEsperada) {
+                throw new ConflitoVersaoException("Evento", id, versaoEsperada, anterior.getVersao());
+            }
+            evento.setVersao(versaoEsperada + 1);
+            evento.congelar();
+            return evento;
+        });
+        indexar(publicado);
+        gravar(publicado, Alteracao.SALVO);
+        return publicado;
+    }
+
+    @Override
+    public Optional<Evento> findById(int id) {
+        return Optional.ofNullable(cache.buscar(id, this::carregar));
+    }
+
+    @Override
+    public Optional<Evento> findByNome(String nome) {
+        List<Evento> eventos = consultar(SELECAO + " WHERE LOWER(nome) = ? ORDER BY id FETCH FIRST 1 ROWS ONLY",
+                nome.toLowerCase(Locale.ROOT));
+        return eventos.stream().findFirst();
+    }
+
+    @Override
+    public List<Evento> findAll() {
+        return consultar(SELECAO + " ORDER BY id");
+    }
+
+    @Override
+    public List<Evento> findByNomeContaining(String termo) {
+        if (termo == null || termo.trim().isEmpty()) {
+            return findAll();
+        }
+        String padrao = "%" + termo.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return consultar(SELECAO + " WHERE LOWER(nome) LIKE ? ESCAPE '\\' ORDER BY id", padrao);
+    }
+
+    /**
+     * Usa o índice da coluna "organizador_id".
+     */
+    @Override
+    public List<Evento> findByOrganizadorId(int organizadorId) {
+        return consultar(SELECAO + " WHERE organizador_id = ? ORDER BY id", organizadorId);
+    }
+
+    /**
+     * Usa o índice das coordenadas. Uma área que cruza o antimeridiano vira duas faixas de longitude.
+     */
+    @Override
+    public List<Evento> findByArea(double latMin, double lngMin, double latMax, double lngMax) {
+        String area = SELECAO + " WHERE latitude BETWEEN ? AND ? AND ";
+        if (lngMin > lngMax) {
+            return consultar(area + "(longitude >= ? OR longitude <= ?) ORDER BY id", latMin, latMax, lngMin, lngMax);
+        }
+        return consultar(area + "longitude BETWEEN ? AND ? ORDER BY id", latMin, latMax, lngMin, lngMax);
+    }
+
+    @Override
+    public List<ClusterEventos> findClusters(double latMin, double lngMin, double latMax, double lngMax, int zoom) {
+        return clusters.buscar(latMin, lngMin, latMax, lngMax, zoom, LocalDateTime.now());
+    }
+
+    @Override
+    public boolean deleteById(int id) {
+        Optional<Evento> removido = findById(id);
+        if (removido.isEmpty()) {
+            return false;
+        }
+        cache.remover(id);
+        clusters.remover(id);
+        removidosPendentes.add(id);
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.participante(dataSource, () -> new LoteJdbc(dataSource)).remover(tabela, id);
+            logAlteracoes.registrar(ENTIDADE, id, Alteracao.REMOVIDO, removido.get().getVersao());
+            unidadeDeTrabalho.aposConfirmar(() -> removidosPendentes.remove(id));
+        });
+        return true;
+    }
+
+    /**
+     * Coloca o evento no lote da unidade de trabalho e registra a alteração no feed.
+     */
+    private void gravar(Evento evento, String operacao) {
+        removidosPendentes.remove(evento.getIdEvento());
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.participante(dataSource, () -> new LoteJdbc(dataSource))
+                    .gravar(tabela, evento.getIdEvento(), evento);
+            logAlteracoes.registrar(ENTIDADE, evento.getIdEvento(), operacao, evento.getVersao());
+        });
+    }
+
+    /**
+     * Atualiza os agrupamentos do mapa com o estado atual de um evento.
+     */
+    private void indexar(Evento evento) {
+        if (!evento.hasCoordenadas() || "CANCELADO".equals(evento.getStatus())) {
+            clusters.remover(evento.getIdEvento());
+            return;
+        }
+        LocalDateTime expiraEm = evento.getDataEvento() != null ? evento.getDataEvento() : LocalDateTime.MAX;
+        clusters.atualizar(evento.getIdEvento(), evento.getLatitude(), evento.getLongitude(), expiraEm);
+    }
+
+    /**
+     * Lê um evento do banco, pela chave primária.
+     *
+     * @return O evento, ou {@code null} se ele não existir ou tiver sido removido.
+     */
+    private Evento carregar(int id) {
+        if (removidosPendentes.contains(id)) {
+            return null;
+        }
+        try (Connection conexao = dataSource.getConnection();
+                PreparedStatement comando = conexao.prepareStatement("SELECT dados FROM eventos WHERE id = ?")) {
+            comando.setInt(1, id);
+            try (ResultSet linhas = comando.executeQuery()) {
+                return linhas.next() ? converter(linhas.getString("dados")) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao ler o evento " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executa uma consulta que devolve as colunas "id" e "dados" e resolve cada linha no
+     * {@link CacheIdentidade}, reaproveitando os eventos já em memória.
+     */
+    private List<Evento> consultar(String sql, Object... parametros) {
+        List<Evento> eventos = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection(); PreparedStatement comando = conexao.prepareStatement(sql)) {
+            for (int i = 0; i < parametros.length; i++) {
+                comando.setObject(i + 1, parametros[i]);
+            }
+            try (ResultSet linhas = comando.executeQuery()) {
+                while (linhas.next()) {
+                    int id = linhas.getInt("id");
+                    String dados = linhas.getString("dados");
+                    if (!removidosPendentes.contains(id)) {
+                        eventos.add(cache.resolver(id, () -> converter(dados)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao consultar eventos: " + e.getMessage(), e);
+        }
+        return eventos;
+    }
+
+    private Evento converter(String dados) {
+        Evento evento = gson.fromJson(dados, Evento.class);
+        evento.congelar();
+        return evento;
+    }
+
+    /**
+     * Copia os eventos do "eventos.json" para a tabela, se ela estiver vazia, em um único lote.
+     */
+    private void importarArquivo(Connection conexao) throws SQLException {
+        Path arquivo = Paths.get(ARQUIVO_IMPORTACAO);
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        try (Statement consulta = conexao.createStatement(); ResultSet linhas = consulta.executeQuery("SELECT COUNT(*) FROM eventos")) {
+            linhas.next();
+            if (linhas.getLong(1) > 0) {
+                return;
+            }
+        }
+        List<Evento> eventos;
+        try (Reader reader = Files.newBufferedReader(arquivo)) {
+            eventos = gson.fromJson(reader, new TypeToken<ArrayList<Evento>>() {}.getType());
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Erro ao importar " + ARQUIVO_IMPORTACAO + ": " + e.getMessage());
+            return;
+        }
+        if (eventos == null || eventos.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement comando = conexao.prepareStatement(tabela.sqlGravar())) {
+            for (Evento evento : eventos) {
+                if (evento.getVersao() == 0) {
+                    evento.setVersao(1);
+                }
+                tabela.preencher(comando, evento);
+                comando.addBatch();
+            }
+            comando.executeBatch();
+        }
+        System.out.println(eventos.size() + " eventos importados de " + ARQUIVO_IMPORTACAO);
+    }
+}
@@ -0,0 +1,386 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Implementação do {@link EventoRepository} sobre o {@link ArquivoRegistrosEventos}, um arquivo
+ * binário mapeado em memória, ativa no perfil "mmap" do Spring no lugar do {@link EventoArquivoRepository}.
+ * <p>
+ * Feita para catálogos grandes: a inicialização apenas mapeia o arquivo e monta os índices do mapa
+ * a partir dos campos numéricos, sem converter nenhum evento. As consultas percorrem os registros
+ * com o cursor do arquivo e só criam os {@link Evento} encontrados, que ficam no
+ * {@link CacheIdentidade} enquanto estiverem em uso. O resto do catálogo fica no cache de páginas
+ * do sistema operacional.
+ * <p>
+ * As gravações seguem o mesmo caminho do {@link EventoJdbcRepository}: os eventos alterados entram
+ * em um lote da {@link UnidadeDeTrabalho} e são regravados no arquivo ao final dela.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Repository
+@Profile("mmap & !jdbc")
+public class EventoMapeadoRepository implements EventoRepository {
+
+    /**
+     * Nome da entidade nas alterações publicadas no feed.
+     */
+    private static final String ENTIDADE = "evento";
+
+    /**
+     * O arquivo de registros; o heap de textos fica ao lado, com o sufixo ".textos.N".
+     */
+    private static final String FILE_NAME = "eventos.dat";
+
+    /**
+     * Arquivo do {@link EventoArquivoRepository}, importado na primeira inicialização.
+     */
+    private static final String ARQUIVO_IMPORTACAO = "eventos.json";
+
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final LogAlteracoes logAlteracoes;
+    private final Path caminho;
+
+    private ArquivoRegistrosEventos arquivo;
+
+    private final CacheIdentidade<Evento> cache = new CacheIdentidade<>();
+    private final AtomicInteger idGenerator = new AtomicInteger(0);
+    private final IndiceEspacialGrade indiceEspacial = new IndiceEspacialGrade();
+    private final ClustersPorZoom clusters = new ClustersPorZoom();
+
+    /**
+     * IDs removidos cujo lote ainda não foi confirmado, para que não sejam lidos de novo do arquivo.
+     */
+    private final Set<Integer> removidosPendentes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param unidadeDeTrabalho A unidade de trabalho que agrupa as gravações em lote.
+     * @param logAlteracoes O log que publica cada alteração no feed de alterações.
+     */
+    @Autowired
+    public EventoMapeadoRepository(UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes) {
+        this(unidadeDeTrabalho, logAlteracoes, Paths.get(FILE_NAME));
+    }
+
+    /**
+     * Construtor que permite escolher o arquivo de registros.
+     *
+     * @param unidadeDeTrabalho A unidade de trabalho que agrupa as gravações em lote.
+     * @param logAlteracoes O log que publica cada alteração no feed de alterações.
+     * @param caminho O arquivo de registros.
+     */
+    EventoMapeadoRepository(UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes, Path caminho) {
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.logAlteracoes = logAlteracoes;
+        this.caminho = caminho;
+    }
+
+    /**
+     * Mapeia o arquivo (importando o "eventos.json" na primeira vez) e monta os índices do mapa
+     * e o contador de IDs lendo apenas os campos numéricos dos registros.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            arquivo = ArquivoRegistrosEventos.abrir(caminho);
+            if (arquivo.isVazio()) {
+                importarArquivo();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao abrir o arquivo de eventos " + caminho + ": " + e.getMessage(), e);
+        }
+        idGenerator.set(arquivo.getMaiorId());
+        arquivo.percorrer(registro -> {
+            Double latitude = registro.getLatitude();
+            Double longitude = registro.getLongitude();
+            indiceEspacial.atualizar(registro.getId(), latitude, longitude);
+            if (latitude != null && longitude != null
+                    && !"CANCELADO".equals(registro.getTexto(ArquivoRegistrosEventos.STATUS))) {
+                LocalDateTime data = registro.getDataEvento();
+                clusters.atualizar(registro.getId(), latitude, longitude, data != null ? data : LocalDateTime.MAX);
+            }
+        });
+    }
+
+    /**
+     * Fecha os arquivos mapeados.
+     */
+    @PreDestroy
+    public void fechar() {
+        try {
+            arquivo.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar o arquivo de eventos: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Como no repositório em arquivo JSON: um evento novo recebe um ID, e um evento não congelado
+     * é publicado com a versão seguinte, se a publicada ainda for aquela de onde ele foi copiado.
+     * Salvar um evento já publicado apenas o grava de novo.
+     */
+    @Override
+    public Evento save(Evento evento) {
+        if (evento.isCongelado()) {
+            Evento salvo = cache.alterar(evento.getIdEvento(), atual -> atual != null ? atual : evento);
+            gravar(salvo, Alteracao.SALVO);
+            return salvo;
+        }
+        boolean novo = evento.getIdEvento() == 0;
+        if (novo) {
+            evento.setIdEvento(idGenerator.incrementAndGet());
+        }
+        cache.alterar(evento.getIdEvento(), atual -> {
+            Evento anterior = (atual != null || novo) ? atual : carregar(evento.getIdEvento());
+            if (anterior != null && anterior.getVersao() != evento.getVersao()) {
+                throw new ConflitoVersaoException("Evento", evento.getIdEvento(), evento.getVersao(),
+                        anterior.getVersao());
+            }
+            evento.setVersao(evento.getVersao() + 1);
+            evento.congelar();
+            return evento;
+        });
+        indexar(evento);
+        gravar(evento, Alteracao.SALVO);
+        return evento;
+    }
+
+    /**
+     * A conferência da versão e a troca acontecem de forma atômica no {@link CacheIdentidade}.
+     */
+    @Override
+    public Evento save(Evento evento, long versaoEsperada) {
+        int id = evento.getIdEvento();
+        Evento publicado = cache.alterar(id, atual -> {
+            Evento anterior = atual != null ? atual : carregar(id);
+            if (anterior == null) {
+                throw new ConflitoVersaoException("Evento", id, versaoEsperada, -1);
+            }
+            if (anterior.getVersao() != versaoEsperada) {
+                throw new ConflitoVersaoException("Evento", id, versaoEsperada, anterior.getVersao());
+            }
+            evento.setVersao(versaoEsperada + 1);
+            evento.congelar();
+            return evento;
+        });
+        indexar(publicado);
+        gravar(publicado, Alteracao.SALVO);
+        return publicado;
+    }
+
+    @Override
+    public Optional<Evento> findById(int id) {
+        return Optional.ofNullable(cache.buscar(id, this::carregar));
+    }
+
+    @Override
+    public Optional<Evento> findByNome(String nome) {
+        return buscar(registro -> nome.equalsIgnoreCase(registro.getTexto(ArquivoRegistrosEventos.NOME)))
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Evento> findAll() {
+        return buscar(registro -> true);
+    }
+
+    @Override
+    public List<Evento> findByNomeContaining(String termo) {
+        if (termo == null || termo.trim().isEmpty()) {
+            return findAll();
+        }
+        String termoLowerCase = termo.toLowerCase(Locale.ROOT);
+        return buscar(registro -> {
+            String nome = registro.getTexto(ArquivoRegistrosEventos.NOME);
+            return nome != null && nome.toLowerCase(Locale.ROOT).contains(termoLowerCase);
+        });
+    }
+
+    /**
+     * Compara apenas o campo numérico do organizador em cada registro.
+     */
+    @Override
+    public List<Evento> findByOrganizadorId(int organizadorId) {
+        return buscar(registro -> registro.getOrganizadorId() == organizadorId);
+    }
+
+    /**
+     * Consulta o índice espacial e cria apenas os eventos encontrados.
+     */
+    @Override
+    public List<Evento> findByArea(double latMin, double lngMin, double latMax, double lngMax) {
+        List<Evento> eventos = new ArrayList<>();
+        for (Integer id : indiceEspacial.buscar(latMin, lngMin, latMax, lngMax)) {
+            findById(id).ifPresent(eventos::add);
+        }
+        return eventos;
+    }
+
+    @Override
+    public List<ClusterEventos> findClusters(double latMin, double lngMin, double latMax, double lngMax, int zoom) {
+        return clusters.buscar(latMin, lngMin, latMax, lngMax, zoom, LocalDateTime.now());
+    }
+
+    @Override
+    public boolean deleteById(int id) {
+        Optional<Evento> removido = findById(id);
+        if (removido.isEmpty()) {
+            return false;
+        }
+        cache.remover(id);
+        indiceEspacial.remover(id);
+        clusters.remover(id);
+        removidosPendentes.add(id);
+        unidadeDeTrabalho.executar(() -> {
+            lote().removidos.add(id);
+            logAlteracoes.registrar(ENTIDADE, id, Alteracao.REMOVIDO, removido.get().getVersao());
+            unidadeDeTrabalho.aposConfirmar(() -> removidosPendentes.remove(id));
+        });
+        return true;
+    }
+
+    /**
+     * Coloca o evento no lote da unidade de trabalho e registra a alteração no feed.
+     */
+    private void gravar(Evento evento, String operacao) {
+        removidosPendentes.remove(evento.getIdEvento());
+        unidadeDeTrabalho.executar(() -> {
+            Lote lote = lote();
+            lote.removidos.remove(evento.getIdEvento());
+            lote.gravados.put(evento.getIdEvento(), evento);
+            logAlteracoes.registrar(ENTIDADE, evento.getIdEvento(), operacao, evento.getVersao());
+        });
+    }
+
+    private Lote lote() {
+        return unidadeDeTrabalho.participante(this, Lote::new);
+    }
+
+    /**
+     * Atualiza os índices do mapa com o estado atual de um evento.
+     */
+    private void indexar(Evento evento) {
+        indiceEspacial.atualizar(evento.getIdEvento(), evento.getLatitude(), evento.getLongitude());
+        if (!evento.hasCoordenadas() || "CANCELADO".equals(evento.getStatus())) {
+            clusters.remover(evento.getIdEvento());
+            return;
+        }
+        LocalDateTime expiraEm = evento.getDataEvento() != null ? evento.getDataEvento() : LocalDateTime.MAX;
+        clusters.atualizar(evento.getIdEvento(), evento.getLatitude(), evento.getLongitude(), expiraEm);
+    }
+
+    /**
+     * Cria um evento a partir do seu registro no arquivo.
+     *
+     * @return O evento, ou {@code null} se ele não existir ou tiver sido removido.
+     */
+    private Evento carregar(int id) {
+        if (removidosPendentes.contains(id)) {
+            return null;
+        }
+        return arquivo.ler(id, ArquivoRegistrosEventos.Registro::materializar);
+    }
+
+    /**
+     * Percorre os registros e devolve os eventos que atendem ao filtro, na ordem do arquivo. Os
+     * IDs são coletados primeiro e os eventos resolvidos depois, fora da leitura do arquivo.
+     */
+    private List<Evento> buscar(Predicate<ArquivoRegistrosEventos.Registro> filtro) {
+        List<Integer> ids = new ArrayList<>();
+        arquivo.percorrer(registro -> {
+            if (filtro.test(registro)) {
+                ids.add(registro.getId());
+            }
+        });
+        List<Evento> eventos = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Evento evento = cache.buscar(id, this::carregar);
+            if (evento != null) {
+                eventos.add(evento);
+            }
+        }
+        return eventos;
+    }
+
+    /**
+     * Copia os eventos do "eventos.json" para o arquivo de registros, em um único lote.
+     */
+    private void importarArquivo() throws IOException {
+        Path json = Paths.get(ARQUIVO_IMPORTACAO);
+        if (!Files.exists(json)) {
+            return;
+        }
+        Gson gson = ConversoresJson.criarGson();
+        List<Evento> eventos;
+        try (Reader reader = Files.newBufferedReader(json)) {
+            eventos = gson.fromJson(reader, new TypeToken<ArrayList<Evento>>() {}.getType());
+        } catch (JsonParseException e) {
+            System.err.println("Erro ao importar " + ARQUIVO_IMPORTACAO + ": " + e.getMessage());
+            return;
+        }
+        if (eventos == null || eventos.isEmpty()) {
+            return;
+        }
+        for (Evento evento : eventos) {
+            if (evento.getVersao() == 0) {
+                evento.setVersao(1);
+            }
+        }
+        arquivo.gravar(eventos, List.of());
+        System.out.println(eventos.size() + " eventos importados de " + ARQUIVO_IMPORTACAO);
+    }
+
+    /**
+     * Eventos gravados e removidos dentro de uma unidade de trabalho, regravados no arquivo ao final.
+     * Cada evento entra uma única vez, com o estado que tiver no momento da confirmação.
+     */
+    private final class Lote implements UnidadeDeTrabalho.Participante {
+
+        private final Map<Integer, Evento> gravados = new LinkedHashMap<>();
+        private final Set<Integer> removidos = new LinkedHashSet<>();
+
+        @Override
+        public void confirmar() {
+            try {
+                arquivo.gravar(gravados.values(), removidos);
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao gravar o arquivo de eventos: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice espacial em memória baseado em uma grade regular de latitude/longitude.
+ * <p>
+ * Cada célula guarda os IDs dos eventos cujas coordenadas caem nela. Uma consulta por área
+ * visita apenas as células que cruzam o retângulo pedido e confere as coordenadas de cada
+ * candidato, em vez de percorrer o catálogo inteiro. Quando o retângulo cobre mais células
+ * do que as ocupadas (um mapa com pouco zoom), as células ocupadas são percorridas diretamente.
+ * <p>
+ * As leituras não usam trava; as escritas são sincronizadas para manter a célula de cada
+ * evento coerente com o conteúdo das células.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+class IndiceEspacialGrade {
+
+    /**
+     * Tamanho da célula em graus (cerca de 11 km na linha do equador).
+     */
+    static final double TAMANHO_CELULA = 0.1;
+
+    private static final long COLUNAS = (long) Math.ceil(360 / TAMANHO_CELULA);
+
+    /**
+     * Coordenadas indexadas de cada evento, usadas para o filtro fino e para a remoção.
+     */
+    private final Map<Integer, double[]> coordenadas = new ConcurrentHashMap<>();
+
+    /**
+     * Células ocupadas, com os IDs dos eventos de cada uma.
+     */
+    private final Map<Long, Set<Integer>> celulas = new ConcurrentHashMap<>();
+
+    /**
+     * Insere ou move um evento no índice. Coordenadas nulas removem o evento.
+     *
+     * @param id O ID do evento.
+     * @param latitude A latitude, ou {@code null}.
+     * @param longitude A longitude, ou {@code null}.
+     */
+    synchronized void atualizar(int id, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            remover(id);
+            return;
+        }
+        double[] anterior = coordenadas.put(id, new double[] { latitude, longitude });
+        long novaCelula = celula(latitude, longitude);
+        if (anterior != null) {
+            long celulaAnterior = celula(anterior[0], anterior[1]);
+            if (celulaAnterior == novaCelula) {
+                return;
+            }
+            retirarDaCelula(celulaAnterior, id);
+        }
+        celulas.computeIfAbsent(novaCelula, c -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    /**
+     * Remove um evento do índice, se presente.
+     *
+     * @param id O ID do evento.
+     */
+    synchronized void remover(int id) {
+        double[] anterior = coordenadas.remove(id);
+        if (anterior != null) {
+            retirarDaCelula(celula(anterior[0], anterior[1]), id);
+        }
+    }
+
+    /**
+     * Esvazia o índice.
+     */
+    synchronized void limpar() {
+        coordenadas.clear();
+        celulas.clear();
+    }
+
+    /**
+     * Busca os IDs dos eventos dentro de um retângulo. Se {@code lngMin > lngMax}, o retângulo
+     * cruza o antimeridiano e é tratado como duas faixas.
+     *
+     * @param latMin Latitude sul.
+     * @param lngMin Longitude oeste.
+     * @param latMax Latitude norte.
+     * @param lngMax Longitude leste.
+     * @return Os IDs dos eventos encontrados.
+     */
+    List<Integer> buscar(double latMin, double lngMin, double latMax, double lngMax) {
+        List<Integer> ids = new ArrayList<>();
+        if (lngMin > lngMax) {
+            buscarFaixa(latMin, lngMin, latMax, 180, ids);
+            buscarFaixa(latMin, -180, latMax, lngMax, ids);
+        } else {
+            buscarFaixa(latMin, lngMin, latMax, lngMax, ids);
+        }
+        return ids;
+    }
+
+    private void buscarFaixa(double latMin, double lngMin, double latMax, double lngMax, List<Integer> ids) {
+        long linhaMin = linha(latMin);
+        long linhaMax = linha(latMax);
+        long colunaMin = coluna(lngMin);
+        long colunaMax = coluna(lngMax);
+        long celulasNoRetangulo = (linhaMax - linhaMin + 1) * (colunaMax - colunaMin + 1);
+
+        if (celulasNoRetangulo > celulas.size()) {
+            // Poucas células ocupadas: mais barato percorrer só elas.
+            for (Map.Entry<Long, Set<Integer>> entrada : celulas.entrySet()) {
+                long linha = entrada.getKey() / COLUNAS;
+                long coluna = entrada.getKey() % COLUNAS;
+                if (linha >= linhaMin && linha <= linhaMax && coluna >= colunaMin && coluna <= colunaMax) {
+                    filtrar(entrada.getValue(), latMin, lngMin, latMax, lngMax, ids);
+                }
+            }
+            return;
+        }
+        for (long linha = linhaMin; linha <= linhaMax; linha++) {
+            for (long coluna = colunaMin; coluna <= colunaMax; coluna++) {
+                Set<Integer> ocupantes = celulas.get(linha * COLUNAS + coluna);
+                if (ocupantes != null) {
+                    filtrar(ocupantes, latMin, lngMin, latMax, lngMax, ids);
+                }
+            }
+        }
+    }
+
+    /**
+     * Confere as coordenadas exatas dos eventos de uma célula, já que as células da borda
+     * podem conter pontos fora do retângulo.
+     */
+    private void filtrar(Set<Integer> ocupantes, double latMin, double lngMin, double latMax, double lngMax,
+            List<Integer> ids) {
+        for (Integer id : ocupantes) {
+            double[] ponto = coordenadas.get(id);
+            if (ponto != null && ponto[0] >= latMin && ponto[0] <= latMax
+                    && ponto[1] >= lngMin && ponto[1] <= lngMax) {
+                ids.add(id);
+            }
+        }
+    }
+
+    private void retirarDaCelula(long celula, int id) {
+        celulas.computeIfPresent(celula, (c, ocupantes) -> {
+            ocupantes.remove(id);
+            return ocupantes.isEmpty() ? null : ocupantes;
+        });
+    }
+
+    private static long celula(double latitude, double longitude) {
+        return linha(latitude) * COLUNAS + coluna(longitude);
+    }
+
+    private static long linha(double latitude) {
+        return (long) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / TAMANHO_CELULA);
+    }
+
+    private static long coluna(double longitude) {
+        long coluna = (long) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / TAMANHO_CELULA);
+        return Math.min(coluna, COLUNAS - 1);
+    }
+}
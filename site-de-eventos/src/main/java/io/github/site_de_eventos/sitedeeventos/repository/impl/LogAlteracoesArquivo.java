@@ -0,0 +1,191 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Implementação do {@link LogAlteracoes} em um arquivo de texto, "alteracoes.log", com uma
+ * alteração por linha em JSON compacto.
+ * <p>
+ * As alterações mais recentes ficam também em uma janela em memória, de tamanho fixo
+ * (propriedade {@code alteracoes.janela}), que atende os consumidores em dia com o feed.
+ * Só quem pede alterações mais antigas que a janela faz a leitura do arquivo.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Repository
+public class LogAlteracoesArquivo implements LogAlteracoes {
+
+    private static final String FILE_NAME = "alteracoes.log";
+
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final int capacidadeJanela;
+    private final Gson gson = new Gson();
+
+    /**
+     * Última sequência atribuída, durante a gravação de cada linha.
+     */
+    private final AtomicLong sequencia = new AtomicLong(0);
+
+    /**
+     * As alterações confirmadas mais recentes, em ordem de sequência. Acesso sincronizado nela mesma.
+     */
+    private final ArrayDeque<Alteracao> janela = new ArrayDeque<>();
+
+    /**
+     * Sequência da última alteração confirmada, já presente na janela.
+     */
+    private volatile long ultimaConfirmada;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param unidadeDeTrabalho A unidade de trabalho que acrescenta as linhas ao arquivo.
+     * @param capacidadeJanela O número de alterações recentes mantidas em memória.
+     */
+    public LogAlteracoesArquivo(UnidadeDeTrabalho unidadeDeTrabalho,
+            @Value("${alteracoes.janela:10000}") int capacidadeJanela) {
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.capacidadeJanela = Math.max(1, capacidadeJanela);
+    }
+
+    /**
+     * Continua a sequência a partir da última alteração gravada e preenche a janela com as mais recentes.
+     */
+    @PostConstruct
+    public void init() {
+        ler(0, alteracao -> {
+            reter(alteracao);
+            return true;
+        });
+        sequencia.set(ultimaConfirmada);
+    }
+
+    /**
+     * A sequência é atribuída na confirmação da unidade, e a alteração só entra na janela
+     * depois que a linha chegou ao disco.
+     */
+    @Override
+    public void registrar(String entidade, int id, String operacao, long versao) {
+        Alteracao alteracao = new Alteracao(entidade, id, operacao, versao, System.currentTimeMillis());
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.anexar(FILE_NAME, writer -> {
+                alteracao.setSequencia(sequencia.incrementAndGet());
+                writer.write(gson.toJson(alteracao));
+                writer.write('\n');
+            });
+            unidadeDeTrabalho.aposConfirmar(() -> reter(alteracao));
+        });
+    }
+
+    @Override
+    public List<Alteracao> buscarDesde(long desde, int limite) {
+        List<Alteracao> encontradas = new ArrayList<>();
+        synchronized (janela) {
+            Alteracao primeira = janela.peekFirst();
+            if (primeira == null || primeira.getSequencia() <= desde + 1) {
+                // Os consumidores em dia pedem o fim da janela: conta de trás para frente quantas faltam.
+                int novas = 0;
+                for (Iterator<Alteracao> it = janela.descendingIterator(); it.hasNext() && it.next().getSequencia() > desde;) {
+                    novas++;
+                }
+                Iterator<Alteracao> it = janela.iterator();
+                for (int i = janela.size() - novas; i > 0; i--) {
+                    it.next();
+                }
+                while (it.hasNext() && encontradas.size() < limite) {
+                    encontradas.add(it.next());
+                }
+                return encontradas;
+            }
+        }
+        // Linhas além da última confirmada podem estar sendo escritas neste momento.
+        long confirmada = ultimaConfirmada;
+        ler(desde, alteracao -> {
+            if (alteracao.getSequencia() > confirmada) {
+                return false;
+            }
+            encontradas.add(alteracao);
+            return encontradas.size() < limite;
+        });
+        return encontradas;
+    }
+
+    @Override
+    public long getUltimaSequencia() {
+        return ultimaConfirmada;
+    }
+
+    private void reter(Alteracao alteracao) {
+        synchronized (janela) {
+            janela.addLast(alteracao);
+            if (janela.size() > capacidadeJanela) {
+                janela.removeFirst();
+            }
+            ultimaConfirmada = alteracao.getSequencia();
+        }
+    }
+
+    /**
+     * Percorre o arquivo em ordem, a partir da sequência informada, ignorando linhas repetidas
+     * por uma recuperação ou incompletas por uma queda durante a escrita.
+     *
+     * @param desde A última sequência a ignorar.
+     * @param destino Recebe cada alteração e devolve {@code false} para encerrar a leitura.
+     */
+    private void ler(long desde, Predicate<Alteracao> destino) {
+        Path arquivo = Paths.get(FILE_NAME);
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        long ultima = desde;
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                Alteracao alteracao = converter(linha);
+                if (alteracao != null && alteracao.getSequencia() > ultima) {
+                    ultima = alteracao.getSequencia();
+                    if (!destino.test(alteracao)) {
+                        return;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o log de alterações: " + e.getMessage());
+        }
+    }
+
+    private Alteracao converter(String linha) {
+        if (linha.isBlank()) {
+            return null;
+        }
+        try {
+            Alteracao alteracao = gson.fromJson(linha, Alteracao.class);
+            return (alteracao != null && alteracao.getSequencia() > 0) ? alteracao : null;
+        } catch (JsonParseException e) {
+            System.err.println("Linha ignorada no log de alterações: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoDominio;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.UsuarioCadastrado;
+import io.github.site_de_eventos.sitedeeventos.repository.LogEventosDominio;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Implementação do {@link LogEventosDominio} em um arquivo de texto, "eventos-dominio.log",
+ * com um fato por linha em JSON compacto (ex: {@code {"tipo":"PedidoCriado","sequencia":7,...}}).
+ * <p>
+ * Registrar um fato é apenas acrescentar uma linha, feito pela {@link UnidadeDeTrabalho}.
+ * A leitura percorre o arquivo em sequência; linhas repetidas por uma recuperação ou
+ * incompletas por uma queda durante a escrita são ignoradas.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Repository
+public class LogEventosDominioArquivo implements LogEventosDominio {
+
+    private static final String FILE_NAME = "eventos-dominio.log";
+
+    /**
+     * Tipos de fato conhecidos, pelo nome gravado em cada linha.
+     */
+    private static final Map<String, Class<? extends EventoDominio>> TIPOS = Map.of(
+            "EventoCriado", EventoCriado.class,
+            "EventoCancelado", EventoCancelado.class,
+            "PedidoCriado", PedidoCriado.class,
+            "PedidoCancelado", PedidoCancelado.class,
+            "UsuarioCadastrado", UsuarioCadastrado.class);
+
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final Gson gson = new Gson();
+
+    /**
+     * Última sequência atribuída. A atribuição é feita durante a gravação, então a ordem
+     * das sequências é a ordem das linhas no arquivo.
+     */
+    private final AtomicLong sequencia = new AtomicLong(0);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param unidadeDeTrabalho A unidade de trabalho que acrescenta as linhas ao arquivo.
+     */
+    public LogEventosDominioArquivo(UnidadeDeTrabalho unidadeDeTrabalho) {
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+    }
+
+    /**
+     * Continua a sequência a partir do último fato gravado.
+     */
+    @PostConstruct
+    public void init() {
+        reproduzir(evento -> sequencia.set(evento.getSequencia()));
+    }
+
+    /**
+     * A linha é montada apenas na confirmação da unidade, quando o fato recebe a sua sequência.
+     */
+    @Override
+    public void registrar(EventoDominio evento) {
+        unidadeDeTrabalho.anexar(FILE_NAME, writer -> {
+            evento.setSequencia(sequencia.incrementAndGet());
+            JsonObject linha = new JsonObject();
+            linha.addProperty("tipo", evento.getClass().getSimpleName());
+            gson.toJsonTree(evento).getAsJsonObject().entrySet().forEach(campo -> linha.add(campo.getKey(), campo.getValue()));
+            writer.write(gson.toJson(linha));
+            writer.write('\n');
+        });
+    }
+
+    @Override
+    public void reproduzir(Consumer<EventoDominio> destino) {
+        Path arquivo = Paths.get(FILE_NAME);
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        long ultima = 0;
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                EventoDominio evento = ler(linha);
+                if (evento != null && evento.getSequencia() > ultima) {
+                    ultima = evento.getSequencia();
+                    destino.accept(evento);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o log de eventos de domínio: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isVazio() {
+        return sequencia.get() == 0;
+    }
+
+    /**
+     * Converte uma linha do log no fato correspondente.
+     *
+     * @return O fato, ou {@code null} se a linha estiver vazia, incompleta ou for de um tipo desconhecido.
+     */
+    private EventoDominio ler(String linha) {
+        if (linha.isBlank()) {
+            return null;
+        }
+        try {
+            JsonObject json = JsonParser.parseString(linha).getAsJsonObject();
+            Class<? extends EventoDominio> tipo = TIPOS.get(json.get("tipo").getAsString());
+            return (tipo != null) ? gson.fromJson(json, tipo) : null;
+        } catch (JsonParseException | IllegalStateException | NullPointerException e) {
+            System.err.println("Linha ignorada no log de eventos de domínio: " + e.getMessage());
+            return null;
+        }
+    }
+}
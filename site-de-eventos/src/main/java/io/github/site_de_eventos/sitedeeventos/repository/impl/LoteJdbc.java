@@ -0,0 +1,101 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * As gravações de banco de dados de uma {@link UnidadeDeTrabalho}, enviadas de uma vez ao final dela.
+ * <p>
+ * Cada registro é gravado uma única vez, com o estado do momento da confirmação, mesmo que tenha
+ * sido salvo várias vezes durante a unidade. Os comandos de cada tabela seguem em lote
+ * ({@link PreparedStatement#executeBatch()}) e todas as tabelas são confirmadas em uma única transação.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+class LoteJdbc implements UnidadeDeTrabalho.Participante {
+
+    private final DataSource dataSource;
+    private final Map<TabelaJdbc<?>, Map<Integer, Object>> gravacoes = new LinkedHashMap<>();
+    private final Map<TabelaJdbc<?>, Set<Integer>> remocoes = new LinkedHashMap<>();
+
+    LoteJdbc(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Marca um registro para ser gravado. Substitui uma remoção anterior do mesmo registro.
+     */
+    <T> void gravar(TabelaJdbc<T> tabela, int id, T registro) {
+        Set<Integer> removidos = remocoes.get(tabela);
+        if (removidos != null) {
+            removidos.remove(id);
+        }
+        gravacoes.computeIfAbsent(tabela, t -> new LinkedHashMap<>()).put(id, registro);
+    }
+
+    /**
+     * Marca um registro para ser removido. Substitui uma gravação anterior do mesmo registro.
+     */
+    void remover(TabelaJdbc<?> tabela, int id) {
+        Map<Integer, Object> gravados = gravacoes.get(tabela);
+        if (gravados != null) {
+            gravados.remove(id);
+        }
+        remocoes.computeIfAbsent(tabela, t -> new LinkedHashSet<>()).add(id);
+    }
+
+    @Override
+    public void confirmar() {
+        try (Connection conexao = dataSource.getConnection()) {
+            conexao.setAutoCommit(false);
+            try {
+                for (Map.Entry<TabelaJdbc<?>, Map<Integer, Object>> tabela : gravacoes.entrySet()) {
+                    executarGravacoes(conexao, tabela.getKey(), tabela.getValue());
+                }
+                for (Map.Entry<TabelaJdbc<?>, Set<Integer>> tabela : remocoes.entrySet()) {
+                    if (tabela.getValue().isEmpty()) {
+                        continue;
+                    }
+                    try (PreparedStatement comando = conexao.prepareStatement(tabela.getKey().sqlRemover())) {
+                        for (int id : tabela.getValue()) {
+                            comando.setInt(1, id);
+                            comando.addBatch();
+                        }
+                        comando.executeBatch();
+                    }
+                }
+                conexao.commit();
+            } catch (SQLException | RuntimeException e) {
+                conexao.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao gravar no banco de dados: " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void executarGravacoes(Connection conexao, TabelaJdbc<T> tabela, Map<Integer, Object> registros)
+            throws SQLException {
+        if (registros.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement comando = conexao.prepareStatement(tabela.sqlGravar())) {
+            for (Object registro : registros.values()) {
+                tabela.preencher(comando, (T) registro);
+                comando.addBatch();
+            }
+            comando.executeBatch();
+        }
+    }
+}
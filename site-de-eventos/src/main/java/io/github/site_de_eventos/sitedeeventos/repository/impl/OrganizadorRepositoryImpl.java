@@ -17,6 +17,10 @@ import io.github.site_de_eventos.sitedeeventos.repository.OrganizadorRepository;
  * Implementação do {@link OrganizadorRepository} que utiliza um mapa em memória como banco de dados.
  * Esta classe gerencia uma coleção de organizadores e, no seu construtor, cria um organizador
  * "Admin" inicial para garantir que o sistema sempre tenha pelo menos um organizador disponível.
+ * <p>
+ * Não é gravado em arquivo nem tem variante em banco de dados: os organizadores cadastrados são
+ * salvos como usuários pelo {@link io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository}
+ * (em arquivo ou, no perfil "jdbc", no {@link UsuarioJdbcRepository}).
  *
  * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
  * @version 1.0
@@ -0,0 +1,34 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Descreve como um tipo de registro é gravado e removido na sua tabela, para o {@link LoteJdbc}.
+ *
+ * @param <T> O tipo do registro.
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+interface TabelaJdbc<T> {
+
+    /**
+     * @return O comando que insere ou atualiza um registro (ex: {@code MERGE INTO ... KEY (id)}).
+     */
+    String sqlGravar();
+
+    /**
+     * @return O comando que remove um registro, com o ID como único parâmetro.
+     */
+    String sqlRemover();
+
+    /**
+     * Preenche os parâmetros de {@link #sqlGravar()} com o estado atual do registro.
+     *
+     * @param comando O comando preparado.
+     * @param registro O registro.
+     * @throws SQLException Se um parâmetro não puder ser definido.
+     */
+    void preencher(PreparedStatement comando, T registro) throws SQLException;
+}
@@ -0,0 +1,361 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Implementação do {@link UsuarioRepository} em um banco de dados embutido (H2 em arquivo),
+ * ativa no perfil "jdbc" do Spring no lugar do {@link UsuarioRepositoryImpl}.
+ * <p>
+ * Cada usuário é uma linha da tabela "usuarios", com o e-mail em minúsculas em uma coluna indexada
+ * (a busca do login) e o usuário completo, com os pedidos, em JSON na coluna "dados". Os usuários
+ * são lidos sob demanda e ficam no {@link CacheIdentidade} enquanto estiverem em uso; os demais
+ * podem ser descartados quando falta memória. Os índices montados na inicialização (ingressos e
+ * assentos) percorrem a tabela com {@link #paraCada(Consumer)} e guardam apenas IDs, então não
+ * mantêm nenhum usuário em memória.
+ * As gravações seguem o mesmo caminho do {@link EventoJdbcRepository}: entram no {@link LoteJdbc}
+ * da {@link UnidadeDeTrabalho}.
+ * <p>
+ * Não há um {@link io.github.site_de_eventos.sitedeeventos.repository.OrganizadorRepository} em banco
+ * de dados: os organizadores cadastrados são usuários e ficam nesta tabela, com a coluna "organizador".
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Repository
+@Profile("jdbc")
+public class UsuarioJdbcRepository implements UsuarioRepository {
+
+    /**
+     * Nome da entidade nas alterações publicadas no feed.
+     */
+    private static final String ENTIDADE = "usuario";
+
+    private static final String[] ESQUEMA = {
+        "CREATE TABLE IF NOT EXISTS usuarios ("
+                + "id INT PRIMARY KEY, "
+                + "versao BIGINT NOT NULL, "
+                + "email VARCHAR, "
+                + "organizador BOOLEAN NOT NULL, "
+                + "maior_pedido INT NOT NULL, "
+                + "dados CLOB NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS idx_usuarios_email ON usuarios (email)"
+    };
+
+    private static final String SELECAO = "SELECT id, dados FROM usuarios";
+
+    private final DataSource dataSource;
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final LogAlteracoes logAlteracoes;
+
+    private final CacheIdentidade<Usuario> cache = new CacheIdentidade<>();
+    private final AtomicInteger idGenerator = new AtomicInteger(0);
+
+    /**
+     * IDs removidos cujo lote ainda não foi confirmado, para que não sejam lidos de novo do banco.
+     */
+    private final Set<Integer> removidosPendentes = ConcurrentHashMap.newKeySet();
+
+    private final Gson gson = ConversoresJson.criarGson();
+
+    private final TabelaJdbc<Usuario> tabela = new TabelaJdbc<>() {
+        @Override
+        public String sqlGravar() {
+            return "MERGE INTO usuarios (id, versao, email, organizador, maior_pedido, dados) KEY (id) VALUES (?, ?, ?, ?, ?, ?)";
+        }
+
+        @Override
+        public String sqlRemover() {
+            return "DELETE FROM usuarios WHERE id = ?";
+        }
+
+        @Override
+        public void preencher(PreparedStatement comando, Usuario usuario) throws SQLException {
+            comando.setInt(1, usuario.getIdUsuario());
+            comando.setLong(2, usuario.getVersao());
+            comando.setString(3, usuario.getEmail() != null ? usuario.getEmail().toLowerCase(Locale.ROOT) : null);
+            comando.setBoolean(4, usuario instanceof Organizador);
+            comando.setInt(5, usuario.getPedidos().stream().mapToInt(Pedido::getIdPedido).max().orElse(0));
+            comando.setString(6, gson.toJson(usuario));
+        }
+    };
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param dataSource O pool de conexões com o banco de dados.
+     * @param unidadeDeTrabalho A unidade de trabalho que agrupa as gravações em lote.
+     * @param logAlteracoes O log que publica cada alteração no feed de alterações.
+     */
+    public UsuarioJdbcRepository(DataSource dataSource, UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes) {
+        this.dataSource = dataSource;
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.logAlteracoes = logAlteracoes;
+    }
+
+    /**
+     * Cria a tabela e o índice, se preciso, importa os arquivos do {@link UsuarioRepositoryImpl} se a tabela estiver vazia e
+     * ajusta os contadores de IDs de usuários e de pedidos sem carregar nenhum usuário.
+     */
+    @PostConstruct
+    public void init() {
+        try (Connection conexao = dataSource.getConnection(); Statement comando = conexao.createStatement()) {
+            for (String ddl : ESQUEMA) {
+                comando.execute(ddl);
+            }
+            importarArquivo(conexao);
+            try (ResultSet linhas = comando.executeQuery(
+                    "SELECT COALESCE(MAX(id), 0), COALESCE(MAX(maior_pedido), 0) FROM usuarios")) {
+                linhas.next();
+                idGenerator.set(linhas.getInt(1));
+                PedidoService.pedidoIdGenerator.set(linhas.getInt(2));
+                System.out.println("Contador de PedidoIDs inicializado em: " + linhas.getInt(2));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao inicializar a tabela de usuários: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Se o ID do usuário for 0, gera um novo ID. O usuário recebe a versão seguinte à sua e
+     * passa a ser a instância em memória do seu ID. Um usuário existente só é trocado se a versão
+     * salva ainda for a que ele traz.
+     */
+    @Override
+    public Usuario save(Usuario usuario) {
+        boolean novo = usuario.getIdUsuario() == 0;
+        if (novo) {
+            usuario.setIdUsuario(idGenerator.incrementAndGet());
+        }
+        cache.alterar(usuario.getIdUsuario(), atual -> {
+            Usuario anterior = (atual != null || novo) ? atual : carregar(usuario.getIdUsuario());
+            if (anterior != null && anterior.getVersao() != usuario.getVersao()) {
+                throw new ConflitoVersaoException("Usuário", usuario.getIdUsuario(), usuario.getVersao(),
+                        anterior.getVersao());
+            }
+            usuario.setVersao(usuario.getVersao() + 1);
+            return usuario;
+        });
+        gravar(usuario, Alteracao.SALVO);
+        return usuario;
+    }
+
+    /**
+     * A conferência da versão e a troca acontecem de forma atômica no {@link CacheIdentidade}.
+     */
+    @Override
+    public Usuario save(Usuario usuario, long versaoEsperada) {
+        int id = usuario.getIdUsuario();
+        Usuario salvo = cache.alterar(id, atual -> {
+            Usuario anterior = atual != null ? atual : carregar(id);
+            if (anterior == null) {
+                throw new ConflitoVersaoException("Usuário", id, versaoEsperada, -1);
+            }
+            if (anterior.getVersao() != versaoEsperada) {
+                throw new ConflitoVersaoException("Usuário", id, versaoEsperada, anterior.getVersao());
+            }
+            usuario.setVersao(versaoEsperada + 1);
+            return usuario;
+        });
+        gravar(salvo, Alteracao.SALVO);
+        return salvo;
+    }
+
+    @Override
+    public Optional<Usuario> findById(int id) {
+        return Optional.ofNullable(cache.buscar(id, this::carregar));
+    }
+
+    /**
+     * Usa o índice da coluna "email", gravada em minúsculas.
+     */
+    @Override
+    public Optional<Usuario> findByEmail(String email) {
+        return consultar(SELECAO + " WHERE email = ? ORDER BY id FETCH FIRST 1 ROWS ONLY",
+                email.toLowerCase(Locale.ROOT)).stream().findFirst();
+    }
+
+    @Override
+    public List<Usuario> findAll() {
+        return consultar(SELECAO + " ORDER BY id");
+    }
+
+    /**
+     * Lê as linhas uma a uma, sem montar a lista de todos os usuários.
+     */
+    @Override
+    public void paraCada(Consumer<Usuario> acao) {
+        percorrer(SELECAO + " ORDER BY id", acao);
+    }
+
+    @Override
+    public boolean deleteById(int id) {
+        Optional<Usuario> removido = findById(id);
+        if (removido.isEmpty()) {
+            return false;
+        }
+        cache.remover(id);
+        removidosPendentes.add(id);
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.participante(dataSource, () -> new LoteJdbc(dataSource)).remover(tabela, id);
+            logAlteracoes.registrar(ENTIDADE, id, Alteracao.REMOVIDO, removido.get().getVersao());
+            unidadeDeTrabalho.aposConfirmar(() -> removidosPendentes.remove(id));
+        });
+        return true;
+    }
+
+    /**
+     * Coloca o usuário no lote da unidade de trabalho e registra a alteração no feed.
+     */
+    private void gravar(Usuario usuario, String operacao) {
+        removidosPendentes.remove(usuario.getIdUsuario());
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.participante(dataSource, () -> new LoteJdbc(dataSource))
+                    .gravar(tabela, usuario.getIdUsuario(), usuario);
+            logAlteracoes.registrar(ENTIDADE, usuario.getIdUsuario(), operacao, usuario.getVersao());
+        });
+    }
+
+    /**
+     * Lê um usuário do banco, pela chave primária.
+     *
+     * @return O usuário, ou {@code null} se ele não existir ou tiver sido removido.
+     */
+    private Usuario carregar(int id) {
+        if (removidosPendentes.contains(id)) {
+            return null;
+        }
+        try (Connection conexao = dataSource.getConnection();
+                PreparedStatement comando = conexao.prepareStatement("SELECT dados FROM usuarios WHERE id = ?")) {
+            comando.setInt(1, id);
+            try (ResultSet linhas = comando.executeQuery()) {
+                return linhas.next() ? gson.fromJson(linhas.getString("dados"), Usuario.class) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao ler o usuário " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executa uma consulta que devolve as colunas "id" e "dados" e junta os usuários em uma lista.
+     */
+    private List<Usuario> consultar(String sql, Object... parametros) {
+        List<Usuario> usuarios = new ArrayList<>();
+        percorrer(sql, usuarios::add, parametros);
+        return usuarios;
+    }
+
+    /**
+     * Executa uma consulta que devolve as colunas "id" e "dados" e resolve cada linha no
+     * {@link CacheIdentidade}, reaproveitando os usuários já em memória.
+     */
+    private void percorrer(String sql, Consumer<Usuario> acao, Object... parametros) {
+        try (Connection conexao = dataSource.getConnection(); PreparedStatement comando = conexao.prepareStatement(sql)) {
+            for (int i = 0; i < parametros.length; i++) {
+                comando.setObject(i + 1, parametros[i]);
+            }
+            try (ResultSet linhas = comando.executeQuery()) {
+                while (linhas.next()) {
+                    int id = linhas.getInt("id");
+                    String dados = linhas.getString("dados");
+                    if (!removidosPendentes.contains(id)) {
+                        acao.accept(cache.resolver(id, () -> gson.fromJson(dados, Usuario.class)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao consultar usuários: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copia os usuários dos arquivos do {@link UsuarioRepositoryImpl} (o "usuarios.json" único ou as
+     * partições) para a tabela, se ela estiver vazia, em um único lote. Um usuário repetido em dois
+     * arquivos entra com a versão mais recente.
+     */
+    private void importarArquivo(Connection conexao) throws SQLException {
+        List<Path> arquivos;
+        try {
+            arquivos = UsuarioRepositoryImpl.arquivosDeUsuarios(Paths.get(""));
+        } catch (IOException e) {
+            System.err.println("Erro ao listar os arquivos de usuários: " + e.getMessage());
+            return;
+        }
+        if (arquivos.isEmpty()) {
+            return;
+        }
+        try (Statement consulta = conexao.createStatement(); ResultSet linhas = consulta.executeQuery("SELECT COUNT(*) FROM usuarios")) {
+            linhas.next();
+            if (linhas.getLong(1) > 0) {
+                return;
+            }
+        }
+        Map<Integer, Usuario> porId = new LinkedHashMap<>();
+        for (Path arquivo : arquivos) {
+            List<Usuario> lidos;
+            try (Reader reader = Files.newBufferedReader(arquivo)) {
+                lidos = gson.fromJson(reader, new TypeToken<ArrayList<Usuario>>() {}.getType());
+            } catch (IOException | JsonParseException e) {
+                System.err.println("Erro ao importar " + arquivo + ": " + e.getMessage());
+                return;
+            }
+            if (lidos != null) {
+                for (Usuario usuario : lidos) {
+                    porId.merge(usuario.getIdUsuario(), usuario, (atual, novo) -> novo.getVersao() > atual.getVersao() ? novo : atual);
+                }
+            }
+        }
+        Collection<Usuario> usuarios = porId.values();
+        if (usuarios == null || usuarios.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement comando = conexao.prepareStatement(tabela.sqlGravar())) {
+            for (Usuario usuario : usuarios) {
+                if (usuario.getVersao() == 0) {
+                    usuario.setVersao(1);
+                }
+                tabela.preencher(comando, usuario);
+                comando.addBatch();
+            }
+            comando.executeBatch();
+        }
+        System.out.println(usuarios.size() + " usuários importados de " + arquivos);
+    }
+}
@@ -1,73 +1,114 @@
 package io.github.site_de_eventos.sitedeeventos.repository.impl;
 
-import com.google.gson.*;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonWriter;
-import io.github.site_de_eventos.sitedeeventos.model.OrganizadorBuilderConcreto;
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
 import io.github.site_de_eventos.sitedeeventos.model.Pedido;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
-import io.github.site_de_eventos.sitedeeventos.model.UsuarioBuilderConcreto;
-import io.github.site_de_eventos.sitedeeventos.model.builder.IOrganizadorBuilder;
-import io.github.site_de_eventos.sitedeeventos.model.builder.IUsuarioBuilder;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
 import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Implementação do {@link UsuarioRepository} que persiste os dados dos usuários em um arquivo JSON.
- * Gerencia os dados em memória para acesso rápido e sincroniza com "usuarios.json" para persistência.
+ * Implementação do {@link UsuarioRepository} que persiste os dados dos usuários em arquivos JSON.
+ * Gerencia os dados em memória para acesso rápido e sincroniza com os arquivos para persistência.
  * Utiliza um {@link UsuarioTypeAdapter} customizado para lidar com a herança entre Usuário e Organizador.
+ * <p>
+ * Os usuários são divididos em partições pelo ID ("usuarios-0.json", "usuarios-1.json", ...), e cada
+ * gravação reescreve apenas a partição do usuário alterado. Na inicialização, as partições são lidas
+ * em paralelo. Um "usuarios.json" único, ou partições de uma quantidade diferente, são redistribuídos
+ * na primeira inicialização.
  *
  * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
  * @version 1.0
  * @since 25-08-2025
  */
 @Repository
+@Profile("!jdbc")
 public class UsuarioRepositoryImpl implements UsuarioRepository {
 
-    private final Map<Integer, Usuario> database = new ConcurrentHashMap<>();
+    /**
+     * Arquivo com todos os usuários, usado antes da divisão em partições.
+     */
+    static final String ARQUIVO_UNICO = "usuarios.json";
+
+    private static final String PREFIXO_PARTICAO = "usuarios-";
+    private static final String SUFIXO_PARTICAO = ".json";
+
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final LogAlteracoes logAlteracoes;
+    private final Path diretorio;
+
+    /**
+     * Os usuários em memória, um mapa por partição.
+     */
+    private final List<Map<Integer, Usuario>> particoes;
     private final AtomicInteger idGenerator = new AtomicInteger(0);
-    private static final String FILE_NAME = "usuarios.json";
+
+    /**
+     * Nome da entidade nas alterações publicadas no feed.
+     */
+    private static final String ENTIDADE = "usuario";
 
     // Instância do Gson configurada para serialização e desserialização.
-    private final Gson gson = new GsonBuilder()
-    	.excludeFieldsWithoutExposeAnnotation() 
-    	.registerTypeAdapter(LocalDateTime.class, new TypeAdapter<LocalDateTime>() {
-    	    @Override
-    	    public void write(JsonWriter out, LocalDateTime value) throws IOException {
-    	        if (value == null) { out.nullValue(); return; }
-    	        out.value(value.toString());
-    	    }
-    	    @Override
-    	    public LocalDateTime read(JsonReader in) throws IOException {
-    	        if (in.peek() == com.google.gson.stream.JsonToken.NULL) { in.nextNull(); return null; }
-    	        return LocalDateTime.parse(in.nextString());
-    	    }
-    	})
-        .registerTypeAdapter(Usuario.class, new UsuarioTypeAdapter())
-        .setPrettyPrinting()
-        .create();
-
-    /**
-     * Carrega os dados do arquivo JSON para a memória na inicialização do repositório.
+    private final Gson gson = ConversoresJson.criarGson();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param unidadeDeTrabalho A unidade de trabalho que grava os arquivos dos usuários.
+     * @param logAlteracoes O log que publica cada alteração no feed de alterações.
+     * @param quantidadeParticoes Em quantos arquivos os usuários são divididos.
+     */
+    @Autowired
+    public UsuarioRepositoryImpl(UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes,
+            @Value("${usuarios.particoes:8}") int quantidadeParticoes) {
+        this(unidadeDeTrabalho, logAlteracoes, quantidadeParticoes, Paths.get(""));
+    }
+
+    /**
+     * Construtor que grava as partições em outro diretório, usado nos testes.
+     */
+    UsuarioRepositoryImpl(UnidadeDeTrabalho unidadeDeTrabalho, LogAlteracoes logAlteracoes,
+            int quantidadeParticoes, Path diretorio) {
+        if (quantidadeParticoes < 1) {
+            throw new IllegalArgumentException("A quantidade de partições de usuários deve ser positiva.");
+        }
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.logAlteracoes = logAlteracoes;
+        this.diretorio = diretorio;
+        this.particoes = new ArrayList<>(quantidadeParticoes);
+        for (int i = 0; i < quantidadeParticoes; i++) {
+            particoes.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Carrega os dados dos arquivos JSON para a memória na inicialização do repositório.
      */
     @PostConstruct
     public void init() {
@@ -76,7 +117,9 @@ public class UsuarioRepositoryImpl implements UsuarioRepository {
 
     /**
      * Se o ID do usuário for 0, gera um novo ID antes de salvar no mapa em memória e
-     * persistir a alteração no arquivo JSON.
+     * persistir a alteração no arquivo da sua partição. O usuário recebe a versão seguinte à sua.
+     * Como em {@link #save(Usuario, long)}, um usuário existente só é trocado se a versão salva
+     * ainda for a que ele traz, ou seja, se ninguém salvou outra versão depois que ele foi lido.
      */
     @Override
     public Usuario save(Usuario usuario) {
@@ -84,17 +127,44 @@ public class UsuarioRepositoryImpl implements UsuarioRepository {
             int newId = idGenerator.incrementAndGet();
             usuario.setIdUsuario(newId);
         }
-        database.put(usuario.getIdUsuario(), usuario);
-        saveDataToFile();
+        particaoDe(usuario.getIdUsuario()).compute(usuario.getIdUsuario(), (id, atual) -> {
+            if (atual != null && atual.getVersao() != usuario.getVersao()) {
+                throw new ConflitoVersaoException("Usuário", id, usuario.getVersao(), atual.getVersao());
+            }
+            usuario.setVersao(usuario.getVersao() + 1);
+            return usuario;
+        });
+        saveDataToFile(usuario.getIdUsuario(), Alteracao.SALVO, usuario.getVersao());
         return usuario;
     }
 
     /**
-     * Busca um usuário diretamente no mapa em memória pelo seu ID.
+     * A conferência da versão e a troca acontecem dentro de {@code computeIfPresent}, que é atômico
+     * por chave: de duas cópias feitas sobre a mesma versão, só a primeira a chegar é salva.
+     */
+    @Override
+    public Usuario save(Usuario usuario, long versaoEsperada) {
+        int id = usuario.getIdUsuario();
+        Usuario salvo = particaoDe(id).computeIfPresent(id, (chave, atual) -> {
+            if (atual.getVersao() != versaoEsperada) {
+                throw new ConflitoVersaoException("Usuário", id, versaoEsperada, atual.getVersao());
+            }
+            usuario.setVersao(versaoEsperada + 1);
+            return usuario;
+        });
+        if (salvo == null) {
+            throw new ConflitoVersaoException("Usuário", id, versaoEsperada, -1);
+        }
+        saveDataToFile(id, Alteracao.SALVO, salvo.getVersao());
+        return salvo;
+    }
+
+    /**
+     * Busca um usuário diretamente no mapa em memória da sua partição.
      */
     @Override
     public Optional<Usuario> findById(int id) {
-        return Optional.ofNullable(database.get(id));
+        return Optional.ofNullable(particaoDe(id).get(id));
     }
 
     /**
@@ -103,7 +173,8 @@ public class UsuarioRepositoryImpl implements UsuarioRepository {
      */
     @Override
     public Optional<Usuario> findByEmail(String email) {
-        return database.values().stream()
+        return particoes.stream()
+                .flatMap(particao -> particao.values().stream())
                 .filter(u -> email.equalsIgnoreCase(u.getEmail()))
                 .findFirst();
     }
@@ -113,108 +184,166 @@ public class UsuarioRepositoryImpl implements UsuarioRepository {
      */
     @Override
     public List<Usuario> findAll() {
-        return new ArrayList<>(database.values());
+        List<Usuario> usuarios = new ArrayList<>();
+        for (Map<Integer, Usuario> particao : particoes) {
+            usuarios.addAll(particao.values());
+        }
+        return usuarios;
     }
 
     /**
      * Remove o usuário do mapa em memória e, se a operação for bem-sucedida,
-     * atualiza o arquivo JSON para refletir a remoção.
+     * atualiza o arquivo da sua partição para refletir a remoção.
      */
     @Override
     public boolean deleteById(int id) {
-        boolean removed = database.remove(id) != null;
-        if (removed) {
-            saveDataToFile();
+        Usuario removido = particaoDe(id).remove(id);
+        if (removido != null) {
+            saveDataToFile(id, Alteracao.REMOVIDO, removido.getVersao());
         }
-        return removed;
+        return removido != null;
     }
 
     /**
-     * Salva a lista atual de usuários do mapa em memória para o arquivo "usuarios.json".
+     * Lista os arquivos de usuários existentes no diretório: o arquivo único antigo e as partições,
+     * de qualquer quantidade. Também usado na importação do perfil "jdbc".
+     *
+     * @param diretorio O diretório dos arquivos.
+     * @return Os arquivos encontrados.
+     * @throws IOException Se o diretório não puder ser lido.
      */
-    private void saveDataToFile() {
-        try (Writer writer = Files.newBufferedWriter(Paths.get(FILE_NAME))) {
-            gson.toJson(new ArrayList<>(database.values()), writer);
-        } catch (IOException e) {
-            System.err.println("Erro ao salvar dados de usuários: " + e.getMessage());
+    static List<Path> arquivosDeUsuarios(Path diretorio) throws IOException {
+        List<Path> arquivos = new ArrayList<>();
+        Path unico = diretorio.resolve(ARQUIVO_UNICO);
+        if (Files.exists(unico)) {
+            arquivos.add(unico);
+        }
+        try (DirectoryStream<Path> particoes = Files.newDirectoryStream(diretorio,
+                PREFIXO_PARTICAO + "*" + SUFIXO_PARTICAO)) {
+            for (Path particao : particoes) {
+                arquivos.add(particao);
+            }
         }
+        return arquivos;
+    }
+
+    private int numeroDaParticao(int id) {
+        return Math.floorMod(Integer.hashCode(id), particoes.size());
+    }
+
+    private Map<Integer, Usuario> particaoDe(int id) {
+        return particoes.get(numeroDaParticao(id));
+    }
+
+    private String arquivoDaParticao(int numero) {
+        return diretorio.resolve(PREFIXO_PARTICAO + numero + SUFIXO_PARTICAO).toString();
     }
 
     /**
-     * Carrega os usuários do arquivo "usuarios.json" para o mapa em memória na inicialização.
-     * Também atualiza o contador de IDs para o maior valor encontrado no arquivo.
+     * Salva os usuários da partição do usuário alterado no arquivo dela.
+     * Dentro de uma {@link UnidadeDeTrabalho}, a gravação fica para o final da unidade, e várias
+     * alterações na mesma partição resultam em uma só gravação.
+     * A alteração que motivou a gravação é registrada no feed de alterações na mesma unidade.
+     */
+    private void saveDataToFile(int id, String operacao, long versao) {
+        unidadeDeTrabalho.executar(() -> {
+            gravarParticao(numeroDaParticao(id));
+            logAlteracoes.registrar(ENTIDADE, id, operacao, versao);
+        });
+    }
+
+    private void gravarParticao(int numero) {
+        Map<Integer, Usuario> particao = particoes.get(numero);
+        unidadeDeTrabalho.gravar(arquivoDaParticao(numero), writer -> gson.toJson(new ArrayList<>(particao.values()), writer));
+    }
+
+    /**
+     * Carrega os usuários de todos os arquivos, em paralelo, para os mapas em memória na inicialização.
+     * Também atualiza o contador de IDs para o maior valor encontrado nos arquivos.
+     * <p>
+     * Se algum usuário estiver fora do arquivo da sua partição (arquivo único antigo ou outra quantidade
+     * de partições), todas as partições são regravadas e os arquivos que sobraram são apagados.
+     * Se uma queda deixar um usuário em dois arquivos, vale a versão mais recente.
+     *
+     * @throws IllegalStateException Se algum arquivo não puder ser lido. A inicialização é interrompida
+     *         antes de qualquer gravação, para que a redistribuição não apague a única cópia dos usuários
+     *         que não foram lidos.
      */
     private void loadDataFromFile() {
-        File file = new File(FILE_NAME);
-        if (!file.exists() || file.length() == 0) return;
+        List<Path> arquivos;
+        try {
+            arquivos = arquivosDeUsuarios(diretorio);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao listar os arquivos de usuários em " + diretorio + ": " + e.getMessage(), e);
+        }
+        if (arquivos.isEmpty()) return;
 
-        try (Reader reader = Files.newBufferedReader(Paths.get(FILE_NAME))) {
-            java.lang.reflect.Type listType = new TypeToken<ArrayList<Usuario>>() {}.getType();
-            List<Usuario> usuarios = gson.fromJson(reader, listType);
+        List<List<Usuario>> lidos = arquivos.parallelStream().map(this::lerArquivo).toList();
 
-            if (usuarios != null) {
-                database.clear();
-                for (Usuario usuario : usuarios) {
-                    database.put(usuario.getIdUsuario(), usuario);
+        Set<String> atuais = new HashSet<>();
+        for (int numero = 0; numero < particoes.size(); numero++) {
+            atuais.add(Paths.get(arquivoDaParticao(numero)).getFileName().toString());
+        }
+        boolean redistribuir = false;
+        int maxId = 0;
+        int maxPedidoId = 0;
+        for (int i = 0; i < arquivos.size(); i++) {
+            String nomeArquivo = arquivos.get(i).getFileName().toString();
+            redistribuir |= !atuais.contains(nomeArquivo);
+            for (Usuario usuario : lidos.get(i)) {
+                if (usuario.getVersao() == 0) {
+                    // Arquivo gravado antes da existência das versões.
+                    usuario.setVersao(1);
+                }
+                int id = usuario.getIdUsuario();
+                redistribuir |= !nomeArquivo.equals(Paths.get(arquivoDaParticao(numeroDaParticao(id))).getFileName().toString());
+                particaoDe(id).merge(id, usuario, (atual, novo) -> novo.getVersao() > atual.getVersao() ? novo : atual);
+                maxId = Math.max(maxId, id);
+                // Encontra o maior ID de PEDIDO entre todos os usuários
+                for (Pedido pedido : usuario.getPedidos()) {
+                    maxPedidoId = Math.max(maxPedidoId, pedido.getIdPedido());
                 }
-                int maxId = usuarios.stream().mapToInt(Usuario::getIdUsuario).max().orElse(0);
-                idGenerator.set(maxId);
-                
-                // 1. Encontra o maior ID de PEDIDO entre todos os usuários
-                int maxPedidoId = usuarios.stream() // Pega a lista de usuários
-                    .flatMap(usuario -> usuario.getPedidos().stream()) // Transforma em uma única lista de todos os pedidos
-                    .mapToInt(Pedido::getIdPedido) // Pega apenas o ID de cada pedido
-                    .max() // Encontra o maior ID
-                    .orElse(0); // Se não houver nenhum pedido, começa do 0
-
-                // 2. Ajusta o contador de ID do PedidoService com o maior ID encontrado
-                PedidoService.pedidoIdGenerator.set(maxPedidoId);
-                
-                System.out.println("Contador de PedidoIDs inicializado em: " + maxPedidoId); // Log para confirmação
-
             }
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar dados de usuários: " + e.getMessage());
+        }
+        idGenerator.set(maxId);
+
+        // Ajusta o contador de ID do PedidoService com o maior ID encontrado
+        PedidoService.pedidoIdGenerator.set(maxPedidoId);
+        System.out.println("Contador de PedidoIDs inicializado em: " + maxPedidoId); // Log para confirmação
+
+        if (redistribuir) {
+            redistribuir(arquivos, atuais);
         }
     }
-}
 
-/**
- * Desserializador customizado para o Gson, responsável por instanciar a classe correta
- * ({@link Usuario} ou {@link io.github.site_de_eventos.sitedeeventos.model.Organizador})
- * ao ler o JSON, com base na presença do campo "cnpj".
- */
-class UsuarioTypeAdapter implements JsonDeserializer<Usuario> {
-    @Override
-    public Usuario deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        JsonObject jsonObject = json.getAsJsonObject();
-        Type pedidoListType = new TypeToken<ArrayList<Pedido>>() {}.getType();
-
-        List<Pedido> pedidos = Collections.emptyList(); 
-        if (jsonObject.has("pedidos") && jsonObject.get("pedidos").isJsonArray()) {
-            JsonArray pedidosArray = jsonObject.getAsJsonArray("pedidos");
-            pedidos = context.deserialize(pedidosArray, pedidoListType);
+    private List<Usuario> lerArquivo(Path arquivo) {
+        try (Reader reader = Files.newBufferedReader(arquivo)) {
+            Type listType = new TypeToken<ArrayList<Usuario>>() {}.getType();
+            List<Usuario> usuarios = gson.fromJson(reader, listType);
+            return usuarios != null ? usuarios : List.of();
+        } catch (IOException | JsonParseException e) {
+            throw new IllegalStateException("Erro ao carregar dados de usuários de " + arquivo + ": " + e.getMessage(), e);
         }
+    }
 
-        // Se o objeto JSON tiver a propriedade "cnpj", ele é tratado como um Organizador.
-        if (jsonObject.has("cnpj")) {
-            IOrganizadorBuilder builder = new OrganizadorBuilderConcreto();
-            ((OrganizadorBuilderConcreto) builder.idUsuario(jsonObject.get("idUsuario").getAsInt())
-                   .nome(jsonObject.has("nome") ? jsonObject.get("nome").getAsString() : null)
-                   .email(jsonObject.has("email") ? jsonObject.get("email").getAsString() : null)
-                   .senha(jsonObject.has("senha") ? jsonObject.get("senha").getAsString() : null)
-                   .pegaPedidos(pedidos))
-                   .cnpj(jsonObject.has("cnpj") ? jsonObject.get("cnpj").getAsString() : null)
-                   .contaBancaria(jsonObject.has("contaBancaria") ? jsonObject.get("contaBancaria").getAsString() : null); 
-            return builder.build();
-        } else { // Caso contrário, é um Usuário padrão.
-            IUsuarioBuilder builder = new UsuarioBuilderConcreto();
-            builder.idUsuario(jsonObject.get("idUsuario").getAsInt())
-                   .nome(jsonObject.has("nome") ? jsonObject.get("nome").getAsString() : null)
-                   .email(jsonObject.has("email") ? jsonObject.get("email").getAsString() : null)
-                   .senha(jsonObject.has("senha") ? jsonObject.get("senha").getAsString() : null)
-                   .pegaPedidos(pedidos); 
-            return builder.build();
+    /**
+     * Grava todas as partições de uma vez e só então apaga os arquivos que não são mais usados.
+     */
+    private void redistribuir(List<Path> arquivos, Set<String> atuais) {
+        unidadeDeTrabalho.executar(() -> {
+            for (int numero = 0; numero < particoes.size(); numero++) {
+                gravarParticao(numero);
+            }
+        });
+        for (Path arquivo : arquivos) {
+            if (!atuais.contains(arquivo.getFileName().toString())) {
+                try {
+                    Files.deleteIfExists(arquivo);
+                } catch (IOException e) {
+                    System.err.println("Erro ao apagar " + arquivo + ": " + e.getMessage());
+                }
+            }
         }
+        System.out.println("Usuários redistribuídos em " + particoes.size() + " partições.");
     }
 }
@@ -0,0 +1,157 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.OrganizadorBuilderConcreto;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.model.UsuarioBuilderConcreto;
+import io.github.site_de_eventos.sitedeeventos.model.builder.IUsuarioBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversor do Gson para {@link Usuario} e {@link Organizador}, que lê e escreve os campos direto do
+ * {@link JsonReader}, sem montar a árvore de {@code JsonObject} de cada usuário.
+ * <p>
+ * A classe certa é escolhida ao final do objeto, com base na presença do campo "cnpj", que pode
+ * aparecer em qualquer posição. Os pedidos são lidos com o conversor de {@link Pedido} do próprio Gson.
+ * Criado pelos {@link ConversoresJson}, que o usam para {@link Usuario} e as suas subclasses.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+class UsuarioTypeAdapter extends TypeAdapter<Usuario> {
+
+    private final TypeAdapter<Pedido> pedidoAdapter;
+
+    UsuarioTypeAdapter(TypeAdapter<Pedido> pedidoAdapter) {
+        this.pedidoAdapter = pedidoAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, Usuario usuario) throws IOException {
+        out.beginObject();
+        out.name("idUsuario").value(usuario.getIdUsuario());
+        escrever(out, "nome", usuario.getNome());
+        escrever(out, "email", usuario.getEmail());
+        escrever(out, "senha", usuario.getSenha());
+        escrever(out, "cpf", usuario.getCpf());
+        escrever(out, "telefone", usuario.getTelefone());
+        escrever(out, "cidade", usuario.getCidade());
+        escrever(out, "endereco", usuario.getEndereco());
+        if (usuario.getDataNascimento() != null) {
+            out.name("dataNascimento").value(usuario.getDataNascimento().toString());
+        }
+        if (usuario.getPedidos() != null) {
+            out.name("pedidos").beginArray();
+            for (Pedido pedido : usuario.getPedidos()) {
+                pedidoAdapter.write(out, pedido);
+            }
+            out.endArray();
+        }
+        out.name("versao").value(usuario.getVersao());
+        out.name("carimboCredenciais").value(usuario.getCarimboCredenciais());
+        if (usuario instanceof Organizador organizador) {
+            escrever(out, "contaBancaria", organizador.getContaBancaria());
+            escrever(out, "cnpj", organizador.getCnpj());
+        }
+        out.endObject();
+    }
+
+    private static void escrever(JsonWriter out, String nome, String valor) throws IOException {
+        // Como na serialização padrão do Gson, campos nulos são omitidos.
+        if (valor != null) {
+            out.name(nome).value(valor);
+        }
+    }
+
+    @Override
+    public Usuario read(JsonReader in) throws IOException {
+        int idUsuario = 0;
+        String nome = null;
+        String email = null;
+        String senha = null;
+        String cpf = null;
+        String telefone = null;
+        String cidade = null;
+        String endereco = null;
+        LocalDateTime dataNascimento = null;
+        List<Pedido> pedidos = new ArrayList<>();
+        long versao = 0;
+        Integer carimboCredenciais = null;
+        boolean organizador = false;
+        String cnpj = null;
+        String contaBancaria = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String campo = in.nextName();
+            if ("cnpj".equals(campo)) {
+                // Como antes, a presença do campo basta para ser um Organizador, mesmo com valor nulo.
+                organizador = true;
+            }
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (campo) {
+                case "idUsuario" -> idUsuario = in.nextInt();
+                case "nome" -> nome = in.nextString();
+                case "email" -> email = in.nextString();
+                case "senha" -> senha = in.nextString();
+                case "cpf" -> cpf = in.nextString();
+                case "telefone" -> telefone = in.nextString();
+                case "cidade" -> cidade = in.nextString();
+                case "endereco" -> endereco = in.nextString();
+                case "dataNascimento" -> dataNascimento = LocalDateTime.parse(in.nextString());
+                case "pedidos" -> {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        pedidos.add(pedidoAdapter.read(in));
+                    }
+                    in.endArray();
+                }
+                case "versao" -> versao = in.nextLong();
+                case "carimboCredenciais" -> carimboCredenciais = in.nextInt();
+                case "cnpj" -> cnpj = in.nextString();
+                case "contaBancaria" -> contaBancaria = in.nextString();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        IUsuarioBuilder builder;
+        if (organizador) {
+            OrganizadorBuilderConcreto organizadorBuilder = new OrganizadorBuilderConcreto();
+            organizadorBuilder.cnpj(cnpj).contaBancaria(contaBancaria);
+            builder = organizadorBuilder;
+        } else {
+            builder = new UsuarioBuilderConcreto();
+        }
+        builder.idUsuario(idUsuario)
+               .nome(nome)
+               .email(email)
+               .senha(senha)
+               .cpf(cpf)
+               .telefone(telefone)
+               .cidade(cidade)
+               .endereco(endereco)
+               .dataNascimento(dataNascimento)
+               .pegaPedidos(pedidos);
+        Usuario usuario = builder.build();
+        usuario.setVersao(versao);
+        if (carimboCredenciais != null) {
+            // Sem o campo (arquivos antigos), fica o carimbo sorteado na criação do objeto.
+            usuario.setCarimboCredenciais(carimboCredenciais);
+        }
+        return usuario;
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Classe de serviço do feed de alterações, consumido por sistemas externos (BI, envio de
+ * e-mails) no lugar de consultar e comparar {@code /api/eventos} periodicamente.
+ * <p>
+ * O feed pode ser lido em páginas, informando a última sequência já processada, ou acompanhado
+ * por SSE. No SSE, cada assinante tem a sua própria posição no log e recebe todas as alterações,
+ * em ordem e sem perdas: as que ele ainda não recebeu são lidas do {@link LogAlteracoes} a cada
+ * despacho, e não guardadas por assinante. Um consumidor lento apenas fica para trás.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class AlteracoesService {
+
+    /**
+     * Número máximo de alterações devolvidas em uma página.
+     */
+    public static final int LIMITE_MAXIMO = 1000;
+
+    /**
+     * Intervalo entre os despachos para os assinantes SSE.
+     */
+    private static final long INTERVALO_MILLIS = 500L;
+
+    /**
+     * Tempo máximo de uma conexão SSE (30 minutos); o cliente reconecta com o último ID recebido.
+     */
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    /**
+     * Lotes enviados a um mesmo assinante por despacho, para que um consumidor muito atrasado
+     * não segure os demais.
+     */
+    private static final int LOTES_POR_DESPACHO = 10;
+
+    private final LogAlteracoes logAlteracoes;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Assinantes SSE ativos.
+     */
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Thread única responsável pelo despacho periódico.
+     */
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "sse-alteracoes");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param logAlteracoes O log de onde as alterações são lidas.
+     * @param objectMapper Serializador JSON do Spring, usado nas mensagens SSE.
+     */
+    public AlteracoesService(LogAlteracoes logAlteracoes, ObjectMapper objectMapper) {
+        this.logAlteracoes = logAlteracoes;
+        this.objectMapper = objectMapper;
+        agendador.scheduleWithFixedDelay(this::despachar, INTERVALO_MILLIS, INTERVALO_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Busca uma página do feed.
+     *
+     * @param desde A última sequência já processada pelo consumidor (0 para ler do início).
+     * @param limite O tamanho da página, limitado a {@value #LIMITE_MAXIMO}.
+     * @return As alterações posteriores a {@code desde}, em ordem.
+     * @throws IllegalArgumentException Se {@code desde} for negativo ou {@code limite} não for positivo.
+     */
+    public List<Alteracao> buscar(long desde, int limite) {
+        if (desde < 0) {
+            throw new IllegalArgumentException("A sequência inicial não pode ser negativa.");
+        }
+        if (limite <= 0) {
+            throw new IllegalArgumentException("O limite deve ser maior que zero.");
+        }
+        return logAlteracoes.buscarDesde(desde, Math.min(limite, LIMITE_MAXIMO));
+    }
+
+    /**
+     * Obtém a sequência da alteração mais recente.
+     *
+     * @return A sequência, ou 0 se ainda não houver alterações.
+     */
+    public long getUltimaSequencia() {
+        return logAlteracoes.getUltimaSequencia();
+    }
+
+    /**
+     * Abre um fluxo SSE com as alterações posteriores a uma sequência, seguidas das próximas.
+     * Cada mensagem leva a sequência como ID, que o navegador reenvia em "Last-Event-ID" ao reconectar.
+     *
+     * @param desde A última sequência já processada pelo consumidor.
+     * @return O {@link SseEmitter} da conexão.
+     * @throws IllegalArgumentException Se {@code desde} for negativo.
+     */
+    public SseEmitter assinar(long desde) {
+        if (desde < 0) {
+            throw new IllegalArgumentException("A sequência inicial não pode ser negativa.");
+        }
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        Assinante assinante = new Assinante(emitter, desde);
+        assinantes.add(assinante);
+        Runnable remover = () -> assinantes.remove(assinante);
+        emitter.onCompletion(remover);
+        emitter.onTimeout(remover);
+        emitter.onError(erro -> remover.run());
+        // As alterações pendentes seguem no próximo despacho, pela thread do agendador.
+        return emitter;
+    }
+
+    /**
+     * Encerra as conexões abertas quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    public void encerrar() {
+        agendador.shutdownNow();
+        for (Assinante assinante : assinantes) {
+            assinante.emitter.complete();
+        }
+        assinantes.clear();
+    }
+
+    /**
+     * Envia a cada assinante as alterações que ele ainda não recebeu. Executado periodicamente
+     * pelo agendador; qualquer erro é contido para não interromper os próximos despachos.
+     */
+    private void despachar() {
+        try {
+            long ultima = logAlteracoes.getUltimaSequencia();
+            for (Assinante assinante : assinantes) {
+                for (int lote = 0; lote < LOTES_POR_DESPACHO && assinante.posicao < ultima; lote++) {
+                    List<Alteracao> alteracoes = logAlteracoes.buscarDesde(assinante.posicao, LIMITE_MAXIMO);
+                    if (alteracoes.isEmpty() || !enviar(assinante, alteracoes)) {
+                        break;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Erro ao despachar o feed de alterações: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Envia um lote a um assinante, removendo-o se a conexão já estiver fechada.
+     *
+     * @return {@code true} se o lote inteiro foi enviado.
+     */
+    private boolean enviar(Assinante assinante, List<Alteracao> alteracoes) {
+        try {
+            for (Alteracao alteracao : alteracoes) {
+                assinante.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(alteracao.getSequencia()))
+                        .name("alteracao")
+                        .data(objectMapper.writeValueAsString(alteracao)));
+                assinante.posicao = alteracao.getSequencia();
+            }
+            return true;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar o feed de alterações: " + e.getMessage(), e);
+        } catch (IOException | IllegalStateException e) {
+            assinantes.remove(assinante);
+            return false;
+        }
+    }
+
+    /**
+     * Uma conexão SSE e a última sequência enviada por ela.
+     */
+    private static final class Assinante {
+
+        private final SseEmitter emitter;
+
+        /**
+         * Alterada apenas pela thread do agendador.
+         */
+        private long posicao;
+
+        private Assinante(SseEmitter emitter, long posicao) {
+            this.emitter = emitter;
+            this.posicao = posicao;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.assentos.MapaAssentos;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe de serviço responsável pelos assentos numerados dos eventos.
+ * <p>
+ * Mantém em memória um {@link MapaAssentos} por evento com lugares marcados. A ocupação
+ * não é gravada à parte: cada ingresso guarda o código do seu assento, e os mapas são
+ * reconstruídos na inicialização a partir dos pedidos concluídos.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class AssentoService {
+
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+
+    /**
+     * Mapas de ocupação por ID de evento.
+     */
+    private final Map<Integer, MapaAssentos> mapas = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param eventoRepository Repositório usado para obter os setores de cada evento.
+     * @param usuarioRepository Repositório percorrido uma única vez na inicialização para restaurar a ocupação.
+     */
+    public AssentoService(EventoRepository eventoRepository, UsuarioRepository usuarioRepository) {
+        this.eventoRepository = eventoRepository;
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    /**
+     * Marca como ocupados os assentos dos pedidos já concluídos.
+     */
+    @PostConstruct
+    public void init() {
+        usuarioRepository.paraCada(usuario -> {
+            if (usuario.getPedidos() == null) {
+                return;
+            }
+            for (Pedido pedido : usuario.getPedidos()) {
+                List<String> assentos = assentosDoPedido(pedido);
+                if (!"CONCLUIDO".equals(pedido.getStatus()) || assentos.isEmpty()) {
+                    continue;
+                }
+                try {
+                    mapa(pedido.getEvento().getIdEvento()).ifPresent(mapa -> mapa.reservar(assentos));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Assentos inválidos no pedido " + pedido.getIdPedido() + ": " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Reserva os assentos de um novo pedido.
+     *
+     * @param evento O evento com lugares marcados.
+     * @param quantidade A quantidade de ingressos do pedido.
+     * @param escolhidos Os códigos escolhidos pelo comprador, ou {@code null}/vazio para os melhores disponíveis.
+     * @return Os códigos dos assentos reservados, na ordem dos participantes.
+     * @throws IllegalArgumentException se os assentos escolhidos forem inválidos ou não corresponderem à quantidade.
+     * @throws RuntimeException se os assentos já estiverem ocupados ou não houver lugares suficientes.
+     */
+    public List<String> reservar(Evento evento, int quantidade, List<String> escolhidos) {
+        MapaAssentos mapa = mapa(evento.getIdEvento())
+                .orElseThrow(() -> new IllegalArgumentException("Este evento não possui assentos numerados."));
+        if (escolhidos == null || escolhidos.isEmpty()) {
+            List<String> reservados = mapa.reservarMelhores(quantidade, null);
+            if (reservados.isEmpty()) {
+                throw new RuntimeException("Não há assentos suficientes em um mesmo setor. Escolha os assentos manualmente.");
+            }
+            return reservados;
+        }
+        if (escolhidos.size() != quantidade) {
+            throw new IllegalArgumentException("Escolha um assento para cada participante.");
+        }
+        if (!mapa.reservar(escolhidos)) {
+            throw new RuntimeException("Um ou mais assentos escolhidos já foram vendidos.");
+        }
+        return new ArrayList<>(escolhidos);
+    }
+
+    /**
+     * Devolve ao mapa os assentos de um pedido cancelado.
+     *
+     * @param pedido O pedido cancelado.
+     */
+    public void liberar(Pedido pedido) {
+        List<String> assentos = assentosDoPedido(pedido);
+        if (!assentos.isEmpty()) {
+            mapa(pedido.getEvento().getIdEvento()).ifPresent(mapa -> mapa.liberar(assentos));
+        }
+    }
+
+    /**
+     * Sugere os melhores assentos disponíveis sem reservá-los.
+     *
+     * @param eventoId O ID do evento.
+     * @param quantidade A quantidade de assentos.
+     * @param setor O setor desejado (a partir de 1), ou {@code null} para qualquer um.
+     * @return Os códigos sugeridos; vazio se não houver lugares suficientes.
+     * @throws IllegalArgumentException se o evento não tiver assentos numerados ou o setor não existir.
+     */
+    public List<String> sugerir(int eventoId, int quantidade, Integer setor) {
+        return mapaObrigatorio(eventoId).sugerirMelhores(quantidade, setor);
+    }
+
+    /**
+     * Obtém a ocupação das fileiras de um setor.
+     *
+     * @param eventoId O ID do evento.
+     * @param setor O setor (a partir de 1).
+     * @return Uma linha por fileira, com '1' para assento ocupado e '0' para livre.
+     * @throws IllegalArgumentException se o evento não tiver assentos numerados ou o setor não existir.
+     */
+    public List<String> ocupacao(int eventoId, int setor) {
+        return mapaObrigatorio(eventoId).ocupacao(setor);
+    }
+
+    private MapaAssentos mapaObrigatorio(int eventoId) {
+        return mapa(eventoId)
+                .orElseThrow(() -> new IllegalArgumentException("Este evento não possui assentos numerados."));
+    }
+
+    private Optional<MapaAssentos> mapa(int eventoId) {
+        MapaAssentos mapa = mapas.get(eventoId);
+        if (mapa != null) {
+            return Optional.of(mapa);
+        }
+        return eventoRepository.findById(eventoId)
+                .filter(Evento::hasMapaAssentos)
+                .map(evento -> mapas.computeIfAbsent(eventoId, id -> new MapaAssentos(evento.getSetores())));
+    }
+
+    private static List<String> assentosDoPedido(Pedido pedido) {
+        List<String> assentos = new ArrayList<>();
+        if (pedido.getIngressos() != null) {
+            for (Ingresso ingresso : pedido.getIngressos()) {
+                if (ingresso.getAssento() != null) {
+                    assentos.add(ingresso.getAssento());
+                }
+            }
+        }
+        return assentos;
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Classe de serviço que assina os ingressos com um código compacto, próprio para QR Code.
+ * <p>
+ * O código carrega o ID do evento, o número do ingresso e o ID do pedido, seguidos de um
+ * HMAC-SHA256 truncado desses dados, tudo codificado em Base64 para URL (34 caracteres).
+ * A verificação apenas recalcula o HMAC, sem consultar nenhum repositório, de modo que
+ * leitores na portaria podem conferir a autenticidade de um ingresso com uma operação de CPU.
+ * <p>
+ * A chave vem da propriedade {@code ingressos.assinatura.chave}. Se ela não estiver definida,
+ * uma chave aleatória é gerada uma única vez e guardada no arquivo "{@value #FILE_NAME}",
+ * para que os códigos já impressos continuem válidos após reiniciar a aplicação.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class AssinaturaIngressoService {
+
+    /**
+     * Arquivo usado para guardar a chave gerada quando nenhuma é configurada.
+     */
+    static final String FILE_NAME = "assinatura-ingressos.key";
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final byte VERSAO = 1;
+    private static final int TAMANHO_DADOS = 1 + 3 * Integer.BYTES;
+    private static final int TAMANHO_ASSINATURA = 12;
+
+    private final SecretKeySpec chave;
+
+    /**
+     * Uma instância de {@link Mac} por thread, já que a classe não é thread-safe e
+     * criá-la a cada leitura custaria mais do que o próprio cálculo.
+     */
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::novoMac);
+
+    /**
+     * Construtor que carrega a chave de assinatura.
+     *
+     * @param chaveConfigurada A chave definida em {@code ingressos.assinatura.chave}, ou vazia para usar o arquivo.
+     */
+    public AssinaturaIngressoService(@Value("${ingressos.assinatura.chave:}") String chaveConfigurada) {
+        this.chave = new SecretKeySpec(ChaveAssinatura.carregar(chaveConfigurada, FILE_NAME, "assinatura de ingressos"),
+                ALGORITMO);
+    }
+
+    /**
+     * Gera os códigos de todos os ingressos de um pedido que ainda não têm um.
+     * Os códigos ficam guardados nos próprios ingressos, então reimprimir não recalcula nada.
+     *
+     * @param pedido O pedido com os ingressos emitidos e o ID já definido.
+     */
+    public void assinarIngressos(Pedido pedido) {
+        if (pedido.getIngressos() == null) {
+            return;
+        }
+        for (Ingresso ingresso : pedido.getIngressos()) {
+            garantirCodigo(ingresso, pedido);
+        }
+    }
+
+    /**
+     * Obtém o código de um ingresso, gerando-o se ele ainda não existir
+     * (por exemplo, ingressos emitidos antes da assinatura existir).
+     *
+     * @param ingresso O ingresso.
+     * @param pedido O pedido ao qual o ingresso pertence.
+     * @return O código de verificação do ingresso.
+     */
+    public String garantirCodigo(Ingresso ingresso, Pedido pedido) {
+        if (ingresso.getCodigoVerificacao() == null) {
+            int numero = IndiceIngressosService.numeroDoIngresso(ingresso.getIdIncricao());
+            ingresso.setCodigoVerificacao(assinar(ingresso.getIdEvento(), numero, pedido.getIdPedido()));
+        }
+        return ingresso.getCodigoVerificacao();
+    }
+
+    /**
+     * Assina os dados de um ingresso.
+     *
+     * @param eventoId O ID do evento.
+     * @param numero O número sequencial do ingresso no evento.
+     * @param pedidoId O ID do pedido.
+     * @return O código compacto, em Base64 para URL e sem preenchimento.
+     */
+    public String assinar(int eventoId, int numero, int pedidoId) {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_DADOS + TAMANHO_ASSINATURA);
+        buffer.put(VERSAO).putInt(eventoId).putInt(numero).putInt(pedidoId);
+        buffer.put(calcularAssinatura(buffer.array(), TAMANHO_DADOS));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Verifica a autenticidade de um código.
+     *
+     * @param codigo O código lido do QR Code.
+     * @return Os dados do ingresso, se o código for autêntico; vazio se estiver malformado ou adulterado.
+     */
+    public Optional<DadosIngresso> verificar(String codigo) {
+        if (codigo == null) {
+            return Optional.empty();
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(codigo);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length != TAMANHO_DADOS + TAMANHO_ASSINATURA || bytes[0] != VERSAO) {
+            return Optional.empty();
+        }
+        byte[] esperada = calcularAssinatura(bytes, TAMANHO_DADOS);
+        byte[] recebida = Arrays.copyOfRange(bytes, TAMANHO_DADOS, bytes.length);
+        // Comparação em tempo constante, para não revelar quantos bytes conferem.
+        if (!MessageDigest.isEqual(esperada, recebida)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, TAMANHO_DADOS - 1);
+        return Optional.of(new DadosIngresso(buffer.getInt(), buffer.getInt(), buffer.getInt()));
+    }
+
+    private byte[] calcularAssinatura(byte[] dados, int tamanho) {
+        Mac mac = macs.get();
+        mac.update(dados, 0, tamanho);
+        return Arrays.copyOf(mac.doFinal(), TAMANHO_ASSINATURA);
+    }
+
+    private Mac novoMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chave);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível inicializar a assinatura de ingressos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Dados extraídos de um código autêntico.
+     */
+    public static class DadosIngresso {
+
+        private final int eventoId;
+        private final int numero;
+        private final int pedidoId;
+
+        /**
+         * @param eventoId O ID do evento.
+         * @param numero O número sequencial do ingresso.
+         * @param pedidoId O ID do pedido.
+         */
+        public DadosIngresso(int eventoId, int numero, int pedidoId) {
+            this.eventoId = eventoId;
+            this.numero = numero;
+            this.pedidoId = pedidoId;
+        }
+
+        /**
+         * @return O ID (int) do evento.
+         */
+        public int getEventoId() {
+            return eventoId;
+        }
+
+        /**
+         * @return O número sequencial (int) do ingresso.
+         */
+        public int getNumero() {
+            return numero;
+        }
+
+        /**
+         * @return O ID (int) do pedido.
+         */
+        public int getPedidoId() {
+            return pedidoId;
+        }
+
+        /**
+         * @return O código de inscrição ("idEvento-numero") correspondente.
+         */
+        public String getIdInscricao() {
+            return eventoId + "-" + numero;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Carrega as chaves HMAC usadas pelos serviços que assinam códigos.
+ * <p>
+ * Uma chave configurada tem prioridade. Sem ela, uma chave aleatória é gerada uma única vez e
+ * guardada em um arquivo, para que os códigos já emitidos continuem válidos após reiniciar a aplicação.
+ * Se o arquivo não puder ser lido ou gravado, a aplicação não inicia: uma chave que valesse só até
+ * o próximo reinício invalidaria, sem aviso, todos os ingressos e sessões emitidos com ela.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+final class ChaveAssinatura {
+
+    private static final int TAMANHO_CHAVE = 32;
+
+    private ChaveAssinatura() {
+    }
+
+    /**
+     * Obtém os bytes da chave.
+     *
+     * @param configurada A chave definida nas propriedades, ou vazia para usar o arquivo.
+     * @param arquivo O arquivo onde a chave gerada é guardada.
+     * @param descricao A finalidade da chave, usada nas mensagens de erro.
+     * @return Os bytes da chave.
+     * @throws IllegalStateException Se não houver chave configurada e o arquivo não puder ser lido,
+     *         estiver corrompido ou não puder ser gravado.
+     */
+    static byte[] carregar(String configurada, String arquivo, String descricao) {
+        if (configurada != null && !configurada.isBlank()) {
+            return configurada.getBytes(StandardCharsets.UTF_8);
+        }
+        Path caminho = Paths.get(arquivo);
+        try {
+            if (Files.exists(caminho) && Files.size(caminho) > 0) {
+                byte[] lida = Base64.getDecoder().decode(Files.readString(caminho).trim());
+                if (lida.length != TAMANHO_CHAVE) {
+                    throw new IllegalArgumentException("a chave tem " + lida.length + " bytes, e não " + TAMANHO_CHAVE);
+                }
+                return lida;
+            }
+            byte[] nova = gerar();
+            // Gravada por inteiro ou não gravada: uma chave pela metade seria lida como outra chave.
+            Path temporario = caminho.resolveSibling(caminho.getFileName() + ".tmp");
+            Files.writeString(temporario, Base64.getEncoder().encodeToString(nova));
+            Files.move(temporario, caminho, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return nova;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Erro ao carregar a chave de " + descricao + " de " + caminho
+                    + ": " + e.getMessage() + ". Corrija o arquivo ou configure a chave nas propriedades.", e);
+        }
+    }
+
+    private static byte[] gerar() {
+        byte[] chave = new byte[TAMANHO_CHAVE];
+        new SecureRandom().nextBytes(chave);
+        return chave;
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService.RegistroIngresso;
+import io.github.site_de_eventos.sitedeeventos.service.checkin.RegistroCheckin;
+import io.github.site_de_eventos.sitedeeventos.service.checkin.ResultadoCheckin;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe de serviço responsável pelo check-in dos ingressos na portaria dos eventos.
+ * <p>
+ * Cada evento tem um {@link RegistroCheckin}, um conjunto de bits indexado pelo número
+ * sequencial do ingresso (a parte final do código "idEvento-numero"). A admissão é um
+ * único compare-and-set, de modo que várias portarias podem ler ingressos ao mesmo tempo
+ * sem entrada dupla. Cada entrada registrada é acrescentada ao arquivo "checkins.log",
+ * que é relido na inicialização para restaurar os registros.
+ * <p>
+ * Uma entrada só é confirmada depois de gravada: se o arquivo não puder ser aberto, a aplicação
+ * não inicia, e se uma linha não puder ser acrescentada, a entrada é desfeita e a leitura é
+ * recusada com {@link ResultadoCheckin#FALHA_REGISTRO}, para que a portaria tente de novo.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class CheckinService {
+
+    /**
+     * O arquivo de registro das entradas, apenas acrescentado (uma linha "idEvento;numero;dataHora" por entrada).
+     */
+    private static final String FILE_NAME = "checkins.log";
+
+    private final IndiceIngressosService indiceIngressosService;
+    private final EventoRepository eventoRepository;
+    private final Path caminho;
+
+    /**
+     * Registros de entrada por ID de evento.
+     */
+    private final Map<Integer, RegistroCheckin> registros = new ConcurrentHashMap<>();
+
+    /**
+     * O arquivo aberto para acréscimos. Sem buffer, para que uma linha recusada nunca seja
+     * escrita depois; {@code null} antes de {@link #init()} e depois de {@link #encerrar()}.
+     */
+    private FileChannel log;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param indiceIngressosService Índice usado para localizar e validar os ingressos lidos.
+     * @param eventoRepository Repositório usado para dimensionar o registro pela capacidade do evento.
+     */
+    @Autowired
+    public CheckinService(IndiceIngressosService indiceIngressosService, EventoRepository eventoRepository) {
+        this(indiceIngressosService, eventoRepository, Paths.get(FILE_NAME));
+    }
+
+    /**
+     * Construtor que permite escolher o arquivo de registro.
+     *
+     * @param indiceIngressosService Índice usado para localizar e validar os ingressos lidos.
+     * @param eventoRepository Repositório usado para dimensionar o registro pela capacidade do evento.
+     * @param caminho O arquivo de registro das entradas.
+     */
+    CheckinService(IndiceIngressosService indiceIngressosService, EventoRepository eventoRepository, Path caminho) {
+        this.indiceIngressosService = indiceIngressosService;
+        this.eventoRepository = eventoRepository;
+        this.caminho = caminho;
+    }
+
+    /**
+     * Restaura as entradas registradas no arquivo e o abre para novas linhas.
+     *
+     * @throws IllegalStateException Se o arquivo não puder ser lido ou aberto, já que sem ele as
+     *         entradas seriam perdidas ou admitidas duas vezes.
+     */
+    @PostConstruct
+    public void init() {
+        carregarLog();
+        try {
+            log = FileChannel.open(caminho, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao abrir o registro de check-in " + caminho + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Tenta registrar a entrada de um ingresso.
+     *
+     * @param idInscricao O código lido na portaria.
+     * @return O {@link ResultadoCheckin} da leitura.
+     */
+    public ResultadoCheckin realizarCheckin(String idInscricao) {
+        Optional<RegistroIngresso> registro = indiceIngressosService.buscar(idInscricao);
+        if (registro.isEmpty()) {
+            return ResultadoCheckin.NAO_ENCONTRADO;
+        }
+        if (!registro.get().isValido()) {
+            return ResultadoCheckin.INVALIDO;
+        }
+        Ingresso ingresso = registro.get().getIngresso();
+        int numero = IndiceIngressosService.numeroDoIngresso(ingresso.getIdIncricao());
+        if (numero <= 0) {
+            return ResultadoCheckin.INVALIDO;
+        }
+        RegistroCheckin registroCheckin = registro(ingresso.getIdEvento());
+        if (!registroCheckin.admitir(numero)) {
+            return ResultadoCheckin.JA_UTILIZADO;
+        }
+        if (!anexarAoLog(ingresso.getIdEvento(), numero)) {
+            registroCheckin.desfazer(numero);
+            return ResultadoCheckin.FALHA_REGISTRO;
+        }
+        return ResultadoCheckin.ADMITIDO;
+    }
+
+    /**
+     * Indica se um ingresso já entrou no evento.
+     *
+     * @param ingresso O ingresso a ser consultado.
+     * @return {@code true} se já houve check-in.
+     */
+    public boolean foiUtilizado(Ingresso ingresso) {
+        RegistroCheckin registro = registros.get(ingresso.getIdEvento());
+        int numero = IndiceIngressosService.numeroDoIngresso(ingresso.getIdIncricao());
+        return registro != null && numero > 0 && registro.foiAdmitido(numero);
+    }
+
+    /**
+     * Obtém a quantidade de entradas registradas em um evento.
+     *
+     * @param eventoId O ID do evento.
+     * @return O total de check-ins.
+     */
+    public int contarEntradas(int eventoId) {
+        RegistroCheckin registro = registros.get(eventoId);
+        return registro == null ? 0 : registro.getAdmitidos();
+    }
+
+    /**
+     * Fecha o arquivo de registro quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    public synchronized void encerrar() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar o registro de check-in: " + e.getMessage());
+        }
+        log = null;
+    }
+
+    private RegistroCheckin registro(int eventoId) {
+        return registros.computeIfAbsent(eventoId, id -> new RegistroCheckin(
+                eventoRepository.findById(id).map(evento -> evento.getCapacidade()).orElse(0)));
+    }
+
+    /**
+     * Acrescenta uma entrada ao arquivo. Só é chamado depois que o compare-and-set venceu,
+     * portanto cada ingresso aparece no máximo uma vez.
+     * <p>
+     * Se a escrita falhar no meio, o arquivo volta ao tamanho anterior; se nem isso for possível,
+     * ele é fechado e as próximas entradas são recusadas até a aplicação ser reiniciada.
+     *
+     * @return {@code true} se a linha foi gravada.
+     */
+    private synchronized boolean anexarAoLog(int eventoId, int numero) {
+        if (log == null) {
+            return false;
+        }
+        ByteBuffer linha = StandardCharsets.UTF_8.encode(eventoId + ";" + numero + ";" + LocalDateTime.now() + "\n");
+        long tamanho = -1;
+        try {
+            tamanho = log.size();
+            while (linha.hasRemaining()) {
+                log.write(linha);
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar o registro de check-in: " + e.getMessage());
+            descartarLinha(tamanho);
+            return false;
+        }
+    }
+
+    private void descartarLinha(long tamanho) {
+        try {
+            if (tamanho >= 0) {
+                log.truncate(tamanho);
+                return;
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao desfazer a gravação do registro de check-in: " + e.getMessage());
+        }
+        encerrar();
+    }
+
+    private void carregarLog() {
+        if (!Files.exists(caminho)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(caminho)) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                String[] partes = linha.split(";");
+                if (partes.length != 3) {
+                    continue;
+                }
+                try {
+                    LocalDateTime.parse(partes[2]);
+                    registro(Integer.parseInt(partes[0])).admitir(Integer.parseInt(partes[1]));
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    // Linha incompleta (por exemplo, gravação interrompida); as demais continuam válidas.
+                    System.err.println("Linha inválida no registro de check-in: " + linha);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao carregar o registro de check-in " + caminho + ": " + e.getMessage(), e);
+        }
+    }
+}
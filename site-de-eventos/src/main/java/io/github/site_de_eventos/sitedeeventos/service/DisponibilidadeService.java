@@ -0,0 +1,96 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.service.sse.PublicadorSseCoalescido;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Classe de serviço que transmite ao vivo a quantidade de ingressos disponíveis de cada evento.
+ * <p>
+ * Os compradores nas páginas de detalhes e de pedido assinam um fluxo SSE por
+ * evento. Sempre que o estoque muda (compra, cancelamento de pedido ou de evento),
+ * os serviços chamam {@link #notificar(Evento)}; as mudanças são agrupadas e
+ * enviadas no máximo {@value #ATUALIZACOES_POR_SEGUNDO} vezes por segundo.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class DisponibilidadeService {
+
+    /**
+     * Limite de mensagens enviadas por segundo para cada evento.
+     */
+    public static final int ATUALIZACOES_POR_SEGUNDO = 4;
+
+    /**
+     * Tempo máximo de uma conexão SSE (30 minutos). Depois disso o navegador
+     * reconecta automaticamente.
+     */
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final EventoRepository eventoRepository;
+
+    /**
+     * Publicador responsável pela coalescência e pelo envio às conexões abertas.
+     */
+    private final PublicadorSseCoalescido publicador =
+            new PublicadorSseCoalescido("disponibilidade", 1000L / ATUALIZACOES_POR_SEGUNDO, TIMEOUT_MILLIS);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param eventoRepository Repositório usado para obter o estado inicial de cada evento.
+     */
+    public DisponibilidadeService(EventoRepository eventoRepository) {
+        this.eventoRepository = eventoRepository;
+    }
+
+    /**
+     * Abre um fluxo SSE com a disponibilidade de um evento. O estado atual é enviado
+     * imediatamente e as mudanças seguintes chegam conforme acontecem.
+     *
+     * @param eventoId O ID do evento a ser acompanhado.
+     * @return O {@link SseEmitter} da conexão.
+     * @throws RuntimeException se o evento não for encontrado.
+     */
+    public SseEmitter assinar(int eventoId) {
+        Evento evento = eventoRepository.findById(eventoId)
+                .orElseThrow(() -> new RuntimeException("Evento não encontrado com ID: " + eventoId));
+        return publicador.assinar(eventoId, formatar(evento));
+    }
+
+    /**
+     * Informa que o estoque ou o status de um evento mudou.
+     * A chamada é barata: apenas agenda o evento para o próximo despacho, que
+     * serializa o estado mais recente uma única vez.
+     *
+     * @param evento O evento com o estado já atualizado.
+     */
+    public void notificar(Evento evento) {
+        publicador.publicar(evento.getIdEvento(), () -> formatar(evento));
+    }
+
+    /**
+     * Encerra as conexões abertas quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    public void encerrar() {
+        publicador.encerrar();
+    }
+
+    /**
+     * Serializa o estado de disponibilidade de um evento em JSON.
+     */
+    private String formatar(Evento evento) {
+        String status = (evento.getStatus() == null) ? "null" : "\"" + evento.getStatus() + "\"";
+        return "{\"eventoId\":" + evento.getIdEvento()
+                + ",\"ingressosDisponiveis\":" + evento.getIngressosDisponiveis()
+                + ",\"status\":" + status + "}";
+    }
+}
@@ -1,21 +1,25 @@
 package io.github.site_de_eventos.sitedeeventos.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
 import io.github.site_de_eventos.sitedeeventos.model.EventoBuilderConcreto;
 import io.github.site_de_eventos.sitedeeventos.model.Organizador;
 import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
 import io.github.site_de_eventos.sitedeeventos.model.builder.IEventoBuilder;
 import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
 
 /**
@@ -33,6 +37,10 @@ public class EventoService {
 
     private final EventoRepository eventoRepository;
     private final UsuarioRepository usuarioRepository;
+    private final DisponibilidadeService disponibilidadeService;
+    private final PainelVendasService painelVendasService;
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final EventosDominioService eventosDominioService;
 
     /**
      * Construtor para injeção de dependências. O Spring injetará automaticamente as instâncias
@@ -41,11 +49,21 @@ public class EventoService {
      *
      * @param eventoRepository Repositório para acesso aos dados de eventos.
      * @param usuarioRepository Repositório para acesso aos dados de usuários, necessário para operações como cancelamento de pedidos.
+     * @param disponibilidadeService Serviço que transmite ao vivo as mudanças de disponibilidade dos eventos.
+     * @param painelVendasService Serviço que mantém os agregados de vendas dos organizadores.
+     * @param unidadeDeTrabalho Unidade de trabalho que agrupa as gravações de um cancelamento.
+     * @param eventosDominioService Serviço que registra as criações e os cancelamentos no log de eventos de domínio.
      */
     @Autowired
-    public EventoService(EventoRepository eventoRepository, UsuarioRepository usuarioRepository) {
+    public EventoService(EventoRepository eventoRepository, UsuarioRepository usuarioRepository,
+            DisponibilidadeService disponibilidadeService, PainelVendasService painelVendasService,
+            UnidadeDeTrabalho unidadeDeTrabalho, EventosDominioService eventosDominioService) {
         this.eventoRepository = eventoRepository;
         this.usuarioRepository = usuarioRepository;
+        this.disponibilidadeService = disponibilidadeService;
+        this.painelVendasService = painelVendasService;
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.eventosDominioService = eventosDominioService;
     }
 
     /**
@@ -125,14 +143,31 @@ public class EventoService {
             throw new SecurityException("Você não tem permissão para cancelar este evento.");
         }
 
-        if ("CANCELADO".equals(evento.getStatus())) {
-            throw new IllegalStateException("Este evento já foi cancelado.");
-        }
-
-        evento.setStatus("CANCELADO");
-        evento.setIngressosDisponiveis(0);
-        eventoRepository.save(evento);
+        // O novo status do evento e os dos seus pedidos são gravados juntos, com uma gravação
+        // por arquivo em vez de uma por usuário afetado.
+        Evento cancelado = unidadeDeTrabalho.executar(() -> {
+            // A nova versão é publicada de uma só vez; quem estiver lendo a versão anterior não é afetado.
+            // A verificação é refeita sobre a versão mais recente, caso dois cancelamentos concorram.
+            Evento publicado = eventoRepository.atualizar(eventoId, copia -> {
+                if ("CANCELADO".equals(copia.getStatus())) {
+                    throw new IllegalStateException("Este evento já foi cancelado.");
+                }
+                copia.setStatus("CANCELADO");
+                copia.setIngressosDisponiveis(0);
+            }).orElseThrow(() -> new RuntimeException("Evento não encontrado com ID: " + eventoId));
+            eventosDominioService.eventoCancelado(publicado);
+            cancelarPedidosDoEvento(eventoId);
+            return publicado;
+        });
+        disponibilidadeService.notificar(cancelado);
+    }
 
+    /**
+     * Marca como cancelados pelo organizador todos os pedidos de um evento.
+     *
+     * @param eventoId O ID do evento cancelado.
+     */
+    private void cancelarPedidosDoEvento(int eventoId) {
         // Itera sobre todos os usuários para encontrar e atualizar os pedidos relacionados.
         // Nota: Em uma aplicação de grande escala, esta operação seria otimizada com uma consulta direta aos pedidos.
         List<Usuario> todosUsuarios = usuarioRepository.findAll();
@@ -142,13 +177,22 @@ public class EventoService {
                 for (Pedido pedido : usuario.getPedidos()) {
                     if (pedido.getEvento().getIdEvento() == eventoId
                             && !"CANCELADO_PELO_ORGANIZADOR".equals(pedido.getStatus())) {
-                        pedido.setStatus("CANCELADO_PELO_ORGANIZADOR");
+                        // Pedidos já cancelados pelo usuário foram descontados do painel no cancelamento deles.
+                        // A troca atômica evita descontar duas vezes um pedido cancelado ao mesmo tempo pelo usuário.
+                        if (pedido.alterarStatus("CONCLUIDO", "CANCELADO_PELO_ORGANIZADOR")) {
+                            eventosDominioService.pedidoCancelado(usuario.getIdUsuario(), pedido, true);
+                            painelVendasService.registrarCancelamento(pedido);
+                        } else {
+                            pedido.setStatus("CANCELADO_PELO_ORGANIZADOR");
+                        }
                         usuarioModificado = true;
                     }
                 }
             }
             if (usuarioModificado) {
-                usuarioRepository.save(usuario);
+                // Os pedidos são compartilhados entre as versões do usuário; a nova versão grava
+                // os status sem sobrescrever uma compra feita nesse meio tempo.
+                usuarioRepository.atualizar(usuario.getIdUsuario(), copia -> { });
             }
         }
     }
@@ -174,20 +218,60 @@ public class EventoService {
 
     /**
      * Busca todos os eventos criados por um organizador específico.
-     * Filtra a lista completa de eventos para encontrar aqueles cujo {@code organizadorId}
-     * corresponde ao ID do organizador fornecido e retorna a lista ordenada.
+     * A busca pelo {@code organizadorId} é feita pelo repositório, que pode usar um índice,
+     * e a lista é devolvida ordenada.
      *
      * @param organizador O {@link Organizador} cujos eventos serão buscados.
      * @return Uma lista de {@link Evento} pertencentes ao organizador, ordenada pela data de criação.
      */
     public List<Evento> buscarPorOrganizador(Organizador organizador) {
-        List<Evento> eventos = eventoRepository.findAll().stream()
-                .filter(evento -> evento.getOrganizadorId() == organizador.getIdUsuario())
-                .collect(Collectors.toList());
+        List<Evento> eventos = new ArrayList<>(eventoRepository.findByOrganizadorId(organizador.getIdUsuario()));
         eventos.sort(Comparator.comparingInt(Evento::getIdEvento).reversed());
         return eventos;
     }
 
+    /**
+     * Busca os eventos localizados dentro de uma área do mapa.
+     *
+     * @param latMin A latitude sul da área.
+     * @param lngMin A longitude oeste da área.
+     * @param latMax A latitude norte da área.
+     * @param lngMax A longitude leste da área.
+     * @return Uma lista com os eventos encontrados na área.
+     * @throws IllegalArgumentException se as coordenadas da área forem inválidas.
+     */
+    public List<Evento> buscarPorArea(double latMin, double lngMin, double latMax, double lngMax) {
+        validarCoordenadas(latMin, lngMin);
+        validarCoordenadas(latMax, lngMax);
+        if (latMin > latMax) {
+            throw new IllegalArgumentException("A latitude sul da área não pode ser maior que a latitude norte.");
+        }
+        return eventoRepository.findByArea(latMin, lngMin, latMax, lngMax);
+    }
+
+    /**
+     * Busca os agrupamentos de eventos de uma área do mapa para um nível de zoom.
+     *
+     * @param latMin A latitude sul da área.
+     * @param lngMin A longitude oeste da área.
+     * @param latMax A latitude norte da área.
+     * @param lngMax A longitude leste da área.
+     * @param zoom O nível de zoom do mapa (a partir de 0).
+     * @return Uma lista com os agrupamentos visíveis.
+     * @throws IllegalArgumentException se a área ou o zoom forem inválidos.
+     */
+    public List<ClusterEventos> buscarClusters(double latMin, double lngMin, double latMax, double lngMax, int zoom) {
+        validarCoordenadas(latMin, lngMin);
+        validarCoordenadas(latMax, lngMax);
+        if (latMin > latMax) {
+            throw new IllegalArgumentException("A latitude sul da área não pode ser maior que a latitude norte.");
+        }
+        if (zoom < 0) {
+            throw new IllegalArgumentException("O nível de zoom não pode ser negativo.");
+        }
+        return eventoRepository.findClusters(latMin, lngMin, latMax, lngMax, zoom);
+    }
+
     /**
      * Cria e salva um novo evento a partir dos dados fornecidos.
      * Este método centraliza a criação de eventos, aplicando regras de negócio importantes:
@@ -206,6 +290,12 @@ public class EventoService {
      * @param imageUrl URL de uma imagem de divulgação (opcional).
      * @param cupomCode Código de um cupom de desconto (opcional).
      * @param cupomDiscountValue Valor do desconto associado ao cupom (opcional).
+     * @param latitude Latitude do local, para exibição no mapa (opcional).
+     * @param longitude Longitude do local, para exibição no mapa (opcional).
+     * @param mapaAssentos Setores de assentos numerados, no formato "Nome:fileirasxassentos; ..." (opcional).
+     * Quando informado, a capacidade passa a ser o total de assentos.
+     * @param tiposIngresso Tipos de ingresso, no formato "Nome|preço|capacidade|início|fim; ..." (opcional; as
+     * datas são opcionais). Quando informado, a capacidade passa a ser a soma dos tipos e o preço, o menor deles.
      * @param organizador O {@link Organizador} que está criando o evento.
      * @return O objeto {@link Evento} que foi criado e persistido no repositório.
      * @throws IllegalArgumentException se a data do evento for anterior à data atual.
@@ -213,16 +303,42 @@ public class EventoService {
     public Evento criarNovoEvento(String nomeEvento, LocalDateTime dataEvento, String local,
             String descricao, String categoria, double preco,
             int capacidade, String imageUrl, String cupomCode,
-            double cupomDiscountValue, Organizador organizador) {
+            double cupomDiscountValue, Double latitude, Double longitude, String mapaAssentos,
+            String tiposIngresso, Organizador organizador) {
 
         if (dataEvento.isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("A data do evento não pode ser anterior à data atual.");
         }
+
+        List<TipoIngresso> tipos = lerTiposIngresso(tiposIngresso);
+        if (tipos != null) {
+            preco = tipos.stream().mapToDouble(TipoIngresso::getPreco).min().getAsDouble();
+        }
         
         if (cupomDiscountValue > (preco * 0.5)) {
             throw new IllegalArgumentException("O valor do desconto do cupom não pode exceder 50% do preço do ingresso.");
         }
 
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Informe a latitude e a longitude do local, ou nenhuma das duas.");
+        }
+        if (latitude != null) {
+            validarCoordenadas(latitude, longitude);
+        }
+
+        List<SetorAssentos> setores = lerSetores(mapaAssentos);
+        if (setores != null) {
+            capacidade = setores.stream().mapToInt(SetorAssentos::getTotalAssentos).sum();
+        }
+        if (tipos != null) {
+            int totalTipos = tipos.stream().mapToInt(TipoIngresso::getCapacidade).sum();
+            if (setores != null && totalTipos > capacidade) {
+                throw new IllegalArgumentException("A soma dos tipos de ingresso (" + totalTipos
+                        + ") não pode passar do total de assentos (" + capacidade + ").");
+            }
+            capacidade = totalTipos;
+        }
+
         IEventoBuilder builder = new EventoBuilderConcreto();
 
         Evento novoEvento = builder
@@ -239,8 +355,115 @@ public class EventoService {
                 .cupomDiscountValue(cupomDiscountValue)
                 .organizador(organizador)
                 .organizadorId(organizador.getIdUsuario())
+                .coordenadas(latitude, longitude)
+                .setores(setores)
+                .tiposIngresso(tipos)
                 .build();
 
-        return this.save(novoEvento);
+        // O evento e o registro da sua criação no log são gravados juntos.
+        return unidadeDeTrabalho.executar(() -> {
+            Evento salvo = this.save(novoEvento);
+            eventosDominioService.eventoCriado(salvo);
+            return salvo;
+        });
+    }
+
+    /**
+     * Lê os setores de assentos no formato "Nome:fileirasxassentos", separados por ";"
+     * (ex: "Plateia A:20x30; Camarote:2x10").
+     *
+     * @return Os setores lidos, ou {@code null} se o texto estiver vazio.
+     * @throws IllegalArgumentException se algum setor estiver fora do formato ou dos limites.
+     */
+    private List<SetorAssentos> lerSetores(String mapaAssentos) {
+        if (mapaAssentos == null || mapaAssentos.isBlank()) {
+            return null;
+        }
+        List<SetorAssentos> setores = new ArrayList<>();
+        for (String trecho : mapaAssentos.split(";")) {
+            if (trecho.isBlank()) {
+                continue;
+            }
+            int separador = trecho.lastIndexOf(':');
+            String[] dimensoes = separador < 0 ? new String[0] : trecho.substring(separador + 1).trim().toLowerCase().split("x");
+            if (separador <= 0 || dimensoes.length != 2) {
+                throw new IllegalArgumentException("Setor de assentos inválido: \"" + trecho.trim()
+                        + "\". Use o formato Nome:fileirasxassentos.");
+            }
+            int fileiras;
+            int assentos;
+            try {
+                fileiras = Integer.parseInt(dimensoes[0].trim());
+                assentos = Integer.parseInt(dimensoes[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Setor de assentos inválido: \"" + trecho.trim()
+                        + "\". Use o formato Nome:fileirasxassentos.");
+            }
+            if (fileiras < 1 || assentos < 1 || assentos > SetorAssentos.MAX_ASSENTOS_POR_FILEIRA) {
+                throw new IllegalArgumentException("Cada setor deve ter pelo menos uma fileira e de 1 a "
+                        + SetorAssentos.MAX_ASSENTOS_POR_FILEIRA + " assentos por fileira.");
+            }
+            setores.add(new SetorAssentos(trecho.substring(0, separador).trim(), fileiras, assentos));
+        }
+        return setores.isEmpty() ? null : setores;
+    }
+
+    /**
+     * Lê os tipos de ingresso no formato "Nome|preço|capacidade|início|fim", separados por ";"
+     * (ex: "Inteira|100|300; Meia-entrada|50|100; Lote 1|80|200||2025-10-01T23:59").
+     * As datas de início e fim das vendas são opcionais.
+     *
+     * @return Os tipos lidos, ou {@code null} se o texto estiver vazio.
+     * @throws IllegalArgumentException se algum tipo estiver fora do formato, repetido ou com valores inválidos.
+     */
+    private List<TipoIngresso> lerTiposIngresso(String tiposIngresso) {
+        if (tiposIngresso == null || tiposIngresso.isBlank()) {
+            return null;
+        }
+        List<TipoIngresso> tipos = new ArrayList<>();
+        for (String trecho : tiposIngresso.split(";")) {
+            if (trecho.isBlank()) {
+                continue;
+            }
+            String[] partes = trecho.split("\\|", -1);
+            if (partes.length < 3 || partes.length > 5 || partes[0].isBlank()) {
+                throw new IllegalArgumentException("Tipo de ingresso inválido: \"" + trecho.trim()
+                        + "\". Use o formato Nome|preço|capacidade|início|fim.");
+            }
+            String nome = partes[0].trim();
+            double preco;
+            int capacidade;
+            LocalDateTime inicio;
+            LocalDateTime fim;
+            try {
+                preco = Double.parseDouble(partes[1].trim().replace(',', '.'));
+                capacidade = Integer.parseInt(partes[2].trim());
+                inicio = partes.length > 3 && !partes[3].isBlank() ? LocalDateTime.parse(partes[3].trim()) : null;
+                fim = partes.length > 4 && !partes[4].isBlank() ? LocalDateTime.parse(partes[4].trim()) : null;
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Tipo de ingresso inválido: \"" + trecho.trim()
+                        + "\". Use o formato Nome|preço|capacidade|início|fim.");
+            }
+            if (preco < 0 || capacidade < 1) {
+                throw new IllegalArgumentException("O ingresso " + nome + " deve ter preço não negativo e capacidade positiva.");
+            }
+            if (inicio != null && fim != null && fim.isBefore(inicio)) {
+                throw new IllegalArgumentException("O fim das vendas do ingresso " + nome + " é anterior ao início.");
+            }
+            if (tipos.stream().anyMatch(t -> t.getNome().equalsIgnoreCase(nome))) {
+                throw new IllegalArgumentException("Tipo de ingresso repetido: " + nome);
+            }
+            tipos.add(new TipoIngresso(nome, preco, capacidade, inicio, fim));
+        }
+        return tipos.isEmpty() ? null : tipos;
+    }
+
+    /**
+     * Verifica se um par de coordenadas está dentro dos limites geográficos.
+     */
+    private void validarCoordenadas(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordenadas inválidas: a latitude deve estar entre -90 e 90 e a longitude entre -180 e 180.");
+        }
     }
 }
@@ -0,0 +1,197 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.ProjecaoDominio;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.UsuarioCadastrado;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.LogEventosDominio;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.strategy.CalculoComTaxaServico;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Classe de serviço que registra os eventos de domínio (usuários cadastrados, eventos criados e
+ * cancelados, pedidos criados e cancelados) no {@link LogEventosDominio} e reconstrói as projeções
+ * a partir dele.
+ * <p>
+ * Os fatos são registrados pelos serviços dentro da mesma unidade de trabalho que grava os
+ * repositórios, então o log e os arquivos dos repositórios são confirmados juntos. Na primeira
+ * inicialização com o log vazio, o histórico é gerado a partir dos usuários, eventos e pedidos já salvos.
+ * <p>
+ * O estado completo de usuários e eventos continua nos repositórios, que são a fonte usada pelas
+ * telas; o log guarda apenas os fatos de que as projeções (como o {@link PainelVendasService})
+ * precisam, e é a fonte delas. Os repositórios não são reconstruídos a partir do log.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class EventosDominioService {
+
+    private final LogEventosDominio logEventosDominio;
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param logEventosDominio O log onde os fatos são gravados.
+     * @param eventoRepository Repositório lido apenas para gerar o histórico inicial.
+     * @param usuarioRepository Repositório lido apenas para gerar o histórico inicial.
+     */
+    public EventosDominioService(LogEventosDominio logEventosDominio, EventoRepository eventoRepository,
+            UsuarioRepository usuarioRepository) {
+        this.logEventosDominio = logEventosDominio;
+        this.eventoRepository = eventoRepository;
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    /**
+     * Gera o histórico inicial a partir dos dados salvos, se o log ainda estiver vazio.
+     * Os usuários entram primeiro, para que os organizadores apareçam antes dos seus eventos.
+     * Pedidos cancelados entram como criação seguida de cancelamento, com a data do pedido.
+     */
+    @PostConstruct
+    public void init() {
+        if (!logEventosDominio.isVazio()) {
+            return;
+        }
+        for (Usuario usuario : usuarioRepository.findAll()) {
+            logEventosDominio.registrar(cadastro(0, usuario));
+        }
+        for (Evento evento : eventoRepository.findAll()) {
+            logEventosDominio.registrar(new EventoCriado(0, evento.getIdEvento(), evento.getOrganizadorId(),
+                    evento.getNomeEvento(), evento.getCapacidade()));
+            if ("CANCELADO".equals(evento.getStatus())) {
+                logEventosDominio.registrar(new EventoCancelado(0, evento.getIdEvento(), evento.getOrganizadorId()));
+            }
+        }
+        for (Usuario usuario : usuarioRepository.findAll()) {
+            if (usuario.getPedidos() == null) {
+                continue;
+            }
+            for (Pedido pedido : usuario.getPedidos()) {
+                if (pedido.getEvento() == null) {
+                    continue;
+                }
+                long instante = instanteDe(pedido.getDataPedido());
+                logEventosDominio.registrar(new PedidoCriado(instante, pedido.getIdPedido(), usuario.getIdUsuario(),
+                        pedido.getEvento().getIdEvento(), pedido.getQuantidadeIngressos(), pedido.getValorTotal(),
+                        taxaDoPedido(pedido), descontoDoPedido(pedido)));
+                if (pedido.getStatus() != null && pedido.getStatus().startsWith("CANCELADO")) {
+                    logEventosDominio.registrar(cancelamento(instante, usuario.getIdUsuario(), pedido,
+                            "CANCELADO_PELO_ORGANIZADOR".equals(pedido.getStatus())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reconstrói uma projeção reproduzindo o log inteiro.
+     *
+     * @param projecao A projeção, ainda vazia.
+     */
+    public void reproduzir(ProjecaoDominio projecao) {
+        logEventosDominio.reproduzir(projecao::aplicar);
+    }
+
+    /**
+     * Registra o cadastro de um usuário ou organizador.
+     *
+     * @param usuario O usuário recém-salvo.
+     */
+    public void usuarioCadastrado(Usuario usuario) {
+        logEventosDominio.registrar(cadastro(System.currentTimeMillis(), usuario));
+    }
+
+    /**
+     * Registra a criação de um evento.
+     *
+     * @param evento O evento recém-salvo.
+     */
+    public void eventoCriado(Evento evento) {
+        logEventosDominio.registrar(new EventoCriado(System.currentTimeMillis(), evento.getIdEvento(),
+                evento.getOrganizadorId(), evento.getNomeEvento(), evento.getCapacidade()));
+    }
+
+    /**
+     * Registra o cancelamento de um evento.
+     *
+     * @param evento O evento cancelado.
+     */
+    public void eventoCancelado(Evento evento) {
+        logEventosDominio.registrar(new EventoCancelado(System.currentTimeMillis(), evento.getIdEvento(),
+                evento.getOrganizadorId()));
+    }
+
+    /**
+     * Registra um pedido concluído.
+     *
+     * @param usuarioId O ID do comprador.
+     * @param pedido O pedido.
+     * @param taxa A parte do valor total referente à taxa de serviço.
+     * @param desconto O desconto concedido pelo cupom.
+     */
+    public void pedidoCriado(int usuarioId, Pedido pedido, double taxa, double desconto) {
+        logEventosDominio.registrar(new PedidoCriado(System.currentTimeMillis(), pedido.getIdPedido(), usuarioId,
+                pedido.getEvento().getIdEvento(), pedido.getQuantidadeIngressos(), pedido.getValorTotal(), taxa, desconto));
+    }
+
+    /**
+     * Registra o cancelamento de um pedido.
+     *
+     * @param usuarioId O ID do comprador.
+     * @param pedido O pedido cancelado.
+     * @param peloOrganizador Se o pedido foi cancelado junto com o evento.
+     */
+    public void pedidoCancelado(int usuarioId, Pedido pedido, boolean peloOrganizador) {
+        logEventosDominio.registrar(cancelamento(System.currentTimeMillis(), usuarioId, pedido, peloOrganizador));
+    }
+
+    private static UsuarioCadastrado cadastro(long instante, Usuario usuario) {
+        return new UsuarioCadastrado(instante, usuario.getIdUsuario(), usuario.getNome(), usuario.getEmail(),
+                usuario instanceof Organizador);
+    }
+
+    private static PedidoCancelado cancelamento(long instante, int usuarioId, Pedido pedido, boolean peloOrganizador) {
+        return new PedidoCancelado(instante, pedido.getIdPedido(), usuarioId, pedido.getEvento().getIdEvento(),
+                pedido.getQuantidadeIngressos(), pedido.getValorTotal(), taxaDoPedido(pedido), descontoDoPedido(pedido),
+                peloOrganizador);
+    }
+
+    /**
+     * Deriva a taxa de serviço de um pedido. O {@link PedidoService} aplica a taxa por
+     * último, então o valor antes da taxa é o total dividido por (1 + taxa).
+     */
+    static double taxaDoPedido(Pedido pedido) {
+        return pedido.getValorTotal() - valorAntesDaTaxa(pedido);
+    }
+
+    /**
+     * Deriva o desconto de cupom de um pedido: a diferença entre o valor base e o valor antes da taxa.
+     */
+    static double descontoDoPedido(Pedido pedido) {
+        return Math.max(0, pedido.getValorBase() - valorAntesDaTaxa(pedido));
+    }
+
+    private static double valorAntesDaTaxa(Pedido pedido) {
+        return pedido.getValorTotal() / (1 + CalculoComTaxaServico.TAXA_SERVICO);
+    }
+
+    private static long instanteDe(LocalDateTime data) {
+        return (data != null) ? data.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço que mantém um índice em memória dos ingressos emitidos, por código de inscrição.
+ * <p>
+ * Cada entrada guarda apenas os IDs do dono e do pedido e a posição do ingresso no pedido, de
+ * modo que exibir um ingresso, verificar a quem ele pertence ou validá-lo na portaria custa uma
+ * consulta ao mapa e uma leitura do usuário pelo ID, sem percorrer os pedidos de todos os
+ * usuários. O índice é reconstruído na inicialização e atualizado pelo {@link PedidoService} a
+ * cada pedido criado.
+ * <p>
+ * O pedido é obtido do repositório a cada consulta, portanto cancelamentos (do usuário ou do
+ * organizador) já se refletem no status consultado. Como o índice não guarda usuários nem
+ * pedidos, um repositório que lê os usuários sob demanda pode descartar os que não estão em uso.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class IndiceIngressosService {
+
+    private final UsuarioRepository usuarioRepository;
+
+    /**
+     * Índice principal: código de inscrição do ingresso para o seu registro.
+     */
+    private final Map<String, Posicao> porInscricao = new ConcurrentHashMap<>();
+
+    /**
+     * Maior número de ingresso já reservado por evento, para que os códigos nunca se repitam,
+     * mesmo depois de cancelamentos devolverem ingressos ao estoque. Começa no maior número
+     * indexado e só avança.
+     */
+    private final Map<Integer, AtomicInteger> ultimoNumeroPorEvento = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param usuarioRepository Repositório percorrido na inicialização e consultado para obter o pedido de cada ingresso.
+     */
+    public IndiceIngressosService(UsuarioRepository usuarioRepository) {
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    /**
+     * Reconstrói o índice a partir dos pedidos já persistidos.
+     */
+    @PostConstruct
+    public void init() {
+        usuarioRepository.paraCada(usuario -> {
+            if (usuario.getPedidos() == null) {
+                return;
+            }
+            for (Pedido pedido : usuario.getPedidos()) {
+                indexar(usuario, pedido);
+            }
+        });
+    }
+
+    /**
+     * Adiciona os ingressos de um pedido ao índice.
+     *
+     * @param usuario O usuário dono do pedido.
+     * @param pedido O pedido com os ingressos emitidos.
+     */
+    public void indexar(Usuario usuario, Pedido pedido) {
+        if (pedido.getIngressos() == null) {
+            return;
+        }
+        List<Ingresso> ingressos = pedido.getIngressos();
+        for (int indice = 0; indice < ingressos.size(); indice++) {
+            Ingresso ingresso = ingressos.get(indice);
+            porInscricao.put(ingresso.getIdIncricao(), new Posicao(usuario.getIdUsuario(), pedido.getIdPedido(), indice));
+            int numero = numeroDoIngresso(ingresso.getIdIncricao());
+            if (numero > 0) {
+                ultimoNumero(ingresso.getIdEvento()).accumulateAndGet(numero, Math::max);
+            }
+        }
+    }
+
+    /**
+     * Busca um ingresso pelo código de inscrição.
+     *
+     * @param idInscricao O código de inscrição do ingresso.
+     * @return Um {@link Optional} com o registro do ingresso, vazio se o dono ou o pedido não existirem mais.
+     */
+    public Optional<RegistroIngresso> buscar(String idInscricao) {
+        if (idInscricao == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(porInscricao.get(idInscricao)).flatMap(this::resolver);
+    }
+
+    /**
+     * Busca um ingresso somente se ele pertencer ao usuário informado.
+     *
+     * @param idInscricao O código de inscrição do ingresso.
+     * @param usuarioId O ID do usuário que deve ser o dono do ingresso.
+     * @return Um {@link Optional} com o registro, vazio se não existir ou pertencer a outro usuário.
+     */
+    public Optional<RegistroIngresso> buscarDoUsuario(String idInscricao, int usuarioId) {
+        if (idInscricao == null) {
+            return Optional.empty();
+        }
+        // O dono é conferido antes da leitura do usuário.
+        return Optional.ofNullable(porInscricao.get(idInscricao))
+                .filter(posicao -> posicao.usuarioId == usuarioId)
+                .flatMap(this::resolver);
+    }
+
+    /**
+     * Consulta o próximo número de ingresso livre de um evento, sem reservá-lo.
+     *
+     * @param eventoId O ID do evento.
+     * @return O número seguinte ao maior já reservado (1 se nenhum foi emitido).
+     */
+    public int proximoNumeroIngresso(int eventoId) {
+        AtomicInteger ultimo = ultimoNumeroPorEvento.get(eventoId);
+        return (ultimo == null ? 0 : ultimo.get()) + 1;
+    }
+
+    /**
+     * Reserva uma faixa de números de ingresso de um evento.
+     * <p>
+     * A faixa é retirada do contador do evento com uma única soma atômica, de modo que pedidos
+     * simultâneos nunca recebem números repetidos. Números de um pedido desfeito não voltam a ser usados.
+     *
+     * @param eventoId O ID do evento.
+     * @param quantidade A quantidade de números.
+     * @return O primeiro número da faixa; os demais são os seguintes.
+     */
+    public int reservarNumeros(int eventoId, int quantidade) {
+        return ultimoNumero(eventoId).getAndAdd(quantidade) + 1;
+    }
+
+    private AtomicInteger ultimoNumero(int eventoId) {
+        return ultimoNumeroPorEvento.computeIfAbsent(eventoId, id -> new AtomicInteger());
+    }
+
+    /**
+     * Lê o dono de um ingresso e localiza o pedido na versão atual dele.
+     */
+    private Optional<RegistroIngresso> resolver(Posicao posicao) {
+        return usuarioRepository.findById(posicao.usuarioId)
+                .map(Usuario::getPedidos)
+                .flatMap(pedidos -> pedidos.stream().filter(p -> p.getIdPedido() == posicao.pedidoId).findFirst())
+                .filter(pedido -> pedido.getIngressos() != null && posicao.indice < pedido.getIngressos().size())
+                .map(pedido -> new RegistroIngresso(posicao.usuarioId, pedido, posicao.indice));
+    }
+
+    /**
+     * Extrai o número sequencial de um código no formato "idEvento-numero".
+     */
+    static int numeroDoIngresso(String idInscricao) {
+        int separador = idInscricao.lastIndexOf('-');
+        if (separador < 0) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(idInscricao.substring(separador + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Entrada do índice: onde um ingresso está, só com números.
+     */
+    private static final class Posicao {
+
+        private final int usuarioId;
+        private final int pedidoId;
+        private final int indice;
+
+        private Posicao(int usuarioId, int pedidoId, int indice) {
+            this.usuarioId = usuarioId;
+            this.pedidoId = pedidoId;
+            this.indice = indice;
+        }
+    }
+
+    /**
+     * Resultado de uma busca: o ingresso e onde ele está.
+     * <p>
+     * Os registros criados pela busca guardam apenas a posição do ingresso no pedido, já que os
+     * ingressos ficam fora do heap ({@link io.github.site_de_eventos.sitedeeventos.model.ListaIngressos})
+     * e a visão é criada só quando alguém pede o ingresso.
+     */
+    public static class RegistroIngresso {
+
+        private final int usuarioId;
+        private final Pedido pedido;
+        private final Ingresso ingresso;
+        private final int indice;
+
+        /**
+         * Cria um registro para um ingresso já em memória.
+         *
+         * @param usuarioId O ID do dono do ingresso.
+         * @param pedido O pedido ao qual o ingresso pertence.
+         * @param ingresso O ingresso.
+         */
+        public RegistroIngresso(int usuarioId, Pedido pedido, Ingresso ingresso) {
+            this.usuarioId = usuarioId;
+            this.pedido = pedido;
+            this.ingresso = ingresso;
+            this.indice = -1;
+        }
+
+        /**
+         * Cria um registro que aponta para a posição do ingresso no pedido.
+         *
+         * @param usuarioId O ID do dono do ingresso.
+         * @param pedido O pedido ao qual o ingresso pertence.
+         * @param indice A posição do ingresso na lista do pedido.
+         */
+        public RegistroIngresso(int usuarioId, Pedido pedido, int indice) {
+            this.usuarioId = usuarioId;
+            this.pedido = pedido;
+            this.ingresso = null;
+            this.indice = indice;
+        }
+
+        /**
+         * @return O ID (int) do dono do ingresso.
+         */
+        public int getUsuarioId() {
+            return usuarioId;
+        }
+
+        /**
+         * @return O {@link Pedido} ao qual o ingresso pertence.
+         */
+        public Pedido getPedido() {
+            return pedido;
+        }
+
+        /**
+         * @return O {@link Ingresso} indexado.
+         */
+        public Ingresso getIngresso() {
+            return ingresso != null ? ingresso : pedido.getIngressos().get(indice);
+        }
+
+        /**
+         * Indica se o ingresso dá acesso ao evento: o pedido está concluído e o evento não foi cancelado.
+         * @return {@code true} se o ingresso for válido.
+         */
+        public boolean isValido() {
+            return "CONCLUIDO".equals(pedido.getStatus())
+                    && (pedido.getEvento() == null || !"CANCELADO".equals(pedido.getEvento().getStatus()));
+        }
+    }
+}
@@ -0,0 +1,674 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe de serviço responsável pela lista de espera dos eventos esgotados.
+ * <p>
+ * Cada evento tem uma fila por ordem de chegada. Quando um pedido é cancelado, os ingressos
+ * devolvidos não voltam ao estoque aberto: são entregues imediatamente aos primeiros da fila
+ * como uma reserva com prazo ({@value #MINUTOS_RESERVA} minutos). Se o prazo vencer sem
+ * compra, os ingressos passam ao próximo da fila, ou ao estoque se a fila estiver vazia.
+ * <p>
+ * Entrar, sair e atender o primeiro da fila custam O(1). Cada operação é acrescentada ao
+ * arquivo "lista-espera.log", que é relido na inicialização e reescrito apenas com o estado atual.
+ * <p>
+ * Como os ingressos reservados ficam fora do estoque, uma operação só vale depois de gravada:
+ * se o arquivo não puder ser aberto, a aplicação não inicia, e se uma linha não puder ser
+ * acrescentada, a operação é recusada com {@link IllegalStateException} sem alterar a fila.
+ * Ingressos que não puderem ser reservados para a fila voltam ao estoque aberto.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class ListaEsperaService {
+
+    /**
+     * Prazo padrão, em minutos, para o comprador usar os ingressos reservados.
+     */
+    public static final long MINUTOS_RESERVA = 15;
+
+    /**
+     * O arquivo de registro, apenas acrescentado. Formato das linhas:
+     * "E;idEvento;idUsuario;quantidade" (entrada na fila), "S;idEvento;idUsuario" (saída da fila),
+     * "R;idEvento;idUsuario;quantidade;expiraEm" (reserva criada) e "L;idEvento;idUsuario" (reserva encerrada).
+     */
+    private static final String FILE_NAME = "lista-espera.log";
+
+    /**
+     * Espera, em segundos, antes de tentar de novo o vencimento de uma reserva que não pôde ser gravado.
+     */
+    private static final long SEGUNDOS_NOVA_TENTATIVA = 60;
+
+    private final EventoRepository eventoRepository;
+    private final DisponibilidadeService disponibilidadeService;
+    private final Duration prazoReserva;
+    private final Path caminho;
+
+    /**
+     * Filas por ID de evento.
+     */
+    private final Map<Integer, FilaEspera> filas = new ConcurrentHashMap<>();
+
+    /**
+     * Agenda o vencimento das reservas, para que os ingressos sejam repassados sem esperar uma visita à página.
+     */
+    private final ScheduledExecutorService agendador;
+
+    /**
+     * O arquivo aberto para acréscimos, sem buffer; {@code null} antes de {@link #init()} e depois de {@link #encerrar()}.
+     */
+    private FileChannel log;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param eventoRepository Repositório usado para devolver ao estoque as reservas vencidas.
+     * @param disponibilidadeService Serviço avisado quando ingressos voltam ao estoque.
+     */
+    @Autowired
+    public ListaEsperaService(EventoRepository eventoRepository, DisponibilidadeService disponibilidadeService) {
+        this(eventoRepository, disponibilidadeService, Duration.ofMinutes(MINUTOS_RESERVA));
+    }
+
+    /**
+     * Construtor com o prazo das reservas configurável.
+     *
+     * @param eventoRepository Repositório usado para devolver ao estoque as reservas vencidas.
+     * @param disponibilidadeService Serviço avisado quando ingressos voltam ao estoque.
+     * @param prazoReserva Prazo para o comprador usar os ingressos reservados.
+     */
+    public ListaEsperaService(EventoRepository eventoRepository, DisponibilidadeService disponibilidadeService,
+            Duration prazoReserva) {
+        this(eventoRepository, disponibilidadeService, prazoReserva, Paths.get(FILE_NAME));
+    }
+
+    /**
+     * Construtor que permite escolher o arquivo de registro.
+     *
+     * @param eventoRepository Repositório usado para devolver ao estoque as reservas vencidas.
+     * @param disponibilidadeService Serviço avisado quando ingressos voltam ao estoque.
+     * @param prazoReserva Prazo para o comprador usar os ingressos reservados.
+     * @param caminho O arquivo de registro da lista de espera.
+     */
+    ListaEsperaService(EventoRepository eventoRepository, DisponibilidadeService disponibilidadeService,
+            Duration prazoReserva, Path caminho) {
+        this.eventoRepository = eventoRepository;
+        this.disponibilidadeService = disponibilidadeService;
+        this.prazoReserva = prazoReserva;
+        this.caminho = caminho;
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "lista-espera-reservas");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Restaura as filas e reservas do arquivo, compacta-o e agenda o vencimento das reservas.
+     * Reservas que venceram com a aplicação parada são repassadas logo em seguida.
+     *
+     * @throws IllegalStateException Se o arquivo não puder ser lido ou aberto, já que sem ele as
+     *         reservas, cujos ingressos estão fora do estoque, seriam perdidas.
+     */
+    @PostConstruct
+    public void init() {
+        carregarLog();
+        compactarLog();
+        try {
+            log = FileChannel.open(caminho, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao abrir o registro da lista de espera " + caminho + ": " + e.getMessage(), e);
+        }
+        filas.values().forEach(fila -> {
+            synchronized (fila) {
+                fila.reservas.values().forEach(this::agendarVencimento);
+            }
+        });
+    }
+
+    /**
+     * Coloca um usuário no fim da lista de espera de um evento esgotado.
+     *
+     * @param eventoId O ID do evento.
+     * @param usuarioId O ID do usuário.
+     * @param quantidade A quantidade de ingressos desejada.
+     * @return A posição do usuário na fila (a partir de 1).
+     * @throws RuntimeException se o evento não for encontrado.
+     * @throws IllegalArgumentException se a quantidade for menor que 1.
+     * @throws IllegalStateException se o evento estiver cancelado, ainda tiver ingressos
+     * suficientes, o usuário já estiver na fila ou com uma reserva, ou a entrada não puder ser gravada.
+     */
+    public int entrar(int eventoId, int usuarioId, int quantidade) {
+        Evento evento = eventoRepository.findById(eventoId)
+                .orElseThrow(() -> new RuntimeException("Evento não encontrado com ID: " + eventoId));
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("Informe pelo menos um ingresso.");
+        }
+        if ("CANCELADO".equals(evento.getStatus())) {
+            throw new IllegalStateException("Este evento foi cancelado.");
+        }
+        if (evento.getIngressosDisponiveis() >= quantidade) {
+            throw new IllegalStateException("Ainda há ingressos disponíveis para este evento.");
+        }
+        FilaEspera fila = fila(eventoId);
+        synchronized (fila) {
+            if (fila.reservas.containsKey(usuarioId)) {
+                throw new IllegalStateException("Você já tem ingressos reservados para este evento.");
+            }
+            if (fila.aguardando.containsKey(usuarioId)) {
+                throw new IllegalStateException("Você já está na lista de espera deste evento.");
+            }
+            anexarAoLog("E;" + eventoId + ";" + usuarioId + ";" + quantidade);
+            fila.aguardando.put(usuarioId, quantidade);
+            return fila.aguardando.size();
+        }
+    }
+
+    /**
+     * Retira um usuário da lista de espera de um evento.
+     *
+     * @param eventoId O ID do evento.
+     * @param usuarioId O ID do usuário.
+     * @return {@code true} se o usuário estava na fila.
+     * @throws IllegalStateException se a saída não puder ser gravada; o usuário continua na fila.
+     */
+    public boolean sair(int eventoId, int usuarioId) {
+        FilaEspera fila = filas.get(eventoId);
+        if (fila == null) {
+            return false;
+        }
+        synchronized (fila) {
+            if (!fila.aguardando.containsKey(usuarioId)) {
+                return false;
+            }
+            anexarAoLog("S;" + eventoId + ";" + usuarioId);
+            fila.aguardando.remove(usuarioId);
+            return true;
+        }
+    }
+
+    /**
+     * Obtém a posição de um usuário na fila. Percorre a fila, por isso serve apenas para exibição.
+     *
+     * @param eventoId O ID do evento.
+     * @param usuarioId O ID do usuário.
+     * @return A posição (a partir de 1), ou 0 se o usuário não estiver na fila.
+     */
+    public int posicao(int eventoId, int usuarioId) {
+        FilaEspera fila = filas.get(eventoId);
+        if (fila == null) {
+            return 0;
+        }
+        synchronized (fila) {
+            int posicao = 1;
+            for (Integer id : fila.aguardando.keySet()) {
+                if (id == usuarioId) {
+                    return posicao;
+                }
+                posicao++;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Obtém a quantidade de usuários aguardando em um evento.
+     *
+     * @param eventoId O ID do evento.
+     * @return O tamanho da fila.
+     */
+    public int tamanho(int eventoId) {
+        FilaEspera fila = filas.get(eventoId);
+        if (fila == null) {
+            return 0;
+        }
+        synchronized (fila) {
+            return fila.aguardando.size();
+        }
+    }
+
+    /**
+     * Obtém a reserva ainda válida de um usuário em um evento.
+     *
+     * @param eventoId O ID do evento.
+     * @param usuarioId O ID do usuário.
+     * @return A reserva, ou vazio se não houver reserva dentro do prazo.
+     */
+    public Optional<ReservaListaEspera> buscarReserva(int eventoId, int usuarioId) {
+        FilaEspera fila = filas.get(eventoId);
+        if (fila == null) {
+            return Optional.empty();
+        }
+        synchronized (fila) {
+            return Optional.ofNullable(fila.reservas.get(usuarioId))
+                    .filter(reserva -> !reserva.isVencida(LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Usa a reserva de um usuário em um novo pedido.
+     * <p>
+     * A reserva é encerrada. Se o pedido tiver menos ingressos que a reserva, a sobra é
+     * repassada ao próximo da fila (ou ao estoque) na mesma chamada.
+     *
+     * @param evento O evento do pedido.
+     * @param usuarioId O ID do comprador.
+     * @param quantidade A quantidade de ingressos do pedido.
+     * @return A parte da reserva usada pelo pedido, ou vazio se o usuário não tiver reserva válida.
+     * Se o pedido falhar, ela deve ser devolvida com {@link #restaurarReserva(ReservaListaEspera)}.
+     * @throws IllegalStateException se o uso não puder ser gravado; a reserva continua valendo.
+     */
+    public Optional<ReservaListaEspera> usarReserva(Evento evento, int usuarioId, int quantidade) {
+        FilaEspera fila = filas.get(evento.getIdEvento());
+        if (fila == null) {
+            return Optional.empty();
+        }
+        ReservaListaEspera usada;
+        int sobra;
+        synchronized (fila) {
+            ReservaListaEspera reserva = fila.reservas.get(usuarioId);
+            if (reserva == null || reserva.isVencida(LocalDateTime.now())) {
+                return Optional.empty();
+            }
+            encerrarReserva(fila, reserva);
+            int cobertos = Math.min(quantidade, reserva.getQuantidade());
+            usada = new ReservaListaEspera(reserva.getEventoId(), usuarioId, cobertos, reserva.getExpiraEm());
+            sobra = reserva.getQuantidade() - cobertos;
+        }
+        if (sobra > 0) {
+            devolver(evento, sobra);
+        }
+        return Optional.of(usada);
+    }
+
+    /**
+     * Devolve ao usuário uma reserva obtida com {@link #usarReserva}, quando o pedido não pôde ser concluído.
+     * O prazo original é mantido. Se a reserva não puder ser gravada, os ingressos são repassados
+     * como em um vencimento, para que não fiquem fora do estoque.
+     *
+     * @param reserva A reserva usada.
+     */
+    public void restaurarReserva(ReservaListaEspera reserva) {
+        FilaEspera fila = fila(reserva.getEventoId());
+        synchronized (fila) {
+            try {
+                anexarAoLog("R;" + reserva.getEventoId() + ";" + reserva.getUsuarioId() + ";"
+                        + reserva.getQuantidade() + ";" + reserva.getExpiraEm());
+                fila.reservas.put(reserva.getUsuarioId(), reserva);
+                agendarVencimento(reserva);
+                return;
+            } catch (IllegalStateException e) {
+                System.err.println("Reserva da lista de espera repassada: " + e.getMessage());
+            }
+        }
+        repassar(reserva);
+    }
+
+    /**
+     * Repassa ingressos devolvidos aos primeiros da fila, como reservas com prazo, e soma ao
+     * estoque do evento apenas o que sobrar. O evento não é salvo aqui.
+     * <p>
+     * Cada atendido recebe até a quantidade que pediu e sai da fila. Se uma reserva não puder
+     * ser gravada, o atendimento para e o restante vai para o estoque. Em eventos cancelados,
+     * a fila é descartada e nada volta ao estoque.
+     *
+     * @param evento O evento dos ingressos devolvidos.
+     * @param quantidade A quantidade de ingressos devolvidos.
+     * @return A quantidade (int) que voltou ao estoque aberto.
+     */
+    public int devolver(Evento evento, int quantidade) {
+        int restante = quantidade;
+        FilaEspera fila = filas.get(evento.getIdEvento());
+        if (fila != null) {
+            synchronized (fila) {
+                if ("CANCELADO".equals(evento.getStatus())) {
+                    descartar(fila, evento.getIdEvento());
+                    return 0;
+                }
+                LocalDateTime expiraEm = LocalDateTime.now().plus(prazoReserva);
+                Iterator<Map.Entry<Integer, Integer>> primeiros = fila.aguardando.entrySet().iterator();
+                while (restante > 0 && primeiros.hasNext()) {
+                    Map.Entry<Integer, Integer> primeiro = primeiros.next();
+                    int reservados = Math.min(primeiro.getValue(), restante);
+                    try {
+                        anexarAoLog("R;" + evento.getIdEvento() + ";" + primeiro.getKey() + ";" + reservados + ";" + expiraEm);
+                    } catch (IllegalStateException e) {
+                        System.err.println("Ingressos devolvidos ao estoque sem atender a lista de espera: " + e.getMessage());
+                        break;
+                    }
+                    primeiros.remove();
+                    ReservaListaEspera reserva = new ReservaListaEspera(evento.getIdEvento(), primeiro.getKey(),
+                            reservados, expiraEm);
+                    fila.reservas.put(primeiro.getKey(), reserva);
+                    agendarVencimento(reserva);
+                    restante -= reservados;
+                }
+            }
+        }
+        if (restante > 0) {
+            evento.ajustarIngressosDisponiveis(restante);
+        }
+        return restante;
+    }
+
+    /**
+     * Para o agendador e fecha o arquivo de registro quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    public synchronized void encerrar() {
+        agendador.shutdownNow();
+        fecharLog();
+    }
+
+    private synchronized void fecharLog() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar o registro da lista de espera: " + e.getMessage());
+        }
+        log = null;
+    }
+
+    /**
+     * Repassa os ingressos de uma reserva cujo prazo venceu sem compra.
+     * Não faz nada se a reserva já foi usada ou substituída. Se o encerramento não puder ser
+     * gravado, a reserva continua valendo e o vencimento é tentado de novo mais tarde.
+     */
+    void vencer(ReservaListaEspera reserva) {
+        FilaEspera fila = filas.get(reserva.getEventoId());
+        if (fila == null) {
+            return;
+        }
+        synchronized (fila) {
+            if (fila.reservas.get(reserva.getUsuarioId()) != reserva) {
+                return;
+            }
+            try {
+                encerrarReserva(fila, reserva);
+            } catch (IllegalStateException e) {
+                System.err.println("Vencimento da reserva adiado: " + e.getMessage());
+                if (!agendador.isShutdown()) {
+                    reserva.vencimento = agendador.schedule(() -> vencer(reserva), SEGUNDOS_NOVA_TENTATIVA, TimeUnit.SECONDS);
+                }
+                return;
+            }
+        }
+        repassar(reserva);
+    }
+
+    /**
+     * Repassa os ingressos de uma reserva já encerrada ao próximo da fila, ou ao estoque.
+     */
+    private void repassar(ReservaListaEspera reserva) {
+        eventoRepository.findById(reserva.getEventoId()).ifPresent(evento -> {
+            if (devolver(evento, reserva.getQuantidade()) > 0) {
+                eventoRepository.save(evento);
+                disponibilidadeService.notificar(evento);
+            }
+        });
+    }
+
+    private void agendarVencimento(ReservaListaEspera reserva) {
+        long atraso = Math.max(0, Duration.between(LocalDateTime.now(), reserva.getExpiraEm()).toMillis());
+        if (reserva.vencimento != null) {
+            reserva.vencimento.cancel(false);
+        }
+        if (!agendador.isShutdown()) {
+            reserva.vencimento = agendador.schedule(() -> vencer(reserva), atraso, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Remove uma reserva da fila e cancela o seu vencimento. Deve ser chamado com a fila travada.
+     *
+     * @throws IllegalStateException se o encerramento não puder ser gravado; a reserva é mantida.
+     */
+    private void encerrarReserva(FilaEspera fila, ReservaListaEspera reserva) {
+        anexarAoLog("L;" + reserva.getEventoId() + ";" + reserva.getUsuarioId());
+        fila.reservas.remove(reserva.getUsuarioId());
+        if (reserva.vencimento != null) {
+            reserva.vencimento.cancel(false);
+        }
+    }
+
+    /**
+     * Descarta a fila e as reservas de um evento cancelado. Deve ser chamado com a fila travada.
+     * <p>
+     * Aqui uma falha de gravação não interrompe o descarte: uma entrada que reapareça depois de
+     * reiniciar pertence a um evento cancelado, é descartada de novo e nunca devolve ingressos ao estoque.
+     */
+    private void descartar(FilaEspera fila, int eventoId) {
+        try {
+            for (Integer usuarioId : fila.aguardando.keySet()) {
+                anexarAoLog("S;" + eventoId + ";" + usuarioId);
+            }
+            for (ReservaListaEspera reserva : fila.reservas.values()) {
+                anexarAoLog("L;" + eventoId + ";" + reserva.getUsuarioId());
+            }
+        } catch (IllegalStateException e) {
+            System.err.println("Descarte da lista de espera não gravado: " + e.getMessage());
+        }
+        fila.aguardando.clear();
+        for (ReservaListaEspera reserva : fila.reservas.values()) {
+            if (reserva.vencimento != null) {
+                reserva.vencimento.cancel(false);
+            }
+        }
+        fila.reservas.clear();
+    }
+
+    private FilaEspera fila(int eventoId) {
+        return filas.computeIfAbsent(eventoId, id -> new FilaEspera());
+    }
+
+    /**
+     * Acrescenta uma linha ao arquivo. Se a escrita falhar no meio, o arquivo volta ao tamanho
+     * anterior; se nem isso for possível, ele é fechado e as próximas operações são recusadas
+     * até a aplicação ser reiniciada.
+     *
+     * @throws IllegalStateException se a linha não puder ser gravada.
+     */
+    private synchronized void anexarAoLog(String linha) {
+        if (log == null) {
+            throw new IllegalStateException("O registro da lista de espera não está aberto. Tente novamente mais tarde.");
+        }
+        ByteBuffer dados = StandardCharsets.UTF_8.encode(linha + "\n");
+        long tamanho = -1;
+        try {
+            tamanho = log.size();
+            while (dados.hasRemaining()) {
+                log.write(dados);
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar o registro da lista de espera: " + e.getMessage());
+            descartarLinha(tamanho);
+            throw new IllegalStateException("Não foi possível registrar a operação na lista de espera. Tente novamente.", e);
+        }
+    }
+
+    private void descartarLinha(long tamanho) {
+        try {
+            if (tamanho >= 0) {
+                log.truncate(tamanho);
+                return;
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao desfazer a gravação do registro da lista de espera: " + e.getMessage());
+        }
+        fecharLog();
+    }
+
+    private void carregarLog() {
+        if (!Files.exists(caminho)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(caminho)) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                String[] partes = linha.split(";");
+                try {
+                    FilaEspera fila = fila(Integer.parseInt(partes[1]));
+                    int usuarioId = Integer.parseInt(partes[2]);
+                    switch (partes[0]) {
+                        case "E" -> fila.aguardando.put(usuarioId, Integer.parseInt(partes[3]));
+                        case "S" -> fila.aguardando.remove(usuarioId);
+                        case "R" -> {
+                            fila.aguardando.remove(usuarioId);
+                            fila.reservas.put(usuarioId, new ReservaListaEspera(Integer.parseInt(partes[1]),
+                                    usuarioId, Integer.parseInt(partes[3]), LocalDateTime.parse(partes[4])));
+                        }
+                        case "L" -> fila.reservas.remove(usuarioId);
+                        default -> System.err.println("Linha inválida no registro da lista de espera: " + linha);
+                    }
+                } catch (RuntimeException e) {
+                    // Linha incompleta (por exemplo, gravação interrompida); as demais continuam válidas.
+                    System.err.println("Linha inválida no registro da lista de espera: " + linha);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao carregar o registro da lista de espera " + caminho + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reescreve o arquivo apenas com as filas e reservas atuais, para que ele não cresça indefinidamente.
+     * Se a cópia compactada não puder ser gravada, o arquivo original continua sendo usado.
+     */
+    private void compactarLog() {
+        if (!Files.exists(caminho)) {
+            return;
+        }
+        Path temporario = caminho.resolveSibling(caminho.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporario)) {
+            for (Map.Entry<Integer, FilaEspera> entrada : filas.entrySet()) {
+                int eventoId = entrada.getKey();
+                for (Map.Entry<Integer, Integer> aguardando : entrada.getValue().aguardando.entrySet()) {
+                    writer.write("E;" + eventoId + ";" + aguardando.getKey() + ";" + aguardando.getValue());
+                    writer.newLine();
+                }
+                for (ReservaListaEspera reserva : entrada.getValue().reservas.values()) {
+                    writer.write("R;" + eventoId + ";" + reserva.getUsuarioId() + ";" + reserva.getQuantidade()
+                            + ";" + reserva.getExpiraEm());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao compactar o registro da lista de espera: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(temporario, caminho, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Erro ao compactar o registro da lista de espera: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fila de um evento: os usuários aguardando, na ordem de chegada, e as reservas em aberto.
+     * O {@link LinkedHashMap} dá entrada no fim, saída de qualquer posição e atendimento do
+     * primeiro em tempo constante.
+     */
+    private static class FilaEspera {
+        private final LinkedHashMap<Integer, Integer> aguardando = new LinkedHashMap<>();
+        private final Map<Integer, ReservaListaEspera> reservas = new HashMap<>();
+    }
+
+    /**
+     * Ingressos reservados para um usuário da lista de espera até um prazo.
+     */
+    public static class ReservaListaEspera {
+        private final int eventoId;
+        private final int usuarioId;
+        private final int quantidade;
+        private final LocalDateTime expiraEm;
+        private ScheduledFuture<?> vencimento;
+
+        /**
+         * Cria uma reserva.
+         *
+         * @param eventoId O ID do evento.
+         * @param usuarioId O ID do usuário atendido.
+         * @param quantidade A quantidade de ingressos reservados.
+         * @param expiraEm O fim do prazo para a compra.
+         */
+        public ReservaListaEspera(int eventoId, int usuarioId, int quantidade, LocalDateTime expiraEm) {
+            this.eventoId = eventoId;
+            this.usuarioId = usuarioId;
+            this.quantidade = quantidade;
+            this.expiraEm = expiraEm;
+        }
+
+        /**
+         * @return O ID (int) do evento.
+         */
+        public int getEventoId() {
+            return eventoId;
+        }
+
+        /**
+         * @return O ID (int) do usuário atendido.
+         */
+        public int getUsuarioId() {
+            return usuarioId;
+        }
+
+        /**
+         * @return A quantidade (int) de ingressos reservados.
+         */
+        public int getQuantidade() {
+            return quantidade;
+        }
+
+        /**
+         * @return O fim (LocalDateTime) do prazo para a compra.
+         */
+        public LocalDateTime getExpiraEm() {
+            return expiraEm;
+        }
+
+        /**
+         * Indica se o prazo da reserva já terminou.
+         * @param agora O momento da consulta.
+         * @return {@code true} se a reserva venceu.
+         */
+        public boolean isVencida(LocalDateTime agora) {
+            return agora.isAfter(expiraEm);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoDominio;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.ProjecaoDominio;
+import io.github.site_de_eventos.sitedeeventos.service.painel.AgregadoVendasEvento;
+import io.github.site_de_eventos.sitedeeventos.service.sse.PublicadorSseCoalescido;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Classe de serviço que mantém o painel de vendas dos organizadores.
+ * <p>
+ * Para cada evento existe um {@link AgregadoVendasEvento} com ingressos vendidos,
+ * receita, taxas, descontos e cancelamentos, atualizado em O(1) pelo
+ * {@link PedidoService} e pelo {@link EventoService} a cada venda ou cancelamento.
+ * O painel é uma projeção do log de eventos de domínio: na inicialização, os totais
+ * são reconstruídos reproduzindo os pedidos criados e cancelados registrados nele.
+ * <p>
+ * Os organizadores podem consultar o resumo ou acompanhá-lo por SSE; as
+ * atualizações de um mesmo evento são agrupadas em no máximo uma por segundo.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class PainelVendasService implements ProjecaoDominio {
+
+    /**
+     * Tempo máximo de uma conexão SSE do painel (30 minutos).
+     */
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final EventosDominioService eventosDominioService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Agregados por ID de evento.
+     */
+    private final Map<Integer, AgregadoVendasEvento> agregados = new ConcurrentHashMap<>();
+
+    /**
+     * Publicador das atualizações do painel, no máximo uma por segundo por evento.
+     */
+    private final PublicadorSseCoalescido publicador =
+            new PublicadorSseCoalescido("vendas", 1000L, TIMEOUT_MILLIS);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param eventosDominioService Serviço cujo log é reproduzido na inicialização para reconstruir os totais.
+     * @param objectMapper Serializador JSON do Spring, usado nas mensagens SSE.
+     */
+    public PainelVendasService(EventosDominioService eventosDominioService, ObjectMapper objectMapper) {
+        this.eventosDominioService = eventosDominioService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reconstrói os agregados reproduzindo o log de eventos de domínio.
+     */
+    @PostConstruct
+    public void init() {
+        eventosDominioService.reproduzir(this);
+    }
+
+    /**
+     * Aplica um fato do log aos agregados, no minuto em que ele aconteceu.
+     * Os demais fatos não afetam o painel.
+     *
+     * @param evento O fato reproduzido.
+     */
+    @Override
+    public void aplicar(EventoDominio evento) {
+        long minuto = evento.getInstante() / 60_000L;
+        if (evento instanceof PedidoCriado criado) {
+            agregado(criado.getIdEvento()).registrarVenda(minuto, criado.getQuantidade(), criado.getValorTotal(),
+                    criado.getTaxa(), criado.getDesconto());
+        } else if (evento instanceof PedidoCancelado cancelado) {
+            agregado(cancelado.getIdEvento()).registrarCancelamento(minuto, cancelado.getQuantidade(),
+                    cancelado.getValorTotal(), cancelado.getTaxa(), cancelado.getDesconto());
+        }
+    }
+
+    /**
+     * Registra uma venda concluída.
+     *
+     * @param pedido O pedido concluído.
+     * @param taxa A parte do valor total referente à taxa de serviço.
+     * @param desconto O desconto concedido pelo cupom.
+     */
+    public void registrarVenda(Pedido pedido, double taxa, double desconto) {
+        int eventoId = pedido.getEvento().getIdEvento();
+        agregado(eventoId).registrarVenda(minutoAtual(), pedido.getQuantidadeIngressos(), pedido.getValorTotal(), taxa, desconto);
+        publicar(eventoId);
+    }
+
+    /**
+     * Registra o cancelamento de um pedido (pelo usuário ou pelo organizador).
+     * A taxa e o desconto são derivados dos valores persistidos no pedido.
+     *
+     * @param pedido O pedido cancelado.
+     */
+    public void registrarCancelamento(Pedido pedido) {
+        int eventoId = pedido.getEvento().getIdEvento();
+        agregado(eventoId).registrarCancelamento(minutoAtual(), pedido.getQuantidadeIngressos(), pedido.getValorTotal(),
+                EventosDominioService.taxaDoPedido(pedido), EventosDominioService.descontoDoPedido(pedido));
+        publicar(eventoId);
+    }
+
+    /**
+     * Obtém o resumo de vendas de um evento.
+     *
+     * @param eventoId O ID do evento.
+     * @return Um mapa com os totais e a série dos últimos minutos.
+     */
+    public Map<String, Object> resumo(int eventoId) {
+        return agregado(eventoId).resumo(minutoAtual());
+    }
+
+    /**
+     * Obtém os agregados de um evento, se já houver algum registro.
+     *
+     * @param eventoId O ID do evento.
+     * @return Um {@link Optional} com os agregados do evento.
+     */
+    public Optional<AgregadoVendasEvento> buscarAgregado(int eventoId) {
+        return Optional.ofNullable(agregados.get(eventoId));
+    }
+
+    /**
+     * Abre um fluxo SSE com o resumo de vendas de um evento.
+     * A verificação de permissão do organizador é feita pelo controller.
+     *
+     * @param eventoId O ID do evento.
+     * @return O {@link SseEmitter} da conexão.
+     */
+    public SseEmitter assinar(int eventoId) {
+        return publicador.assinar(eventoId, serializar(eventoId));
+    }
+
+    /**
+     * Encerra as conexões abertas quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    public void encerrar() {
+        publicador.encerrar();
+    }
+
+    private AgregadoVendasEvento agregado(int eventoId) {
+        return agregados.computeIfAbsent(eventoId, AgregadoVendasEvento::new);
+    }
+
+    private void publicar(int eventoId) {
+        publicador.publicar(eventoId, () -> serializar(eventoId));
+    }
+
+    private String serializar(int eventoId) {
+        try {
+            return objectMapper.writeValueAsString(resumo(eventoId));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar o painel de vendas: " + e.getMessage(), e);
+        }
+    }
+
+    private static long minutoAtual() {
+        return System.currentTimeMillis() / 60_000L;
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.EtapaPedidoGrupo;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.LeitorParticipantesCsv;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.ParticipanteCsv;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.PedidoEmGrupo;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.ProgressoPedidoGrupo;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Classe de serviço responsável pelos pedidos em grupo, com milhares de participantes
+ * enviados em um arquivo CSV.
+ * <p>
+ * O envio é copiado para um arquivo temporário à medida que chega e processado em
+ * segundo plano, em duas leituras:
+ * <ol>
+ * <li>validação de cada linha e contagem por tipo de ingresso, sem guardar os participantes;
+ * se houver erros, o pedido é recusado sem tocar no estoque;</li>
+ * <li>reserva do estoque de uma só vez e emissão dos ingressos em lotes de
+ * {@value #TAMANHO_LOTE}, atualizando o progresso a cada lote.</li>
+ * </ol>
+ * Em memória fica apenas o lote atual e os ingressos já emitidos do próprio pedido.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class PedidoGrupoService {
+
+    /**
+     * Quantidade de participantes emitidos por lote.
+     */
+    public static final int TAMANHO_LOTE = 500;
+
+    /**
+     * Quantidade máxima de erros de validação informados ao comprador.
+     */
+    public static final int MAX_ERROS = 50;
+
+    /**
+     * Tempo, em horas, que o progresso de um processamento finalizado continua disponível para consulta.
+     */
+    private static final long HORAS_RETENCAO = 24;
+
+    private final PedidoService pedidoService;
+
+    /**
+     * Processamentos por identificador.
+     */
+    private final Map<String, ProgressoPedidoGrupo> processos = new ConcurrentHashMap<>();
+
+    /**
+     * Uma única thread processa os pedidos em grupo, um de cada vez, para não disputar o
+     * estoque e a CPU com as compras comuns.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "pedidos-em-grupo");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param pedidoService Serviço que reserva o estoque e emite os ingressos do pedido.
+     */
+    public PedidoGrupoService(PedidoService pedidoService) {
+        this.pedidoService = pedidoService;
+    }
+
+    /**
+     * Recebe o arquivo de participantes e agenda o processamento do pedido.
+     *
+     * @param usuarioId O ID do comprador.
+     * @param eventoId O ID do evento.
+     * @param csv O conteúdo do arquivo, em UTF-8, lido até o fim nesta chamada.
+     * @param cupomCode O código do cupom de desconto (pode ser nulo).
+     * @return O {@link ProgressoPedidoGrupo} do processamento.
+     * @throws IOException se o arquivo não puder ser recebido.
+     */
+    public ProgressoPedidoGrupo iniciar(int usuarioId, int eventoId, InputStream csv, String cupomCode) throws IOException {
+        descartarAntigos();
+        Path arquivo = Files.createTempFile("pedido-grupo-", ".csv");
+        try {
+            Files.copy(csv, arquivo, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(arquivo);
+            throw e;
+        }
+        ProgressoPedidoGrupo progresso = new ProgressoPedidoGrupo(UUID.randomUUID().toString(), usuarioId, eventoId);
+        processos.put(progresso.getId(), progresso);
+        executor.submit(() -> processar(progresso, arquivo, cupomCode));
+        return progresso;
+    }
+
+    /**
+     * Busca o progresso de um processamento do usuário.
+     *
+     * @param id O identificador do processamento.
+     * @param usuarioId O ID do usuário que consulta.
+     * @return O progresso, vazio se não existir ou pertencer a outro usuário.
+     */
+    public Optional<ProgressoPedidoGrupo> buscar(String id, int usuarioId) {
+        return Optional.ofNullable(processos.get(id)).filter(progresso -> progresso.getUsuarioId() == usuarioId);
+    }
+
+    /**
+     * Interrompe o processamento quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Processa um pedido em grupo e apaga o arquivo temporário ao final.
+     */
+    void processar(ProgressoPedidoGrupo progresso, Path arquivo, String cupomCode) {
+        try {
+            Map<String, Integer> quantidadePorTipo = validar(progresso, arquivo);
+            if (quantidadePorTipo == null) {
+                return;
+            }
+            emitir(progresso, arquivo, quantidadePorTipo, cupomCode);
+        } catch (IOException e) {
+            progresso.falhar("Erro ao ler o arquivo de participantes: " + e.getMessage());
+        } catch (RuntimeException e) {
+            progresso.falhar(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                System.err.println("Erro ao apagar o arquivo do pedido em grupo: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Primeira leitura: valida as linhas e conta os participantes por tipo de ingresso.
+     *
+     * @return A contagem por tipo, ou {@code null} se o arquivo for recusado.
+     */
+    private Map<String, Integer> validar(ProgressoPedidoGrupo progresso, Path arquivo) throws IOException {
+        Map<String, Integer> quantidadePorTipo = new LinkedHashMap<>();
+        int erros = 0;
+        try (LeitorParticipantesCsv leitor = new LeitorParticipantesCsv(
+                Files.newBufferedReader(arquivo, StandardCharsets.UTF_8))) {
+            ParticipanteCsv participante;
+            while ((participante = leitor.proximo()) != null) {
+                progresso.linhaLida();
+                if (!participante.isValido()) {
+                    if (++erros <= MAX_ERROS) {
+                        progresso.adicionarErro("Linha " + participante.getLinha() + ": " + participante.getErro());
+                    }
+                    continue;
+                }
+                quantidadePorTipo.merge(PedidoEmGrupo.chaveTipo(participante.getTipoIngresso()), 1, Integer::sum);
+            }
+        }
+        if (erros > MAX_ERROS) {
+            progresso.adicionarErro("... e mais " + (erros - MAX_ERROS) + " linhas com erro.");
+        }
+        if (erros > 0) {
+            progresso.falhar(null);
+            return null;
+        }
+        if (quantidadePorTipo.isEmpty()) {
+            progresso.falhar("O arquivo não tem participantes.");
+            return null;
+        }
+        return quantidadePorTipo;
+    }
+
+    /**
+     * Segunda leitura: reserva o estoque e emite os ingressos em lotes.
+     * Qualquer falha depois da reserva devolve o estoque.
+     */
+    private void emitir(ProgressoPedidoGrupo progresso, Path arquivo, Map<String, Integer> quantidadePorTipo,
+            String cupomCode) {
+        PedidoEmGrupo grupo;
+        try {
+            grupo = pedidoService.iniciarPedidoEmGrupo(progresso.getUsuarioId(), progresso.getEventoId(),
+                    quantidadePorTipo, cupomCode);
+        } catch (RuntimeException e) {
+            progresso.falhar(e.getMessage());
+            return;
+        }
+        progresso.iniciarEmissao(grupo.getPedido().getQuantidadeIngressos());
+
+        boolean concluido = false;
+        try (LeitorParticipantesCsv leitor = new LeitorParticipantesCsv(
+                Files.newBufferedReader(arquivo, StandardCharsets.UTF_8))) {
+            List<ParticipanteCsv> lote = new ArrayList<>(TAMANHO_LOTE);
+            ParticipanteCsv participante;
+            while ((participante = leitor.proximo()) != null) {
+                lote.add(participante);
+                if (lote.size() == TAMANHO_LOTE) {
+                    emitirLote(progresso, grupo, lote);
+                }
+            }
+            emitirLote(progresso, grupo, lote);
+            Pedido pedido = pedidoService.concluirPedidoEmGrupo(grupo);
+            concluido = true;
+            progresso.concluir(pedido.getIdPedido());
+        } catch (IOException e) {
+            progresso.falhar("Erro ao ler o arquivo de participantes: " + e.getMessage());
+        } catch (RuntimeException e) {
+            progresso.falhar(e.getMessage());
+        } finally {
+            if (!concluido) {
+                pedidoService.desfazerPedidoEmGrupo(grupo);
+                if (progresso.getEtapa() != EtapaPedidoGrupo.FALHOU) {
+                    progresso.falhar("O processamento foi interrompido.");
+                }
+            }
+        }
+    }
+
+    private void emitirLote(ProgressoPedidoGrupo progresso, PedidoEmGrupo grupo, List<ParticipanteCsv> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        pedidoService.emitirLote(grupo, lote);
+        progresso.loteEmitido(lote.size());
+        lote.clear();
+    }
+
+    /**
+     * Remove os processamentos finalizados há mais de {@value #HORAS_RETENCAO} horas.
+     */
+    private void descartarAntigos() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(HORAS_RETENCAO);
+        processos.values().removeIf(progresso ->
+                progresso.getFinalizadoEm() != null && progresso.getFinalizadoEm().isBefore(limite));
+    }
+}
@@ -3,9 +3,14 @@ package io.github.site_de_eventos.sitedeeventos.service;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
 import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
 import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
 import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.ListaEsperaService.ReservaListaEspera;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.ParticipanteCsv;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.PedidoEmGrupo;
 import io.github.site_de_eventos.sitedeeventos.service.strategy.CalculoComCupomDesconto;
 import io.github.site_de_eventos.sitedeeventos.service.strategy.CalculoComTaxaServico;
 import io.github.site_de_eventos.sitedeeventos.service.strategy.ICalculoPrecoPedidoStrategy;
@@ -14,6 +19,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger; // Importar
@@ -34,6 +40,14 @@ public class PedidoService {
 
     private final UsuarioRepository usuarioRepository;
     private final EventoRepository eventoRepository;
+    private final DisponibilidadeService disponibilidadeService;
+    private final PainelVendasService painelVendasService;
+    private final IndiceIngressosService indiceIngressosService;
+    private final AssinaturaIngressoService assinaturaIngressoService;
+    private final AssentoService assentoService;
+    private final ListaEsperaService listaEsperaService;
+    private final UnidadeDeTrabalho unidadeDeTrabalho;
+    private final EventosDominioService eventosDominioService;
     /**
      * Gerador de IDs para pedidos, garantindo unicidade de forma thread-safe.
      */
@@ -45,10 +59,30 @@ public class PedidoService {
      *
      * @param usuarioRepository O repositório para acesso aos dados de usuários.
      * @param eventoRepository  O repositório para acesso aos dados de eventos.
+     * @param disponibilidadeService O serviço que transmite as mudanças de estoque aos compradores.
+     * @param painelVendasService O serviço que mantém os agregados de vendas dos organizadores.
+     * @param indiceIngressosService O índice dos ingressos emitidos, por código de inscrição.
+     * @param assinaturaIngressoService O serviço que gera os códigos assinados dos ingressos.
+     * @param assentoService O serviço que reserva os assentos dos eventos com lugares marcados.
+     * @param listaEsperaService O serviço que repassa os ingressos cancelados à lista de espera.
+     * @param unidadeDeTrabalho A unidade de trabalho que grava de uma vez os arquivos alterados por um pedido.
+     * @param eventosDominioService O serviço que registra os pedidos criados e cancelados no log de eventos de domínio.
      */
-    public PedidoService(UsuarioRepository usuarioRepository, EventoRepository eventoRepository) {
+    public PedidoService(UsuarioRepository usuarioRepository, EventoRepository eventoRepository,
+            DisponibilidadeService disponibilidadeService, PainelVendasService painelVendasService,
+            IndiceIngressosService indiceIngressosService, AssinaturaIngressoService assinaturaIngressoService,
+            AssentoService assentoService, ListaEsperaService listaEsperaService, UnidadeDeTrabalho unidadeDeTrabalho,
+            EventosDominioService eventosDominioService) {
         this.usuarioRepository = usuarioRepository;
         this.eventoRepository = eventoRepository;
+        this.disponibilidadeService = disponibilidadeService;
+        this.painelVendasService = painelVendasService;
+        this.indiceIngressosService = indiceIngressosService;
+        this.assinaturaIngressoService = assinaturaIngressoService;
+        this.assentoService = assentoService;
+        this.listaEsperaService = listaEsperaService;
+        this.unidadeDeTrabalho = unidadeDeTrabalho;
+        this.eventosDominioService = eventosDominioService;
     }
 
     /**
@@ -60,7 +94,7 @@ public class PedidoService {
      * <li>Verificação da disponibilidade de ingressos.</li>
      * <li>Cálculo do valor total, aplicando o padrão Strategy para descontos e taxas.</li>
      * <li>Criação dos ingressos associados.</li>
-     * <li>Persistência das alterações no banco de dados.</li>
+     * <li>Persistência das alterações do evento e do usuário em uma única gravação ({@link UnidadeDeTrabalho}).</li>
      * </ul>
      *
      * @param usuarioId O ID do usuário que está realizando a compra.
@@ -72,93 +106,497 @@ public class PedidoService {
      * @throws RuntimeException Se o usuário, evento não forem encontrados ou se não houver ingressos suficientes.
      */
     public Pedido criarPedido(int usuarioId, int eventoId, List<String> nomes, List<String> emails, String cupomCode) {
+        return criarPedido(usuarioId, eventoId, nomes, emails, cupomCode, null, null);
+    }
+
+    /**
+     * Cria um novo pedido, escolhendo os assentos em eventos com lugares marcados.
+     * <p>
+     * Os assentos são reservados de forma atômica antes da emissão dos ingressos. Se o
+     * comprador não escolher assentos, são reservados os melhores disponíveis.
+     * Se o comprador tiver ingressos reservados pela lista de espera, eles são usados primeiro.
+     *
+     * @param usuarioId O ID do usuário que está realizando a compra.
+     * @param eventoId  O ID do evento para o qual os ingressos estão sendo comprados.
+     * @param nomes     A lista de nomes dos participantes, um para cada ingresso.
+     * @param emails    A lista de e-mails dos participantes, uma para cada ingresso.
+     * @param cupomCode O código do cupom de desconto a ser aplicado (pode ser nulo).
+     * @param assentos  Os códigos dos assentos, um por participante e na mesma ordem (pode ser nulo).
+     * @param tipos     Os nomes dos tipos de ingresso, um por participante e na mesma ordem (pode ser nulo).
+     *                  Em eventos com tipos de ingresso, sem esta lista todos os ingressos são do primeiro tipo à venda.
+     * @return O objeto {@link Pedido} criado e persistido.
+     * @throws RuntimeException Se o usuário, evento não forem encontrados, se não houver ingressos
+     * suficientes ou se os assentos escolhidos não estiverem livres.
+     * @throws IllegalStateException Se algum tipo escolhido estiver fora do período de vendas.
+     */
+    public Pedido criarPedido(int usuarioId, int eventoId, List<String> nomes, List<String> emails, String cupomCode,
+            List<String> assentos, List<String> tipos) {
+        // O estoque do evento e o pedido do usuário são gravados juntos, ao final.
+        return unidadeDeTrabalho.executar(
+                () -> efetuarPedido(usuarioId, eventoId, nomes, emails, cupomCode, assentos, tipos));
+    }
+
+    private Pedido efetuarPedido(int usuarioId, int eventoId, List<String> nomes, List<String> emails, String cupomCode,
+            List<String> assentos, List<String> tipos) {
         Usuario usuario = usuarioRepository.findById(usuarioId)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + usuarioId));
         Evento evento = eventoRepository.findById(eventoId)
                 .orElseThrow(() -> new RuntimeException("Evento não encontrado com ID: " + eventoId));
 
+        validarParticipantes(nomes, emails);
         int quantidade = nomes.size();
-        if (evento.getIngressosDisponiveis() < quantidade) {
+        List<TipoIngresso> tiposPorParticipante = resolverTipos(evento, tipos, quantidade);
+        int reservadosListaEspera = listaEsperaService.buscarReserva(eventoId, usuarioId)
+                .map(ReservaListaEspera::getQuantidade).orElse(0);
+        if (evento.getIngressosDisponiveis() + reservadosListaEspera < quantidade) {
             throw new RuntimeException("Não há ingressos suficientes. Disponíveis: " + evento.getIngressosDisponiveis());
         }
 
         Pedido pedido = new Pedido(usuario, evento, quantidade);
         pedido.setIdPedido(pedidoIdGenerator.incrementAndGet());
 
-        // 1. Define o valor base (preço original * quantidade).
+        // 1. Define o valor base (soma dos preços dos ingressos, conforme o tipo de cada um).
+        double valorBase = somarPrecos(evento, tiposPorParticipante, quantidade);
+        pedido.setValorBase(valorBase);
+
+        // 2. Aplica as ESTRATÉGIAS de cupom e de taxa, com a mesma conta da prévia exibida antes da compra.
+        ValoresPedido valores = precificar(evento, valorBase, cupomCode);
+
+        // 3. ETAPA CRUCIAL: Define o valor total calculado no objeto de pedido principal.
+        pedido.setValorTotal(valores.total);
+
+        // Os ingressos reservados pela lista de espera já estão fora do estoque aberto; só o restante é retirado.
+        ReservaListaEspera reserva = listaEsperaService.usarReserva(evento, usuarioId, quantidade).orElse(null);
+        int cobertos = reserva == null ? 0 : reserva.getQuantidade();
+
+        // Retira os ingressos do estoque e só depois reserva os lugares; se os lugares falharem, o estoque é devolvido.
+        Map<TipoIngresso, Integer> porTipo = tiposPorParticipante == null ? null : contarPorTipo(tiposPorParticipante);
+        List<String> assentosReservados;
+        int primeiroNumero;
+        try {
+            primeiroNumero = reservarEstoque(evento, porTipo, quantidade, cobertos);
+            try {
+                assentosReservados = evento.hasMapaAssentos()
+                        ? assentoService.reservar(evento, quantidade, assentos)
+                        : null;
+            } catch (RuntimeException e) {
+                devolverEstoque(evento, porTipo, quantidade, cobertos);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            if (reserva != null) {
+                listaEsperaService.restaurarReserva(reserva);
+            }
+            throw e;
+        }
+
+        confirmarPedido(pedido, primeiroNumero, nomes, emails, assentosReservados, tiposPorParticipante);
+        // Salva uma nova versão do usuário; se outra compra dele for salva antes, o pedido é
+        // acrescentado de novo sobre a versão mais recente, sem que uma sobrescreva a outra.
+        Usuario atualizado = usuarioRepository.atualizar(usuarioId, copia -> copia.adicionarPedido(pedido))
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + usuarioId));
+        eventosDominioService.pedidoCriado(usuarioId, pedido, valores.taxa, valores.desconto);
+        indiceIngressosService.indexar(atualizado, pedido);
+        painelVendasService.registrarVenda(pedido, valores.taxa, valores.desconto);
+
+        return pedido;
+    }
+
+    /**
+     * Inicia um pedido em grupo, cujos participantes são lidos de um arquivo.
+     * <p>
+     * Reserva de uma só vez o estoque de todos os ingressos e calcula os valores do pedido,
+     * que ainda fica sem ingressos. Os ingressos são gerados depois, em lotes, por
+     * {@link #emitirLote}, e o pedido só é salvo em {@link #concluirPedidoEmGrupo}.
+     * Se a emissão falhar, o estoque deve ser devolvido com {@link #desfazerPedidoEmGrupo}.
+     *
+     * @param usuarioId O ID do comprador.
+     * @param eventoId O ID do evento.
+     * @param quantidadePorTipo A quantidade de participantes por nome de tipo de ingresso, com as
+     *                          chaves de {@link PedidoEmGrupo#chaveTipo} ("" para o primeiro tipo à venda).
+     * @param cupomCode O código do cupom de desconto (pode ser nulo).
+     * @return O {@link PedidoEmGrupo} pronto para a emissão.
+     * @throws RuntimeException Se o usuário ou o evento não forem encontrados ou se não houver ingressos suficientes.
+     * @throws IllegalArgumentException Se não houver participantes ou algum tipo não existir.
+     * @throws IllegalStateException Se o evento tiver assentos numerados ou algum tipo estiver fora do período de vendas.
+     */
+    public PedidoEmGrupo iniciarPedidoEmGrupo(int usuarioId, int eventoId, Map<String, Integer> quantidadePorTipo,
+            String cupomCode) {
+        Usuario usuario = usuarioRepository.findById(usuarioId)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + usuarioId));
+        Evento evento = eventoRepository.findById(eventoId)
+                .orElseThrow(() -> new RuntimeException("Evento não encontrado com ID: " + eventoId));
+        if (evento.hasMapaAssentos()) {
+            throw new IllegalStateException("Pedidos em grupo não estão disponíveis para eventos com assentos numerados.");
+        }
+        int quantidade = quantidadePorTipo.values().stream().mapToInt(Integer::intValue).sum();
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("Informe pelo menos um participante.");
+        }
+
+        // Resolve cada nome de tipo uma única vez; os participantes não ficam em memória.
+        Map<String, TipoIngresso> tiposPorNome = null;
+        Map<TipoIngresso, Integer> porTipo = null;
         double valorBase = evento.getPreco() * quantidade;
+        if (evento.hasTiposIngresso() || quantidadePorTipo.keySet().stream().anyMatch(nome -> !nome.isEmpty())) {
+            tiposPorNome = new HashMap<>();
+            porTipo = new LinkedHashMap<>();
+            valorBase = 0;
+            for (Map.Entry<String, Integer> entrada : quantidadePorTipo.entrySet()) {
+                TipoIngresso tipo = resolverTipos(evento,
+                        entrada.getKey().isEmpty() ? null : List.of(entrada.getKey()), 1).get(0);
+                tiposPorNome.put(entrada.getKey(), tipo);
+                porTipo.merge(tipo, entrada.getValue(), Integer::sum);
+                valorBase += tipo.getPreco() * entrada.getValue();
+            }
+        }
+        if (evento.getIngressosDisponiveis() < quantidade) {
+            throw new RuntimeException("Não há ingressos suficientes. Disponíveis: " + evento.getIngressosDisponiveis());
+        }
+
+        Pedido pedido = new Pedido(usuario, evento, quantidade);
+        pedido.setIdPedido(pedidoIdGenerator.incrementAndGet());
         pedido.setValorBase(valorBase);
+        ValoresPedido valores = precificar(evento, valorBase, cupomCode);
+        pedido.setValorTotal(valores.total);
+        pedido.setIngressos(new ArrayList<>(quantidade));
 
-        // --- INÍCIO DO CÁLCULO COM STRATEGY ---
+        int primeiroNumero = reservarEstoque(evento, porTipo, quantidade, 0);
+        eventoRepository.save(evento);
+        disponibilidadeService.notificar(evento);
 
-        // Inicializa o valor final com o valor base. Ele será modificado pelas estratégias.
-        double valorFinal = valorBase;
+        return new PedidoEmGrupo(usuario, pedido, tiposPorNome, porTipo, primeiroNumero,
+                valores.desconto, valores.taxa);
+    }
 
-        // 2. Aplica a ESTRATÉGIA de cupom de desconto, se um cupom válido for fornecido.
-        if (cupomCode != null && !cupomCode.isEmpty() && cupomCode.equalsIgnoreCase(evento.getCupomCode())) {
-            // Instancia a estratégia de desconto com o valor de desconto do evento.
-            ICalculoPrecoPedidoStrategy cupomStrategy = new CalculoComCupomDesconto(evento.getCupomDiscountValue());
+    /**
+     * Gera e assina os ingressos de um lote de participantes de um pedido em grupo.
+     *
+     * @param grupo O pedido em emissão.
+     * @param participantes Os participantes do lote, já validados.
+     * @throws IllegalStateException Se o lote exceder a quantidade reservada ou usar um tipo não reservado.
+     */
+    public void emitirLote(PedidoEmGrupo grupo, List<ParticipanteCsv> participantes) {
+        Pedido pedido = grupo.getPedido();
+        Evento evento = pedido.getEvento();
+        List<Ingresso> ingressos = pedido.getIngressos();
+        if (ingressos.size() + participantes.size() > pedido.getQuantidadeIngressos()) {
+            throw new IllegalStateException("O arquivo tem mais participantes do que os ingressos reservados.");
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        for (ParticipanteCsv participante : participantes) {
+            TipoIngresso tipo = grupo.tipoDe(participante.getTipoIngresso());
+            if (tipo == null && grupo.getQuantidadePorTipo() != null) {
+                throw new IllegalStateException("Tipo de ingresso não reservado: " + participante.getTipoIngresso());
+            }
+            String novoIdIngresso = evento.getIdEvento() + "-" + (grupo.getPrimeiroNumero() + ingressos.size());
+            Ingresso ingresso = new Ingresso(novoIdIngresso, evento.getIdEvento(), participante.getNome(),
+                    participante.getEmail(), agora, tipo == null ? evento.getPreco() : tipo.getPreco());
+            if (tipo != null) {
+                ingresso.setTipoIngresso(tipo.getNome());
+            }
+            ingresso.setPedido(pedido);
+            assinaturaIngressoService.garantirCodigo(ingresso, pedido);
+            ingressos.add(ingresso);
+        }
+    }
 
-            // Cria um pedido temporário para o cálculo, para não modificar o valor base do pedido real.
-            Pedido pedidoParaCalculo = new Pedido();
-            pedidoParaCalculo.setValorBase(valorFinal); // O valor base para o cálculo é o valor atual.
+    /**
+     * Conclui um pedido em grupo depois que todos os ingressos foram emitidos:
+     * salva o pedido, indexa os ingressos e registra a venda no painel.
+     *
+     * @param grupo O pedido em emissão.
+     * @return O {@link Pedido} concluído.
+     * @throws IllegalStateException Se ainda faltarem ingressos a emitir.
+     */
+    public Pedido concluirPedidoEmGrupo(PedidoEmGrupo grupo) {
+        Pedido pedido = grupo.getPedido();
+        if (pedido.getIngressos().size() != pedido.getQuantidadeIngressos()) {
+            throw new IllegalStateException("Foram emitidos " + pedido.getIngressos().size() + " de "
+                    + pedido.getQuantidadeIngressos() + " ingressos.");
+        }
+        pedido.setStatus("CONCLUIDO");
+        int usuarioId = grupo.getUsuario().getIdUsuario();
+        Usuario usuario = unidadeDeTrabalho.executar(() -> {
+            Usuario atualizado = usuarioRepository.atualizar(usuarioId, copia -> copia.adicionarPedido(pedido))
+                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + usuarioId));
+            eventosDominioService.pedidoCriado(usuarioId, pedido, grupo.getTaxa(), grupo.getDesconto());
+            return atualizado;
+        });
+        indiceIngressosService.indexar(usuario, pedido);
+        painelVendasService.registrarVenda(pedido, grupo.getTaxa(), grupo.getDesconto());
+        return pedido;
+    }
 
-            // Calcula o novo valor final aplicando o desconto.
-            valorFinal = cupomStrategy.calcularPreco(pedidoParaCalculo);
+    /**
+     * Desfaz um pedido em grupo que não pôde ser concluído, devolvendo o estoque reservado.
+     * Como em um cancelamento, os ingressos passam primeiro pela lista de espera.
+     *
+     * @param grupo O pedido em emissão.
+     */
+    public void desfazerPedidoEmGrupo(PedidoEmGrupo grupo) {
+        Pedido pedido = grupo.getPedido();
+        Evento evento = pedido.getEvento();
+        if (grupo.getQuantidadePorTipo() != null) {
+            grupo.getQuantidadePorTipo().forEach(TipoIngresso::devolver);
+        }
+        listaEsperaService.devolver(evento, pedido.getQuantidadeIngressos());
+        pedido.setIngressos(new ArrayList<>());
+        eventoRepository.save(evento);
+        disponibilidadeService.notificar(evento);
+    }
+
+    /**
+     * Calcula os valores de um pedido a partir do preço dos ingressos: aplica o cupom e, sobre o
+     * resultado, a taxa de serviço. É a única conta de preços, usada tanto na cobrança quanto na
+     * prévia de {@link #calcularPrecoPreview}, para que o valor exibido seja o valor cobrado.
+     *
+     * @param evento O evento da compra.
+     * @param valorIngressos A soma dos preços dos ingressos.
+     * @param cupomCode O código do cupom (pode ser nulo).
+     * @return Os valores do pedido.
+     */
+    private ValoresPedido precificar(Evento evento, double valorIngressos, String cupomCode) {
+        double valorAntesDaTaxa = aplicarCupom(evento, valorIngressos, cupomCode);
+        double valorFinal = aplicarTaxa(valorAntesDaTaxa);
+        return new ValoresPedido(valorIngressos, valorIngressos - valorAntesDaTaxa, valorFinal - valorAntesDaTaxa,
+                valorFinal, cupomValido(evento, cupomCode));
+    }
+
+    /**
+     * Verifica se o código informado é o cupom do evento.
+     */
+    private static boolean cupomValido(Evento evento, String cupomCode) {
+        return cupomCode != null && !cupomCode.isEmpty() && cupomCode.equalsIgnoreCase(evento.getCupomCode());
+    }
+
+    /**
+     * Aplica a estratégia de cupom de desconto, se um cupom válido for fornecido.
+     *
+     * @param evento O evento da compra.
+     * @param valorBase O valor dos ingressos.
+     * @param cupomCode O código do cupom (pode ser nulo).
+     * @return O valor com o desconto, ou o próprio valor base sem cupom válido.
+     */
+    private double aplicarCupom(Evento evento, double valorBase, String cupomCode) {
+        if (!cupomValido(evento, cupomCode)) {
+            return valorBase;
         }
+        // Instancia a estratégia de desconto com o valor de desconto do evento.
+        ICalculoPrecoPedidoStrategy cupomStrategy = new CalculoComCupomDesconto(evento.getCupomDiscountValue());
+
+        // Cria um pedido temporário para o cálculo, para não modificar o valor base do pedido real.
+        Pedido pedidoParaCalculo = new Pedido();
+        pedidoParaCalculo.setValorBase(valorBase);
+
+        return cupomStrategy.calcularPreco(pedidoParaCalculo);
+    }
 
-        // 3. Aplica a ESTRATÉGIA de taxa de serviço sobre o valor (já com o possível desconto).
+    /**
+     * Aplica a estratégia de taxa de serviço sobre um valor (já com o possível desconto).
+     *
+     * @param valor O valor sobre o qual a taxa incide.
+     * @return O valor final com a taxa.
+     */
+    private double aplicarTaxa(double valor) {
         ICalculoPrecoPedidoStrategy taxaStrategy = new CalculoComTaxaServico();
 
-        // Usa-se outro pedido temporário para o cálculo da taxa.
+        // Usa-se um pedido temporário para o cálculo da taxa.
         Pedido pedidoParaCalculo = new Pedido();
-        pedidoParaCalculo.setValorBase(valorFinal); // O valor base para este cálculo é o valor após o desconto.
+        pedidoParaCalculo.setValorBase(valor);
 
-        // Calcula o valor final definitivo aplicando a taxa.
-        valorFinal = taxaStrategy.calcularPreco(pedidoParaCalculo);
+        return taxaStrategy.calcularPreco(pedidoParaCalculo);
+    }
 
-        // 4. ETAPA CRUCIAL: Define o valor total calculado no objeto de pedido principal.
-        pedido.setValorTotal(valorFinal);
+    /**
+     * Valida os dados dos participantes antes da criação de um pedido.
+     * <p>
+     * Garante que exista pelo menos um participante, que as listas de nomes e
+     * e-mails tenham o mesmo tamanho e que nenhum campo esteja em branco.
+     *
+     * @param nomes  A lista de nomes dos participantes.
+     * @param emails A lista de e-mails dos participantes.
+     * @throws IllegalArgumentException Se algum dos dados for inválido.
+     */
+    public void validarParticipantes(List<String> nomes, List<String> emails) {
+        if (nomes == null || nomes.isEmpty()) {
+            throw new IllegalArgumentException("Informe pelo menos um participante.");
+        }
+        if (emails == null || emails.size() != nomes.size()) {
+            throw new IllegalArgumentException("Cada participante deve ter um nome e um e-mail.");
+        }
+        for (int i = 0; i < nomes.size(); i++) {
+            if (nomes.get(i) == null || nomes.get(i).isBlank()) {
+                throw new IllegalArgumentException("O nome do participante " + (i + 1) + " é obrigatório.");
+            }
+            if (emails.get(i) == null || emails.get(i).isBlank()) {
+                throw new IllegalArgumentException("O e-mail do participante " + (i + 1) + " é obrigatório.");
+            }
+        }
+    }
 
-        confirmarPedido(pedido, nomes, emails);
-        usuario.adicionarPedido(pedido);
-        usuarioRepository.save(usuario);
+    /**
+     * Associa cada participante a um tipo de ingresso do evento.
+     *
+     * @param evento O evento da compra.
+     * @param tipos Os nomes dos tipos escolhidos, ou {@code null} para o primeiro tipo à venda.
+     * @param quantidade A quantidade de participantes.
+     * @return O tipo de cada participante, ou {@code null} se o evento tiver um único preço.
+     * @throws IllegalArgumentException Se algum tipo não existir ou a lista não tiver um tipo por participante.
+     * @throws IllegalStateException Se algum tipo estiver fora do período de vendas.
+     */
+    private List<TipoIngresso> resolverTipos(Evento evento, List<String> tipos, int quantidade) {
+        boolean tiposInformados = tipos != null && tipos.stream().anyMatch(t -> t != null && !t.isBlank());
+        if (!evento.hasTiposIngresso()) {
+            if (tiposInformados) {
+                throw new IllegalArgumentException("Este evento não possui tipos de ingresso.");
+            }
+            return null;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        List<TipoIngresso> resolvidos = new ArrayList<>(quantidade);
+        if (!tiposInformados) {
+            TipoIngresso padrao = evento.getTiposIngresso().stream()
+                    .filter(tipo -> tipo.isEmVenda(agora))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Nenhum tipo de ingresso está à venda no momento."));
+            for (int i = 0; i < quantidade; i++) {
+                resolvidos.add(padrao);
+            }
+            return resolvidos;
+        }
+        if (tipos.size() != quantidade) {
+            throw new IllegalArgumentException("Escolha um tipo de ingresso para cada participante.");
+        }
+        for (String nome : tipos) {
+            TipoIngresso tipo = evento.buscarTipoIngresso(nome);
+            if (tipo == null) {
+                throw new IllegalArgumentException("Tipo de ingresso inexistente: " + nome);
+            }
+            if (!tipo.isEmVenda(agora)) {
+                throw new IllegalStateException("As vendas do ingresso " + tipo.getNome() + " não estão abertas.");
+            }
+            resolvidos.add(tipo);
+        }
+        return resolvidos;
+    }
 
-        return pedido;
+    /**
+     * Soma o preço dos ingressos de um pedido.
+     */
+    private double somarPrecos(Evento evento, List<TipoIngresso> tipos, int quantidade) {
+        if (tipos == null) {
+            return evento.getPreco() * quantidade;
+        }
+        double total = 0;
+        for (TipoIngresso tipo : tipos) {
+            total += tipo.getPreco();
+        }
+        return total;
+    }
+
+    /**
+     * Retira os ingressos do estoque do evento e reserva a faixa de números dos seus códigos.
+     * <p>
+     * Com tipos de ingresso, cada tipo é retirado do seu próprio contador atômico, de modo que
+     * vendas de tipos diferentes não disputam o mesmo contador; o total do evento é apenas
+     * ajustado em seguida (e desfeito se ficar negativo, o que só acontece quando ingressos
+     * devolvidos estão reservados para a lista de espera). Sem tipos, o total do evento é
+     * retirado com compare-and-set. Os números só são reservados depois que o estoque foi
+     * retirado com sucesso, no contador atômico do {@link IndiceIngressosService}.
+     *
+     * @param porTipo A quantidade de cada tipo, ou {@code null} se o evento tiver um único preço.
+     * @param cobertos Ingressos do pedido cobertos por uma reserva da lista de espera, que não saem do total.
+     * @return O primeiro número da faixa reservada para os ingressos do pedido.
+     * @throws RuntimeException Se não houver ingressos suficientes; nesse caso nada é retirado.
+     */
+    private int reservarEstoque(Evento evento, Map<TipoIngresso, Integer> porTipo, int quantidade, int cobertos) {
+        int doEstoqueAberto = quantidade - cobertos;
+        if (porTipo == null) {
+            if (!evento.reservarIngressos(doEstoqueAberto)) {
+                throw new RuntimeException("Não há ingressos suficientes. Disponíveis: " + evento.getIngressosDisponiveis());
+            }
+            return indiceIngressosService.reservarNumeros(evento.getIdEvento(), quantidade);
+        }
+        List<Map.Entry<TipoIngresso, Integer>> reservados = new ArrayList<>();
+        for (Map.Entry<TipoIngresso, Integer> entrada : porTipo.entrySet()) {
+            if (!entrada.getKey().reservar(entrada.getValue())) {
+                reservados.forEach(r -> r.getKey().devolver(r.getValue()));
+                throw new RuntimeException("Não há ingressos " + entrada.getKey().getNome()
+                        + " suficientes. Disponíveis: " + entrada.getKey().getDisponiveis());
+            }
+            reservados.add(entrada);
+        }
+        if (evento.ajustarIngressosDisponiveis(-doEstoqueAberto) < 0) {
+            evento.ajustarIngressosDisponiveis(doEstoqueAberto);
+            reservados.forEach(r -> r.getKey().devolver(r.getValue()));
+            throw new RuntimeException("Não há ingressos suficientes. Disponíveis: " + evento.getIngressosDisponiveis());
+        }
+        return indiceIngressosService.reservarNumeros(evento.getIdEvento(), quantidade);
+    }
+
+    /**
+     * Devolve ao estoque os ingressos retirados por {@link #reservarEstoque}.
+     */
+    private void devolverEstoque(Evento evento, Map<TipoIngresso, Integer> porTipo, int quantidade, int cobertos) {
+        if (porTipo != null) {
+            porTipo.forEach(TipoIngresso::devolver);
+        }
+        evento.ajustarIngressosDisponiveis(quantidade - cobertos);
+    }
+
+    private Map<TipoIngresso, Integer> contarPorTipo(List<TipoIngresso> tipos) {
+        Map<TipoIngresso, Integer> porTipo = new LinkedHashMap<>();
+        for (TipoIngresso tipo : tipos) {
+            porTipo.merge(tipo, 1, Integer::sum);
+        }
+        return porTipo;
     }
 
     /**
      * Método auxiliar privado para finalizar a confirmação de um pedido.
      * <p>
-     * Responsável por decrementar a quantidade de ingressos disponíveis do evento,
-     * gerar os ingressos individuais para cada participante, associá-los ao pedido
-     * e definir o status final do pedido como "CONCLUIDO".
+     * Responsável por gerar os ingressos individuais para cada participante (os ingressos
+     * já foram retirados do estoque), associá-los ao pedido, assinar os seus códigos de
+     * verificação e definir o status final do pedido como "CONCLUIDO".
      *
      * @param pedido O pedido que está sendo confirmado.
+     * @param primeiroIngressoNum O primeiro número da faixa reservada com o estoque.
      * @param nomes  A lista de nomes dos participantes.
      * @param emails A lista de e-mails dos participantes.
+     * @param assentos Os assentos reservados, um por participante, ou {@code null} sem lugares marcados.
+     * @param tipos O tipo de ingresso de cada participante, ou {@code null} se o evento tiver um único preço.
      */
     // MÉTODO ATUALIZADO
-    private void confirmarPedido(Pedido pedido, List<String> nomes, List<String> emails) {
+    private void confirmarPedido(Pedido pedido, int primeiroIngressoNum, List<String> nomes, List<String> emails,
+            List<String> assentos, List<TipoIngresso> tipos) {
         Evento evento = pedido.getEvento();
         int quantidadeComprada = pedido.getQuantidadeIngressos();
 
-        int primeiroIngressoNum = evento.getCapacidade() - evento.getIngressosDisponiveis() + 1;
-        evento.setIngressosDisponiveis(evento.getIngressosDisponiveis() - quantidadeComprada);
         eventoRepository.save(evento);
+        disponibilidadeService.notificar(evento);
 
         List<Ingresso> ingressosComprados = new ArrayList<>();
         for (int i = 0; i < quantidadeComprada; i++) {
             String novoIdIngresso = evento.getIdEvento() + "-" + (primeiroIngressoNum + i);
 
-            // Usa os nomes e e-mails da lista para criar cada ingresso
+            // Usa os nomes e e-mails da lista para criar cada ingresso, com o preço do seu tipo.
+            TipoIngresso tipo = tipos == null ? null : tipos.get(i);
             Ingresso novoIngresso = new Ingresso(novoIdIngresso, evento.getIdEvento(),
-                    nomes.get(i), emails.get(i), LocalDateTime.now(), evento.getPreco());
+                    nomes.get(i), emails.get(i), LocalDateTime.now(), tipo == null ? evento.getPreco() : tipo.getPreco());
+            if (tipo != null) {
+                novoIngresso.setTipoIngresso(tipo.getNome());
+            }
 
             novoIngresso.setPedido(pedido); // Associa o ingresso ao pedido
+            if (assentos != null) {
+                novoIngresso.setAssento(assentos.get(i));
+            }
             ingressosComprados.add(novoIngresso);
         }
         pedido.setIngressos(ingressosComprados);
+        // Gera de uma vez os códigos assinados do QR Code de todos os ingressos do pedido.
+        assinaturaIngressoService.assinarIngressos(pedido);
         pedido.setStatus("CONCLUIDO");
     }
 
@@ -176,6 +614,11 @@ public class PedidoService {
      * ou se o evento já foi cancelado pelo organizador.
      */
     public void cancelarPedido(int usuarioId, int pedidoId) {
+        // A devolução ao estoque do evento e o novo status do pedido são gravados juntos, ao final.
+        unidadeDeTrabalho.executar(() -> efetuarCancelamento(usuarioId, pedidoId));
+    }
+
+    private void efetuarCancelamento(int usuarioId, int pedidoId) {
         // Busca o usuário no repositório. Se não encontrar, lança uma exceção.
         Usuario usuario = usuarioRepository.findById(usuarioId)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + usuarioId));
@@ -202,15 +645,37 @@ public class PedidoService {
             throw new IllegalStateException("Não é possível cancelar um ingresso de um evento que já foi cancelado pelo organizador.");
         }
 
-        // Devolve os ingressos do pedido cancelado de volta ao "estoque" do evento.
-        evento.setIngressosDisponiveis(evento.getIngressosDisponiveis() + pedidoParaCancelar.getQuantidadeIngressos());
+        // A troca de status é atômica: se dois cancelamentos do mesmo pedido concorrerem,
+        // só um deles devolve os ingressos.
+        if (!pedidoParaCancelar.alterarStatus("CONCLUIDO", "CANCELADO_PELO_USUARIO")) {
+            throw new IllegalStateException("Este pedido não pode ser cancelado, pois seu status é: " + pedidoParaCancelar.getStatus());
+        }
+
+        // Os ingressos devolvidos vão primeiro para a lista de espera, como reservas com prazo;
+        // só a sobra volta ao "estoque" do evento. Os tipos sempre recebem os seus ingressos de volta.
+        listaEsperaService.devolver(evento, pedidoParaCancelar.getQuantidadeIngressos());
+        if (pedidoParaCancelar.getIngressos() != null) {
+            for (Ingresso ingresso : pedidoParaCancelar.getIngressos()) {
+                TipoIngresso tipo = evento.buscarTipoIngresso(ingresso.getTipoIngresso());
+                if (tipo != null) {
+                    tipo.devolver(1);
+                }
+            }
+        }
         // Salva o objeto 'evento' com a quantidade de ingressos atualizada.
         eventoRepository.save(evento);
-
-        // Atualiza o status do pedido para indicar que foi o usuário quem cancelou.
-        pedidoParaCancelar.setStatus("CANCELADO_PELO_USUARIO");
-        // Salva o objeto 'usuario'. O JPA/Hibernate entende que o 'pedidoParaCancelar' dentro da lista foi modificado e persiste a alteração.
-        usuarioRepository.save(usuario);
+        // Avisa os compradores que estão acompanhando o evento que há ingressos de volta.
+        disponibilidadeService.notificar(evento);
+
+        // Libera os assentos numerados do pedido para novas vendas.
+        assentoService.liberar(pedidoParaCancelar);
+
+        // O pedido é o mesmo em todas as versões do usuário, então o novo status já está nelas;
+        // salvar uma nova versão grava a alteração sem sobrescrever uma compra feita nesse meio tempo.
+        usuarioRepository.atualizar(usuarioId, copia -> { });
+        eventosDominioService.pedidoCancelado(usuarioId, pedidoParaCancelar, false);
+        // Reverte a venda nos agregados do painel do organizador.
+        painelVendasService.registrarCancelamento(pedidoParaCancelar);
     }
     
     
@@ -224,36 +689,58 @@ public class PedidoService {
      * @return um Map<String, Object> com os resultados.
      */
     public Map<String, Object> calcularPrecoPreview(Evento evento, int quantidade, String cupomCode) {
-        // Cria o Map que será retornado
-        Map<String, Object> resumo = new HashMap<>();
+        return calcularResumo(evento, evento.getPreco() * quantidade, cupomCode);
+    }
 
-        // Lógica de cálculo que já tínhamos
-        double valorIngressos = evento.getPreco() * quantidade;
-        
-        Pedido pedidoParaCalculo = new Pedido();
-        pedidoParaCalculo.setValorBase(valorIngressos);
+    /**
+     * Calcula uma prévia dos valores de um pedido com tipos de ingresso, sem persisti-lo.
+     *
+     * @param evento O evento da compra.
+     * @param tipos Os nomes dos tipos de ingresso, um por participante (ou {@code null} para o primeiro tipo à venda).
+     * @param quantidade A quantidade de ingressos.
+     * @param cupomCode O código do cupom a ser testado.
+     * @return um Map<String, Object> com os resultados.
+     * @throws IllegalArgumentException Se algum tipo não existir.
+     * @throws IllegalStateException Se algum tipo estiver fora do período de vendas.
+     */
+    public Map<String, Object> calcularPrecoPreview(Evento evento, List<String> tipos, int quantidade, String cupomCode) {
+        List<TipoIngresso> tiposPorParticipante = resolverTipos(evento, tipos, quantidade);
+        return calcularResumo(evento, somarPrecos(evento, tiposPorParticipante, quantidade), cupomCode);
+    }
 
-        ICalculoPrecoPedidoStrategy taxaStrategy = new CalculoComTaxaServico();
-        double valorAposTaxa = taxaStrategy.calcularPreco(pedidoParaCalculo);
-        double valorTaxa = valorAposTaxa - valorIngressos;
-
-        double descontoAplicado = 0;
-        boolean cupomValido = false;
-        if (cupomCode != null && !cupomCode.isEmpty() && cupomCode.equalsIgnoreCase(evento.getCupomCode())) {
-            descontoAplicado = evento.getCupomDiscountValue() * quantidade;
-            cupomValido = true;
-        }
+    private Map<String, Object> calcularResumo(Evento evento, double valorIngressos, String cupomCode) {
+        // Cria o Map que será retornado, com os mesmos valores que seriam cobrados.
+        Map<String, Object> resumo = new HashMap<>();
+        ValoresPedido valores = precificar(evento, valorIngressos, cupomCode);
 
-        double valorTotal = Math.max(0, valorIngressos + valorTaxa - descontoAplicado);
-        
         // Adiciona todos os resultados ao Map
-        resumo.put("valorIngressos", valorIngressos);
-        resumo.put("valorTaxa", valorTaxa);
-        resumo.put("descontoAplicado", descontoAplicado);
-        resumo.put("valorTotal", valorTotal);
-        resumo.put("cupomValido", cupomValido);
+        resumo.put("valorIngressos", valores.ingressos);
+        resumo.put("valorTaxa", valores.taxa);
+        resumo.put("descontoAplicado", valores.desconto);
+        resumo.put("valorTotal", valores.total);
+        resumo.put("cupomValido", valores.cupomValido);
         
         return resumo;
     }
+
+    /**
+     * Valores de um pedido calculados por {@link PedidoService#precificar}.
+     */
+    private static final class ValoresPedido {
+
+        private final double ingressos;
+        private final double desconto;
+        private final double taxa;
+        private final double total;
+        private final boolean cupomValido;
+
+        private ValoresPedido(double ingressos, double desconto, double taxa, double total, boolean cupomValido) {
+            this.ingressos = ingressos;
+            this.desconto = desconto;
+            this.taxa = taxa;
+            this.total = total;
+            this.cupomValido = cupomValido;
+        }
+    }
     
 }
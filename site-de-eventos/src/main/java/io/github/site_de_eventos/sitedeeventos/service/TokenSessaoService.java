@@ -0,0 +1,207 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Classe de serviço que emite e confere os tokens de sessão assinados, usados no login sem
+ * estado no servidor.
+ * <p>
+ * O token carrega o ID do usuário, se ele é organizador, a versão das suas credenciais e o
+ * instante de expiração, seguidos de um HMAC-SHA256 truncado desses dados, tudo codificado em
+ * Base64 para URL (46 caracteres). Qualquer instância da aplicação que conheça a chave confere
+ * o token sem consultar memória compartilhada.
+ * <p>
+ * A chave vem da propriedade {@code sessao.token.chave}, que deve ser a mesma em todas as
+ * instâncias. Se ela não estiver definida, uma chave é gerada e guardada no arquivo
+ * "{@value #FILE_NAME}", o que só serve para uma instância isolada.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@Service
+public class TokenSessaoService {
+
+    /**
+     * Arquivo usado para guardar a chave gerada quando nenhuma é configurada.
+     */
+    static final String FILE_NAME = "sessao-token.key";
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final byte VERSAO = 1;
+    private static final int TAMANHO_DADOS = 1 + Integer.BYTES + 1 + Integer.BYTES + Long.BYTES;
+    private static final int TAMANHO_ASSINATURA = 16;
+
+    private final SecretKeySpec chave;
+    private final Duration validade;
+    private final Clock relogio;
+
+    /**
+     * Uma instância de {@link Mac} por thread, já que a classe não é thread-safe.
+     */
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::novoMac);
+
+    /**
+     * Construtor que carrega a chave de assinatura.
+     *
+     * @param chaveConfigurada A chave definida em {@code sessao.token.chave}, ou vazia para usar o arquivo.
+     * @param horasValidade Por quantas horas um token vale após o login.
+     */
+    @Autowired
+    public TokenSessaoService(@Value("${sessao.token.chave:}") String chaveConfigurada,
+            @Value("${sessao.token.horas:8}") long horasValidade) {
+        this(ChaveAssinatura.carregar(chaveConfigurada, FILE_NAME, "sessão"), Duration.ofHours(horasValidade),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Construtor com a chave e o relógio informados, usado nos testes.
+     *
+     * @param chave Os bytes da chave HMAC.
+     * @param validade Por quanto tempo um token vale após o login.
+     * @param relogio O relógio usado para a expiração.
+     */
+    TokenSessaoService(byte[] chave, Duration validade, Clock relogio) {
+        this.chave = new SecretKeySpec(chave, ALGORITMO);
+        this.validade = validade;
+        this.relogio = relogio;
+    }
+
+    /**
+     * @return Por quanto tempo (Duration) um token vale após o login.
+     */
+    public Duration getValidade() {
+        return validade;
+    }
+
+    /**
+     * Emite um token para um login.
+     *
+     * @param idUsuario O ID do usuário.
+     * @param organizador Se o usuário é organizador.
+     * @param versaoCredenciais A versão das credenciais do usuário no momento do login
+     *        (o carimbo aleatório de {@link io.github.site_de_eventos.sitedeeventos.model.Usuario#getCarimboCredenciais()}).
+     * @return O token compacto, em Base64 para URL e sem preenchimento.
+     */
+    public String emitir(int idUsuario, boolean organizador, int versaoCredenciais) {
+        long expiraEm = Instant.now(relogio).plus(validade).getEpochSecond();
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_DADOS + TAMANHO_ASSINATURA);
+        buffer.put(VERSAO).putInt(idUsuario).put((byte) (organizador ? 1 : 0)).putInt(versaoCredenciais).putLong(expiraEm);
+        buffer.put(calcularAssinatura(buffer.array()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Confere um token.
+     *
+     * @param token O valor recebido no cookie.
+     * @return Os dados da sessão, se o token for autêntico e não estiver vencido; vazio caso contrário.
+     */
+    public Optional<DadosSessao> verificar(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length != TAMANHO_DADOS + TAMANHO_ASSINATURA || bytes[0] != VERSAO) {
+            return Optional.empty();
+        }
+        byte[] recebida = Arrays.copyOfRange(bytes, TAMANHO_DADOS, bytes.length);
+        // Comparação em tempo constante, para não revelar quantos bytes conferem.
+        if (!MessageDigest.isEqual(calcularAssinatura(bytes), recebida)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, TAMANHO_DADOS - 1);
+        DadosSessao dados = new DadosSessao(buffer.getInt(), buffer.get() == 1, buffer.getInt(), buffer.getLong());
+        if (dados.getExpiraEm() <= Instant.now(relogio).getEpochSecond()) {
+            return Optional.empty();
+        }
+        return Optional.of(dados);
+    }
+
+    private byte[] calcularAssinatura(byte[] dados) {
+        Mac mac = macs.get();
+        mac.update(dados, 0, TAMANHO_DADOS);
+        return Arrays.copyOf(mac.doFinal(), TAMANHO_ASSINATURA);
+    }
+
+    private Mac novoMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chave);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível inicializar a assinatura de sessões: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Dados extraídos de um token autêntico.
+     */
+    public static class DadosSessao {
+
+        private final int idUsuario;
+        private final boolean organizador;
+        private final int versaoCredenciais;
+        private final long expiraEm;
+
+        /**
+         * @param idUsuario O ID do usuário.
+         * @param organizador Se o usuário é organizador.
+         * @param versaoCredenciais A versão das credenciais no momento do login.
+         * @param expiraEm O instante de expiração, em segundos desde 1970 (UTC).
+         */
+        public DadosSessao(int idUsuario, boolean organizador, int versaoCredenciais, long expiraEm) {
+            this.idUsuario = idUsuario;
+            this.organizador = organizador;
+            this.versaoCredenciais = versaoCredenciais;
+            this.expiraEm = expiraEm;
+        }
+
+        /**
+         * @return O ID (int) do usuário.
+         */
+        public int getIdUsuario() {
+            return idUsuario;
+        }
+
+        /**
+         * @return {@code true} se o usuário é organizador.
+         */
+        public boolean isOrganizador() {
+            return organizador;
+        }
+
+        /**
+         * @return A versão (int) das credenciais no momento do login.
+         */
+        public int getVersaoCredenciais() {
+            return versaoCredenciais;
+        }
+
+        /**
+         * @return O instante de expiração (long), em segundos desde 1970 (UTC).
+         */
+        public long getExpiraEm() {
+            return expiraEm;
+        }
+    }
+}
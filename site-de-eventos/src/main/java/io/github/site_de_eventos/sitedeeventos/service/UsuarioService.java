@@ -14,6 +14,7 @@ import io.github.site_de_eventos.sitedeeventos.model.Usuario;
 import io.github.site_de_eventos.sitedeeventos.model.UsuarioBuilderConcreto;
 import io.github.site_de_eventos.sitedeeventos.model.builder.IOrganizadorBuilder;
 import io.github.site_de_eventos.sitedeeventos.model.builder.IUsuarioBuilder;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
 
 /**
@@ -32,6 +33,12 @@ public class UsuarioService {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private UnidadeDeTrabalho unidadeDeTrabalho;
+
+    @Autowired
+    private EventosDominioService eventosDominioService;
+
     /**
     * Valida um CPF de acordo com o algoritmo oficial da Receita Federal.
     * Esta versão foi refinada para garantir a validação explícita de ambos os dígitos.
@@ -171,7 +178,7 @@ public class UsuarioService {
                     .cnpj(cnpj)
                     .contaBancaria(contaBancaria)
                     .build();
-            return usuarioRepository.save(novoOrganizador);
+            return cadastrar(novoOrganizador);
         } else {
             IUsuarioBuilder builder = new UsuarioBuilderConcreto();
             Usuario novoUsuario = builder
@@ -184,7 +191,7 @@ public class UsuarioService {
                     .cidade(cidade)
                     .endereco(endereco)
                     .build();
-            return usuarioRepository.save(novoUsuario);
+            return cadastrar(novoUsuario);
         }
     }
 
@@ -217,10 +224,25 @@ public class UsuarioService {
                     .nome("XOGUM Eventos")
                     .email(emailPadrao)
                     .build();
-            return (Organizador) usuarioRepository.save(organizadorPadrao);
+            return (Organizador) cadastrar(organizadorPadrao);
         }
     }
 
+    /**
+     * Salva um usuário novo e registra o seu cadastro no log de eventos de domínio,
+     * gravando os dois juntos.
+     *
+     * @param novoUsuario O usuário ainda não salvo.
+     * @return O usuário salvo, já com o seu ID.
+     */
+    private Usuario cadastrar(Usuario novoUsuario) {
+        return unidadeDeTrabalho.executar(() -> {
+            Usuario salvo = usuarioRepository.save(novoUsuario);
+            eventosDominioService.usuarioCadastrado(salvo);
+            return salvo;
+        });
+    }
+
     /**
      * Salva ou atualiza uma entidade de usuário no banco de dados.
      *
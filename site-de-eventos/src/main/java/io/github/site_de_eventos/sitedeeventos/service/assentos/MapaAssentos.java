@@ -0,0 +1,361 @@
+package io.github.site_de_eventos.sitedeeventos.service.assentos;
+
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ocupação dos assentos numerados de um evento, guardada como mapas de bits.
+ * <p>
+ * Cada fileira é uma palavra de 64 bits em que o bit {@code i} indica que o assento
+ * {@code i + 1} está ocupado. Um estádio de 60 mil lugares ocupa poucos KB, e a busca
+ * pelos melhores lugares trata uma fileira inteira de uma vez: os deslocamentos em
+ * {@link #inicioMaisCentral} marcam em uma só palavra todas as posições onde começa
+ * uma sequência livre do tamanho pedido.
+ * <p>
+ * Cada setor tem a sua trava. Uma reserva verifica e marca os assentos com as travas
+ * dos setores envolvidos, de modo que, entre compras simultâneas, apenas uma fica
+ * com cada assento. Os códigos dos assentos seguem o formato "setor-fileira-assento",
+ * todos a partir de 1.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class MapaAssentos {
+
+    private final Setor[] setores;
+
+    /**
+     * Cria um mapa com todos os assentos livres.
+     *
+     * @param layout Os setores do evento.
+     */
+    public MapaAssentos(List<SetorAssentos> layout) {
+        this.setores = new Setor[layout.size()];
+        for (int i = 0; i < setores.length; i++) {
+            setores[i] = new Setor(layout.get(i));
+        }
+    }
+
+    /**
+     * Reserva os melhores assentos disponíveis: de preferência lado a lado, na fileira mais
+     * próxima do palco e o mais perto possível do centro dela. Se nenhum setor tiver a
+     * sequência, usa os primeiros assentos livres de um único setor.
+     *
+     * @param quantidade A quantidade de assentos.
+     * @param setor O setor desejado (a partir de 1), ou {@code null} para qualquer um.
+     * @return Os códigos dos assentos reservados, ou uma lista vazia se não houver lugares suficientes.
+     */
+    public List<String> reservarMelhores(int quantidade, Integer setor) {
+        return buscarMelhores(quantidade, setor, true);
+    }
+
+    /**
+     * Sugere os melhores assentos disponíveis, pelo mesmo critério de {@link #reservarMelhores},
+     * sem reservá-los.
+     *
+     * @param quantidade A quantidade de assentos.
+     * @param setor O setor desejado (a partir de 1), ou {@code null} para qualquer um.
+     * @return Os códigos dos assentos sugeridos, ou uma lista vazia se não houver lugares suficientes.
+     */
+    public List<String> sugerirMelhores(int quantidade, Integer setor) {
+        return buscarMelhores(quantidade, setor, false);
+    }
+
+    /**
+     * Reserva exatamente os assentos informados. Ou todos são reservados, ou nenhum.
+     *
+     * @param codigos Os códigos dos assentos escolhidos.
+     * @return {@code true} se todos estavam livres e foram reservados; {@code false} se algum já estava ocupado.
+     * @throws IllegalArgumentException se algum código for inválido ou repetido.
+     */
+    public boolean reservar(List<String> codigos) {
+        TreeMap<Integer, long[]> pedidosPorSetor = agruparPorSetor(codigos, true);
+        // As travas são obtidas em ordem crescente de setor, evitando impasse entre reservas simultâneas.
+        List<ReentrantLock> obtidas = new ArrayList<>();
+        try {
+            for (int indice : pedidosPorSetor.keySet()) {
+                setores[indice].trava.lock();
+                obtidas.add(setores[indice].trava);
+            }
+            for (var entrada : pedidosPorSetor.entrySet()) {
+                long[] ocupados = setores[entrada.getKey()].ocupados;
+                long[] pedidos = entrada.getValue();
+                for (int f = 0; f < pedidos.length; f++) {
+                    if ((ocupados[f] & pedidos[f]) != 0) {
+                        return false;
+                    }
+                }
+            }
+            for (var entrada : pedidosPorSetor.entrySet()) {
+                long[] ocupados = setores[entrada.getKey()].ocupados;
+                long[] pedidos = entrada.getValue();
+                for (int f = 0; f < pedidos.length; f++) {
+                    ocupados[f] |= pedidos[f];
+                }
+            }
+            return true;
+        } finally {
+            for (ReentrantLock trava : obtidas) {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Libera assentos, por exemplo, após o cancelamento de um pedido.
+     * Códigos inválidos são ignorados.
+     *
+     * @param codigos Os códigos dos assentos a liberar.
+     */
+    public void liberar(List<String> codigos) {
+        for (var entrada : agruparPorSetor(codigos, false).entrySet()) {
+            Setor setor = setores[entrada.getKey()];
+            long[] liberados = entrada.getValue();
+            setor.trava.lock();
+            try {
+                for (int f = 0; f < liberados.length; f++) {
+                    setor.ocupados[f] &= ~liberados[f];
+                }
+            } finally {
+                setor.trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Obtém a quantidade de assentos livres.
+     * @return O total (int) de assentos livres em todos os setores.
+     */
+    public int getDisponiveis() {
+        int total = 0;
+        for (Setor setor : setores) {
+            setor.trava.lock();
+            try {
+                total += setor.layout.getTotalAssentos() - setor.contarOcupados();
+            } finally {
+                setor.trava.unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Descreve a ocupação de um setor, uma linha por fileira, com '1' para ocupado e '0' para livre.
+     *
+     * @param setor O setor (a partir de 1).
+     * @return As fileiras do setor, da mais próxima do palco para a mais distante.
+     * @throws IllegalArgumentException se o setor não existir.
+     */
+    public List<String> ocupacao(int setor) {
+        if (setor < 1 || setor > setores.length) {
+            throw new IllegalArgumentException("Setor inexistente: " + setor);
+        }
+        Setor s = setores[setor - 1];
+        int largura = s.layout.getAssentosPorFileira();
+        List<String> fileiras = new ArrayList<>(s.ocupados.length);
+        s.trava.lock();
+        try {
+            for (long palavra : s.ocupados) {
+                char[] fileira = new char[largura];
+                for (int i = 0; i < largura; i++) {
+                    fileira[i] = (palavra & (1L << i)) != 0 ? '1' : '0';
+                }
+                fileiras.add(new String(fileira));
+            }
+        } finally {
+            s.trava.unlock();
+        }
+        return fileiras;
+    }
+
+    private List<String> buscarMelhores(int quantidade, Integer setor, boolean reservar) {
+        if (quantidade <= 0) {
+            return List.of();
+        }
+        int primeiro = setor == null ? 0 : setor - 1;
+        int ultimo = setor == null ? setores.length - 1 : setor - 1;
+        if (primeiro < 0 || ultimo >= setores.length) {
+            throw new IllegalArgumentException("Setor inexistente: " + setor);
+        }
+        // Primeiro procura assentos lado a lado em todos os setores; só depois aceita assentos separados.
+        for (boolean ladoALado : new boolean[] {true, false}) {
+            for (int i = primeiro; i <= ultimo; i++) {
+                Setor s = setores[i];
+                s.trava.lock();
+                try {
+                    List<String> encontrados = ladoALado ? s.sequencia(i, quantidade, reservar) : s.avulsos(i, quantidade, reservar);
+                    if (!encontrados.isEmpty()) {
+                        return encontrados;
+                    }
+                } finally {
+                    s.trava.unlock();
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Converte códigos de assento em máscaras por fileira, agrupadas por setor (índice a partir de 0).
+     */
+    private TreeMap<Integer, long[]> agruparPorSetor(List<String> codigos, boolean estrito) {
+        TreeMap<Integer, long[]> porSetor = new TreeMap<>();
+        for (String codigo : codigos) {
+            int[] posicao = lerCodigo(codigo);
+            if (posicao == null) {
+                if (estrito) {
+                    throw new IllegalArgumentException("Assento inválido: " + codigo);
+                }
+                continue;
+            }
+            long[] mascaras = porSetor.computeIfAbsent(posicao[0], s -> new long[setores[s].ocupados.length]);
+            long bit = 1L << posicao[2];
+            if (estrito && (mascaras[posicao[1]] & bit) != 0) {
+                throw new IllegalArgumentException("Assento repetido: " + codigo);
+            }
+            mascaras[posicao[1]] |= bit;
+        }
+        return porSetor;
+    }
+
+    /**
+     * Lê um código "setor-fileira-assento" e devolve os índices (a partir de 0), ou {@code null} se for inválido.
+     */
+    private int[] lerCodigo(String codigo) {
+        if (codigo == null) {
+            return null;
+        }
+        String[] partes = codigo.trim().split("-");
+        if (partes.length != 3) {
+            return null;
+        }
+        try {
+            int setor = Integer.parseInt(partes[0]) - 1;
+            int fileira = Integer.parseInt(partes[1]) - 1;
+            int assento = Integer.parseInt(partes[2]) - 1;
+            if (setor < 0 || setor >= setores.length) {
+                return null;
+            }
+            SetorAssentos layout = setores[setor].layout;
+            if (fileira < 0 || fileira >= layout.getFileiras() || assento < 0 || assento >= layout.getAssentosPorFileira()) {
+                return null;
+            }
+            return new int[] {setor, fileira, assento};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encontra, em uma fileira, o início da sequência livre de {@code quantidade} assentos
+     * mais próxima do centro.
+     *
+     * @param livres Os assentos livres da fileira (bit 1 = livre).
+     * @param largura A quantidade de assentos da fileira.
+     * @param quantidade O tamanho da sequência.
+     * @return O índice do primeiro assento da sequência, ou -1 se não houver.
+     */
+    static int inicioMaisCentral(long livres, int largura, int quantidade) {
+        if (quantidade > largura) {
+            return -1;
+        }
+        // Após o laço, o bit i fica ligado se os assentos i..i+quantidade-1 estiverem todos livres.
+        // Cada passo dobra (no máximo) o tamanho das sequências já garantidas, então são log2(quantidade) passos.
+        long inicios = livres;
+        for (int garantido = 1; garantido < quantidade && inicios != 0; ) {
+            int passo = Math.min(garantido, quantidade - garantido);
+            inicios &= inicios >>> passo;
+            garantido += passo;
+        }
+        if (inicios == 0) {
+            return -1;
+        }
+        int centro = (largura - quantidade) / 2;
+        long aPartirDoCentro = inicios & (-1L << centro);
+        long antesDoCentro = inicios & ~(-1L << centro);
+        int depois = aPartirDoCentro == 0 ? -1 : Long.numberOfTrailingZeros(aPartirDoCentro);
+        int antes = antesDoCentro == 0 ? -1 : 63 - Long.numberOfLeadingZeros(antesDoCentro);
+        if (depois < 0) {
+            return antes;
+        }
+        if (antes < 0) {
+            return depois;
+        }
+        return (centro - antes) < (depois - centro) ? antes : depois;
+    }
+
+    private static String codigo(int setor, int fileira, int assento) {
+        return (setor + 1) + "-" + (fileira + 1) + "-" + (assento + 1);
+    }
+
+    /**
+     * Ocupação de um setor. Os métodos de busca devem ser chamados com a trava obtida.
+     */
+    private static class Setor {
+
+        private final SetorAssentos layout;
+        private final long[] ocupados;
+        private final long mascaraFileira;
+        private final ReentrantLock trava = new ReentrantLock();
+
+        Setor(SetorAssentos layout) {
+            this.layout = layout;
+            this.ocupados = new long[layout.getFileiras()];
+            int largura = layout.getAssentosPorFileira();
+            this.mascaraFileira = largura >= 64 ? -1L : (1L << largura) - 1;
+        }
+
+        List<String> sequencia(int indiceSetor, int quantidade, boolean reservar) {
+            int largura = layout.getAssentosPorFileira();
+            for (int f = 0; f < ocupados.length; f++) {
+                int inicio = inicioMaisCentral(~ocupados[f] & mascaraFileira, largura, quantidade);
+                if (inicio < 0) {
+                    continue;
+                }
+                List<String> codigos = new ArrayList<>(quantidade);
+                for (int a = inicio; a < inicio + quantidade; a++) {
+                    codigos.add(codigo(indiceSetor, f, a));
+                }
+                if (reservar) {
+                    long bloco = quantidade == 64 ? -1L : ((1L << quantidade) - 1) << inicio;
+                    ocupados[f] |= bloco;
+                }
+                return codigos;
+            }
+            return List.of();
+        }
+
+        List<String> avulsos(int indiceSetor, int quantidade, boolean reservar) {
+            if (layout.getTotalAssentos() - contarOcupados() < quantidade) {
+                return List.of();
+            }
+            List<String> codigos = new ArrayList<>(quantidade);
+            long[] escolhidos = new long[ocupados.length];
+            for (int f = 0; f < ocupados.length && codigos.size() < quantidade; f++) {
+                long livres = ~ocupados[f] & mascaraFileira;
+                while (livres != 0 && codigos.size() < quantidade) {
+                    long bit = Long.lowestOneBit(livres);
+                    codigos.add(codigo(indiceSetor, f, Long.numberOfTrailingZeros(bit)));
+                    escolhidos[f] |= bit;
+                    livres &= ~bit;
+                }
+            }
+            if (reservar) {
+                for (int f = 0; f < ocupados.length; f++) {
+                    ocupados[f] |= escolhidos[f];
+                }
+            }
+            return codigos;
+        }
+
+        int contarOcupados() {
+            return Arrays.stream(ocupados).mapToInt(Long::bitCount).sum();
+        }
+    }
+}
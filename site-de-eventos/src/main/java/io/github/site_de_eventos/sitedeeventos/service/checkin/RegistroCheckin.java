@@ -0,0 +1,114 @@
+package io.github.site_de_eventos.sitedeeventos.service.checkin;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Registro de entradas (check-in) de um evento, guardado como um conjunto de bits atômico.
+ * <p>
+ * O bit {@code n} indica que o ingresso de número sequencial {@code n} já entrou. Admitir
+ * um ingresso é uma única operação compare-and-set na palavra de 64 bits que o contém,
+ * sem travas; se duas leituras do mesmo ingresso chegarem ao mesmo tempo, apenas uma
+ * vence. Um evento de 50 mil lugares ocupa cerca de 6 KB.
+ * <p>
+ * O vetor tem tamanho fixo, definido pela capacidade do evento. Números acima dela (possíveis
+ * quando cancelamentos devolvem ingressos e novos códigos são emitidos) vão para um conjunto
+ * concorrente à parte, cuja inserção também é atômica.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class RegistroCheckin {
+
+    private final AtomicLongArray bits;
+    private final Set<Integer> excedentes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger admitidos = new AtomicInteger();
+
+    /**
+     * Cria um registro vazio para a capacidade informada.
+     *
+     * @param capacidade (int) A quantidade de ingressos esperada para o evento.
+     */
+    public RegistroCheckin(int capacidade) {
+        this.bits = new AtomicLongArray((Math.max(capacidade, 1) + 64) >>> 6);
+    }
+
+    /**
+     * Tenta admitir um ingresso.
+     *
+     * @param numero (int) O número sequencial do ingresso (a partir de 1).
+     * @return {@code true} se esta chamada admitiu o ingresso; {@code false} se ele já havia entrado.
+     */
+    public boolean admitir(int numero) {
+        int indice = numero >>> 6;
+        if (indice >= bits.length()) {
+            if (excedentes.add(numero)) {
+                admitidos.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+        long mascara = 1L << (numero & 63);
+        while (true) {
+            long palavra = bits.get(indice);
+            if ((palavra & mascara) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(indice, palavra, palavra | mascara)) {
+                admitidos.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Desfaz a admissão de um ingresso cuja entrada não pôde ser registrada.
+     *
+     * @param numero (int) O número sequencial do ingresso, admitido por esta mesma leitura.
+     */
+    public void desfazer(int numero) {
+        int indice = numero >>> 6;
+        if (indice >= bits.length()) {
+            if (excedentes.remove(numero)) {
+                admitidos.decrementAndGet();
+            }
+            return;
+        }
+        long mascara = 1L << (numero & 63);
+        while (true) {
+            long palavra = bits.get(indice);
+            if ((palavra & mascara) == 0) {
+                return;
+            }
+            if (bits.compareAndSet(indice, palavra, palavra & ~mascara)) {
+                admitidos.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Indica se um ingresso já entrou.
+     *
+     * @param numero (int) O número sequencial do ingresso.
+     * @return {@code true} se o ingresso já foi admitido.
+     */
+    public boolean foiAdmitido(int numero) {
+        int indice = numero >>> 6;
+        if (indice >= bits.length()) {
+            return excedentes.contains(numero);
+        }
+        return (bits.get(indice) & (1L << (numero & 63))) != 0;
+    }
+
+    /**
+     * Obtém a quantidade de ingressos admitidos.
+     * @return O total (int) de entradas registradas.
+     */
+    public int getAdmitidos() {
+        return admitidos.get();
+    }
+}
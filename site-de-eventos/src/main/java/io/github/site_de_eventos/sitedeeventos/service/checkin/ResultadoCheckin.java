@@ -0,0 +1,36 @@
+package io.github.site_de_eventos.sitedeeventos.service.checkin;
+
+/**
+ * Resultado da leitura de um ingresso na portaria.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public enum ResultadoCheckin {
+
+    /**
+     * O ingresso é válido e esta leitura registrou a entrada.
+     */
+    ADMITIDO,
+
+    /**
+     * O ingresso já havia entrado; a leitura é recusada para evitar entrada dupla.
+     */
+    JA_UTILIZADO,
+
+    /**
+     * O ingresso existe, mas o pedido ou o evento foi cancelado.
+     */
+    INVALIDO,
+
+    /**
+     * Não há ingresso com o código informado.
+     */
+    NAO_ENCONTRADO,
+
+    /**
+     * O ingresso é válido, mas a entrada não pôde ser gravada e foi desfeita; a leitura pode ser repetida.
+     */
+    FALHA_REGISTRO
+}
@@ -0,0 +1,31 @@
+package io.github.site_de_eventos.sitedeeventos.service.grupo;
+
+/**
+ * Etapa do processamento de um pedido em grupo.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public enum EtapaPedidoGrupo {
+
+    /**
+     * O arquivo está sendo lido e as linhas validadas; nenhum ingresso foi retirado do estoque.
+     */
+    VALIDANDO,
+
+    /**
+     * O estoque foi reservado e os ingressos estão sendo gerados em lotes.
+     */
+    EMITINDO,
+
+    /**
+     * O pedido foi concluído e salvo.
+     */
+    CONCLUIDO,
+
+    /**
+     * O pedido não foi criado; os erros explicam o motivo e o estoque não foi alterado.
+     */
+    FALHOU
+}
@@ -0,0 +1,120 @@
+package io.github.site_de_eventos.sitedeeventos.service.grupo;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lê, uma linha por vez, o arquivo CSV de participantes de um pedido em grupo.
+ * <p>
+ * Cada linha tem as colunas "nome", "email" e, opcionalmente, "tipo" (o tipo de ingresso).
+ * O separador pode ser vírgula ou ponto e vírgula (o padrão das planilhas em português) e é
+ * detectado na primeira linha, que é ignorada se for um cabeçalho. Campos entre aspas podem
+ * conter o separador. Apenas a linha atual fica em memória, seja qual for o tamanho do arquivo.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class LeitorParticipantesCsv implements Closeable {
+
+    private final BufferedReader reader;
+    private char separador;
+    private int numeroLinha;
+
+    /**
+     * Cria um leitor sobre o conteúdo do arquivo.
+     *
+     * @param reader O conteúdo do arquivo CSV.
+     */
+    public LeitorParticipantesCsv(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Lê o próximo participante. Linhas em branco e o cabeçalho são pulados.
+     *
+     * @return A próxima linha, válida ou com a mensagem de erro; {@code null} no fim do arquivo.
+     * @throws IOException se o arquivo não puder ser lido.
+     */
+    public ParticipanteCsv proximo() throws IOException {
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            if (separador == 0) {
+                separador = linha.indexOf(';') >= 0 ? ';' : ',';
+                if (isCabecalho(linha)) {
+                    continue;
+                }
+            }
+            return interpretar(linha);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isCabecalho(String linha) {
+        String minusculas = linha.toLowerCase(Locale.ROOT);
+        return minusculas.contains("nome") && minusculas.contains("mail") && linha.indexOf('@') < 0;
+    }
+
+    private ParticipanteCsv interpretar(String linha) {
+        List<String> campos = separar(linha);
+        String nome = campos.size() > 0 ? campos.get(0).trim() : "";
+        String email = campos.size() > 1 ? campos.get(1).trim() : "";
+        String tipo = campos.size() > 2 && !campos.get(2).isBlank() ? campos.get(2).trim() : null;
+
+        String erro = null;
+        if (nome.isEmpty()) {
+            erro = "O nome do participante é obrigatório.";
+        } else if (!isEmailValido(email)) {
+            erro = "E-mail inválido: " + email;
+        }
+        return new ParticipanteCsv(numeroLinha, nome, email, tipo, erro);
+    }
+
+    private static boolean isEmailValido(String email) {
+        int arroba = email.indexOf('@');
+        return arroba > 0 && arroba == email.lastIndexOf('@')
+                && email.indexOf('.', arroba) > arroba + 1 && !email.endsWith(".")
+                && email.chars().noneMatch(Character::isWhitespace);
+    }
+
+    /**
+     * Divide uma linha nos seus campos, respeitando aspas ("" dentro de aspas é uma aspa literal).
+     */
+    private List<String> separar(String linha) {
+        List<String> campos = new ArrayList<>(3);
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (c == '"') {
+                if (entreAspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreAspas = !entreAspas;
+                }
+            } else if (c == separador && !entreAspas) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
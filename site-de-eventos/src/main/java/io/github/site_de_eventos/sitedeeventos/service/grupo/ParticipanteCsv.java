@@ -0,0 +1,79 @@
+package io.github.site_de_eventos.sitedeeventos.service.grupo;
+
+/**
+ * Uma linha lida do arquivo de participantes de um pedido em grupo.
+ * <p>
+ * Linhas inválidas também são devolvidas pelo leitor, com a mensagem em {@link #getErro()},
+ * para que o comprador receba o número da linha de cada problema.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ParticipanteCsv {
+
+    private final int linha;
+    private final String nome;
+    private final String email;
+    private final String tipoIngresso;
+    private final String erro;
+
+    /**
+     * Cria uma linha lida.
+     *
+     * @param linha O número da linha no arquivo (a partir de 1).
+     * @param nome O nome do participante.
+     * @param email O e-mail do participante.
+     * @param tipoIngresso O tipo de ingresso, ou {@code null} se a coluna estiver vazia.
+     * @param erro A mensagem de erro, ou {@code null} se a linha for válida.
+     */
+    public ParticipanteCsv(int linha, String nome, String email, String tipoIngresso, String erro) {
+        this.linha = linha;
+        this.nome = nome;
+        this.email = email;
+        this.tipoIngresso = tipoIngresso;
+        this.erro = erro;
+    }
+
+    /**
+     * @return O número (int) da linha no arquivo.
+     */
+    public int getLinha() {
+        return linha;
+    }
+
+    /**
+     * @return O nome (String) do participante.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * @return O e-mail (String) do participante.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * @return O tipo de ingresso (String), ou {@code null}.
+     */
+    public String getTipoIngresso() {
+        return tipoIngresso;
+    }
+
+    /**
+     * @return A mensagem de erro (String), ou {@code null} se a linha for válida.
+     */
+    public String getErro() {
+        return erro;
+    }
+
+    /**
+     * @return {@code true} se a linha for válida.
+     */
+    public boolean isValido() {
+        return erro == null;
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.site_de_eventos.sitedeeventos.service.grupo;
+
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Um pedido em grupo em emissão: o estoque já foi reservado e os ingressos são
+ * acrescentados ao pedido em lotes, até a conclusão.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PedidoEmGrupo {
+
+    private final Usuario usuario;
+    private final Pedido pedido;
+    private final Map<String, TipoIngresso> tiposPorNome;
+    private final Map<TipoIngresso, Integer> quantidadePorTipo;
+    private final int primeiroNumero;
+    private final double desconto;
+    private final double taxa;
+
+    /**
+     * Cria o pedido em emissão.
+     *
+     * @param usuario O comprador.
+     * @param pedido O pedido, ainda sem ingressos.
+     * @param tiposPorNome O tipo de ingresso de cada nome usado no arquivo (em minúsculas; "" para a
+     *                     coluna vazia), ou {@code null} se o evento tiver um único preço.
+     * @param quantidadePorTipo A quantidade reservada de cada tipo, ou {@code null} se o evento tiver um único preço.
+     * @param primeiroNumero O número sequencial do primeiro ingresso do pedido.
+     * @param desconto O valor do desconto do cupom, para o painel de vendas.
+     * @param taxa O valor da taxa de serviço, para o painel de vendas.
+     */
+    public PedidoEmGrupo(Usuario usuario, Pedido pedido, Map<String, TipoIngresso> tiposPorNome,
+            Map<TipoIngresso, Integer> quantidadePorTipo, int primeiroNumero, double desconto, double taxa) {
+        this.usuario = usuario;
+        this.pedido = pedido;
+        this.tiposPorNome = tiposPorNome;
+        this.quantidadePorTipo = quantidadePorTipo;
+        this.primeiroNumero = primeiroNumero;
+        this.desconto = desconto;
+        this.taxa = taxa;
+    }
+
+    /**
+     * @return O comprador ({@link Usuario}).
+     */
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    /**
+     * @return O {@link Pedido} em emissão.
+     */
+    public Pedido getPedido() {
+        return pedido;
+    }
+
+    /**
+     * Obtém o tipo de ingresso de um nome informado no arquivo.
+     * @param nome O nome do tipo, ou {@code null} para a coluna vazia.
+     * @return O tipo, ou {@code null} se o evento tiver um único preço.
+     */
+    public TipoIngresso tipoDe(String nome) {
+        return tiposPorNome == null ? null : tiposPorNome.get(chaveTipo(nome));
+    }
+
+    /**
+     * @return A quantidade reservada de cada tipo (Map), ou {@code null} se o evento tiver um único preço.
+     */
+    public Map<TipoIngresso, Integer> getQuantidadePorTipo() {
+        return quantidadePorTipo;
+    }
+
+    /**
+     * @return O número (int) sequencial do primeiro ingresso do pedido.
+     */
+    public int getPrimeiroNumero() {
+        return primeiroNumero;
+    }
+
+    /**
+     * @return O valor (double) do desconto do cupom.
+     */
+    public double getDesconto() {
+        return desconto;
+    }
+
+    /**
+     * @return O valor (double) da taxa de serviço.
+     */
+    public double getTaxa() {
+        return taxa;
+    }
+
+    /**
+     * Normaliza o nome de um tipo para a contagem e a busca: sem espaços nas pontas e em minúsculas.
+     * @param nome O nome informado no arquivo, ou {@code null}.
+     * @return A chave do tipo ("" para a coluna vazia).
+     */
+    public static String chaveTipo(String nome) {
+        return nome == null ? "" : nome.trim().toLowerCase(Locale.ROOT);
+    }
+}
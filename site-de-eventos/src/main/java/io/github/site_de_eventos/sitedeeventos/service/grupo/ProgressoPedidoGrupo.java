@@ -0,0 +1,175 @@
+package io.github.site_de_eventos.sitedeeventos.service.grupo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acompanhamento de um pedido em grupo processado em segundo plano.
+ * <p>
+ * É atualizado pela thread do processamento e lido pelas consultas de progresso; os
+ * contadores são {@code volatile} e a lista de erros é protegida pelo próprio objeto.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ProgressoPedidoGrupo {
+
+    private final String id;
+    private final int usuarioId;
+    private final int eventoId;
+    private final LocalDateTime iniciadoEm = LocalDateTime.now();
+    private final List<String> erros = new ArrayList<>();
+
+    private volatile EtapaPedidoGrupo etapa = EtapaPedidoGrupo.VALIDANDO;
+    private volatile int linhasLidas;
+    private volatile int totalIngressos;
+    private volatile int ingressosEmitidos;
+    private volatile Integer idPedido;
+    private volatile LocalDateTime finalizadoEm;
+
+    /**
+     * Cria o acompanhamento de um novo processamento.
+     *
+     * @param id O identificador do processamento.
+     * @param usuarioId O ID do comprador.
+     * @param eventoId O ID do evento.
+     */
+    public ProgressoPedidoGrupo(String id, int usuarioId, int eventoId) {
+        this.id = id;
+        this.usuarioId = usuarioId;
+        this.eventoId = eventoId;
+    }
+
+    /**
+     * Registra uma linha lida na validação.
+     */
+    public void linhaLida() {
+        linhasLidas++;
+    }
+
+    /**
+     * Passa para a emissão dos ingressos.
+     * @param totalIngressos A quantidade de participantes válidos.
+     */
+    public void iniciarEmissao(int totalIngressos) {
+        this.totalIngressos = totalIngressos;
+        this.etapa = EtapaPedidoGrupo.EMITINDO;
+    }
+
+    /**
+     * Registra um lote de ingressos emitidos.
+     * @param quantidade A quantidade de ingressos do lote.
+     */
+    public void loteEmitido(int quantidade) {
+        ingressosEmitidos += quantidade;
+    }
+
+    /**
+     * Marca o processamento como concluído.
+     * @param idPedido O ID do pedido criado.
+     */
+    public void concluir(int idPedido) {
+        this.idPedido = idPedido;
+        this.finalizadoEm = LocalDateTime.now();
+        this.etapa = EtapaPedidoGrupo.CONCLUIDO;
+    }
+
+    /**
+     * Acrescenta um erro, sem mudar a etapa.
+     * @param erro A mensagem de erro.
+     */
+    public synchronized void adicionarErro(String erro) {
+        erros.add(erro);
+    }
+
+    /**
+     * Marca o processamento como malsucedido.
+     * @param erro A mensagem de erro, ou {@code null} se os erros já foram adicionados.
+     */
+    public void falhar(String erro) {
+        if (erro != null) {
+            adicionarErro(erro);
+        }
+        this.finalizadoEm = LocalDateTime.now();
+        this.etapa = EtapaPedidoGrupo.FALHOU;
+    }
+
+    /**
+     * @return O identificador (String) do processamento.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return O ID (int) do comprador.
+     */
+    public int getUsuarioId() {
+        return usuarioId;
+    }
+
+    /**
+     * @return O ID (int) do evento.
+     */
+    public int getEventoId() {
+        return eventoId;
+    }
+
+    /**
+     * @return A etapa ({@link EtapaPedidoGrupo}) atual.
+     */
+    public EtapaPedidoGrupo getEtapa() {
+        return etapa;
+    }
+
+    /**
+     * @return A quantidade (int) de linhas lidas na validação.
+     */
+    public int getLinhasLidas() {
+        return linhasLidas;
+    }
+
+    /**
+     * @return A quantidade (int) de ingressos do pedido, conhecida depois da validação.
+     */
+    public int getTotalIngressos() {
+        return totalIngressos;
+    }
+
+    /**
+     * @return A quantidade (int) de ingressos já gerados.
+     */
+    public int getIngressosEmitidos() {
+        return ingressosEmitidos;
+    }
+
+    /**
+     * @return O ID (Integer) do pedido criado, ou {@code null} antes da conclusão.
+     */
+    public Integer getIdPedido() {
+        return idPedido;
+    }
+
+    /**
+     * @return O início (LocalDateTime) do processamento.
+     */
+    public LocalDateTime getIniciadoEm() {
+        return iniciadoEm;
+    }
+
+    /**
+     * @return O fim (LocalDateTime) do processamento, ou {@code null} se ainda estiver em andamento.
+     */
+    public LocalDateTime getFinalizadoEm() {
+        return finalizadoEm;
+    }
+
+    /**
+     * @return Uma cópia (List) das mensagens de erro.
+     */
+    public synchronized List<String> getErros() {
+        return new ArrayList<>(erros);
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.site_de_eventos.sitedeeventos.service.painel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agregados de vendas de um único evento, mantidos de forma incremental.
+ * <p>
+ * Cada venda ou cancelamento atualiza os totais e a série por minuto em tempo
+ * constante (O(1)), sem percorrer pedidos. A série guarda os últimos
+ * {@value #JANELA_MINUTOS} minutos em um buffer circular: a posição de cada
+ * minuto é {@code minuto % JANELA_MINUTOS}, e uma posição é zerada quando volta
+ * a ser usada por um minuto mais novo.
+ * <p>
+ * Os métodos são sincronizados na instância, ou seja, há uma trava por evento;
+ * vendas de eventos diferentes não disputam entre si.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class AgregadoVendasEvento {
+
+    /**
+     * Quantidade de minutos mantidos na série temporal.
+     */
+    public static final int JANELA_MINUTOS = 60;
+
+    private final int eventoId;
+
+    private long ingressosVendidos;
+    private double receitaBruta;
+    private double taxas;
+    private double descontos;
+    private long pedidosCancelados;
+    private long ingressosCancelados;
+
+    /**
+     * Minuto (desde a época Unix) ao qual cada posição do buffer pertence.
+     */
+    private final long[] minutoDaPosicao = new long[JANELA_MINUTOS];
+    private final long[] ingressosPorMinuto = new long[JANELA_MINUTOS];
+    private final double[] receitaPorMinuto = new double[JANELA_MINUTOS];
+    private final long[] cancelamentosPorMinuto = new long[JANELA_MINUTOS];
+
+    /**
+     * Cria os agregados vazios de um evento.
+     * @param eventoId (int) O ID do evento.
+     */
+    public AgregadoVendasEvento(int eventoId) {
+        this.eventoId = eventoId;
+        Arrays.fill(minutoDaPosicao, -1);
+    }
+
+    /**
+     * Registra uma venda.
+     *
+     * @param minuto (long) O minuto da venda, em minutos desde a época Unix.
+     * @param ingressos (int) A quantidade de ingressos vendidos.
+     * @param receita (double) O valor total pago no pedido.
+     * @param taxa (double) A parte do valor referente à taxa de serviço.
+     * @param desconto (double) O desconto concedido pelo cupom.
+     */
+    public synchronized void registrarVenda(long minuto, int ingressos, double receita, double taxa, double desconto) {
+        ingressosVendidos += ingressos;
+        receitaBruta += receita;
+        taxas += taxa;
+        descontos += desconto;
+
+        int posicao = posicao(minuto);
+        if (posicao >= 0) {
+            ingressosPorMinuto[posicao] += ingressos;
+            receitaPorMinuto[posicao] += receita;
+        }
+    }
+
+    /**
+     * Registra o cancelamento de um pedido, revertendo seus valores dos totais.
+     *
+     * @param minuto (long) O minuto do cancelamento, em minutos desde a época Unix.
+     * @param ingressos (int) A quantidade de ingressos do pedido cancelado.
+     * @param receita (double) O valor total que havia sido pago no pedido.
+     * @param taxa (double) A taxa de serviço do pedido.
+     * @param desconto (double) O desconto do pedido.
+     */
+    public synchronized void registrarCancelamento(long minuto, int ingressos, double receita, double taxa, double desconto) {
+        ingressosVendidos -= ingressos;
+        receitaBruta -= receita;
+        taxas -= taxa;
+        descontos -= desconto;
+        pedidosCancelados++;
+        ingressosCancelados += ingressos;
+
+        int posicao = posicao(minuto);
+        if (posicao >= 0) {
+            cancelamentosPorMinuto[posicao] += ingressos;
+        }
+    }
+
+    /**
+     * Gera uma cópia consistente dos agregados, pronta para ser serializada em JSON.
+     *
+     * @param minutoAtual (long) O minuto atual, usado para montar a série dos últimos minutos.
+     * @return Um mapa com os totais e a série por minuto, do mais antigo para o mais recente.
+     */
+    public synchronized Map<String, Object> resumo(long minutoAtual) {
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("eventoId", eventoId);
+        resumo.put("ingressosVendidos", ingressosVendidos);
+        resumo.put("receitaBruta", receitaBruta);
+        resumo.put("taxas", taxas);
+        resumo.put("descontos", descontos);
+        resumo.put("pedidosCancelados", pedidosCancelados);
+        resumo.put("ingressosCancelados", ingressosCancelados);
+
+        List<Map<String, Object>> serie = new ArrayList<>(JANELA_MINUTOS);
+        for (long minuto = minutoAtual - JANELA_MINUTOS + 1; minuto <= minutoAtual; minuto++) {
+            int p = (int) Math.floorMod(minuto, (long) JANELA_MINUTOS);
+            boolean valido = minutoDaPosicao[p] == minuto;
+            Map<String, Object> ponto = new LinkedHashMap<>();
+            ponto.put("minuto", minuto * 60_000L);
+            ponto.put("ingressos", valido ? ingressosPorMinuto[p] : 0L);
+            ponto.put("receita", valido ? receitaPorMinuto[p] : 0.0);
+            ponto.put("cancelamentos", valido ? cancelamentosPorMinuto[p] : 0L);
+            serie.add(ponto);
+        }
+        resumo.put("serieMinutos", serie);
+        return resumo;
+    }
+
+    /**
+     * Obtém a quantidade líquida de ingressos vendidos (vendas menos cancelamentos).
+     * @return A quantidade (long) de ingressos vendidos.
+     */
+    public synchronized long getIngressosVendidos() {
+        return ingressosVendidos;
+    }
+
+    /**
+     * Obtém a receita bruta líquida de cancelamentos.
+     * @return A receita (double) do evento.
+     */
+    public synchronized double getReceitaBruta() {
+        return receitaBruta;
+    }
+
+    /**
+     * Localiza a posição do buffer de um minuto, zerando-a se ela ainda guardar um minuto antigo.
+     * Retorna -1 quando a posição já pertence a um minuto mais recente, ou seja, quando o
+     * minuto informado já saiu da janela. Chamado apenas com a trava da instância.
+     */
+    private int posicao(long minuto) {
+        int p = (int) Math.floorMod(minuto, (long) JANELA_MINUTOS);
+        if (minutoDaPosicao[p] > minuto) {
+            return -1;
+        }
+        if (minutoDaPosicao[p] != minuto) {
+            minutoDaPosicao[p] = minuto;
+            ingressosPorMinuto[p] = 0;
+            receitaPorMinuto[p] = 0;
+            cancelamentosPorMinuto[p] = 0;
+        }
+        return p;
+    }
+}
@@ -0,0 +1,303 @@
+package io.github.site_de_eventos.sitedeeventos.service.sse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Distribui atualizações via Server-Sent Events (SSE) para muitos assinantes,
+ * agrupados por uma chave inteira (por exemplo, o ID de um evento).
+ * <p>
+ * As publicações não são enviadas imediatamente: apenas o valor mais recente de
+ * cada chave fica guardado e é despachado por uma única thread a cada intervalo
+ * fixo. Assim, uma rajada de vendas gera no máximo uma mensagem por intervalo
+ * para cada assinante, e quem publica (ex: {@code PedidoService}) nunca espera
+ * pela escrita nas conexões.
+ * <p>
+ * O conteúdo publicado é serializado (ex: JSON em uma String) uma única vez por
+ * despacho, independentemente do número de assinantes. Quando a serialização é
+ * cara, publique um {@link Supplier}: ele só é avaliado no despacho, e as
+ * publicações descartadas pela coalescência não custam nada.
+ * <p>
+ * O despacho também não escreve nas conexões: cada assinante guarda apenas a
+ * última mensagem ainda não enviada, e as escritas são feitas por um pequeno
+ * grupo de threads de envio. Um cliente lento ocupa no máximo uma dessas threads
+ * e, enquanto isso, as suas mensagens novas substituem a pendente, sem atrasar
+ * os demais assinantes nem acumular fila.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PublicadorSseCoalescido {
+
+    /**
+     * Quantidade de threads que escrevem nas conexões.
+     */
+    private static final int THREADS_ENVIO = 4;
+
+    /**
+     * Nome do evento SSE enviado aos clientes (campo {@code event:} do protocolo).
+     */
+    private final String nomeEvento;
+
+    /**
+     * Tempo máximo, em milissegundos, que uma conexão permanece aberta antes de o
+     * cliente precisar se reconectar.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Assinantes ativos de cada chave.
+     */
+    private final Map<Integer, Set<Assinante>> assinantes = new ConcurrentHashMap<>();
+
+    /**
+     * Última atualização ainda não despachada de cada chave. Publicações novas
+     * sobrescrevem as antigas, o que faz a coalescência.
+     */
+    private final Map<Integer, Supplier<String>> pendentes = new ConcurrentHashMap<>();
+
+    /**
+     * Thread única responsável pelo despacho periódico.
+     */
+    private final ScheduledExecutorService agendador;
+
+    /**
+     * Threads que escrevem as mensagens nas conexões dos assinantes.
+     */
+    private final ExecutorService envios;
+
+    /**
+     * Cria um publicador e inicia o despacho periódico.
+     *
+     * @param nomeEvento (String) O nome do evento SSE enviado aos clientes.
+     * @param intervaloMillis (long) O intervalo entre despachos, em milissegundos.
+     * @param timeoutMillis (long) O tempo máximo de cada conexão, em milissegundos.
+     */
+    public PublicadorSseCoalescido(String nomeEvento, long intervaloMillis, long timeoutMillis) {
+        this.nomeEvento = nomeEvento;
+        this.timeoutMillis = timeoutMillis;
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "sse-" + nomeEvento);
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger contador = new AtomicInteger();
+        this.envios = Executors.newFixedThreadPool(THREADS_ENVIO, tarefa -> {
+            Thread thread = new Thread(tarefa, "sse-" + nomeEvento + "-envio-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.agendador.scheduleWithFixedDelay(this::despachar, intervaloMillis, intervaloMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registra um novo assinante para a chave informada.
+     *
+     * @param chave (int) A chave a ser acompanhada.
+     * @param estadoInicial (String) O estado atual, enviado imediatamente ao novo assinante (pode ser nulo).
+     * @return O {@link SseEmitter} que deve ser devolvido pelo controller.
+     */
+    public SseEmitter assinar(int chave, String estadoInicial) {
+        return assinar(chave, estadoInicial, new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Registra uma conexão já criada como assinante da chave informada.
+     *
+     * @param chave (int) A chave a ser acompanhada.
+     * @param estadoInicial (String) O estado atual, enviado ao novo assinante antes das atualizações (pode ser nulo).
+     * @param emitter ({@link SseEmitter}) A conexão do assinante.
+     * @return A mesma conexão.
+     */
+    SseEmitter assinar(int chave, String estadoInicial, SseEmitter emitter) {
+        Assinante assinante = new Assinante(chave, emitter);
+        assinantes.compute(chave, (k, conjunto) -> {
+            Set<Assinante> atual = (conjunto != null) ? conjunto : ConcurrentHashMap.newKeySet();
+            atual.add(assinante);
+            return atual;
+        });
+
+        Runnable remover = () -> removerAssinante(assinante);
+        emitter.onCompletion(remover);
+        emitter.onTimeout(remover);
+        emitter.onError(erro -> remover.run());
+
+        if (estadoInicial != null) {
+            assinante.entregar(estadoInicial);
+        }
+        return emitter;
+    }
+
+    /**
+     * Publica uma nova atualização para a chave. Se já houver uma atualização
+     * pendente, ela é substituída. Chaves sem assinantes são ignoradas.
+     *
+     * @param chave (int) A chave que mudou.
+     * @param dado (String) O conteúdo já serializado da atualização.
+     */
+    public void publicar(int chave, String dado) {
+        publicar(chave, () -> dado);
+    }
+
+    /**
+     * Publica uma atualização cujo conteúdo só é gerado no momento do despacho.
+     * Se várias publicações chegarem no mesmo intervalo, apenas a última é avaliada.
+     *
+     * @param chave (int) A chave que mudou.
+     * @param dado ({@link Supplier}) A função que serializa o estado mais recente.
+     */
+    public void publicar(int chave, Supplier<String> dado) {
+        if (assinantes.containsKey(chave)) {
+            pendentes.put(chave, dado);
+        }
+    }
+
+    /**
+     * Informa quantos assinantes estão conectados a uma chave.
+     *
+     * @param chave (int) A chave consultada.
+     * @return O número (int) de conexões abertas.
+     */
+    public int contarAssinantes(int chave) {
+        Set<Assinante> conjunto = assinantes.get(chave);
+        return conjunto == null ? 0 : conjunto.size();
+    }
+
+    /**
+     * Interrompe o despacho e os envios e encerra todas as conexões abertas.
+     */
+    public void encerrar() {
+        agendador.shutdownNow();
+        envios.shutdownNow();
+        for (Set<Assinante> conjunto : assinantes.values()) {
+            for (Assinante assinante : conjunto) {
+                assinante.emitter.complete();
+            }
+        }
+        assinantes.clear();
+        pendentes.clear();
+    }
+
+    /**
+     * Entrega as atualizações pendentes a todos os assinantes das respectivas chaves.
+     * Executado periodicamente pelo agendador; qualquer erro é contido para não
+     * interromper os próximos despachos.
+     */
+    void despachar() {
+        try {
+            for (Integer chave : pendentes.keySet()) {
+                Supplier<String> gerador = pendentes.remove(chave);
+                Set<Assinante> conjunto = assinantes.get(chave);
+                if (gerador == null || conjunto == null) {
+                    continue;
+                }
+                String dado = gerador.get();
+                for (Assinante assinante : conjunto) {
+                    assinante.entregar(dado);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Erro ao despachar atualizações SSE (" + nomeEvento + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remove um assinante e descarta o conjunto da chave quando ele fica vazio.
+     */
+    private void removerAssinante(Assinante assinante) {
+        assinantes.computeIfPresent(assinante.chave, (k, conjunto) -> {
+            conjunto.remove(assinante);
+            return conjunto.isEmpty() ? null : conjunto;
+        });
+    }
+
+    /**
+     * Uma conexão aberta e a última mensagem que ainda não foi escrita nela.
+     * <p>
+     * No máximo uma thread de envio trabalha para cada assinante, então as mensagens
+     * saem na ordem em que foram entregues; as que chegam durante uma escrita lenta
+     * substituem umas às outras.
+     */
+    private final class Assinante {
+
+        private final int chave;
+        private final SseEmitter emitter;
+        private final AtomicReference<String> proxima = new AtomicReference<>();
+        private final AtomicBoolean enviando = new AtomicBoolean();
+
+        Assinante(int chave, SseEmitter emitter) {
+            this.chave = chave;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Guarda a mensagem e agenda a escrita, se nenhuma estiver em andamento.
+         */
+        void entregar(String dado) {
+            proxima.set(dado);
+            agendarEnvio();
+        }
+
+        private void agendarEnvio() {
+            if (!enviando.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                envios.execute(this::enviarPendentes);
+            } catch (RejectedExecutionException e) {
+                // O publicador foi encerrado; a conexão já está sendo fechada.
+                enviando.set(false);
+            }
+        }
+
+        /**
+         * Escreve as mensagens guardadas até não restar nenhuma. Uma mensagem entregue
+         * logo depois do fim da última escrita agenda um novo envio.
+         */
+        private void enviarPendentes() {
+            try {
+                String dado;
+                while ((dado = proxima.getAndSet(null)) != null) {
+                    if (!enviar(dado)) {
+                        return;
+                    }
+                }
+            } finally {
+                enviando.set(false);
+            }
+            if (proxima.get() != null) {
+                agendarEnvio();
+            }
+        }
+
+        /**
+         * Escreve uma mensagem, removendo o assinante se a conexão já estiver fechada.
+         *
+         * @return {@code true} se a mensagem foi escrita.
+         */
+        private boolean enviar(String dado) {
+            try {
+                emitter.send(SseEmitter.event().name(nomeEvento).data(dado));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                removerAssinante(this);
+                proxima.set(null);
+                return false;
+            }
+        }
+    }
+}
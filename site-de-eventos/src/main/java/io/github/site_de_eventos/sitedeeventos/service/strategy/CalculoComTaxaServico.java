@@ -18,7 +18,7 @@ public class CalculoComTaxaServico implements ICalculoPrecoPedidoStrategy {
     /**
      * Taxa de serviço fixa de 5% (0.05) aplicada sobre o valor base do pedido.
      */
-    private static final double TAXA_SERVICO = 0.05;
+    public static final double TAXA_SERVICO = 0.05;
 
     /**
      * {@inheritDoc}
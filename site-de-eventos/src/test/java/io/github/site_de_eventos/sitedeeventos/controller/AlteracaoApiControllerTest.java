@@ -0,0 +1,97 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.site_de_eventos.sitedeeventos.model.Alteracao;
+import io.github.site_de_eventos.sitedeeventos.service.AlteracoesService;
+
+/**
+ * Classe de teste para o {@link AlteracaoApiController}.
+ * <p>
+ * Verifica a leitura paginada do feed de alterações com {@code @WebMvcTest},
+ * mantendo o serviço substituído por um mock.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@WebMvcTest(AlteracaoApiController.class)
+class AlteracaoApiControllerTest {
+
+    /**
+     * Objeto para simular requisições HTTP ao controller.
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Mock do serviço do feed de alterações.
+     */
+    @MockBean
+    private AlteracoesService alteracoesService;
+
+    /**
+     * Testa a leitura de uma página do feed.
+     * Verifica se a resposta traz as alterações e a posição para a próxima leitura.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void listar_shouldReturnAlteracoesEProximaPosicao() throws Exception {
+        Alteracao alteracao = new Alteracao("evento", 3, Alteracao.SALVO, 2, 0);
+        alteracao.setSequencia(11);
+        when(alteracoesService.buscar(10, 50)).thenReturn(List.of(alteracao));
+        when(alteracoesService.getUltimaSequencia()).thenReturn(12L);
+
+        mockMvc.perform(get("/api/alteracoes").param("desde", "10").param("limite", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alteracoes[0].entidade").value("evento"))
+                .andExpect(jsonPath("$.alteracoes[0].id").value(3))
+                .andExpect(jsonPath("$.proxima").value(11))
+                .andExpect(jsonPath("$.ultima").value(12));
+    }
+
+    /**
+     * Testa uma leitura sem alterações novas.
+     * Verifica se a posição para a próxima leitura continua a mesma.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void listar_semNovidades_shouldKeepPosicao() throws Exception {
+        when(alteracoesService.buscar(12, 100)).thenReturn(List.of());
+        when(alteracoesService.getUltimaSequencia()).thenReturn(12L);
+
+        mockMvc.perform(get("/api/alteracoes").param("desde", "12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alteracoes").isEmpty())
+                .andExpect(jsonPath("$.proxima").value(12));
+        verify(alteracoesService).buscar(12, 100);
+    }
+
+    /**
+     * Testa parâmetros inválidos.
+     * Verifica se a API responde 400 com a mensagem do serviço.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void listar_limiteInvalido_shouldReturnBadRequest() throws Exception {
+        when(alteracoesService.buscar(0, 0)).thenThrow(new IllegalArgumentException("O limite deve ser maior que zero."));
+
+        mockMvc.perform(get("/api/alteracoes").param("limite", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.erro").value("O limite deve ser maior que zero."));
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.service.AssentoService;
+import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+
+/**
+ * Classe de teste para o {@link AssentoApiController}.
+ * <p>
+ * Verifica a consulta dos mapas de assentos com {@code @WebMvcTest},
+ * mantendo os serviços substituídos por mocks.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@WebMvcTest(AssentoApiController.class)
+class AssentoApiControllerTest {
+
+    /**
+     * Objeto para simular requisições HTTP ao controller.
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Mock do serviço de assentos.
+     */
+    @MockBean
+    private AssentoService assentoService;
+
+    /**
+     * Mock do serviço de eventos.
+     */
+    @MockBean
+    private EventoService eventoService;
+
+    /**
+     * Testa o mapa de um evento com lugares marcados.
+     * Verifica se a API devolve os setores com a ocupação das fileiras.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void mapa_eventoComAssentos_shouldReturnSetores() throws Exception {
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setSetores(List.of(new SetorAssentos("Plateia", 1, 4)));
+        when(eventoService.buscarPorId(1)).thenReturn(Optional.of(evento));
+        when(assentoService.ocupacao(1, 1)).thenReturn(List.of("0110"));
+
+        mockMvc.perform(get("/api/eventos/1/assentos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.setores[0].nome").value("Plateia"))
+                .andExpect(jsonPath("$.setores[0].ocupacao[0]").value("0110"));
+    }
+
+    /**
+     * Testa o mapa de um evento sem lugares marcados.
+     * Verifica se a API responde 404.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void mapa_eventoSemAssentos_shouldReturnNotFound() throws Exception {
+        Evento evento = new Evento();
+        evento.setIdEvento(2);
+        when(eventoService.buscarPorId(2)).thenReturn(Optional.of(evento));
+
+        mockMvc.perform(get("/api/eventos/2/assentos"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Testa a sugestão dos melhores assentos.
+     * Verifica se a API devolve os códigos sugeridos pelo serviço.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void melhores_shouldReturnAssentosSugeridos() throws Exception {
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setSetores(List.of(new SetorAssentos("Plateia", 1, 4)));
+        when(eventoService.buscarPorId(1)).thenReturn(Optional.of(evento));
+        when(assentoService.sugerir(1, 2, null)).thenReturn(List.of("1-1-2", "1-1-3"));
+
+        mockMvc.perform(get("/api/eventos/1/assentos/melhores").param("quantidade", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assentos[1]").value("1-1-3"));
+    }
+}
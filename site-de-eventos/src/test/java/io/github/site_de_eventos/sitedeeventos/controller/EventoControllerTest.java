@@ -15,8 +15,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.service.DisponibilidadeService;
 import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+import io.github.site_de_eventos.sitedeeventos.service.PainelVendasService;
 
 /**
  * Classe de teste para o {@link EventoController}.
@@ -48,6 +51,24 @@ class EventoControllerTest {
     @MockBean
     private EventoService eventoService;
 
+    /**
+     * Mock do {@link DisponibilidadeService}, exigido pelo endpoint SSE de disponibilidade.
+     */
+    @MockBean
+    private DisponibilidadeService disponibilidadeService;
+
+    /**
+     * Mock do {@link PainelVendasService}, usado pelas páginas e APIs do organizador.
+     */
+    @MockBean
+    private PainelVendasService painelVendasService;
+
+    /**
+     * Mock do acesso ao usuário logado na requisição.
+     */
+    @MockBean
+    private SessaoUsuario sessaoUsuario;
+
     /**
      * Testa o endpoint da página inicial ("/").
      * Verifica se o controller retorna o status HTTP 200 (OK), renderiza a view "index"
@@ -98,4 +119,59 @@ class EventoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
+
+    /**
+     * Testa o endpoint de eventos do mapa com uma área ("bbox").
+     * Verifica se a busca é delegada ao índice espacial com as coordenadas na ordem correta.
+     *
+     * @throws Exception se ocorrer um erro durante a performance da requisição.
+     */
+    @Test
+    void getEventosParaMapa_comBbox_shouldQueryArea() throws Exception {
+        when(eventoService.buscarPorArea(-11.0, -37.2, -10.8, -37.0)).thenReturn(Arrays.asList(new Evento()));
+
+        mockMvc.perform(get("/api/eventos").param("bbox", "-37.2,-11.0,-37.0,-10.8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    /**
+     * Testa o endpoint de eventos do mapa com uma área malformada.
+     * Verifica se a resposta tem o status 400 (Bad Request).
+     *
+     * @throws Exception se ocorrer um erro durante a performance da requisição.
+     */
+    @Test
+    void getEventosParaMapa_comBboxInvalido_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/eventos").param("bbox", "-37.2,abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Testa o endpoint de agrupamentos do mapa.
+     * Verifica se a área e o zoom são repassados ao serviço e se a quantidade de cada grupo é retornada.
+     *
+     * @throws Exception se ocorrer um erro durante a performance da requisição.
+     */
+    @Test
+    void getClustersParaMapa_shouldReturnClusters() throws Exception {
+        when(eventoService.buscarClusters(-11.0, -37.2, -10.8, -37.0, 10))
+                .thenReturn(Arrays.asList(new ClusterEventos(-10.9, -37.1, 5, null)));
+
+        mockMvc.perform(get("/api/eventos/clusters").param("bbox", "-37.2,-11.0,-37.0,-10.8").param("zoom", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].quantidade").value(5));
+    }
+
+    /**
+     * Testa o endpoint de resumo de vendas sem um organizador logado.
+     * Verifica se o acesso é negado com o status 403 (Forbidden).
+     *
+     * @throws Exception se ocorrer um erro durante a performance da requisição.
+     */
+    @Test
+    void getResumoVendas_semOrganizador_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/organizador/eventos/1/vendas"))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,211 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService.DadosIngresso;
+import io.github.site_de_eventos.sitedeeventos.service.CheckinService;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService.RegistroIngresso;
+import io.github.site_de_eventos.sitedeeventos.service.checkin.ResultadoCheckin;
+
+/**
+ * Classe de teste para o {@link IngressoApiController}.
+ * <p>
+ * Verifica a validação de ingressos na portaria com {@code @WebMvcTest},
+ * mantendo o índice de ingressos substituído por um mock.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@WebMvcTest(IngressoApiController.class)
+class IngressoApiControllerTest {
+
+    /**
+     * Objeto para simular requisições HTTP ao controller.
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Mock do índice de ingressos.
+     */
+    @MockBean
+    private IndiceIngressosService indiceIngressosService;
+
+    /**
+     * Mock do serviço de check-in.
+     */
+    @MockBean
+    private CheckinService checkinService;
+
+    /**
+     * Mock do serviço de assinatura dos ingressos.
+     */
+    @MockBean
+    private AssinaturaIngressoService assinaturaIngressoService;
+
+    /**
+     * Mock do acesso ao usuário logado na requisição.
+     */
+    @MockBean
+    private SessaoUsuario sessaoUsuario;
+
+    /**
+     * Testa a verificação de um código assinado autêntico, sem login.
+     * Verifica se a API responde 200 com o código de inscrição extraído.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void verificar_codigoAutentico_shouldReturnDados() throws Exception {
+        when(assinaturaIngressoService.verificar("abc"))
+                .thenReturn(Optional.of(new DadosIngresso(1, 3, 10)));
+
+        mockMvc.perform(get("/api/ingressos/verificacao").param("codigo", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.autentico").value(true))
+                .andExpect(jsonPath("$.idInscricao").value("1-3"));
+    }
+
+    /**
+     * Testa a verificação de um código adulterado.
+     * Verifica se a API responde 400.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void verificar_codigoAdulterado_shouldReturnBadRequest() throws Exception {
+        when(assinaturaIngressoService.verificar("xyz")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/ingressos/verificacao").param("codigo", "xyz"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.autentico").value(false));
+    }
+
+    /**
+     * Testa a validação sem organizador na sessão.
+     * Verifica se a API responde 401.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void validar_semOrganizador_shouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/ingressos/1-1/validacao"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * Testa a validação de um ingresso de pedido concluído pelo organizador do evento.
+     * Verifica se a API responde 200 com o ingresso marcado como válido.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void validar_ingressoValido_shouldReturnValido() throws Exception {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(7);
+        when(sessaoUsuario.getUsuario()).thenReturn(organizador);
+
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setOrganizadorId(7);
+        Pedido pedido = new Pedido();
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        Ingresso ingresso = new Ingresso("1-1", 1, "Participante 1", "p1@email.com", null, 50.0);
+        when(indiceIngressosService.buscar("1-1")).thenReturn(Optional.of(new RegistroIngresso(2, pedido, ingresso)));
+
+        mockMvc.perform(get("/api/ingressos/1-1/validacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valido").value(true))
+                .andExpect(jsonPath("$.nomeParticipante").value("Participante 1"));
+    }
+
+    /**
+     * Testa a validação de um código inexistente.
+     * Verifica se a API responde 404.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void validar_ingressoInexistente_shouldReturnNotFound() throws Exception {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(7);
+        when(sessaoUsuario.getUsuario()).thenReturn(organizador);
+        when(indiceIngressosService.buscar("9-9")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/ingressos/9-9/validacao"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Testa o check-in de um ingresso que já entrou.
+     * Verifica se a API responde 409 para impedir a entrada dupla.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void checkin_ingressoJaUtilizado_shouldReturnConflict() throws Exception {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(7);
+        when(sessaoUsuario.getUsuario()).thenReturn(organizador);
+
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setOrganizadorId(7);
+        Pedido pedido = new Pedido();
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        Ingresso ingresso = new Ingresso("1-1", 1, "Participante 1", "p1@email.com", null, 50.0);
+        when(indiceIngressosService.buscar("1-1")).thenReturn(Optional.of(new RegistroIngresso(2, pedido, ingresso)));
+        when(checkinService.realizarCheckin("1-1")).thenReturn(ResultadoCheckin.JA_UTILIZADO);
+
+        mockMvc.perform(post("/api/ingressos/1-1/checkin"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultado").value("JA_UTILIZADO"));
+    }
+
+    /**
+     * Testa o check-in de um ingresso cuja entrada não pôde ser gravada.
+     * Verifica se a API responde 503, para que a portaria repita a leitura.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void checkin_falhaAoRegistrar_shouldReturnServiceUnavailable() throws Exception {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(7);
+        when(sessaoUsuario.getUsuario()).thenReturn(organizador);
+
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setOrganizadorId(7);
+        Pedido pedido = new Pedido();
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        Ingresso ingresso = new Ingresso("1-1", 1, "Participante 1", "p1@email.com", null, 50.0);
+        when(indiceIngressosService.buscar("1-1")).thenReturn(Optional.of(new RegistroIngresso(2, pedido, ingresso)));
+        when(checkinService.realizarCheckin("1-1")).thenReturn(ResultadoCheckin.FALHA_REGISTRO);
+
+        mockMvc.perform(post("/api/ingressos/1-1/checkin"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.resultado").value("FALHA_REGISTRO"));
+    }
+}
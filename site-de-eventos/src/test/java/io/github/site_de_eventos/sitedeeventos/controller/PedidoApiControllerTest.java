@@ -0,0 +1,203 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+import io.github.site_de_eventos.sitedeeventos.service.PedidoGrupoService;
+import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.ProgressoPedidoGrupo;
+
+/**
+ * Classe de teste para o {@link PedidoApiController}.
+ * <p>
+ * Verifica a API JSON de checkout com {@code @WebMvcTest}, mantendo os
+ * serviços e o repositório substituídos por mocks.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+@WebMvcTest(PedidoApiController.class)
+class PedidoApiControllerTest {
+
+    /**
+     * Objeto para simular requisições HTTP ao controller.
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Mock do serviço de pedidos.
+     */
+    @MockBean
+    private PedidoService pedidoService;
+
+    /**
+     * Mock do serviço de eventos.
+     */
+    @MockBean
+    private EventoService eventoService;
+
+    /**
+     * Mock do acesso ao usuário logado na requisição.
+     */
+    @MockBean
+    private SessaoUsuario sessaoUsuario;
+
+    /**
+     * Mock do serviço de pedidos em grupo.
+     */
+    @MockBean
+    private PedidoGrupoService pedidoGrupoService;
+
+    /**
+     * Corpo JSON de um checkout com um participante.
+     */
+    private static final String CHECKOUT_JSON =
+            "{\"eventoId\":1,\"participantes\":[{\"nome\":\"Participante 1\",\"email\":\"p1@email.com\"}]}";
+
+    /**
+     * Testa o checkout sem usuário na sessão.
+     * Verifica se a API responde 401 em vez de redirecionar para o login.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void finalizar_usuarioNaoLogado_shouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/pedidos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CHECKOUT_JSON))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.erro").exists());
+    }
+
+    /**
+     * Testa um checkout bem-sucedido.
+     * Verifica se a resposta é 201 e contém os ingressos gerados pelo serviço.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void finalizar_sucesso_shouldReturnPedidoComIngressos() throws Exception {
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(1);
+        when(sessaoUsuario.getUsuario()).thenReturn(usuario);
+
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        Pedido pedido = new Pedido(usuario, evento, 1);
+        pedido.setIdPedido(7);
+        pedido.setIngressos(List.of(new Ingresso("1-1", 1, "Participante 1", "p1@email.com", LocalDateTime.now(), 50.0)));
+
+        when(pedidoService.criarPedido(anyInt(), anyInt(), anyList(), anyList(), any(), any(), any())).thenReturn(pedido);
+
+        mockMvc.perform(post("/api/pedidos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CHECKOUT_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.idPedido").value(7))
+                .andExpect(jsonPath("$.ingressos[0].idInscricao").value("1-1"));
+    }
+
+    /**
+     * Testa a cotação de um pedido.
+     * Verifica se a resposta traz o resumo calculado pelo serviço para a quantidade de participantes.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void cotar_sucesso_shouldReturnResumo() throws Exception {
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        when(eventoService.buscarPorId(1)).thenReturn(Optional.of(evento));
+        when(pedidoService.calcularPrecoPreview(eq(evento), anyList(), eq(1), isNull()))
+                .thenReturn(Map.of("valorTotal", 52.5, "cupomValido", false));
+
+        mockMvc.perform(post("/api/pedidos/cotacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CHECKOUT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valorTotal").value(52.5))
+                .andExpect(jsonPath("$.cupomValido").value(false));
+    }
+
+    /**
+     * Testa a cotação sem a lista de participantes.
+     * Verifica se a API responde 400 com a mensagem de erro, sem consultar os serviços.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void cotar_semParticipantes_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/pedidos/cotacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventoId\":1,\"participantes\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.erro").value("Informe pelo menos um participante."));
+        verifyNoInteractions(eventoService, pedidoService);
+    }
+
+    /**
+     * Testa o envio de um pedido em grupo.
+     * Verifica se o corpo CSV é repassado ao serviço e se a resposta aponta para o progresso.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void iniciarPedidoEmGrupo_usuarioLogado_shouldReturnAccepted() throws Exception {
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(1);
+        when(sessaoUsuario.getUsuario()).thenReturn(usuario);
+        when(pedidoGrupoService.iniciar(eq(1), eq(1), any(), isNull()))
+                .thenReturn(new ProgressoPedidoGrupo("abc", 1, 1));
+
+        mockMvc.perform(post("/api/pedidos/grupo").param("eventoId", "1")
+                        .contentType("text/csv").content("nome;email\nParticipante 1;p1@email.com\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/pedidos/grupo/abc"))
+                .andExpect(jsonPath("$.etapa").value("VALIDANDO"));
+    }
+
+    /**
+     * Testa a consulta do progresso de um pedido em grupo de outro usuário.
+     * Verifica se a API responde 404.
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void progressoPedidoEmGrupo_inexistente_shouldReturnNotFound() throws Exception {
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(2);
+        when(sessaoUsuario.getUsuario()).thenReturn(usuario);
+        when(pedidoGrupoService.buscar("abc", 2)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/pedidos/grupo/abc"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -7,7 +7,6 @@ import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -18,7 +17,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService;
 import io.github.site_de_eventos.sitedeeventos.service.EventoService;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService;
+import io.github.site_de_eventos.sitedeeventos.service.ListaEsperaService;
 import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
 
 /**
@@ -57,6 +59,30 @@ class PedidoControllerTest {
     @MockBean
     private EventoService eventoService;
 
+    /**
+     * Mock do acesso ao usuário logado na requisição.
+     */
+    @MockBean
+    private SessaoUsuario sessaoUsuario;
+
+    /**
+     * Mock do índice de ingressos, usado para localizar o ingresso exibido.
+     */
+    @MockBean
+    private IndiceIngressosService indiceIngressosService;
+
+    /**
+     * Mock do serviço de assinatura dos ingressos.
+     */
+    @MockBean
+    private AssinaturaIngressoService assinaturaIngressoService;
+
+    /**
+     * Mock do serviço da lista de espera.
+     */
+    @MockBean
+    private ListaEsperaService listaEsperaService;
+
     /**
      * Testa a exibição da página de criação de pedido para um evento existente.
      * Verifica se o status da resposta é OK, se a view "pedido" é renderizada
@@ -94,22 +120,38 @@ class PedidoControllerTest {
     /**
      * Testa o processamento de um pedido bem-sucedido por um usuário logado.
      * Simula uma sessão de usuário e verifica se, após o POST, o usuário
-     * é redirecionado para a página "/meus-eventos".
+     * é redirecionado para o formulário dos participantes com os dados do pedido.
      *
      * @throws Exception se ocorrer um erro durante a requisição simulada.
      */
     @Test
-    void processarPedido_sucesso_shouldRedirectMeusEventos() throws Exception {
-        MockHttpSession session = new MockHttpSession();
+    void processarPedido_sucesso_shouldRedirectParticipantes() throws Exception {
         Usuario u = new Usuario();
         u.setIdUsuario(1);
-        session.setAttribute("usuarioLogado", u);
+        when(sessaoUsuario.getUsuario()).thenReturn(u);
 
         mockMvc.perform(post("/pedidos")
                         .param("eventoId", "1")
                         .param("usuarioId", "1")
-                        .param("quantidade", "2")
-                        .session(session))
+                        .param("quantidade", "2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/pedidos/participantes?eventoId=1&quantidade=2"));
+    }
+
+    /**
+     * Testa a exibição de um ingresso que não pertence ao usuário logado.
+     * Verifica se o índice é consultado com o ID do usuário e se há redirecionamento para "/meus-eventos".
+     *
+     * @throws Exception se ocorrer um erro durante a requisição simulada.
+     */
+    @Test
+    void exibirPaginaIngresso_ingressoDeOutroUsuario_shouldRedirectMeusEventos() throws Exception {
+        Usuario u = new Usuario();
+        u.setIdUsuario(1);
+        when(sessaoUsuario.getUsuario()).thenReturn(u);
+        when(indiceIngressosService.buscarDoUsuario("1-1", 1)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/ingressos/1-1/imprimir"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/meus-eventos"));
     }
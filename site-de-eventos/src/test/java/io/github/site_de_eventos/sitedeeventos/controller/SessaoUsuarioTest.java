@@ -0,0 +1,185 @@
+package io.github.site_de_eventos.sitedeeventos.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.TokenSessaoService;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Classe de teste para a {@link SessaoUsuario} e o {@link TokenSessaoFilter}.
+ * <p>
+ * Usa requisições simuladas e um {@link UsuarioRepository} mockado, sem o contexto do Spring.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class SessaoUsuarioTest {
+
+    private UsuarioRepository usuarioRepository;
+    private TokenSessaoService tokenSessaoService;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        tokenSessaoService = new TokenSessaoService("chave-de-teste", 8);
+        usuario = new Usuario();
+        usuario.setIdUsuario(1);
+        usuario.setEmail("ana@email.com");
+        usuario.setSenha("123");
+    }
+
+    private SessaoUsuario sessao(MockHttpServletRequest request, String modo) {
+        return new SessaoUsuario(usuarioRepository, request, tokenSessaoService, modo);
+    }
+
+    /**
+     * Testa o login no modo sessão.
+     * Garante que a sessão guarde apenas a referência ao usuário, e não o objeto completo.
+     */
+    @Test
+    void entrar_DeveGuardarApenasReferenciaNaSessao() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        sessao(request, SessaoUsuario.MODO_SESSAO).entrar(usuario, new MockHttpServletResponse());
+
+        Object atributo = request.getSession().getAttribute(SessaoUsuario.ATRIBUTO);
+        assertInstanceOf(SessaoUsuario.Referencia.class, atributo);
+        assertEquals(1, ((SessaoUsuario.Referencia) atributo).getIdUsuario());
+    }
+
+    /**
+     * Testa a leitura do usuário logado em uma nova requisição.
+     * Verifica se o repositório é consultado uma única vez, mesmo com várias chamadas.
+     */
+    @Test
+    void getUsuario_DeveBuscarNoRepositorioUmaVezPorRequisicao() {
+        MockHttpServletRequest login = new MockHttpServletRequest();
+        sessao(login, SessaoUsuario.MODO_SESSAO).entrar(usuario, new MockHttpServletResponse());
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(login.getSession());
+        SessaoUsuario requisicao = sessao(request, SessaoUsuario.MODO_SESSAO);
+
+        assertSame(usuario, requisicao.getUsuario());
+        assertSame(usuario, requisicao.getUsuario());
+        verify(usuarioRepository, times(1)).findById(1);
+    }
+
+    /**
+     * Testa a troca de senha depois do login.
+     * Garante que a sessão antiga deixe de valer.
+     */
+    @Test
+    void getUsuario_DeveEncerrarSessao_QuandoCredenciaisMudam() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        sessao(request, SessaoUsuario.MODO_SESSAO).entrar(usuario, new MockHttpServletResponse());
+        Usuario alterado = usuario.copiar();
+        alterado.setSenha("nova");
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(alterado));
+
+        assertNull(sessao(request, SessaoUsuario.MODO_SESSAO).getUsuario());
+        assertNull(request.getSession().getAttribute(SessaoUsuario.ATRIBUTO));
+    }
+
+    /**
+     * Testa a alteração de um dado que não é credencial depois do login.
+     * Garante que a sessão continue valendo, já que o carimbo das credenciais é o mesmo.
+     */
+    @Test
+    void getUsuario_DeveManterSessao_QuandoOutrosDadosMudam() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        sessao(request, SessaoUsuario.MODO_SESSAO).entrar(usuario, new MockHttpServletResponse());
+        Usuario alterado = usuario.copiar();
+        alterado.setNome("Ana Maria");
+        alterado.setSenha("123");
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(alterado));
+
+        assertSame(alterado, sessao(request, SessaoUsuario.MODO_SESSAO).getUsuario());
+    }
+
+    /**
+     * Testa se a versão das credenciais não é derivada delas: dois usuários com o mesmo
+     * e-mail e a mesma senha têm carimbos diferentes.
+     */
+    @Test
+    void versaoDe_NaoDeveSerDerivadaDasCredenciais() {
+        Usuario outro = new Usuario();
+        outro.setEmail("ana@email.com");
+        outro.setSenha("123");
+
+        assertNotEquals(SessaoUsuario.versaoDe(usuario), SessaoUsuario.versaoDe(outro));
+    }
+
+    /**
+     * Testa uma requisição sem login.
+     * Garante que nenhuma sessão seja criada para o visitante.
+     */
+    @Test
+    void getUsuario_DeveRetornarNulo_QuandoNaoHaLogin() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertNull(sessao(request, SessaoUsuario.MODO_SESSAO).getUsuario());
+        assertNull(request.getSession(false));
+        verifyNoInteractions(usuarioRepository);
+    }
+
+    /**
+     * Testa o modo token de ponta a ponta: o login emite o cookie, o filtro o confere em
+     * outra requisição e o usuário é resolvido sem nenhuma sessão HTTP.
+     */
+    @Test
+    void modoToken_DeveResolverUsuarioPeloCookieSemSessao() throws Exception {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(2);
+        organizador.setEmail("org@email.com");
+        organizador.setSenha("abc");
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        MockHttpServletRequest requestLogin = new MockHttpServletRequest();
+        sessao(requestLogin, SessaoUsuario.MODO_TOKEN).entrar(organizador, login);
+        assertNull(requestLogin.getSession(false));
+        assertNotNull(login.getCookie(TokenSessaoFilter.COOKIE));
+        assertTrue(login.getCookie(TokenSessaoFilter.COOKIE).isHttpOnly());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(login.getCookie(TokenSessaoFilter.COOKIE));
+        new TokenSessaoFilter(tokenSessaoService).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        when(usuarioRepository.findById(2)).thenReturn(Optional.of(organizador));
+
+        SessaoUsuario.Referencia referencia = (SessaoUsuario.Referencia) request.getAttribute(SessaoUsuario.ATRIBUTO);
+        assertTrue(referencia.isOrganizador());
+        assertSame(organizador, sessao(request, SessaoUsuario.MODO_TOKEN).getUsuario());
+        assertNull(request.getSession(false));
+    }
+
+    /**
+     * Testa um cookie adulterado no modo token.
+     * Garante que o filtro o ignore e peça ao navegador para apagá-lo.
+     */
+    @Test
+    void modoToken_DeveIgnorarCookieAdulterado() throws Exception {
+        String token = new TokenSessaoService("outra-chave", 8).emitir(1, true, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(TokenSessaoFilter.COOKIE, token));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new TokenSessaoFilter(tokenSessaoService).doFilter(request, response, new MockFilterChain());
+
+        assertNull(request.getAttribute(SessaoUsuario.ATRIBUTO));
+        assertEquals(0, response.getCookie(TokenSessaoFilter.COOKIE).getMaxAge());
+        assertNull(sessao(request, SessaoUsuario.MODO_TOKEN).getUsuario());
+    }
+}
@@ -49,6 +49,12 @@ class UsuarioControllerTest {
     @MockBean
     private UsuarioService usuarioService;
 
+    /**
+     * Mock do acesso ao usuário logado na requisição.
+     */
+    @MockBean
+    private SessaoUsuario sessaoUsuario;
+
     /**
      * Testa a exibição do formulário de cadastro.
      * Verifica se uma requisição GET para "/cadastro" retorna o status HTTP 200 (OK)
@@ -129,7 +135,7 @@ class UsuarioControllerTest {
     @Test
     void processarLogout_shouldInvalidateSessionAndRedirect() throws Exception {
         MockHttpSession session = new MockHttpSession();
-        session.setAttribute("usuarioLogado", new Usuario());
+        session.setAttribute(SessaoUsuario.ATRIBUTO, new SessaoUsuario.Referencia(1, 0, false));
 
         mockMvc.perform(get("/logout").session(session))
                 .andExpect(status().is3xxRedirection())
@@ -0,0 +1,164 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste para o {@link ArmazemIngressos}.
+ * <p>
+ * Usa um armazém novo a cada teste, para que os números dos registros sejam previsíveis.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ArmazemIngressosTest {
+
+    private ArmazemIngressos armazem;
+
+    @BeforeEach
+    void setUp() {
+        armazem = new ArmazemIngressos();
+    }
+
+    private int gravar(String idInscricao, int idEvento) {
+        int registro = armazem.alocar();
+        armazem.gravar(registro, idInscricao, idEvento, "Ana", "ana@email.com", null, 0, null, null, null);
+        return registro;
+    }
+
+    /**
+     * Testa se os registros liberados são reaproveitados antes de novos registros serem criados.
+     */
+    @Test
+    void alocar_DeveReaproveitarRegistrosLiberados() {
+        int primeiro = armazem.alocar();
+        int segundo = armazem.alocar();
+
+        armazem.liberar(new int[] { primeiro }, 1);
+
+        assertEquals(1, armazem.getRegistrosLivres());
+        assertEquals(primeiro, armazem.alocar());
+        assertEquals(segundo + 1, armazem.alocar());
+        assertEquals(0, armazem.getRegistrosLivres());
+    }
+
+    /**
+     * Testa a gravação e a leitura de todos os campos de um registro, inclusive os nulos.
+     */
+    @Test
+    void gravar_DeveLerOsMesmosCampos() {
+        LocalDateTime data = LocalDateTime.of(2030, 1, 10, 20, 0, 0, 123_456_789);
+        int registro = armazem.alocar();
+        armazem.gravar(registro, "3-7", 3, "Ana", "ana@email.com", data, 25.5, "abc", "A-1", "Meia");
+        int vazio = armazem.alocar();
+        armazem.gravar(vazio, null, 0, null, null, null, 0, null, null, null);
+
+        assertEquals("3-7", armazem.getIdInscricao(registro));
+        assertEquals(3, armazem.getIdEvento(registro));
+        assertEquals("Ana", armazem.getNome(registro));
+        assertEquals("ana@email.com", armazem.getEmail(registro));
+        assertEquals(data, armazem.getDataCompra(registro));
+        assertEquals(25.5, armazem.getPreco(registro));
+        assertEquals("abc", armazem.getCodigo(registro));
+        assertEquals("A-1", armazem.getAssento(registro));
+        assertEquals("Meia", armazem.getTipo(registro));
+        assertNull(armazem.getIdInscricao(vazio));
+        assertNull(armazem.getNome(vazio));
+        assertNull(armazem.getDataCompra(vazio));
+    }
+
+    /**
+     * Testa os códigos de inscrição guardados só como número ("idEvento-numero") e os que
+     * precisam ficar como texto. Todos devem ser lidos exatamente como foram gravados.
+     */
+    @Test
+    void idInscricao_DeveVoltarIgualEmTodosOsFormatos() {
+        String[] codigos = { "3-42", "3-0", "3-999999999", "3-007", "3-", "3-1234567890", "4-1", "3-4a",
+                "33-1", "ABC", "-3-1" };
+        for (String codigo : codigos) {
+            assertEquals(codigo, armazem.getIdInscricao(gravar(codigo, 3)), codigo);
+        }
+    }
+
+    /**
+     * Testa a troca do evento de um registro com código compacto: o código, que depende do
+     * evento antigo, passa a ser guardado como texto e continua o mesmo.
+     */
+    @Test
+    void setIdInscricao_DeveManterOCodigoAoTrocarOEvento() {
+        int registro = gravar("3-42", 3);
+
+        armazem.setIdInscricao(registro, 5, armazem.getIdInscricao(registro));
+
+        assertEquals(5, armazem.getIdEvento(registro));
+        assertEquals("3-42", armazem.getIdInscricao(registro));
+    }
+
+    /**
+     * Testa os códigos de verificação no formato da assinatura, guardados no próprio registro
+     * sem passar pela tabela de textos, e os que precisam ficar como texto.
+     */
+    @Test
+    void codigo_DeveFicarNoRegistroSemInternar() {
+        byte[] bytes = new byte[ArmazemIngressos.TAMANHO_CODIGO];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 37 - 100);
+        }
+        String assinado = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        int registro = armazem.alocar();
+        armazem.gravar(registro, null, 3, null, null, null, 0, assinado, null, null);
+        int outro = armazem.alocar();
+        armazem.setCodigo(outro, assinado.replace('-', '_'));
+
+        assertEquals(assinado, armazem.getCodigo(registro));
+        assertEquals(assinado.replace('-', '_'), armazem.getCodigo(outro));
+        // Nenhum texto foi internado: o primeiro texto novo recebe a primeira referência.
+        assertEquals(0, armazem.internar("primeiro"));
+
+        String[] fora = { "abc", assinado.substring(0, 33) + "B", assinado + "A", assinado.substring(0, 33) + "=" };
+        for (String codigo : fora) {
+            armazem.setCodigo(registro, codigo);
+            assertEquals(codigo, armazem.getCodigo(registro), codigo);
+        }
+        armazem.setCodigo(registro, null);
+        assertNull(armazem.getCodigo(registro));
+    }
+
+    /**
+     * Testa se um mesmo texto é guardado uma única vez, mesmo vindo de instâncias diferentes.
+     */
+    @Test
+    void internar_DeveGuardarCadaTextoUmaVez() {
+        int referencia = armazem.internar("Participante");
+
+        assertEquals(referencia, armazem.internar(new String("Participante")));
+        assertNotEquals(referencia, armazem.internar("participante"));
+        assertEquals(ArmazemIngressos.NULO, armazem.internar(null));
+    }
+
+    /**
+     * Testa o crescimento do índice da tabela de textos: depois de vários redimensionamentos,
+     * cada texto continua com a mesma referência e com o mesmo conteúdo.
+     */
+    @Test
+    void internar_DeveManterAsReferenciasAoRedimensionarOIndice() {
+        int quantidade = 20_000;
+        int[] referencias = new int[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            referencias[i] = armazem.internar("email" + i + "@email.com");
+        }
+
+        int registro = armazem.alocar();
+        for (int i = 0; i < quantidade; i += 997) {
+            assertEquals(referencias[i], armazem.internar("email" + i + "@email.com"));
+            armazem.setEmail(registro, "email" + i + "@email.com");
+            assertEquals("email" + i + "@email.com", armazem.getEmail(registro));
+        }
+    }
+}
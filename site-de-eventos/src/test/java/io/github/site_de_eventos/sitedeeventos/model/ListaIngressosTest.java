@@ -0,0 +1,111 @@
+package io.github.site_de_eventos.sitedeeventos.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste para a {@link ListaIngressos} e as suas visões ({@link IngressoCompacto}).
+ * <p>
+ * Usa um armazém próprio a cada teste, para conferir quais registros voltam a ele.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ListaIngressosTest {
+
+    private ArmazemIngressos armazem;
+
+    @BeforeEach
+    void setUp() {
+        armazem = new ArmazemIngressos();
+    }
+
+    private Ingresso ingresso(int numero, String nome) {
+        return new Ingresso("3-" + numero, 3, nome, nome.toLowerCase() + "@email.com",
+                LocalDateTime.of(2030, 1, 10, 20, 0), 50.0);
+    }
+
+    /**
+     * Testa se um ingresso acrescentado é copiado, e se as visões alteram o registro da lista.
+     */
+    @Test
+    void add_DeveCopiarOIngresso() {
+        ListaIngressos lista = new ListaIngressos(armazem);
+        Ingresso original = ingresso(1, "Ana");
+        lista.add(original);
+
+        original.setNomeParticipante("Outro");
+        lista.get(0).setAssento("A-1");
+
+        assertEquals("Ana", lista.get(0).getNomeParticipante());
+        assertEquals("A-1", lista.get(0).getAssento());
+        assertEquals(lista.get(0), lista.get(0));
+        assertNull(original.getAssento());
+    }
+
+    /**
+     * Testa a remoção de um ingresso cuja visão ainda está em uso.
+     * Garante que o registro não seja reaproveitado por outro ingresso enquanto a lista existir.
+     */
+    @Test
+    void remove_NaoDeveLiberarORegistroEnquantoAListaExiste() {
+        ListaIngressos lista = new ListaIngressos(armazem);
+        lista.add(ingresso(1, "Ana"));
+        lista.add(ingresso(2, "Bruno"));
+        Ingresso visao = lista.get(0);
+
+        Ingresso removido = lista.remove(0);
+        lista.add(ingresso(3, "Caio"));
+        new ListaIngressos(armazem).add(ingresso(4, "Davi"));
+
+        assertEquals("Ana", removido.getNomeParticipante());
+        assertEquals("Ana", visao.getNomeParticipante());
+        assertEquals(0, armazem.getRegistrosLivres());
+        assertEquals(List.of("Bruno", "Caio"), List.of(lista.get(0).getNomeParticipante(),
+                lista.get(1).getNomeParticipante()));
+    }
+
+    /**
+     * Testa a limpeza de uma lista descartada: os seus registros, inclusive os removidos,
+     * voltam para o armazém.
+     */
+    @Test
+    void limpeza_DeveDevolverOsRegistrosAoDescartarALista() throws InterruptedException {
+        preencherEDescartar();
+
+        for (int i = 0; i < 50 && armazem.getRegistrosLivres() < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertEquals(3, armazem.getRegistrosLivres());
+    }
+
+    private void preencherEDescartar() {
+        ListaIngressos lista = new ListaIngressos(armazem);
+        lista.add(ingresso(1, "Ana"));
+        lista.add(ingresso(2, "Bruno"));
+        lista.add(ingresso(3, "Caio"));
+        lista.remove(1);
+    }
+
+    /**
+     * Testa se o pedido dono é definido por {@link Pedido#setIngressos(List)} e devolvido
+     * pelas visões e pelas cópias removidas.
+     */
+    @Test
+    void setIngressos_DeveDefinirOPedidoDono() {
+        Pedido pedido = new Pedido();
+        pedido.setIngressos(List.of(ingresso(1, "Ana"), ingresso(2, "Bruno")));
+
+        assertInstanceOf(ListaIngressos.class, pedido.getIngressos());
+        assertSame(pedido, pedido.getIngressos().get(0).getPedido());
+        assertSame(pedido, pedido.getIngressos().remove(1).getPedido());
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.site_de_eventos.sitedeeventos.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste para a {@link UnidadeDeTrabalho}.
+ * <p>
+ * Grava arquivos de teste no diretório atual, que são apagados após cada teste.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class UnidadeDeTrabalhoTest {
+
+    private static final String ARQUIVO_A = "unidade-teste-a.json";
+    private static final String ARQUIVO_B = "unidade-teste-b.json";
+    private static final String BLOQUEIO = ARQUIVO_B + "/bloqueio";
+
+    private final UnidadeDeTrabalho unidadeDeTrabalho = new UnidadeDeTrabalho();
+
+    @AfterEach
+    void limpar() throws IOException {
+        if (Files.isDirectory(Paths.get(ARQUIVO_B))) {
+            Files.deleteIfExists(Paths.get(BLOQUEIO));
+        }
+        for (String arquivo : new String[] { ARQUIVO_A, ARQUIVO_B, ARQUIVO_A + ".tmp", ARQUIVO_B + ".tmp",
+                ARQUIVO_A + ".anexo", UnidadeDeTrabalho.MARCADOR }) {
+            Files.deleteIfExists(Paths.get(arquivo));
+        }
+    }
+
+    /**
+     * Testa várias gravações dentro de uma unidade.
+     * Garante que nada seja gravado antes do fim e que cada arquivo seja gravado uma única vez.
+     */
+    @Test
+    void executar_DeveGravarCadaArquivoUmaVezAoFinal() throws IOException {
+        AtomicInteger escritasA = new AtomicInteger();
+
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> {
+                escritasA.incrementAndGet();
+                writer.write("primeira");
+            });
+            unidadeDeTrabalho.gravar(ARQUIVO_B, writer -> writer.write("b"));
+            unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> {
+                escritasA.incrementAndGet();
+                writer.write("segunda");
+            });
+            assertFalse(Files.exists(Paths.get(ARQUIVO_A)));
+        });
+
+        assertEquals(1, escritasA.get());
+        assertEquals("segunda", Files.readString(Paths.get(ARQUIVO_A)));
+        assertEquals("b", Files.readString(Paths.get(ARQUIVO_B)));
+        assertFalse(Files.exists(Paths.get(UnidadeDeTrabalho.MARCADOR)));
+    }
+
+    /**
+     * Testa uma gravação fora de uma unidade, que deve acontecer na hora.
+     */
+    @Test
+    void gravar_ForaDeUmaUnidade_DeveGravarImediatamente() throws IOException {
+        unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> writer.write("a"));
+
+        assertEquals("a", Files.readString(Paths.get(ARQUIVO_A)));
+        assertFalse(Files.exists(Paths.get(ARQUIVO_A + ".tmp")));
+    }
+
+    /**
+     * Testa acréscimos a um arquivo de log junto com a troca de outro arquivo.
+     * Garante que as linhas sejam acrescentadas na ordem, sem apagar as anteriores.
+     */
+    @Test
+    void anexar_DeveAcrescentarLinhasJuntoComAsGravacoes() throws IOException {
+        Files.writeString(Paths.get(ARQUIVO_A), "1\n");
+
+        unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.anexar(ARQUIVO_A, writer -> writer.write("2\n"));
+            unidadeDeTrabalho.gravar(ARQUIVO_B, writer -> writer.write("b"));
+            unidadeDeTrabalho.anexar(ARQUIVO_A, writer -> writer.write("3\n"));
+        });
+
+        assertEquals("1\n2\n3\n", Files.readString(Paths.get(ARQUIVO_A)));
+        assertEquals("b", Files.readString(Paths.get(ARQUIVO_B)));
+        assertFalse(Files.exists(Paths.get(ARQUIVO_A + ".anexo")));
+        assertFalse(Files.exists(Paths.get(UnidadeDeTrabalho.MARCADOR)));
+    }
+
+    /**
+     * Testa a recuperação de uma confirmação interrompida depois do marcador.
+     * Garante que o arquivo temporário substitua o original e que o marcador seja apagado.
+     */
+    @Test
+    void recuperar_DeveConcluirTrocaInterrompida() throws IOException {
+        Files.writeString(Paths.get(ARQUIVO_A), "antigo");
+        Files.writeString(Paths.get(ARQUIVO_A + ".tmp"), "novo");
+        Path marcador = Paths.get(UnidadeDeTrabalho.MARCADOR);
+        Files.writeString(marcador, ARQUIVO_A + "\n" + ARQUIVO_B, StandardCharsets.UTF_8);
+
+        unidadeDeTrabalho.recuperar();
+
+        assertEquals("novo", Files.readString(Paths.get(ARQUIVO_A)));
+        assertFalse(Files.exists(Paths.get(ARQUIVO_A + ".tmp")));
+        assertFalse(Files.exists(Paths.get(ARQUIVO_B)));
+        assertFalse(Files.exists(marcador));
+    }
+
+    /**
+     * Testa uma falha ao escrever os temporários, antes do marcador.
+     * Garante que a falha seja lançada, que os temporários sejam apagados e que os arquivos fiquem como estavam.
+     */
+    @Test
+    void executar_DeveLancarFalhaEApagarTemporarios_QuandoFalhaAntesDoMarcador() throws IOException {
+        Files.writeString(Paths.get(ARQUIVO_A), "antigo");
+
+        assertThrows(FalhaGravacaoException.class, () -> unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> writer.write("novo"));
+            unidadeDeTrabalho.gravar(ARQUIVO_B, writer -> {
+                throw new IOException("disco cheio");
+            });
+        }));
+
+        assertEquals("antigo", Files.readString(Paths.get(ARQUIVO_A)));
+        assertFalse(Files.exists(Paths.get(ARQUIVO_A + ".tmp")));
+        assertFalse(Files.exists(Paths.get(ARQUIVO_B + ".tmp")));
+        assertFalse(Files.exists(Paths.get(UnidadeDeTrabalho.MARCADOR)));
+    }
+
+    /**
+     * Testa uma falha ao trocar os arquivos, depois do marcador.
+     * Garante que o marcador e os temporários fiquem para trás e que a próxima confirmação conclua a troca.
+     */
+    @Test
+    void executar_DeveManterOMarcador_QuandoFalhaDepoisDele() throws IOException {
+        // Um diretório com conteúdo no lugar do arquivo B impede a troca.
+        Files.createDirectories(Paths.get(ARQUIVO_B));
+        Files.writeString(Paths.get(BLOQUEIO), "x");
+
+        assertThrows(FalhaGravacaoException.class, () -> unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> writer.write("a"));
+            unidadeDeTrabalho.gravar(ARQUIVO_B, writer -> writer.write("b"));
+        }));
+
+        assertTrue(Files.exists(Paths.get(UnidadeDeTrabalho.MARCADOR)));
+        assertEquals("b", Files.readString(Paths.get(ARQUIVO_B + ".tmp")));
+
+        Files.delete(Paths.get(BLOQUEIO));
+        Files.delete(Paths.get(ARQUIVO_B));
+        unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> writer.write("a2"));
+
+        assertEquals("a2", Files.readString(Paths.get(ARQUIVO_A)));
+        assertEquals("b", Files.readString(Paths.get(ARQUIVO_B)));
+        assertFalse(Files.exists(Paths.get(UnidadeDeTrabalho.MARCADOR)));
+    }
+
+    /**
+     * Testa uma operação que falha e cuja gravação também falha.
+     * Garante que a exceção da operação seja a lançada, com a falha da gravação como suprimida.
+     */
+    @Test
+    void executar_DeveManterAExcecaoDaOperacao_QuandoAGravacaoTambemFalha() {
+        IllegalStateException lancada = assertThrows(IllegalStateException.class, () -> unidadeDeTrabalho.executar(() -> {
+            unidadeDeTrabalho.gravar(ARQUIVO_A, writer -> {
+                throw new IOException("disco cheio");
+            });
+            throw new IllegalStateException("operação falhou");
+        }));
+
+        assertEquals("operação falhou", lancada.getMessage());
+        assertEquals(1, lancada.getSuppressed().length);
+        assertInstanceOf(FalhaGravacaoException.class, lancada.getSuppressed()[0]);
+    }
+}
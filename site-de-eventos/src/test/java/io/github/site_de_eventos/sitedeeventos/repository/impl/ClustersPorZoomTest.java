@@ -0,0 +1,136 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.site_de_eventos.sitedeeventos.model.ClusterEventos;
+
+/**
+ * Classe de teste para os {@link ClustersPorZoom}.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ClustersPorZoomTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private static final LocalDateTime FUTURO = AGORA.plusDays(30);
+
+    private ClustersPorZoom clusters;
+
+    @BeforeEach
+    void setUp() {
+        clusters = new ClustersPorZoom();
+    }
+
+    /**
+     * Busca no mundo inteiro, com os agrupamentos ordenados pela longitude.
+     */
+    private List<ClusterEventos> buscarTudo(int zoom, LocalDateTime agora) {
+        List<ClusterEventos> encontrados = clusters.buscar(-85, -180, 85, 180, zoom, agora);
+        encontrados.sort(Comparator.comparingDouble(ClusterEventos::getLongitude));
+        return encontrados;
+    }
+
+    /**
+     * Testa se eventos próximos se juntam com pouco zoom e se separam com muito zoom,
+     * com o centro de cada agrupamento na média das coordenadas.
+     */
+    @Test
+    void buscar_DeveAgruparPorNivelDeZoom() {
+        clusters.atualizar(1, 10, 10, FUTURO);
+        clusters.atualizar(2, 20, 20, FUTURO);
+        clusters.atualizar(3, -10, -100, FUTURO);
+
+        List<ClusterEventos> zoomMinimo = buscarTudo(0, AGORA);
+        assertEquals(2, zoomMinimo.size());
+        assertEquals(1, zoomMinimo.get(0).getQuantidade());
+        assertEquals(3, zoomMinimo.get(0).getIdEvento());
+        assertEquals(2, zoomMinimo.get(1).getQuantidade());
+        assertNull(zoomMinimo.get(1).getIdEvento());
+        assertEquals(15, zoomMinimo.get(1).getLatitude(), 1e-9);
+        assertEquals(15, zoomMinimo.get(1).getLongitude(), 1e-9);
+
+        List<ClusterEventos> zoomMaximo = buscarTudo(ClustersPorZoom.ZOOM_MAXIMO, AGORA);
+        assertEquals(3, zoomMaximo.size());
+        assertEquals(List.of(3, 1, 2), zoomMaximo.stream().map(ClusterEventos::getIdEvento).toList());
+        assertEquals(3, buscarTudo(ClustersPorZoom.ZOOM_MAXIMO + 5, AGORA).size());
+    }
+
+    /**
+     * Testa uma área que cruza o antimeridiano e outra, do mesmo tamanho, que não cruza.
+     */
+    @Test
+    void buscar_AreaNoAntimeridiano_DeveJuntarAsDuasFaixas() {
+        clusters.atualizar(1, 0, 179.9, FUTURO);
+        clusters.atualizar(2, 0, -179.9, FUTURO);
+        clusters.atualizar(3, 0, 0, FUTURO);
+
+        assertEquals(2, clusters.buscar(-1, 170, 1, -170, 10, AGORA).size());
+        assertEquals(1, clusters.buscar(-1, -170, 1, 170, 10, AGORA).size());
+    }
+
+    /**
+     * Testa se os eventos já ocorridos deixam o mapa, inclusive os que vencem na mesma data.
+     */
+    @Test
+    void buscar_DeveRetirarEventosExpirados() {
+        clusters.atualizar(1, 10, 10, AGORA.minusDays(1));
+        clusters.atualizar(2, 20, 20, AGORA);
+        clusters.atualizar(3, 30, 30, AGORA);
+        clusters.atualizar(4, 40, 40, FUTURO);
+
+        List<ClusterEventos> visiveis = buscarTudo(ClustersPorZoom.ZOOM_MAXIMO, AGORA.minusHours(1));
+        assertEquals(List.of(2, 3, 4), visiveis.stream().map(ClusterEventos::getIdEvento).toList());
+
+        visiveis = buscarTudo(ClustersPorZoom.ZOOM_MAXIMO, AGORA);
+        assertEquals(List.of(4), visiveis.stream().map(ClusterEventos::getIdEvento).toList());
+    }
+
+    /**
+     * Testa se mover um evento o tira do agrupamento antigo e se uma nova data de expiração
+     * substitui a anterior.
+     */
+    @Test
+    void atualizar_DeveMoverOEventoEAtualizarAExpiracao() {
+        clusters.atualizar(1, 10, 10, AGORA);
+        clusters.atualizar(2, 20, 20, FUTURO);
+
+        clusters.atualizar(1, -30, -60, FUTURO);
+
+        List<ClusterEventos> visiveis = buscarTudo(0, AGORA);
+        assertEquals(2, visiveis.size());
+        assertEquals(1, visiveis.get(0).getIdEvento());
+        assertEquals(-30, visiveis.get(0).getLatitude(), 1e-9);
+        assertEquals(2, visiveis.get(1).getIdEvento());
+        assertEquals(20, visiveis.get(1).getLatitude(), 1e-9);
+    }
+
+    /**
+     * Testa a remoção: o evento sai de todos os níveis e o agrupamento restante é recalculado.
+     */
+    @Test
+    void remover_DeveRetirarOEventoDeTodosOsNiveis() {
+        clusters.atualizar(1, 10, 10, FUTURO);
+        clusters.atualizar(2, 20, 20, FUTURO);
+
+        clusters.remover(1);
+        clusters.remover(99);
+
+        for (int zoom = 0; zoom <= ClustersPorZoom.ZOOM_MAXIMO; zoom++) {
+            List<ClusterEventos> visiveis = buscarTudo(zoom, AGORA);
+            assertEquals(1, visiveis.size());
+            assertEquals(2, visiveis.get(0).getIdEvento());
+            assertEquals(20, visiveis.get(0).getLatitude(), 1e-9);
+        }
+        clusters.remover(2);
+        assertTrue(buscarTudo(0, FUTURO.plusDays(1)).isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
+
+/**
+ * Classe de teste para os {@link ConversoresJson}.
+ * <p>
+ * Compara a saída com a da serialização por reflexão usada antes, para garantir que os arquivos
+ * já gravados continuem legíveis.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ConversoresJsonTest {
+
+    private final Gson gson = ConversoresJson.criarGson();
+
+    private final Gson reflexao = new GsonBuilder()
+        .excludeFieldsWithoutExposeAnnotation()
+        .registerTypeAdapter(LocalDateTime.class, new AdaptadorLocalDateTime())
+        .create();
+
+    private Pedido pedido() {
+        Evento evento = new Evento();
+        evento.setIdEvento(3);
+        evento.setNomeEvento("Show");
+        evento.setDescrição("Ao ar livre");
+        evento.setDataEvento(LocalDateTime.of(2030, 1, 10, 20, 0));
+        evento.setIngressosDisponiveis(40);
+        evento.setLatitude(-12.97);
+        evento.setSetores(List.of(new SetorAssentos("Plateia", 3, 10)));
+        TipoIngresso meia = new TipoIngresso("Meia", 25.0, 50, null, LocalDateTime.of(2030, 1, 9, 0, 0));
+        meia.reservar(2);
+        evento.setTiposIngresso(List.of(meia));
+
+        Pedido pedido = new Pedido();
+        pedido.setIdPedido(5);
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        pedido.setIngressos(List.of(new Ingresso("3-1", 3, "Ana", "ana@email.com", LocalDateTime.now(), 25.0)));
+        return pedido;
+    }
+
+    /**
+     * Testa se a saída tem os mesmos campos e valores da serialização por reflexão.
+     */
+    @Test
+    void toJson_DeveEscreverOsMesmosCamposDaReflexao() {
+        Pedido pedido = pedido();
+
+        String json = gson.toJson(pedido);
+
+        assertEquals(JsonParser.parseString(reflexao.toJson(pedido)), JsonParser.parseString(json));
+        assertFalse(json.contains("\n"));
+    }
+
+    /**
+     * Testa a leitura de um pedido gravado pela serialização por reflexão.
+     */
+    @Test
+    void fromJson_DeveLerOFormatoAntigo() {
+        String antigo = reflexao.toJson(pedido());
+
+        Pedido lido = gson.fromJson(antigo, Pedido.class);
+
+        assertEquals(antigo, reflexao.toJson(lido));
+        assertEquals(48, lido.getEvento().getTiposIngresso().get(0).getDisponiveis());
+        assertEquals("Ana", lido.getIngressos().get(0).getNomeParticipante());
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+
+/**
+ * Classe de teste para o {@link EventoJdbcRepository}.
+ * <p>
+ * Usa um banco H2 em memória, novo a cada teste, e um {@link LogAlteracoes} mockado.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class EventoJdbcRepositoryTest {
+
+    private HikariDataSource dataSource;
+    private UnidadeDeTrabalho unidadeDeTrabalho;
+    private LogAlteracoes logAlteracoes;
+    private EventoJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource = new HikariDataSource(config);
+        unidadeDeTrabalho = new UnidadeDeTrabalho();
+        logAlteracoes = mock(LogAlteracoes.class);
+        repository = novoRepositorio();
+    }
+
+    @AfterEach
+    void fechar() {
+        dataSource.close();
+    }
+
+    private EventoJdbcRepository novoRepositorio() {
+        EventoJdbcRepository novo = new EventoJdbcRepository(dataSource, unidadeDeTrabalho, logAlteracoes);
+        novo.init();
+        return novo;
+    }
+
+    private Evento evento(String nome, int organizadorId, double latitude, double longitude) {
+        Evento evento = new Evento();
+        evento.setNomeEvento(nome);
+        evento.setOrganizadorId(organizadorId);
+        evento.setDataEvento(LocalDateTime.of(2030, 1, 10, 20, 0));
+        evento.setLatitude(latitude);
+        evento.setLongitude(longitude);
+        return evento;
+    }
+
+    /**
+     * Testa a gravação e a leitura em um novo repositório sobre o mesmo banco.
+     * Verifica se os dados, a versão e o contador de IDs sobrevivem.
+     */
+    @Test
+    void save_DevePersistirNoBanco() {
+        Evento salvo = repository.save(evento("Show de Rock", 3, -12.97, -38.5));
+
+        EventoJdbcRepository reaberto = novoRepositorio();
+        Evento lido = reaberto.findById(salvo.getIdEvento()).orElseThrow();
+
+        assertEquals("Show de Rock", lido.getNomeEvento());
+        assertEquals(1, lido.getVersao());
+        assertEquals(LocalDateTime.of(2030, 1, 10, 20, 0), lido.getDataEvento());
+        assertTrue(lido.isCongelado());
+        assertEquals(salvo.getIdEvento() + 1, reaberto.save(evento("Outro", 3, 0, 0)).getIdEvento());
+        verify(logAlteracoes, times(2)).registrar(eq("evento"), anyInt(), anyString(), anyLong());
+    }
+
+    /**
+     * Testa as consultas feitas no banco: por organizador, por nome e por área.
+     * Garante que devolvam as mesmas instâncias já em memória.
+     */
+    @Test
+    void consultas_DevemUsarOBancoEReaproveitarInstancias() {
+        Evento salvador = repository.save(evento("Festival 100%", 3, -12.97, -38.5));
+        repository.save(evento("Feira", 4, -23.55, -46.63));
+
+        List<Evento> doOrganizador = repository.findByOrganizadorId(3);
+        assertEquals(1, doOrganizador.size());
+        assertSame(salvador, doOrganizador.get(0));
+        assertEquals(1, repository.findByNomeContaining("100%").size());
+        assertTrue(repository.findByNomeContaining("10_").isEmpty());
+        assertEquals(List.of(salvador), repository.findByArea(-13.5, -39, -12.5, -38));
+        assertEquals(2, repository.findAll().size());
+    }
+
+    /**
+     * Testa o compare-and-set sobre um evento lido do banco.
+     * Verifica se uma versão desatualizada é recusada.
+     */
+    @Test
+    void save_ComVersaoDesatualizada_DeveLancarConflito() {
+        int id = repository.save(evento("Show", 3, 0, 0)).getIdEvento();
+        EventoJdbcRepository reaberto = novoRepositorio();
+
+        Evento copia = reaberto.findById(id).orElseThrow().copiar();
+        copia.setNomeEvento("Show Extra");
+        assertEquals(2, reaberto.save(copia, 1).getVersao());
+
+        Evento atrasada = reaberto.findById(id).orElseThrow().copiar();
+        assertThrows(ConflitoVersaoException.class, () -> reaberto.save(atrasada, 1));
+    }
+
+    /**
+     * Testa várias gravações dentro de uma unidade de trabalho.
+     * Garante que nada chegue ao banco antes do fim e que a exclusão seja confirmada junto.
+     */
+    @Test
+    void unidadeDeTrabalho_DeveGravarEmLoteAoFinal() {
+        int removido = repository.save(evento("Antigo", 3, 0, 0)).getIdEvento();
+
+        unidadeDeTrabalho.executar(() -> {
+            repository.save(evento("Novo", 3, 0, 0));
+            repository.deleteById(removido);
+            assertEquals(1, novoRepositorio().findAll().size());
+            assertTrue(repository.findById(removido).isEmpty());
+        });
+
+        List<Evento> gravados = novoRepositorio().findAll();
+        assertEquals(1, gravados.size());
+        assertEquals("Novo", gravados.get(0).getNomeEvento());
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+
+/**
+ * Classe de teste para o {@link EventoMapeadoRepository} e o {@link ArquivoRegistrosEventos}.
+ * <p>
+ * Grava o arquivo de registros em um diretório temporário e o reabre para conferir o que foi gravado.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class EventoMapeadoRepositoryTest {
+
+    @TempDir
+    Path diretorio;
+
+    private UnidadeDeTrabalho unidadeDeTrabalho;
+    private LogAlteracoes logAlteracoes;
+    private EventoMapeadoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        unidadeDeTrabalho = new UnidadeDeTrabalho();
+        logAlteracoes = mock(LogAlteracoes.class);
+        repository = novoRepositorio();
+    }
+
+    @AfterEach
+    void fechar() {
+        repository.fechar();
+    }
+
+    private EventoMapeadoRepository novoRepositorio() {
+        EventoMapeadoRepository novo = new EventoMapeadoRepository(unidadeDeTrabalho, logAlteracoes,
+                diretorio.resolve("eventos.dat"));
+        novo.init();
+        return novo;
+    }
+
+    private EventoMapeadoRepository reabrir() {
+        repository.fechar();
+        repository = novoRepositorio();
+        return repository;
+    }
+
+    private Evento evento(String nome, int organizadorId, double latitude, double longitude) {
+        Evento evento = new Evento();
+        evento.setNomeEvento(nome);
+        evento.setOrganizadorId(organizadorId);
+        evento.setDataEvento(LocalDateTime.of(2030, 1, 10, 20, 0));
+        evento.setLatitude(latitude);
+        evento.setLongitude(longitude);
+        evento.setIngressosDisponiveis(100);
+        evento.setStatus("ATIVO");
+        return evento;
+    }
+
+    /**
+     * Testa a gravação e a leitura depois de reabrir o arquivo.
+     * Verifica os campos numéricos, os textos, os tipos de ingresso e o estoque vendido.
+     */
+    @Test
+    void save_DevePersistirNoArquivoMapeado() {
+        Evento evento = evento("Show de Rock", 3, -12.97, -38.5);
+        evento.setPreco(80.0);
+        evento.setTiposIngresso(List.of(new TipoIngresso()));
+        int id = repository.save(evento).getIdEvento();
+        Evento publicado = repository.findById(id).orElseThrow();
+        publicado.reservarIngressos(3);
+        repository.save(publicado);
+
+        Evento lido = reabrir().findById(id).orElseThrow();
+
+        assertEquals("Show de Rock", lido.getNomeEvento());
+        assertEquals(80.0, lido.getPreco());
+        assertEquals(97, lido.getIngressosDisponiveis());
+        assertEquals(LocalDateTime.of(2030, 1, 10, 20, 0), lido.getDataEvento());
+        assertTrue(lido.hasTiposIngresso());
+        assertTrue(lido.isCongelado());
+        assertEquals(1, lido.getVersao());
+        assertEquals(id + 1, repository.save(evento("Outro", 3, 0, 0)).getIdEvento());
+    }
+
+    /**
+     * Testa as consultas que percorrem os registros e as do índice espacial.
+     * Garante que devolvam as mesmas instâncias já em memória.
+     */
+    @Test
+    void consultas_DevemPercorrerOsRegistros() {
+        Evento salvador = repository.save(evento("Festival de Verão", 3, -12.97, -38.5));
+        repository.save(evento("Feira", 4, -23.55, -46.63));
+
+        assertEquals(List.of(salvador), repository.findByOrganizadorId(3));
+        assertEquals(List.of(salvador), repository.findByNomeContaining("verão"));
+        assertEquals("Feira", repository.findByNome("FEIRA").orElseThrow().getNomeEvento());
+        assertEquals(List.of(salvador), repository.findByArea(-13.5, -39, -12.5, -38));
+        assertEquals(1, reabrir().findByArea(-24, -47, -23, -46).size());
+        assertEquals(2, repository.findAll().size());
+    }
+
+    /**
+     * Testa o compare-and-set e a exclusão depois de reabrir o arquivo.
+     */
+    @Test
+    void atualizarEExcluir_DevemSobreviverAReabertura() {
+        int id = repository.save(evento("Show", 3, 0, 0)).getIdEvento();
+        int removido = repository.save(evento("Antigo", 3, 0, 0)).getIdEvento();
+
+        repository.atualizar(id, copia -> copia.setNomeEvento("Show Extra"));
+        repository.deleteById(removido);
+        EventoMapeadoRepository reaberto = reabrir();
+
+        Evento lido = reaberto.findById(id).orElseThrow();
+        assertEquals("Show Extra", lido.getNomeEvento());
+        assertEquals(2, lido.getVersao());
+        assertTrue(reaberto.findById(removido).isEmpty());
+        Evento atrasada = lido.copiar();
+        assertThrows(ConflitoVersaoException.class, () -> reaberto.save(atrasada, 1));
+    }
+
+    /**
+     * Testa o save sem versão de uma cópia feita antes de outra alteração publicada.
+     * Garante que a cópia antiga seja recusada em vez de sobrescrever a alteração.
+     */
+    @Test
+    void save_ComCopiaDesatualizada_DeveLancarConflito() {
+        int id = repository.save(evento("Show", 3, 0, 0)).getIdEvento();
+        Evento atrasada = repository.findById(id).orElseThrow().copiar();
+        repository.atualizar(id, copia -> copia.setNomeEvento("Show Extra"));
+
+        atrasada.setNomeEvento("Show Antigo");
+        assertThrows(ConflitoVersaoException.class, () -> repository.save(atrasada));
+        assertEquals("Show Extra", reabrir().findById(id).orElseThrow().getNomeEvento());
+    }
+
+    /**
+     * Testa várias gravações dentro de uma unidade de trabalho.
+     * Garante que o arquivo só seja alterado ao final da unidade.
+     */
+    @Test
+    void unidadeDeTrabalho_DeveGravarEmLoteAoFinal() {
+        unidadeDeTrabalho.executar(() -> {
+            repository.save(evento("Novo", 3, 0, 0));
+            repository.save(evento("Outro", 3, 0, 0));
+            assertTrue(repository.findAll().isEmpty());
+        });
+
+        assertEquals(2, repository.findAll().size());
+        assertEquals(2, reabrir().findAll().size());
+    }
+}
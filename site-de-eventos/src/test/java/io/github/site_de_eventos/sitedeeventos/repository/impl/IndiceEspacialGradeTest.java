@@ -0,0 +1,107 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste para o {@link IndiceEspacialGrade}.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class IndiceEspacialGradeTest {
+
+    private IndiceEspacialGrade indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceEspacialGrade();
+    }
+
+    /**
+     * Busca os IDs de uma área, conferindo que nenhum evento aparece duas vezes.
+     */
+    private Set<Integer> buscar(double latMin, double lngMin, double latMax, double lngMax) {
+        List<Integer> ids = indice.buscar(latMin, lngMin, latMax, lngMax);
+        Set<Integer> unicos = new HashSet<>(ids);
+        assertEquals(ids.size(), unicos.size());
+        return unicos;
+    }
+
+    /**
+     * Testa pontos sobre as bordas das células e dentro das células da borda da área:
+     * as bordas da área são inclusivas e os pontos de fora são descartados pelo filtro fino.
+     */
+    @Test
+    void buscar_DeveFiltrarPelasCoordenadasNasBordasDasCelulas() {
+        double borda = IndiceEspacialGrade.TAMANHO_CELULA;
+        indice.atualizar(1, 0.0, 0.0);
+        indice.atualizar(2, borda, borda);
+        indice.atualizar(3, borda + 0.05, borda / 2);
+        indice.atualizar(4, borda / 2, -0.01);
+        indice.atualizar(5, 0.02, 0.02);
+        indice.atualizar(6, 0.01, 0.01);
+
+        assertEquals(Set.of(1, 2, 5, 6), buscar(0, 0, borda, borda));
+        assertEquals(Set.of(5), buscar(0.015, 0.015, 0.08, 0.08));
+        assertEquals(Set.of(1, 2, 3, 4, 5, 6), buscar(-90, -180, 90, 180));
+    }
+
+    /**
+     * Testa uma área que cruza o antimeridiano ({@code lngMin > lngMax}).
+     */
+    @Test
+    void buscar_AreaNoAntimeridiano_DeveJuntarAsDuasFaixas() {
+        indice.atualizar(1, 0.0, 179.95);
+        indice.atualizar(2, 0.0, -179.95);
+        indice.atualizar(3, 0.0, 180.0);
+        indice.atualizar(4, 0.0, 0.0);
+
+        assertEquals(Set.of(1, 2, 3), buscar(-1, 179, 1, -179));
+        assertEquals(Set.of(4), buscar(-1, -179, 1, 179));
+    }
+
+    /**
+     * Testa se coordenadas nulas não entram no índice e retiram um evento já indexado.
+     */
+    @Test
+    void atualizar_CoordenadasNulas_DeveRemoverOEvento() {
+        indice.atualizar(1, null, 10.0);
+        indice.atualizar(2, 10.0, null);
+        indice.atualizar(3, 10.0, 10.0);
+        assertEquals(Set.of(3), buscar(-90, -180, 90, 180));
+
+        indice.atualizar(3, null, null);
+
+        assertTrue(buscar(-90, -180, 90, 180).isEmpty());
+    }
+
+    /**
+     * Testa se mover um evento o tira da célula antiga, tanto para outra célula quanto
+     * dentro da mesma célula.
+     */
+    @Test
+    void atualizar_DeveMoverOEventoEntreCelulas() {
+        indice.atualizar(1, 10.0, 10.0);
+        indice.atualizar(2, 10.01, 10.01);
+
+        indice.atualizar(1, -20.0, 40.0);
+        indice.atualizar(2, 10.09, 10.09);
+
+        assertTrue(buscar(9.9, 9.9, 10.05, 10.05).isEmpty());
+        assertEquals(Set.of(2), buscar(10.05, 10.05, 10.1, 10.1));
+        assertEquals(Set.of(1), buscar(-21, 39, -19, 41));
+
+        indice.remover(1);
+        indice.remover(99);
+
+        assertEquals(Set.of(2), buscar(-90, -180, 90, 180));
+    }
+}
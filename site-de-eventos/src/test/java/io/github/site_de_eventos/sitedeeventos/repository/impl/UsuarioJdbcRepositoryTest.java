@@ -0,0 +1,158 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.OrganizadorBuilderConcreto;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import io.github.site_de_eventos.sitedeeventos.service.PedidoService;
+
+/**
+ * Classe de teste para o {@link UsuarioJdbcRepository}.
+ * <p>
+ * Usa um banco H2 em memória, novo a cada teste, e um {@link LogAlteracoes} mockado.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class UsuarioJdbcRepositoryTest {
+
+    private HikariDataSource dataSource;
+    private UnidadeDeTrabalho unidadeDeTrabalho;
+    private LogAlteracoes logAlteracoes;
+    private UsuarioJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource = new HikariDataSource(config);
+        unidadeDeTrabalho = new UnidadeDeTrabalho();
+        logAlteracoes = mock(LogAlteracoes.class);
+        repository = novoRepositorio();
+    }
+
+    @AfterEach
+    void fechar() {
+        dataSource.close();
+    }
+
+    private UsuarioJdbcRepository novoRepositorio() {
+        UsuarioJdbcRepository novo = new UsuarioJdbcRepository(dataSource, unidadeDeTrabalho, logAlteracoes);
+        novo.init();
+        return novo;
+    }
+
+    private Usuario usuario(String nome) {
+        Usuario usuario = new Usuario();
+        usuario.setNome(nome);
+        usuario.setEmail(nome + "@Email.com");
+        return usuario;
+    }
+
+    /**
+     * Testa a gravação e a leitura em um novo repositório sobre o mesmo banco.
+     * Verifica se os dados, a classe, a versão e os contadores de IDs sobrevivem.
+     */
+    @Test
+    void save_DevePersistirNoBanco() {
+        Usuario ana = usuario("Ana");
+        Pedido pedido = new Pedido();
+        pedido.setIdPedido(42);
+        ana.adicionarPedido(pedido);
+        repository.save(ana);
+        Organizador organizador = (Organizador) new OrganizadorBuilderConcreto().cnpj("123").nome("Org").build();
+        repository.save(organizador);
+
+        UsuarioJdbcRepository reaberto = novoRepositorio();
+        Usuario lida = reaberto.findByEmail("ana@email.COM").orElseThrow();
+
+        assertEquals("Ana", lida.getNome());
+        assertEquals(1, lida.getVersao());
+        assertEquals(42, lida.getPedidos().get(0).getIdPedido());
+        assertInstanceOf(Organizador.class, reaberto.findById(organizador.getIdUsuario()).orElseThrow());
+        assertEquals(42, PedidoService.pedidoIdGenerator.get());
+        assertEquals(organizador.getIdUsuario() + 1, reaberto.save(usuario("Bruno")).getIdUsuario());
+        verify(logAlteracoes, times(3)).registrar(eq("usuario"), anyInt(), anyString(), anyLong());
+    }
+
+    /**
+     * Testa se todas as consultas, inclusive o percurso da tabela, devolvem a instância já em
+     * memória, com os mesmos pedidos.
+     */
+    @Test
+    void consultas_DevemReaproveitarOsUsuariosLidos() {
+        Usuario ana = usuario("Ana");
+        ana.adicionarPedido(new Pedido());
+        int id = repository.save(ana).getIdUsuario();
+        repository.save(usuario("Bruno"));
+
+        UsuarioJdbcRepository reaberto = novoRepositorio();
+        Usuario lida = reaberto.findById(id).orElseThrow();
+        Pedido pedido = lida.getPedidos().get(0);
+
+        assertSame(lida, reaberto.findByEmail("ana@email.com").orElseThrow());
+        List<Usuario> todos = reaberto.findAll();
+        assertEquals(2, todos.size());
+        assertSame(pedido, todos.get(0).getPedidos().get(0));
+        List<Usuario> percorridos = new ArrayList<>();
+        reaberto.paraCada(percorridos::add);
+        assertEquals(2, percorridos.size());
+        assertSame(lida, percorridos.get(0));
+    }
+
+    /**
+     * Testa o compare-and-set sobre um usuário lido do banco.
+     * Verifica se uma versão desatualizada é recusada.
+     */
+    @Test
+    void save_ComVersaoDesatualizada_DeveLancarConflito() {
+        int id = repository.save(usuario("Ana")).getIdUsuario();
+        UsuarioJdbcRepository reaberto = novoRepositorio();
+
+        Usuario copia = reaberto.findById(id).orElseThrow().copiar();
+        copia.setNome("Ana Maria");
+        assertEquals(2, reaberto.save(copia, 1).getVersao());
+
+        Usuario atrasada = reaberto.findById(id).orElseThrow().copiar();
+        assertThrows(ConflitoVersaoException.class, () -> reaberto.save(atrasada, 1));
+        assertEquals("Ana Maria", novoRepositorio().findById(id).orElseThrow().getNome());
+    }
+
+    /**
+     * Testa várias gravações dentro de uma unidade de trabalho.
+     * Garante que nada chegue ao banco antes do fim e que a exclusão seja confirmada junto.
+     */
+    @Test
+    void unidadeDeTrabalho_DeveGravarEmLoteAoFinal() {
+        int removido = repository.save(usuario("Antigo")).getIdUsuario();
+
+        unidadeDeTrabalho.executar(() -> {
+            repository.save(usuario("Novo"));
+            assertTrue(repository.deleteById(removido));
+            assertEquals(1, novoRepositorio().findAll().size());
+            assertTrue(repository.findById(removido).isEmpty());
+        });
+
+        List<Usuario> gravados = novoRepositorio().findAll();
+        assertEquals(1, gravados.size());
+        assertEquals("Novo", gravados.get(0).getNome());
+    }
+}
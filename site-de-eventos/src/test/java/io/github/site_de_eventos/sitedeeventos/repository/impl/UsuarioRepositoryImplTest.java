@@ -0,0 +1,233 @@
+package io.github.site_de_eventos.sitedeeventos.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.ConflitoVersaoException;
+import io.github.site_de_eventos.sitedeeventos.repository.LogAlteracoes;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+
+/**
+ * Classe de teste para o {@link UsuarioRepositoryImpl}.
+ * <p>
+ * Grava as partições em um diretório temporário e confere quais arquivos cada operação altera.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class UsuarioRepositoryImplTest {
+
+    @TempDir
+    Path diretorio;
+
+    private UnidadeDeTrabalho unidadeDeTrabalho;
+    private LogAlteracoes logAlteracoes;
+
+    @BeforeEach
+    void setUp() {
+        unidadeDeTrabalho = new UnidadeDeTrabalho();
+        logAlteracoes = mock(LogAlteracoes.class);
+    }
+
+    private UsuarioRepositoryImpl abrir(int particoes) {
+        UsuarioRepositoryImpl repository = new UsuarioRepositoryImpl(unidadeDeTrabalho, logAlteracoes, particoes, diretorio);
+        repository.init();
+        return repository;
+    }
+
+    private Usuario usuario(String nome) {
+        Usuario usuario = new Usuario();
+        usuario.setNome(nome);
+        usuario.setEmail(nome.toLowerCase() + "@email.com");
+        return usuario;
+    }
+
+    /**
+     * Testa se salvar um usuário reescreve apenas o arquivo da sua partição.
+     */
+    @Test
+    void save_DeveGravarApenasAParticaoDoUsuario() throws Exception {
+        UsuarioRepositoryImpl repository = abrir(4);
+
+        repository.save(usuario("Ana"));
+        repository.save(usuario("Bruno"));
+
+        assertTrue(Files.exists(diretorio.resolve("usuarios-1.json")));
+        assertTrue(Files.exists(diretorio.resolve("usuarios-2.json")));
+        assertFalse(Files.exists(diretorio.resolve("usuarios-0.json")));
+        assertFalse(Files.exists(diretorio.resolve("usuarios.json")));
+        assertEquals("Bruno", abrir(4).findByEmail("BRUNO@email.com").orElseThrow().getNome());
+    }
+
+    /**
+     * Testa a importação do arquivo único antigo, que é dividido em partições e apagado.
+     */
+    @Test
+    void init_DeveDividirOArquivoUnico() throws Exception {
+        Files.writeString(diretorio.resolve("usuarios.json"), "[{\"idUsuario\":1,\"nome\":\"Ana\"},"
+                + "{\"idUsuario\":2,\"nome\":\"Org\",\"cnpj\":\"123\"},{\"idUsuario\":3,\"nome\":\"Caio\"}]");
+
+        UsuarioRepositoryImpl repository = abrir(2);
+
+        assertFalse(Files.exists(diretorio.resolve("usuarios.json")));
+        assertTrue(Files.exists(diretorio.resolve("usuarios-0.json")));
+        assertTrue(Files.exists(diretorio.resolve("usuarios-1.json")));
+        assertEquals(3, repository.findAll().size());
+        assertInstanceOf(Organizador.class, repository.findById(2).orElseThrow());
+        assertEquals(1, repository.findById(1).orElseThrow().getVersao());
+        assertEquals(4, repository.save(usuario("Nova")).getIdUsuario());
+    }
+
+    /**
+     * Testa a mudança na quantidade de partições: os usuários são redistribuídos e as sobras, apagadas.
+     */
+    @Test
+    void init_DeveRedistribuirAoMudarAQuantidade() throws Exception {
+        UsuarioRepositoryImpl repository = abrir(4);
+        for (String nome : new String[] { "Ana", "Bruno", "Caio", "Davi" }) {
+            repository.save(usuario(nome));
+        }
+
+        UsuarioRepositoryImpl reaberto = abrir(2);
+
+        assertEquals(4, reaberto.findAll().size());
+        assertFalse(Files.exists(diretorio.resolve("usuarios-2.json")));
+        assertFalse(Files.exists(diretorio.resolve("usuarios-3.json")));
+        assertTrue(reaberto.deleteById(3));
+        assertTrue(abrir(2).findById(3).isEmpty());
+    }
+
+    /**
+     * Testa uma inicialização com um arquivo que não pode ser lido, durante uma redistribuição.
+     * Garante que ela seja interrompida sem regravar as partições nem apagar nenhum arquivo.
+     */
+    @Test
+    void init_ComArquivoIlegivel_DeveFalharSemApagarNada() throws Exception {
+        UsuarioRepositoryImpl repository = abrir(4);
+        for (String nome : new String[] { "Ana", "Bruno", "Caio" }) {
+            repository.save(usuario(nome));
+        }
+        Files.writeString(diretorio.resolve("usuarios-3.json"), "[{\"idUsuario\":3,");
+        String particao1 = Files.readString(diretorio.resolve("usuarios-1.json"));
+
+        assertThrows(IllegalStateException.class, () -> abrir(2));
+
+        assertTrue(Files.exists(diretorio.resolve("usuarios-2.json")));
+        assertTrue(Files.exists(diretorio.resolve("usuarios-3.json")));
+        assertFalse(Files.exists(diretorio.resolve("usuarios-0.json")));
+        assertEquals(particao1, Files.readString(diretorio.resolve("usuarios-1.json")));
+    }
+
+    /**
+     * Testa a leitura pelo {@link UsuarioTypeAdapter}: o "cnpj" depois dos pedidos ainda define um
+     * Organizador, e os campos do cadastro sobrevivem a uma gravação.
+     */
+    @Test
+    void init_DeveLerOsCamposSemDependerDaOrdem() throws Exception {
+        Files.writeString(diretorio.resolve("usuarios-0.json"), "[{\"idUsuario\":1,\"nome\":\"Org\",\"cpf\":\"123\","
+                + "\"dataNascimento\":\"2000-05-01T00:00\",\"pedidos\":[{\"idPedido\":3}],\"versao\":2,"
+                + "\"desconhecido\":{\"a\":[1]},\"cnpj\":\"456\"}]");
+
+        Usuario lido = abrir(1).findById(1).orElseThrow();
+        abrir(1).save(lido, 2);
+        Organizador organizador = (Organizador) abrir(1).findById(1).orElseThrow();
+
+        assertEquals("456", organizador.getCnpj());
+        assertEquals("123", organizador.getCpf());
+        assertEquals(LocalDateTime.of(2000, 5, 1, 0, 0), organizador.getDataNascimento());
+        assertEquals(3, organizador.getPedidos().get(0).getIdPedido());
+        assertEquals(3, organizador.getVersao());
+    }
+
+    /**
+     * Testa se o carimbo das credenciais é gravado, para que os logins sobrevivam a um
+     * reinício, e se ele muda com a troca de senha.
+     */
+    @Test
+    void save_DeveGravarOCarimboDasCredenciais() {
+        UsuarioRepositoryImpl repository = abrir(2);
+        Usuario ana = repository.save(usuario("Ana"));
+
+        Usuario lida = abrir(2).findById(ana.getIdUsuario()).orElseThrow();
+        assertEquals(ana.getCarimboCredenciais(), lida.getCarimboCredenciais());
+
+        Usuario alterada = repository.atualizar(ana.getIdUsuario(), copia -> copia.setSenha("nova")).orElseThrow();
+        assertNotEquals(ana.getCarimboCredenciais(), alterada.getCarimboCredenciais());
+        assertEquals(alterada.getCarimboCredenciais(),
+                abrir(2).findById(ana.getIdUsuario()).orElseThrow().getCarimboCredenciais());
+    }
+
+    /**
+     * Testa o save sem versão sobre um usuário existente: de duas cópias da mesma versão,
+     * só a primeira é salva.
+     */
+    @Test
+    void save_ComCopiaDesatualizada_DeveLancarConflito() {
+        UsuarioRepositoryImpl repository = abrir(2);
+        Usuario ana = repository.save(usuario("Ana"));
+        Usuario primeira = ana.copiar();
+        Usuario segunda = ana.copiar();
+        primeira.setNome("Ana Maria");
+        segunda.setNome("Ana Paula");
+
+        assertEquals(2, repository.save(primeira).getVersao());
+        assertThrows(ConflitoVersaoException.class, () -> repository.save(segunda));
+        assertEquals("Ana Maria", abrir(2).findById(ana.getIdUsuario()).orElseThrow().getNome());
+    }
+
+    /**
+     * Testa se o atualizar reaplica a alteração sobre a versão salva por outra operação
+     * no meio da primeira tentativa, sem perder nenhuma das duas.
+     */
+    @Test
+    void atualizar_DeveReaplicarAAlteracaoAposConflito() {
+        UsuarioRepositoryImpl repository = abrir(2);
+        int id = repository.save(usuario("Ana")).getIdUsuario();
+        AtomicInteger tentativas = new AtomicInteger();
+
+        Usuario salvo = repository.atualizar(id, copia -> {
+            if (tentativas.incrementAndGet() == 1) {
+                Usuario concorrente = repository.findById(id).orElseThrow().copiar();
+                concorrente.setCidade("Salvador");
+                repository.save(concorrente);
+            }
+            copia.setNome("Ana Maria");
+        }).orElseThrow();
+
+        assertEquals(2, tentativas.get());
+        assertEquals(3, salvo.getVersao());
+        assertEquals("Ana Maria", salvo.getNome());
+        assertEquals("Salvador", salvo.getCidade());
+    }
+
+    /**
+     * Testa se o atualizar desiste com o conflito depois do limite de tentativas (8),
+     * em vez de repetir para sempre.
+     */
+    @Test
+    void atualizar_DeveDesistirAposOLimiteDeTentativas() {
+        UsuarioRepositoryImpl repository = abrir(2);
+        int id = repository.save(usuario("Ana")).getIdUsuario();
+        AtomicInteger tentativas = new AtomicInteger();
+
+        assertThrows(ConflitoVersaoException.class, () -> repository.atualizar(id, copia -> {
+            tentativas.incrementAndGet();
+            repository.save(repository.findById(id).orElseThrow().copiar());
+        }));
+
+        assertEquals(8, tentativas.get());
+        assertEquals(9, repository.findById(id).orElseThrow().getVersao());
+    }
+}
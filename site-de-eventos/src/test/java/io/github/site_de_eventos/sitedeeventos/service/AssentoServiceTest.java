@@ -0,0 +1,140 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Classe de teste para a {@link AssentoService}.
+ * <p>
+ * Verifica a escolha dos melhores assentos, a reserva de assentos escolhidos,
+ * a liberação após cancelamentos e a restauração da ocupação na inicialização.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class AssentoServiceTest {
+
+    private EventoRepository eventoRepository;
+    private UsuarioRepository usuarioRepository;
+    private AssentoService assentoService;
+    private Evento evento;
+
+    /**
+     * Cria um evento com um setor de duas fileiras de dez assentos.
+     */
+    @BeforeEach
+    void setUp() {
+        eventoRepository = mock(EventoRepository.class);
+        usuarioRepository = mock(UsuarioRepository.class);
+        assentoService = new AssentoService(eventoRepository, usuarioRepository);
+
+        evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setSetores(List.of(new SetorAssentos("Plateia", 2, 10)));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+    }
+
+    /**
+     * Testa se os melhores assentos ficam lado a lado, no centro da primeira fileira.
+     */
+    @Test
+    void reservar_semEscolha_deveReservarAssentosCentraisLadoALado() {
+        List<String> assentos = assentoService.reservar(evento, 2, null);
+
+        assertEquals(List.of("1-1-5", "1-1-6"), assentos);
+        assertEquals("0000110000", assentoService.ocupacao(1, 1).get(0));
+    }
+
+    /**
+     * Testa se a sequência vai para a fileira seguinte quando a primeira não a comporta.
+     */
+    @Test
+    void reservar_semEscolha_devePularFileiraSemSequenciaLivre() {
+        assentoService.reservar(evento, 1, List.of("1-1-4"));
+        assentoService.reservar(evento, 1, List.of("1-1-8"));
+
+        List<String> assentos = assentoService.reservar(evento, 4, null);
+
+        assertEquals(List.of("1-2-4", "1-2-5", "1-2-6", "1-2-7"), assentos);
+    }
+
+    /**
+     * Testa se um assento já vendido não pode ser reservado de novo e se nenhum
+     * dos assentos do pedido fica preso quando a reserva falha.
+     */
+    @Test
+    void reservar_assentoOcupado_deveLancarExcecaoSemReservarOsDemais() {
+        assentoService.reservar(evento, 1, List.of("1-1-1"));
+
+        assertThrows(RuntimeException.class,
+                () -> assentoService.reservar(evento, 2, List.of("1-1-2", "1-1-1")));
+        assertEquals("1000000000", assentoService.ocupacao(1, 1).get(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> assentoService.reservar(evento, 1, List.of("1-9-1")));
+    }
+
+    /**
+     * Testa se os assentos de um pedido cancelado voltam a ficar livres.
+     */
+    @Test
+    void liberar_deveDevolverAssentosDoPedido() {
+        Pedido pedido = pedidoComAssentos("1-1-5", "1-1-6");
+        assentoService.reservar(evento, 2, List.of("1-1-5", "1-1-6"));
+
+        assentoService.liberar(pedido);
+
+        assertEquals("0000000000", assentoService.ocupacao(1, 1).get(0));
+    }
+
+    /**
+     * Testa se a inicialização marca os assentos dos pedidos concluídos e ignora os cancelados.
+     */
+    @Test
+    void init_deveRestaurarAssentosDosPedidosConcluidos() {
+        Pedido concluido = pedidoComAssentos("1-2-1");
+        Pedido cancelado = pedidoComAssentos("1-2-2");
+        cancelado.setStatus("CANCELADO_PELO_USUARIO");
+        Usuario usuario = new Usuario();
+        usuario.setPedidos(new ArrayList<>(List.of(concluido, cancelado)));
+        doAnswer(invocacao -> {
+            Consumer<Usuario> acao = invocacao.getArgument(0);
+            acao.accept(usuario);
+            return null;
+        }).when(usuarioRepository).paraCada(any());
+
+        assentoService.init();
+
+        assertEquals("1000000000", assentoService.ocupacao(1, 1).get(1));
+    }
+
+    private Pedido pedidoComAssentos(String... assentos) {
+        Pedido pedido = new Pedido();
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < assentos.length; i++) {
+            Ingresso ingresso = new Ingresso("1-" + (i + 1), 1, "Participante", "p@email.com", LocalDateTime.now(), 50.0);
+            ingresso.setAssento(assentos[i]);
+            ingressos.add(ingresso);
+        }
+        pedido.setIngressos(ingressos);
+        return pedido;
+    }
+}
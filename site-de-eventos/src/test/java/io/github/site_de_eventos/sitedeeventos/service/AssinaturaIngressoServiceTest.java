@@ -0,0 +1,86 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.service.AssinaturaIngressoService.DadosIngresso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Classe de teste para a {@link AssinaturaIngressoService}.
+ * <p>
+ * Verifica a geração dos códigos assinados e a rejeição de códigos adulterados
+ * ou assinados com outra chave.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class AssinaturaIngressoServiceTest {
+
+    private AssinaturaIngressoService assinaturaIngressoService;
+
+    /**
+     * Cria o serviço com uma chave fixa, sem usar o arquivo de chave.
+     */
+    @BeforeEach
+    void setUp() {
+        assinaturaIngressoService = new AssinaturaIngressoService("chave-de-teste");
+    }
+
+    /**
+     * Testa se um código gerado é verificado e devolve os mesmos dados.
+     */
+    @Test
+    void verificar_codigoGerado_deveDevolverDados() {
+        String codigo = assinaturaIngressoService.assinar(4, 27, 130);
+
+        Optional<DadosIngresso> dados = assinaturaIngressoService.verificar(codigo);
+
+        assertEquals(34, codigo.length());
+        assertTrue(dados.isPresent());
+        assertEquals(4, dados.get().getEventoId());
+        assertEquals(27, dados.get().getNumero());
+        assertEquals(130, dados.get().getPedidoId());
+        assertEquals("4-27", dados.get().getIdInscricao());
+    }
+
+    /**
+     * Testa se códigos adulterados, malformados ou de outra chave são rejeitados.
+     */
+    @Test
+    void verificar_codigoAdulterado_deveSerRejeitado() {
+        String codigo = assinaturaIngressoService.assinar(4, 27, 130);
+        char trocado = codigo.charAt(3) == 'A' ? 'B' : 'A';
+        String adulterado = codigo.substring(0, 3) + trocado + codigo.substring(4);
+
+        assertTrue(assinaturaIngressoService.verificar(adulterado).isEmpty());
+        assertTrue(assinaturaIngressoService.verificar("não é um código").isEmpty());
+        assertTrue(assinaturaIngressoService.verificar(null).isEmpty());
+        assertTrue(new AssinaturaIngressoService("outra-chave").verificar(codigo).isEmpty());
+    }
+
+    /**
+     * Testa se os ingressos de um pedido recebem códigos que não mudam ao assinar de novo.
+     */
+    @Test
+    void assinarIngressos_deveGuardarCodigoNosIngressos() {
+        Pedido pedido = new Pedido();
+        pedido.setIdPedido(9);
+        pedido.setIngressos(List.of(new Ingresso("2-5", 2, "Participante 1", "p1@email.com", LocalDateTime.now(), 50.0)));
+
+        assinaturaIngressoService.assinarIngressos(pedido);
+        Ingresso ingresso = pedido.getIngressos().get(0);
+        String codigo = ingresso.getCodigoVerificacao();
+
+        assertNotNull(codigo);
+        assertEquals(codigo, assinaturaIngressoService.garantirCodigo(ingresso, pedido));
+        assertEquals("2-5", assinaturaIngressoService.verificar(codigo).get().getIdInscricao());
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Classe de teste para a {@link ChaveAssinatura}.
+ * <p>
+ * Guarda as chaves geradas em um diretório temporário.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ChaveAssinaturaTest {
+
+    @TempDir
+    Path diretorio;
+
+    /**
+     * Testa se a chave gerada é guardada e lida de novo, e se uma chave configurada tem prioridade.
+     */
+    @Test
+    void carregar_DeveReutilizarAChaveGuardada() {
+        String arquivo = diretorio.resolve("chave.key").toString();
+
+        byte[] gerada = ChaveAssinatura.carregar("", arquivo, "teste");
+
+        assertEquals(32, gerada.length);
+        assertArrayEquals(gerada, ChaveAssinatura.carregar(null, arquivo, "teste"));
+        assertArrayEquals("configurada".getBytes(StandardCharsets.UTF_8),
+                ChaveAssinatura.carregar("configurada", arquivo, "teste"));
+        assertFalse(Files.exists(diretorio.resolve("chave.key.tmp")));
+    }
+
+    /**
+     * Testa um arquivo de chave corrompido ou que não pode ser gravado.
+     * Garante que a aplicação não inicie com uma chave que seria perdida ao reiniciar.
+     */
+    @Test
+    void carregar_ArquivoInutilizavel_DeveFalhar() throws Exception {
+        Path corrompido = diretorio.resolve("corrompida.key");
+        Files.writeString(corrompido, "não é base64");
+        Path curto = diretorio.resolve("curta.key");
+        Files.writeString(curto, "AAAA");
+
+        assertThrows(IllegalStateException.class, () -> ChaveAssinatura.carregar("", corrompido.toString(), "teste"));
+        assertThrows(IllegalStateException.class, () -> ChaveAssinatura.carregar("", curto.toString(), "teste"));
+        assertThrows(IllegalStateException.class, () -> ChaveAssinatura.carregar("",
+                diretorio.resolve("inexistente").resolve("chave.key").toString(), "teste"));
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.service.IndiceIngressosService.RegistroIngresso;
+import io.github.site_de_eventos.sitedeeventos.service.checkin.ResultadoCheckin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Classe de teste para a {@link CheckinService}.
+ * <p>
+ * Verifica a admissão única de cada ingresso, a recusa de ingressos cancelados e a gravação
+ * das entradas em um arquivo de registro temporário.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class CheckinServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    private IndiceIngressosService indiceIngressosService;
+    private EventoRepository eventoRepository;
+    private CheckinService checkinService;
+    private Pedido pedido;
+    private Ingresso ingresso;
+
+    /**
+     * Cria um ingresso válido de número 70 para um evento de 64 lugares,
+     * para exercitar também os números acima da capacidade.
+     */
+    @BeforeEach
+    void setUp() {
+        indiceIngressosService = mock(IndiceIngressosService.class);
+        eventoRepository = mock(EventoRepository.class);
+        checkinService = novoServico();
+
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setCapacidade(64);
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+
+        pedido = new Pedido();
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        ingresso = new Ingresso("1-70", 1, "Participante", "p@email.com", LocalDateTime.now(), 50.0);
+        when(indiceIngressosService.buscar("1-70")).thenReturn(Optional.of(new RegistroIngresso(2, pedido, ingresso)));
+    }
+
+    @AfterEach
+    void fechar() {
+        checkinService.encerrar();
+    }
+
+    private CheckinService novoServico() {
+        CheckinService novo = new CheckinService(indiceIngressosService, eventoRepository, diretorio.resolve("checkins.log"));
+        novo.init();
+        return novo;
+    }
+
+    /**
+     * Testa se o mesmo ingresso é admitido apenas na primeira leitura.
+     */
+    @Test
+    void realizarCheckin_DeveAdmitirApenasUmaVez() {
+        assertEquals(ResultadoCheckin.ADMITIDO, checkinService.realizarCheckin("1-70"));
+        assertEquals(ResultadoCheckin.JA_UTILIZADO, checkinService.realizarCheckin("1-70"));
+        assertTrue(checkinService.foiUtilizado(ingresso));
+        assertEquals(1, checkinService.contarEntradas(1));
+    }
+
+    /**
+     * Testa se um ingresso de pedido cancelado é recusado sem registrar entrada.
+     */
+    @Test
+    void realizarCheckin_DeveRecusarPedidoCancelado() {
+        pedido.setStatus("CANCELADO_PELO_USUARIO");
+
+        assertEquals(ResultadoCheckin.INVALIDO, checkinService.realizarCheckin("1-70"));
+        assertEquals(ResultadoCheckin.NAO_ENCONTRADO, checkinService.realizarCheckin("9-9"));
+        assertEquals(0, checkinService.contarEntradas(1));
+    }
+
+    /**
+     * Testa a reinicialização sobre o mesmo arquivo.
+     * Garante que as entradas gravadas sejam restauradas e que linhas incompletas sejam ignoradas.
+     */
+    @Test
+    void init_DeveRestaurarAsEntradasGravadas() throws IOException {
+        checkinService.realizarCheckin("1-70");
+        checkinService.encerrar();
+        Files.write(diretorio.resolve("checkins.log"), List.of("1;5;2030-01-1"), StandardOpenOption.APPEND);
+
+        checkinService = novoServico();
+
+        assertTrue(checkinService.foiUtilizado(ingresso));
+        assertEquals(1, checkinService.contarEntradas(1));
+        assertEquals(ResultadoCheckin.JA_UTILIZADO, checkinService.realizarCheckin("1-70"));
+    }
+
+    /**
+     * Testa a inicialização com um arquivo de registro que não pode ser aberto.
+     * Garante que a aplicação não inicie sem registrar as entradas.
+     */
+    @Test
+    void init_ArquivoInacessivel_DeveFalhar() {
+        CheckinService semArquivo = new CheckinService(indiceIngressosService, eventoRepository,
+                diretorio.resolve("inexistente").resolve("checkins.log"));
+
+        assertThrows(IllegalStateException.class, semArquivo::init);
+    }
+
+    /**
+     * Testa uma leitura cuja entrada não pode ser gravada.
+     * Garante que ela seja recusada sem admitir o ingresso, para que a portaria possa repeti-la.
+     */
+    @Test
+    void realizarCheckin_FalhaAoGravar_DeveDesfazerAEntrada() {
+        checkinService.encerrar();
+
+        assertEquals(ResultadoCheckin.FALHA_REGISTRO, checkinService.realizarCheckin("1-70"));
+        assertFalse(checkinService.foiUtilizado(ingresso));
+        assertEquals(0, checkinService.contarEntradas(1));
+    }
+}
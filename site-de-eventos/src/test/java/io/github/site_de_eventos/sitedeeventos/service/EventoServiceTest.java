@@ -1,24 +1,37 @@
 package io.github.site_de_eventos.sitedeeventos.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
 
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
 import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
 
 /**
  * Classe de teste para a {@link EventoService}.
@@ -36,6 +49,28 @@ class EventoServiceTest {
     @Mock
     private EventoRepository eventoRepository;
 
+    /**
+     * Mocks das demais dependências, usados no cancelamento de eventos.
+     */
+    @Mock
+    private UsuarioRepository usuarioRepository;
+    @Mock
+    private DisponibilidadeService disponibilidadeService;
+    @Mock
+    private PainelVendasService painelVendasService;
+
+    /**
+     * Unidade de trabalho real: com os repositórios mockados, ela apenas executa as operações.
+     */
+    @Spy
+    private UnidadeDeTrabalho unidadeDeTrabalho = new UnidadeDeTrabalho();
+
+    /**
+     * Mock do serviço que registra os fatos no log de eventos de domínio.
+     */
+    @Mock
+    private EventosDominioService eventosDominioService;
+
     /**
      * Instância da classe de serviço a ser testada, com as dependências mockadas
      * injetadas automaticamente.
@@ -128,4 +163,101 @@ class EventoServiceTest {
         assertEquals(1, result.size());
         verify(eventoRepository).findByNomeContaining("rock");
     }
+
+    /**
+     * Testa se o método {@code buscarPorArea} rejeita uma área com latitude fora dos limites
+     * sem consultar o repositório.
+     */
+    @Test
+    void buscarPorArea_coordenadasInvalidas_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> eventoService.buscarPorArea(-95.0, -37.2, -10.8, -37.0));
+        verify(eventoRepository, times(0)).findByArea(-95.0, -37.2, -10.8, -37.0);
+    }
+
+    /**
+     * Testa a criação de um evento com tipos de ingresso.
+     * Verifica se a capacidade passa a ser a soma dos tipos e o preço, o menor deles.
+     */
+    @Test
+    void criarNovoEvento_comTiposIngresso_shouldSomarCapacidades() {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(7);
+        when(eventoRepository.save(any(Evento.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Evento evento = eventoService.criarNovoEvento("Show", LocalDateTime.now().plusDays(10), "Arena", "Descrição",
+                "Show", 0.0, 1, null, null, 0.0, null, null, null,
+                "Inteira|100|300; Meia-entrada|50|100; Lote 1|80|200||2099-01-01T00:00", organizador);
+
+        assertEquals(600, evento.getCapacidade());
+        assertEquals(600, evento.getIngressosDisponiveis());
+        assertEquals(50.0, evento.getPreco());
+        assertEquals(100, evento.buscarTipoIngresso("meia-entrada").getDisponiveis());
+        assertNotNull(evento.buscarTipoIngresso("Lote 1").getFimVendas());
+    }
+
+    /**
+     * Testa se um tipo de ingresso fora do formato é rejeitado.
+     */
+    @Test
+    void criarNovoEvento_tipoIngressoInvalido_shouldThrowIllegalArgumentException() {
+        Organizador organizador = new Organizador();
+        assertThrows(IllegalArgumentException.class, () -> eventoService.criarNovoEvento("Show",
+                LocalDateTime.now().plusDays(10), "Arena", "Descrição", "Show", 0.0, 1, null, null, 0.0,
+                null, null, null, "Inteira|cem|300", organizador));
+    }
+
+    /**
+     * Testa o cancelamento de um evento publicado.
+     * Garante que a versão lida antes do cancelamento continue intacta, inclusive o estoque,
+     * e que a nova versão, já congelada e sem ingressos disponíveis, seja a notificada.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void cancelarEvento_devePublicarNovaVersaoSemAlterarAAnterior() {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(7);
+        Evento publicado = new Evento();
+        publicado.setIdEvento(1);
+        publicado.setOrganizadorId(7);
+        publicado.setStatus("ATIVO");
+        publicado.setIngressosDisponiveis(10);
+        publicado.congelar();
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(publicado));
+        when(eventoRepository.atualizar(eq(1), any())).thenAnswer(invocacao -> {
+            Evento copia = publicado.copiar();
+            ((Consumer<Evento>) invocacao.getArgument(1)).accept(copia);
+            copia.congelar();
+            return Optional.of(copia);
+        });
+
+        eventoService.cancelarEvento(1, organizador);
+
+        assertEquals("ATIVO", publicado.getStatus());
+        assertThrows(IllegalStateException.class, () -> publicado.setStatus("CANCELADO"));
+        verify(disponibilidadeService).notificar(argThat(evento -> "CANCELADO".equals(evento.getStatus())
+                && evento.isCongelado() && evento != publicado && evento.getIngressosDisponiveis() == 0));
+        assertEquals(10, publicado.getIngressosDisponiveis());
+        assertThrows(IllegalStateException.class, () -> publicado.setIngressosDisponiveis(0));
+        assertFalse(publicado.copiar().isCongelado());
+    }
+
+    /**
+     * Testa se a cópia de um evento compartilha os estoques, mas não as listas, com a versão original.
+     */
+    @Test
+    void copiar_deveCompartilharEstoquesSemCompartilharListas() {
+        Evento publicado = new Evento();
+        publicado.setIngressosDisponiveis(10);
+        TipoIngresso inteira = new TipoIngresso("Inteira", 100.0, 10, null, null);
+        publicado.setTiposIngresso(new ArrayList<>(List.of(inteira)));
+        publicado.congelar();
+
+        Evento copia = publicado.copiar();
+        copia.getTiposIngresso().add(new TipoIngresso("Meia", 50.0, 5, null, null));
+        assertTrue(copia.reservarIngressos(3));
+
+        assertEquals(1, publicado.getTiposIngresso().size());
+        assertSame(inteira, copia.getTiposIngresso().get(0));
+        assertEquals(7, publicado.getIngressosDisponiveis());
+    }
 }
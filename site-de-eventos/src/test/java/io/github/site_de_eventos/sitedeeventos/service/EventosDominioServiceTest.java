@@ -0,0 +1,129 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Organizador;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.EventoDominio;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.UsuarioCadastrado;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.LogEventosDominio;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+
+/**
+ * Classe de teste para a {@link EventosDominioService}.
+ * <p>
+ * Verifica a geração do histórico inicial a partir dos dados já salvos e o registro dos cadastros.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class EventosDominioServiceTest {
+
+    private LogEventosDominio logEventosDominio;
+    private EventoRepository eventoRepository;
+    private UsuarioRepository usuarioRepository;
+    private EventosDominioService eventosDominioService;
+
+    @BeforeEach
+    void setUp() {
+        logEventosDominio = mock(LogEventosDominio.class);
+        eventoRepository = mock(EventoRepository.class);
+        usuarioRepository = mock(UsuarioRepository.class);
+        eventosDominioService = new EventosDominioService(logEventosDominio, eventoRepository, usuarioRepository);
+    }
+
+    /**
+     * Testa a primeira inicialização, com o log vazio.
+     * Garante que os usuários entrem primeiro e que eventos e pedidos cancelados entrem como
+     * criação seguida de cancelamento.
+     */
+    @Test
+    void init_LogVazio_DeveGerarHistoricoAPartirDosDadosSalvos() {
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setOrganizadorId(9);
+        evento.setStatus("CANCELADO");
+        Pedido pedido = new Pedido();
+        pedido.setIdPedido(5);
+        pedido.setEvento(evento);
+        pedido.setQuantidadeIngressos(2);
+        pedido.setValorBase(100.0);
+        pedido.setValorTotal(105.0);
+        pedido.setStatus("CANCELADO_PELO_ORGANIZADOR");
+        pedido.setDataPedido(LocalDateTime.now());
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(7);
+        usuario.setPedidos(new ArrayList<>(List.of(pedido)));
+        when(logEventosDominio.isVazio()).thenReturn(true);
+        when(eventoRepository.findAll()).thenReturn(List.of(evento));
+        when(usuarioRepository.findAll()).thenReturn(List.of(usuario));
+
+        eventosDominioService.init();
+
+        ArgumentCaptor<EventoDominio> captor = ArgumentCaptor.forClass(EventoDominio.class);
+        verify(logEventosDominio, times(5)).registrar(captor.capture());
+        List<EventoDominio> registrados = captor.getAllValues();
+        assertEquals(7, assertInstanceOf(UsuarioCadastrado.class, registrados.get(0)).getIdUsuario());
+        assertInstanceOf(EventoCriado.class, registrados.get(1));
+        assertInstanceOf(EventoCancelado.class, registrados.get(2));
+        PedidoCriado criado = assertInstanceOf(PedidoCriado.class, registrados.get(3));
+        assertEquals(7, criado.getUsuarioId());
+        assertEquals(5.0, criado.getTaxa(), 0.001);
+        PedidoCancelado cancelado = assertInstanceOf(PedidoCancelado.class, registrados.get(4));
+        assertTrue(cancelado.isPeloOrganizador());
+    }
+
+    /**
+     * Testa o registro do cadastro de um organizador.
+     * Verifica se o fato guarda os dados do usuário e indica que ele é organizador.
+     */
+    @Test
+    void usuarioCadastrado_DeveRegistrarOsDadosDoUsuario() {
+        Organizador organizador = new Organizador();
+        organizador.setIdUsuario(3);
+        organizador.setNome("Org");
+        organizador.setEmail("org@email.com");
+
+        eventosDominioService.usuarioCadastrado(organizador);
+
+        ArgumentCaptor<EventoDominio> captor = ArgumentCaptor.forClass(EventoDominio.class);
+        verify(logEventosDominio).registrar(captor.capture());
+        UsuarioCadastrado cadastro = assertInstanceOf(UsuarioCadastrado.class, captor.getValue());
+        assertEquals(3, cadastro.getIdUsuario());
+        assertEquals("Org", cadastro.getNome());
+        assertEquals("org@email.com", cadastro.getEmail());
+        assertTrue(cadastro.isOrganizador());
+        assertTrue(cadastro.getInstante() > 0);
+    }
+
+    /**
+     * Testa uma inicialização com o log já preenchido.
+     * Garante que os dados salvos não sejam lidos nem registrados de novo.
+     */
+    @Test
+    void init_LogPreenchido_NaoDeveRegistrarNada() {
+        when(logEventosDominio.isVazio()).thenReturn(false);
+
+        eventosDominioService.init();
+
+        verify(logEventosDominio, never()).registrar(any());
+        verifyNoInteractions(eventoRepository, usuarioRepository);
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Classe de teste para a {@link IndiceIngressosService}.
+ * <p>
+ * Verifica a busca de ingressos por código de inscrição, a checagem de dono
+ * e a numeração dos próximos ingressos de um evento. O repositório mockado
+ * devolve o usuário de teste pelo ID, como o índice faz a cada busca.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class IndiceIngressosServiceTest {
+
+    private UsuarioRepository usuarioRepository;
+    private IndiceIngressosService indiceIngressosService;
+    private Usuario usuario;
+    private Pedido pedido;
+
+    /**
+     * Cria um usuário com um pedido de dois ingressos para o evento 1.
+     */
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        indiceIngressosService = new IndiceIngressosService(usuarioRepository);
+
+        usuario = new Usuario();
+        usuario.setIdUsuario(1);
+
+        Evento evento = new Evento();
+        evento.setIdEvento(1);
+
+        pedido = new Pedido();
+        pedido.setIdPedido(10);
+        pedido.setEvento(evento);
+        pedido.setStatus("CONCLUIDO");
+        pedido.setIngressos(List.of(
+                new Ingresso("1-1", 1, "Participante 1", "p1@email.com", LocalDateTime.now(), 50.0),
+                new Ingresso("1-2", 1, "Participante 2", "p2@email.com", LocalDateTime.now(), 50.0)));
+        usuario.setPedidos(new ArrayList<>(List.of(pedido)));
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+    }
+
+    /**
+     * Testa se o índice é reconstruído na inicialização e se a busca respeita o dono do ingresso.
+     */
+    @Test
+    void init_DeveIndexarIngressosExistentes() {
+        doAnswer(invocacao -> {
+            Consumer<Usuario> acao = invocacao.getArgument(0);
+            acao.accept(usuario);
+            return null;
+        }).when(usuarioRepository).paraCada(any());
+
+        indiceIngressosService.init();
+
+        assertTrue(indiceIngressosService.buscarDoUsuario("1-2", 1).isPresent());
+        assertTrue(indiceIngressosService.buscarDoUsuario("1-2", 2).isEmpty());
+        assertTrue(indiceIngressosService.buscar("1-3").isEmpty());
+        verify(usuarioRepository, never()).findAll();
+        verify(usuarioRepository, never()).findById(2);
+    }
+
+    /**
+     * Testa se o próximo número de ingresso segue o maior já emitido no evento.
+     */
+    @Test
+    void proximoNumeroIngresso_DeveSeguirMaiorNumeroEmitido() {
+        assertEquals(1, indiceIngressosService.proximoNumeroIngresso(1));
+
+        indiceIngressosService.indexar(usuario, pedido);
+
+        assertEquals(3, indiceIngressosService.proximoNumeroIngresso(1));
+    }
+
+    /**
+     * Testa se as faixas reservadas começam depois do maior número indexado e não se sobrepõem.
+     */
+    @Test
+    void reservarNumeros_DeveAvancarAPartirDoMaiorNumeroIndexado() {
+        indiceIngressosService.indexar(usuario, pedido);
+
+        assertEquals(3, indiceIngressosService.reservarNumeros(1, 2));
+        assertEquals(5, indiceIngressosService.reservarNumeros(1, 1));
+        assertEquals(6, indiceIngressosService.proximoNumeroIngresso(1));
+        assertEquals(1, indiceIngressosService.reservarNumeros(2, 1));
+    }
+
+    /**
+     * Testa se o cancelamento do pedido torna o ingresso inválido sem reindexação.
+     */
+    @Test
+    void registro_DeveRefletirCancelamentoDoPedido() {
+        indiceIngressosService.indexar(usuario, pedido);
+        pedido.setStatus("CANCELADO_PELO_USUARIO");
+
+        assertFalse(indiceIngressosService.buscar("1-1").get().isValido());
+    }
+
+    /**
+     * Testa se o registro devolve o ingresso guardado no pedido, com as alterações feitas depois da indexação.
+     */
+    @Test
+    void registro_DeveLerOIngressoDoPedido() {
+        indiceIngressosService.indexar(usuario, pedido);
+        pedido.getIngressos().get(1).setCodigoVerificacao("assinado");
+
+        Ingresso ingresso = indiceIngressosService.buscar("1-2").get().getIngresso();
+
+        assertEquals("assinado", ingresso.getCodigoVerificacao());
+        assertEquals("Participante 2", ingresso.getNomeParticipante());
+        assertSame(pedido, ingresso.getPedido());
+    }
+
+    /**
+     * Testa se a busca usa a instância do usuário devolvida pelo repositório no momento da consulta,
+     * como acontece quando ele é descartado da memória e lido de novo, e se ingressos de um
+     * usuário excluído deixam de ser encontrados.
+     */
+    @Test
+    void registro_DeveUsarAVersaoAtualDoUsuario() {
+        indiceIngressosService.indexar(usuario, pedido);
+        Usuario relido = usuario.copiar();
+        Pedido pedidoRelido = new Pedido();
+        pedidoRelido.setIdPedido(10);
+        pedidoRelido.setEvento(pedido.getEvento());
+        pedidoRelido.setStatus("CANCELADO_PELO_ORGANIZADOR");
+        pedidoRelido.setIngressos(List.of(
+                new Ingresso("1-1", 1, "Participante 1", "p1@email.com", LocalDateTime.now(), 50.0),
+                new Ingresso("1-2", 1, "Participante 2", "p2@email.com", LocalDateTime.now(), 50.0)));
+        relido.setPedidos(new ArrayList<>(List.of(pedidoRelido)));
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(relido));
+
+        IndiceIngressosService.RegistroIngresso registro = indiceIngressosService.buscar("1-2").get();
+
+        assertSame(pedidoRelido, registro.getPedido());
+        assertFalse(registro.isValido());
+
+        when(usuarioRepository.findById(1)).thenReturn(Optional.empty());
+        assertTrue(indiceIngressosService.buscar("1-2").isEmpty());
+    }
+}
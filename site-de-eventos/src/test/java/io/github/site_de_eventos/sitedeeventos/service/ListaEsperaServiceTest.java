@@ -0,0 +1,193 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.service.ListaEsperaService.ReservaListaEspera;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Classe de teste para a {@link ListaEsperaService}.
+ * <p>
+ * Verifica a ordem de atendimento da fila, o repasse das sobras, o vencimento das reservas e
+ * a gravação das operações em um arquivo de registro temporário.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class ListaEsperaServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    private EventoRepository eventoRepository;
+    private DisponibilidadeService disponibilidadeService;
+    private ListaEsperaService listaEsperaService;
+    private Evento evento;
+
+    /**
+     * Cria um evento esgotado de 10 lugares.
+     */
+    @BeforeEach
+    void setUp() {
+        eventoRepository = mock(EventoRepository.class);
+        disponibilidadeService = mock(DisponibilidadeService.class);
+        listaEsperaService = novoServico();
+
+        evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setCapacidade(10);
+        evento.setIngressosDisponiveis(0);
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listaEsperaService.encerrar();
+    }
+
+    private ListaEsperaService novoServico() {
+        ListaEsperaService novo = new ListaEsperaService(eventoRepository, disponibilidadeService,
+                Duration.ofMinutes(ListaEsperaService.MINUTOS_RESERVA), diretorio.resolve("lista-espera.log"));
+        novo.init();
+        return novo;
+    }
+
+    /**
+     * Testa se os ingressos devolvidos são reservados aos primeiros da fila, na ordem de chegada,
+     * e se apenas a sobra volta ao estoque.
+     */
+    @Test
+    void devolver_DeveReservarParaOsPrimeirosDaFila() {
+        assertEquals(1, listaEsperaService.entrar(1, 10, 2));
+        assertEquals(2, listaEsperaService.entrar(1, 20, 1));
+
+        assertEquals(0, listaEsperaService.devolver(evento, 2));
+        assertEquals(2, listaEsperaService.buscarReserva(1, 10).map(ReservaListaEspera::getQuantidade).orElse(0));
+        assertTrue(listaEsperaService.buscarReserva(1, 20).isEmpty());
+        assertEquals(1, listaEsperaService.posicao(1, 20));
+        assertEquals(0, evento.getIngressosDisponiveis());
+
+        assertEquals(2, listaEsperaService.devolver(evento, 3));
+        assertEquals(1, listaEsperaService.buscarReserva(1, 20).map(ReservaListaEspera::getQuantidade).orElse(0));
+        assertEquals(0, listaEsperaService.tamanho(1));
+        assertEquals(2, evento.getIngressosDisponiveis());
+    }
+
+    /**
+     * Testa se a fila só aceita entradas quando o evento não tem ingressos suficientes,
+     * e uma única entrada por usuário.
+     */
+    @Test
+    void entrar_DeveRecusarEventoComIngressosOuEntradaDuplicada() {
+        listaEsperaService.entrar(1, 10, 1);
+        assertThrows(IllegalStateException.class, () -> listaEsperaService.entrar(1, 10, 1));
+
+        evento.setIngressosDisponiveis(3);
+        assertThrows(IllegalStateException.class, () -> listaEsperaService.entrar(1, 20, 2));
+
+        assertTrue(listaEsperaService.sair(1, 10));
+        assertEquals(0, listaEsperaService.posicao(1, 10));
+    }
+
+    /**
+     * Testa se um pedido menor que a reserva repassa a sobra ao próximo da fila,
+     * e se a reserva pode ser restaurada quando o pedido falha.
+     */
+    @Test
+    void usarReserva_DeveRepassarSobraAoProximo() {
+        listaEsperaService.entrar(1, 10, 3);
+        listaEsperaService.entrar(1, 20, 1);
+        listaEsperaService.devolver(evento, 3);
+
+        ReservaListaEspera usada = listaEsperaService.usarReserva(evento, 10, 2).orElseThrow();
+
+        assertEquals(2, usada.getQuantidade());
+        assertTrue(listaEsperaService.buscarReserva(1, 10).isEmpty());
+        assertEquals(1, listaEsperaService.buscarReserva(1, 20).map(ReservaListaEspera::getQuantidade).orElse(0));
+
+        listaEsperaService.restaurarReserva(usada);
+        assertEquals(2, listaEsperaService.buscarReserva(1, 10).map(ReservaListaEspera::getQuantidade).orElse(0));
+    }
+
+    /**
+     * Testa se uma reserva vencida passa ao próximo da fila e, sem fila, volta ao estoque.
+     */
+    @Test
+    void vencer_DeveRepassarReservaAoProximoEDepoisAoEstoque() {
+        listaEsperaService.entrar(1, 10, 2);
+        listaEsperaService.entrar(1, 20, 2);
+        listaEsperaService.devolver(evento, 2);
+        ReservaListaEspera primeira = listaEsperaService.buscarReserva(1, 10).orElseThrow();
+
+        listaEsperaService.vencer(primeira);
+
+        ReservaListaEspera segunda = listaEsperaService.buscarReserva(1, 20).orElseThrow();
+        assertEquals(2, segunda.getQuantidade());
+        verify(eventoRepository, never()).save(evento);
+
+        listaEsperaService.vencer(segunda);
+
+        assertEquals(2, evento.getIngressosDisponiveis());
+        verify(eventoRepository).save(evento);
+        verify(disponibilidadeService).notificar(evento);
+    }
+
+    /**
+     * Testa a reinicialização sobre o mesmo arquivo: a fila e as reservas são restauradas.
+     */
+    @Test
+    void init_DeveRestaurarFilaEReservas() {
+        listaEsperaService.entrar(1, 10, 2);
+        listaEsperaService.entrar(1, 20, 1);
+        listaEsperaService.devolver(evento, 2);
+        listaEsperaService.encerrar();
+
+        listaEsperaService = novoServico();
+
+        assertEquals(2, listaEsperaService.buscarReserva(1, 10).map(ReservaListaEspera::getQuantidade).orElse(0));
+        assertEquals(1, listaEsperaService.posicao(1, 20));
+    }
+
+    /**
+     * Testa a inicialização com um arquivo de registro que não pode ser aberto.
+     * Garante que a aplicação não inicie sem registrar as reservas.
+     */
+    @Test
+    void init_ArquivoInacessivel_DeveFalhar() {
+        ListaEsperaService semArquivo = new ListaEsperaService(eventoRepository, disponibilidadeService,
+                Duration.ofMinutes(1), diretorio.resolve("inexistente").resolve("lista-espera.log"));
+
+        assertThrows(IllegalStateException.class, semArquivo::init);
+        semArquivo.encerrar();
+    }
+
+    /**
+     * Testa operações que não podem ser gravadas: entrar é recusado sem alterar a fila, e os
+     * ingressos devolvidos vão para o estoque em vez de virarem uma reserva não gravada.
+     */
+    @Test
+    void falhaAoGravar_DeveRecusarAOperacaoSemPerderIngressos() {
+        listaEsperaService.entrar(1, 10, 2);
+        listaEsperaService.encerrar();
+
+        assertThrows(IllegalStateException.class, () -> listaEsperaService.entrar(1, 20, 1));
+        assertThrows(IllegalStateException.class, () -> listaEsperaService.sair(1, 10));
+        assertEquals(2, listaEsperaService.devolver(evento, 2));
+
+        assertEquals(2, evento.getIngressosDisponiveis());
+        assertTrue(listaEsperaService.buscarReserva(1, 10).isEmpty());
+        assertEquals(1, listaEsperaService.posicao(1, 10));
+        assertEquals(0, listaEsperaService.posicao(1, 20));
+    }
+}
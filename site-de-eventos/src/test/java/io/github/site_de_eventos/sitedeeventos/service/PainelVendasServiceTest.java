@@ -0,0 +1,107 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCancelado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.PedidoCriado;
+import io.github.site_de_eventos.sitedeeventos.model.dominio.ProjecaoDominio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Classe de teste para a {@link PainelVendasService}.
+ * <p>
+ * Verifica se os agregados de vendas são reconstruídos a partir do log de eventos de domínio e
+ * atualizados de forma incremental a cada venda e cancelamento.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PainelVendasServiceTest {
+
+    private EventosDominioService eventosDominioService;
+    private PainelVendasService painelVendasService;
+    private Evento evento;
+
+    /**
+     * Cria o serviço com o serviço de eventos de domínio mockado e um evento de exemplo.
+     */
+    @BeforeEach
+    void setUp() {
+        eventosDominioService = mock(EventosDominioService.class);
+        painelVendasService = new PainelVendasService(eventosDominioService, new ObjectMapper());
+
+        evento = new Evento();
+        evento.setIdEvento(1);
+        evento.setPreco(50.0);
+    }
+
+    /**
+     * Libera a thread de despacho SSE criada pelo serviço.
+     */
+    @AfterEach
+    void tearDown() {
+        painelVendasService.encerrar();
+    }
+
+    /**
+     * Testa se os pedidos do log são somados na inicialização,
+     * com os cancelamentos descontados das vendas.
+     */
+    @Test
+    void init_DeveReconstruirAgregados_ReproduzindoOLog() {
+        long agora = System.currentTimeMillis();
+        doAnswer(invocacao -> {
+            ProjecaoDominio projecao = invocacao.getArgument(0);
+            projecao.aplicar(new PedidoCriado(agora, 1, 7, 1, 2, 105.0, 5.0, 0.0));
+            projecao.aplicar(new PedidoCriado(agora, 2, 7, 1, 1, 52.5, 2.5, 0.0));
+            projecao.aplicar(new PedidoCancelado(agora, 2, 7, 1, 1, 52.5, 2.5, 0.0, false));
+            return null;
+        }).when(eventosDominioService).reproduzir(any());
+
+        painelVendasService.init();
+
+        Map<String, Object> resumo = painelVendasService.resumo(1);
+        assertEquals(2L, resumo.get("ingressosVendidos"));
+        assertEquals(1L, resumo.get("pedidosCancelados"));
+        assertEquals(105.0, (double) resumo.get("receitaBruta"), 0.001);
+    }
+
+    /**
+     * Testa se uma venda e um cancelamento alteram os totais do evento.
+     */
+    @Test
+    void registrarVendaECancelamento_DevemAtualizarResumo() {
+        Pedido pedido = criarPedido(3, "CONCLUIDO");
+
+        painelVendasService.registrarVenda(pedido, 7.5, 0.0);
+        assertEquals(3L, painelVendasService.resumo(1).get("ingressosVendidos"));
+        assertEquals(7.5, (double) painelVendasService.resumo(1).get("taxas"), 0.001);
+
+        painelVendasService.registrarCancelamento(pedido);
+        Map<String, Object> resumo = painelVendasService.resumo(1);
+        assertEquals(0L, resumo.get("ingressosVendidos"));
+        assertEquals(0.0, (double) resumo.get("receitaBruta"), 0.001);
+        assertEquals(1L, resumo.get("pedidosCancelados"));
+    }
+
+    private Pedido criarPedido(int quantidade, String status) {
+        Pedido pedido = new Pedido();
+        pedido.setEvento(evento);
+        pedido.setQuantidadeIngressos(quantidade);
+        pedido.setValorBase(quantidade * 50.0);
+        pedido.setValorTotal(quantidade * 52.5);
+        pedido.setStatus(status);
+        pedido.setDataPedido(LocalDateTime.now());
+        return pedido;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.EtapaPedidoGrupo;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.PedidoEmGrupo;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.ProgressoPedidoGrupo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Classe de teste para a {@link PedidoGrupoService}.
+ * <p>
+ * O processamento é chamado diretamente, sem a thread de segundo plano, sobre um
+ * arquivo temporário. O {@link PedidoService} é substituído por um mock.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PedidoGrupoServiceTest {
+
+    private PedidoService pedidoService;
+    private PedidoGrupoService pedidoGrupoService;
+    private Path arquivo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pedidoService = mock(PedidoService.class);
+        pedidoGrupoService = new PedidoGrupoService(pedidoService);
+        arquivo = Files.createTempFile("pedido-grupo-teste-", ".csv");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        pedidoGrupoService.encerrar();
+        Files.deleteIfExists(arquivo);
+    }
+
+    /**
+     * Testa um arquivo de 1.200 participantes.
+     * Verifica a contagem por tipo, a emissão em lotes de {@value PedidoGrupoService#TAMANHO_LOTE}
+     * e a conclusão do pedido.
+     */
+    @Test
+    void processar_DeveEmitirEmLotesEConcluir() throws Exception {
+        StringBuilder csv = new StringBuilder("nome;email;tipo\n");
+        for (int i = 0; i < 1200; i++) {
+            csv.append("Participante ").append(i).append(";p").append(i).append("@email.com;")
+                    .append(i % 3 == 0 ? "Meia" : "").append('\n');
+        }
+        Files.writeString(arquivo, csv, StandardCharsets.UTF_8);
+
+        Pedido pedido = new Pedido(new Usuario(), new Evento(), 1200);
+        pedido.setIdPedido(42);
+        pedido.setIngressos(new ArrayList<>());
+        PedidoEmGrupo grupo = new PedidoEmGrupo(pedido.getUsuario(), pedido, null, null, 1, 0, 0);
+        when(pedidoService.iniciarPedidoEmGrupo(1, 1, Map.of("", 800, "meia", 400), null)).thenReturn(grupo);
+        when(pedidoService.concluirPedidoEmGrupo(grupo)).thenReturn(pedido);
+
+        ProgressoPedidoGrupo progresso = new ProgressoPedidoGrupo("p1", 1, 1);
+        pedidoGrupoService.processar(progresso, arquivo, null);
+
+        assertEquals(EtapaPedidoGrupo.CONCLUIDO, progresso.getEtapa());
+        assertEquals(1200, progresso.getLinhasLidas());
+        assertEquals(1200, progresso.getIngressosEmitidos());
+        assertEquals(42, progresso.getIdPedido());
+        verify(pedidoService, times(3)).emitirLote(eq(grupo), anyList());
+        verify(pedidoService, never()).desfazerPedidoEmGrupo(any());
+        assertFalse(Files.exists(arquivo));
+    }
+
+    /**
+     * Testa um arquivo com linhas inválidas.
+     * Garante que os erros tragam o número da linha e que o estoque não seja reservado.
+     */
+    @Test
+    void processar_DeveRecusarArquivoComLinhasInvalidas() throws Exception {
+        Files.writeString(arquivo, "Ana,ana@email.com\n,sem-nome@email.com\n\"Silva, Bia\",email-invalido\n",
+                StandardCharsets.UTF_8);
+
+        ProgressoPedidoGrupo progresso = new ProgressoPedidoGrupo("p2", 1, 1);
+        pedidoGrupoService.processar(progresso, arquivo, null);
+
+        assertEquals(EtapaPedidoGrupo.FALHOU, progresso.getEtapa());
+        assertEquals(2, progresso.getErros().size());
+        assertTrue(progresso.getErros().get(0).startsWith("Linha 2:"));
+        assertTrue(progresso.getErros().get(1).startsWith("Linha 3:"));
+        verifyNoInteractions(pedidoService);
+    }
+
+    /**
+     * Testa uma falha durante a emissão.
+     * Garante que o estoque reservado seja devolvido.
+     */
+    @Test
+    void processar_DeveDesfazerPedido_QuandoEmissaoFalha() throws Exception {
+        Files.writeString(arquivo, "Ana,ana@email.com\n", StandardCharsets.UTF_8);
+        Pedido pedido = new Pedido(new Usuario(), new Evento(), 1);
+        pedido.setIngressos(new ArrayList<>());
+        PedidoEmGrupo grupo = new PedidoEmGrupo(pedido.getUsuario(), pedido, null, null, 1, 0, 0);
+        when(pedidoService.iniciarPedidoEmGrupo(1, 1, Map.of("", 1), null)).thenReturn(grupo);
+        doThrow(new IllegalStateException("falha")).when(pedidoService).emitirLote(eq(grupo), anyList());
+
+        ProgressoPedidoGrupo progresso = new ProgressoPedidoGrupo("p3", 1, 1);
+        pedidoGrupoService.processar(progresso, arquivo, null);
+
+        assertEquals(EtapaPedidoGrupo.FALHOU, progresso.getEtapa());
+        verify(pedidoService).desfazerPedidoEmGrupo(grupo);
+        verify(pedidoService, never()).concluirPedidoEmGrupo(any());
+    }
+}
@@ -5,19 +5,38 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import io.github.site_de_eventos.sitedeeventos.model.Evento;
+import io.github.site_de_eventos.sitedeeventos.model.Ingresso;
 import io.github.site_de_eventos.sitedeeventos.model.Pedido;
+import io.github.site_de_eventos.sitedeeventos.model.SetorAssentos;
+import io.github.site_de_eventos.sitedeeventos.model.TipoIngresso;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
 import io.github.site_de_eventos.sitedeeventos.repository.EventoRepository;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
+import io.github.site_de_eventos.sitedeeventos.service.ListaEsperaService.ReservaListaEspera;
+import io.github.site_de_eventos.sitedeeventos.service.grupo.PedidoEmGrupo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Classe de teste para a {@link PedidoService}.
@@ -45,6 +64,54 @@ public class PedidoServiceTest {
     @Mock
     private EventoRepository eventoRepository;
 
+    /**
+     * Mock do serviço de disponibilidade, que recebe as notificações de mudança de estoque.
+     */
+    @Mock
+    private DisponibilidadeService disponibilidadeService;
+
+    /**
+     * Mock do serviço do painel de vendas, que recebe os registros de venda e cancelamento.
+     */
+    @Mock
+    private PainelVendasService painelVendasService;
+
+    /**
+     * Mock do índice de ingressos, que recebe os ingressos emitidos.
+     */
+    @Mock
+    private IndiceIngressosService indiceIngressosService;
+
+    /**
+     * Mock do serviço que assina os ingressos.
+     */
+    @Mock
+    private AssinaturaIngressoService assinaturaIngressoService;
+
+    /**
+     * Mock do serviço de assentos numerados.
+     */
+    @Mock
+    private AssentoService assentoService;
+
+    /**
+     * Mock do serviço da lista de espera.
+     */
+    @Mock
+    private ListaEsperaService listaEsperaService;
+
+    /**
+     * Unidade de trabalho real: com os repositórios mockados, ela apenas executa as operações.
+     */
+    @Spy
+    private UnidadeDeTrabalho unidadeDeTrabalho = new UnidadeDeTrabalho();
+
+    /**
+     * Mock do serviço que registra os fatos no log de eventos de domínio.
+     */
+    @Mock
+    private EventosDominioService eventosDominioService;
+
     /**
      * Instância do serviço de pedidos que será testada.
      * As dependências mockadas (repositórios) são injetadas nesta instância.
@@ -80,6 +147,12 @@ public class PedidoServiceTest {
         evento.setPreco(50.0);
         evento.setIngressosDisponiveis(10);
         evento.setCapacidade(10);
+
+        // Simula a atualização com versão do repositório, aplicando a alteração no usuário de teste.
+        lenient().when(usuarioRepository.atualizar(eq(1), any())).thenAnswer(invocacao -> {
+            invocacao.<Consumer<Usuario>>getArgument(1).accept(usuario);
+            return Optional.of(usuario);
+        });
     }
 
     /**
@@ -93,7 +166,6 @@ public class PedidoServiceTest {
         // Configuração do mock
         when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
         when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
-        when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
 
         List<String> nomes = List.of("Participante 1");
         List<String> emails = List.of("p1@email.com");
@@ -105,8 +177,117 @@ public class PedidoServiceTest {
         assertNotNull(pedido);
         assertEquals(1, pedido.getQuantidadeIngressos());
         assertEquals(9, evento.getIngressosDisponiveis());
-        verify(usuarioRepository, times(1)).save(usuario);
+        verify(usuarioRepository, times(1)).atualizar(eq(1), any());
+        verify(usuarioRepository, never()).save(any(Usuario.class));
+        verify(unidadeDeTrabalho, times(1)).executar(any(Supplier.class));
+        assertTrue(usuario.getPedidos().contains(pedido));
         verify(eventoRepository, times(1)).save(evento);
+        verify(disponibilidadeService, times(1)).notificar(evento);
+        verify(painelVendasService, times(1)).registrarVenda(eq(pedido), anyDouble(), eq(0.0));
+        verify(indiceIngressosService, times(1)).indexar(usuario, pedido);
+        verify(assinaturaIngressoService, times(1)).assinarIngressos(pedido);
+    }
+
+    /**
+     * Testa a criação de um pedido em um evento com assentos numerados.
+     * Verifica se os assentos são reservados e atribuídos aos ingressos na ordem dos participantes.
+     */
+    @Test
+    void criarPedido_DeveAtribuirAssentos_QuandoEventoTemLugaresMarcados() {
+        evento.setSetores(List.of(new SetorAssentos("Plateia", 1, 10)));
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        when(assentoService.reservar(evento, 2, null)).thenReturn(List.of("1-1-5", "1-1-6"));
+
+        Pedido pedido = pedidoService.criarPedido(1, 1, List.of("Participante 1", "Participante 2"),
+                List.of("p1@email.com", "p2@email.com"), null);
+
+        assertEquals("1-1-5", pedido.getIngressos().get(0).getAssento());
+        assertEquals("1-1-6", pedido.getIngressos().get(1).getAssento());
+    }
+
+    /**
+     * Testa a criação de um pedido com tipos de ingresso diferentes.
+     * Verifica se cada ingresso recebe o preço do seu tipo e se o estoque de cada tipo
+     * e o total do evento são decrementados.
+     */
+    @Test
+    void criarPedido_DeveUsarPrecoEEstoqueDoTipo_QuandoEventoTemTiposDeIngresso() {
+        evento.setTiposIngresso(List.of(
+                new TipoIngresso("Inteira", 100.0, 5, null, null),
+                new TipoIngresso("Meia-entrada", 50.0, 5, null, null)));
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+
+        Pedido pedido = pedidoService.criarPedido(1, 1, List.of("Participante 1", "Participante 2"),
+                List.of("p1@email.com", "p2@email.com"), null, null, List.of("Inteira", "meia-entrada"));
+
+        assertEquals(150.0, pedido.getValorBase());
+        assertEquals(50.0, pedido.getIngressos().get(1).getPrecoIngresso());
+        assertEquals("Meia-entrada", pedido.getIngressos().get(1).getTipoIngresso());
+        assertEquals(4, evento.buscarTipoIngresso("Inteira").getDisponiveis());
+        assertEquals(4, evento.buscarTipoIngresso("Meia-entrada").getDisponiveis());
+        assertEquals(8, evento.getIngressosDisponiveis());
+    }
+
+    /**
+     * Testa a compra de um tipo de ingresso fora do período de vendas.
+     * Garante que o pedido seja recusado sem alterar o estoque.
+     */
+    @Test
+    void criarPedido_DeveLancarExcecao_QuandoTipoForaDoPeriodoDeVendas() {
+        evento.setTiposIngresso(List.of(
+                new TipoIngresso("Lote 1", 80.0, 5, null, LocalDateTime.now().minusDays(1))));
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+
+        assertThrows(IllegalStateException.class, () -> pedidoService.criarPedido(1, 1, List.of("Participante 1"),
+                List.of("p1@email.com"), null, null, List.of("Lote 1")));
+        assertEquals(5, evento.buscarTipoIngresso("Lote 1").getDisponiveis());
+        assertEquals(10, evento.getIngressosDisponiveis());
+    }
+
+    /**
+     * Testa a compra de um usuário atendido pela lista de espera em um evento esgotado.
+     * Verifica se os ingressos reservados são usados sem retirar nada do estoque aberto.
+     */
+    @Test
+    void criarPedido_DeveUsarReservaDaListaDeEspera_QuandoEventoEsgotado() {
+        evento.setIngressosDisponiveis(0);
+        ReservaListaEspera reserva = new ReservaListaEspera(1, 1, 2, LocalDateTime.now().plusMinutes(10));
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        when(listaEsperaService.buscarReserva(1, 1)).thenReturn(Optional.of(reserva));
+        when(listaEsperaService.usarReserva(evento, 1, 2)).thenReturn(Optional.of(reserva));
+
+        Pedido pedido = pedidoService.criarPedido(1, 1, List.of("Participante 1", "Participante 2"),
+                List.of("p1@email.com", "p2@email.com"), null);
+
+        assertEquals(2, pedido.getIngressos().size());
+        assertEquals(0, evento.getIngressosDisponiveis());
+        verify(listaEsperaService, never()).restaurarReserva(any());
+    }
+
+    /**
+     * Testa dois cancelamentos do mesmo pedido.
+     * Garante que os ingressos sejam devolvidos uma única vez e que o segundo seja recusado.
+     */
+    @Test
+    void cancelarPedido_DeveDevolverIngressosUmaVez_QuandoCanceladoDuasVezes() {
+        Pedido pedido = new Pedido(usuario, evento, 2);
+        pedido.setIdPedido(5);
+        pedido.setStatus("CONCLUIDO");
+        usuario.adicionarPedido(pedido);
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+
+        pedidoService.cancelarPedido(1, 5);
+
+        assertThrows(IllegalStateException.class, () -> pedidoService.cancelarPedido(1, 5));
+        assertEquals("CANCELADO_PELO_USUARIO", pedido.getStatus());
+        verify(listaEsperaService, times(1)).devolver(evento, 2);
+        verify(painelVendasService, times(1)).registrarCancelamento(pedido);
+        verify(usuarioRepository, times(1)).atualizar(eq(1), any());
     }
 
     /**
@@ -132,4 +313,108 @@ public class PedidoServiceTest {
 
         assertEquals("Não há ingressos suficientes. Disponíveis: 1", exception.getMessage());
     }
+
+    /**
+     * Testa a validação dos participantes quando as listas de nomes e e-mails
+     * têm tamanhos diferentes. Garante que o pedido seja recusado antes de
+     * qualquer alteração no estoque do evento.
+     */
+    @Test
+    void criarPedido_DeveLancarExcecao_QuandoParticipanteSemEmail() {
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+
+        List<String> nomes = List.of("Participante 1", "Participante 2");
+        List<String> emails = List.of("p1@email.com");
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            pedidoService.criarPedido(1, 1, nomes, emails, null);
+        });
+
+        assertEquals("Cada participante deve ter um nome e um e-mail.", exception.getMessage());
+        assertEquals(10, evento.getIngressosDisponiveis());
+    }
+
+    /**
+     * Testa pedidos simultâneos no mesmo evento, com o índice de ingressos real.
+     * Garante que a faixa de números reservada com o estoque nunca se repete entre os pedidos.
+     */
+    @Test
+    void criarPedido_DeveEmitirCodigosDistintos_QuandoPedidosSimultaneos() throws Exception {
+        evento.setCapacidade(100);
+        evento.setIngressosDisponiveis(100);
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        // Sem acrescentar o pedido ao usuário de teste, cuja lista não é compartilhada entre threads.
+        doReturn(Optional.of(usuario)).when(usuarioRepository).atualizar(eq(1), any());
+        PedidoService servico = new PedidoService(usuarioRepository, eventoRepository, disponibilidadeService,
+                painelVendasService, new IndiceIngressosService(usuarioRepository), assinaturaIngressoService,
+                assentoService, listaEsperaService, unidadeDeTrabalho, eventosDominioService);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch largada = new CountDownLatch(1);
+        Set<String> codigos = ConcurrentHashMap.newKeySet();
+        List<Future<?>> tarefas = new ArrayList<>();
+        try {
+            for (int t = 0; t < 8; t++) {
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < 5; i++) {
+                        Pedido pedido = servico.criarPedido(1, 1, List.of("Participante 1", "Participante 2"),
+                                List.of("p1@email.com", "p2@email.com"), null);
+                        for (Ingresso ingresso : pedido.getIngressos()) {
+                            assertTrue(codigos.add(ingresso.getIdIncricao()), "Código repetido: " + ingresso.getIdIncricao());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(80, codigos.size());
+        assertEquals(20, evento.getIngressosDisponiveis());
+    }
+
+    /**
+     * Testa se o pedido em grupo usa a faixa de números reservada com o estoque.
+     */
+    @Test
+    void iniciarPedidoEmGrupo_DeveUsarAFaixaReservadaComOEstoque() {
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        when(indiceIngressosService.reservarNumeros(1, 3)).thenReturn(41);
+
+        PedidoEmGrupo grupo = pedidoService.iniciarPedidoEmGrupo(1, 1, Map.of("", 3), null);
+
+        assertEquals(41, grupo.getPrimeiroNumero());
+        assertEquals(7, evento.getIngressosDisponiveis());
+    }
+
+    /**
+     * Testa se a prévia de preços mostra o mesmo valor que é cobrado na criação do pedido,
+     * com cupom: o desconto é aplicado antes da taxa de serviço.
+     */
+    @Test
+    void calcularPrecoPreview_DeveSerIgualAoValorCobrado() {
+        when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        evento.setCupomCode("PROMO");
+        evento.setCupomDiscountValue(10.0);
+
+        Map<String, Object> resumo = pedidoService.calcularPrecoPreview(evento, 2, "promo");
+        Pedido pedido = pedidoService.criarPedido(1, 1, List.of("P1", "P2"), List.of("p1@email.com", "p2@email.com"), "PROMO");
+
+        assertEquals(94.5, (double) resumo.get("valorTotal"), 0.001);
+        assertEquals(pedido.getValorTotal(), (double) resumo.get("valorTotal"), 0.001);
+        assertEquals(10.0, (double) resumo.get("descontoAplicado"), 0.001);
+        assertEquals(4.5, (double) resumo.get("valorTaxa"), 0.001);
+        assertEquals(true, resumo.get("cupomValido"));
+        verify(painelVendasService).registrarVenda(eq(pedido), AdditionalMatchers.eq(4.5, 0.001), AdditionalMatchers.eq(10.0, 0.001));
+    }
 }
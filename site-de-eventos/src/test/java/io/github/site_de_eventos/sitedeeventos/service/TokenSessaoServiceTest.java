@@ -0,0 +1,72 @@
+package io.github.site_de_eventos.sitedeeventos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.site_de_eventos.sitedeeventos.service.TokenSessaoService.DadosSessao;
+
+/**
+ * Classe de teste para a {@link TokenSessaoService}.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class TokenSessaoServiceTest {
+
+    private static final byte[] CHAVE = "chave-de-teste".getBytes(StandardCharsets.UTF_8);
+    private static final Instant AGORA = Instant.parse("2025-08-25T12:00:00Z");
+
+    private TokenSessaoService servico(Instant instante) {
+        return new TokenSessaoService(CHAVE, Duration.ofHours(8), Clock.fixed(instante, ZoneOffset.UTC));
+    }
+
+    /**
+     * Testa a conferência de um token recém-emitido.
+     * Verifica se os dados voltam iguais e se o token é compacto.
+     */
+    @Test
+    void verificar_tokenEmitido_deveDevolverDados() {
+        TokenSessaoService servico = servico(AGORA);
+        String token = servico.emitir(7, true, 123);
+
+        DadosSessao dados = servico.verificar(token).orElseThrow();
+
+        assertEquals(46, token.length());
+        assertEquals(7, dados.getIdUsuario());
+        assertTrue(dados.isOrganizador());
+        assertEquals(123, dados.getVersaoCredenciais());
+    }
+
+    /**
+     * Testa a expiração.
+     * Garante que o token deixe de valer depois da validade, em qualquer instância com a mesma chave.
+     */
+    @Test
+    void verificar_tokenVencido_deveSerRejeitado() {
+        String token = servico(AGORA).emitir(7, false, 0);
+
+        assertTrue(servico(AGORA.plus(Duration.ofHours(7))).verificar(token).isPresent());
+        assertTrue(servico(AGORA.plus(Duration.ofHours(8))).verificar(token).isEmpty());
+    }
+
+    /**
+     * Testa um token alterado (por exemplo, para se passar por organizador).
+     */
+    @Test
+    void verificar_tokenAdulterado_deveSerRejeitado() {
+        char[] token = servico(AGORA).emitir(7, false, 0).toCharArray();
+        token[6] = token[6] == 'A' ? 'B' : 'A';
+
+        assertTrue(servico(AGORA).verificar(new String(token)).isEmpty());
+        assertTrue(servico(AGORA).verificar("nao-e-um-token").isEmpty());
+        assertTrue(servico(AGORA).verificar(null).isEmpty());
+    }
+}
@@ -16,9 +16,11 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import io.github.site_de_eventos.sitedeeventos.model.Organizador;
 import io.github.site_de_eventos.sitedeeventos.model.Usuario;
+import io.github.site_de_eventos.sitedeeventos.repository.UnidadeDeTrabalho;
 import io.github.site_de_eventos.sitedeeventos.repository.UsuarioRepository;
 
 /**
@@ -41,6 +43,18 @@ class UsuarioServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    /**
+     * Unidade de trabalho real: com o repositório mockado, ela apenas executa as operações.
+     */
+    @Spy
+    private UnidadeDeTrabalho unidadeDeTrabalho = new UnidadeDeTrabalho();
+
+    /**
+     * Mock do serviço que registra os cadastros no log de eventos de domínio.
+     */
+    @Mock
+    private EventosDominioService eventosDominioService;
+
     /**
      * Instância do serviço a ser testado. O Mockito injetará o mock
      * do {@code usuarioRepository} nesta instância.
@@ -74,7 +88,7 @@ class UsuarioServiceTest {
     /**
      * Testa o fluxo de sucesso do registro de um novo usuário.
      * Verifica se o método {@code save} do repositório é chamado quando
-     * um novo usuário é registrado com um e-mail único.
+     * um novo usuário é registrado com um e-mail único, e se o cadastro é registrado no log.
      */
     @Test
     void registrar_newUser_shouldSaveUsuario() {
@@ -89,6 +103,7 @@ class UsuarioServiceTest {
 
         assertNotNull(result);
         verify(usuarioRepository).save(any(Usuario.class));
+        verify(eventosDominioService).usuarioCadastrado(u);
     }
 
     /**
@@ -0,0 +1,181 @@
+package io.github.site_de_eventos.sitedeeventos.service.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Classe de teste para o {@link PublicadorSseCoalescido}.
+ * <p>
+ * O intervalo do agendador é longo o bastante para que ele não dispare durante os testes:
+ * cada despacho é feito chamando {@code despachar()} diretamente. As conexões são
+ * {@link SseEmitter}s que guardam as mensagens recebidas.
+ *
+ * @author Brenno P. S. Santos, Sibele C. Oliveira, Silas S. Santos
+ * @version 1.0
+ * @since 25-08-2025
+ */
+public class PublicadorSseCoalescidoTest {
+
+    private PublicadorSseCoalescido publicador;
+
+    @BeforeEach
+    void setUp() {
+        publicador = new PublicadorSseCoalescido("teste", 60_000L, 60_000L);
+    }
+
+    @AfterEach
+    void encerrar() {
+        publicador.encerrar();
+    }
+
+    /**
+     * Conexão que guarda o conteúdo de cada mensagem recebida e, opcionalmente,
+     * segura as escritas até ser liberada.
+     */
+    private static class EmitterGravador extends SseEmitter {
+
+        private final BlockingQueue<String> recebidos = new LinkedBlockingQueue<>();
+        private final CountDownLatch escrevendo = new CountDownLatch(1);
+        private final CountDownLatch liberacao;
+
+        EmitterGravador(CountDownLatch liberacao) {
+            this.liberacao = liberacao;
+        }
+
+        EmitterGravador() {
+            this(new CountDownLatch(0));
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            escrevendo.countDown();
+            try {
+                liberacao.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            for (DataWithMediaType parte : builder.build()) {
+                if (parte.getData() instanceof String texto && !texto.isBlank() && !texto.contains("data:")) {
+                    recebidos.add(texto);
+                }
+            }
+        }
+
+        String proximo() throws InterruptedException {
+            return recebidos.poll(5, TimeUnit.SECONDS);
+        }
+
+        String nenhumOutro() throws InterruptedException {
+            return recebidos.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Testa se várias publicações no mesmo intervalo viram uma única mensagem, com o valor mais recente.
+     */
+    @Test
+    void despachar_DeveEnviarApenasAUltimaPublicacao() throws InterruptedException {
+        EmitterGravador emitter = new EmitterGravador();
+        publicador.assinar(1, "inicial", emitter);
+        assertEquals("inicial", emitter.proximo());
+
+        publicador.publicar(1, "v1");
+        publicador.publicar(1, "v2");
+        publicador.publicar(1, "v3");
+        publicador.despachar();
+
+        assertEquals("v3", emitter.proximo());
+        assertNull(emitter.nenhumOutro());
+    }
+
+    /**
+     * Testa a serialização sob demanda: só a última publicação é avaliada, uma única vez
+     * para todos os assinantes, e nada é avaliado para chaves sem assinantes.
+     */
+    @Test
+    void publicar_ComSupplier_DeveSerializarUmaVezPorDespacho() throws InterruptedException {
+        EmitterGravador primeiro = new EmitterGravador();
+        EmitterGravador segundo = new EmitterGravador();
+        publicador.assinar(1, null, primeiro);
+        publicador.assinar(1, null, segundo);
+        AtomicInteger descartadas = new AtomicInteger();
+        AtomicInteger avaliadas = new AtomicInteger();
+
+        publicador.publicar(1, () -> "antigo" + descartadas.incrementAndGet());
+        publicador.publicar(1, () -> "atual" + avaliadas.incrementAndGet());
+        publicador.publicar(2, () -> "sem assinantes" + descartadas.incrementAndGet());
+        publicador.despachar();
+
+        assertEquals("atual1", primeiro.proximo());
+        assertEquals("atual1", segundo.proximo());
+        assertEquals(1, avaliadas.get());
+        assertEquals(0, descartadas.get());
+    }
+
+    /**
+     * Testa se uma conexão que falha ao receber é removida, sem afetar as demais.
+     */
+    @Test
+    void despachar_DeveRemoverConexoesFechadas() throws InterruptedException {
+        EmitterGravador ativo = new EmitterGravador();
+        SseEmitter fechado = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Conexão fechada");
+            }
+        };
+        publicador.assinar(1, null, ativo);
+        publicador.assinar(1, null, fechado);
+        assertEquals(2, publicador.contarAssinantes(1));
+
+        publicador.publicar(1, "v1");
+        publicador.despachar();
+
+        assertEquals("v1", ativo.proximo());
+        for (int i = 0; i < 50 && publicador.contarAssinantes(1) > 1; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, publicador.contarAssinantes(1));
+    }
+
+    /**
+     * Testa um assinante lento: enquanto a escrita dele está presa, os outros continuam
+     * recebendo, e as mensagens acumuladas para ele se reduzem à mais recente.
+     */
+    @Test
+    void despachar_AssinanteLento_NaoDeveAtrasarOsDemais() throws InterruptedException {
+        CountDownLatch liberacao = new CountDownLatch(1);
+        EmitterGravador lento = new EmitterGravador(liberacao);
+        EmitterGravador rapido = new EmitterGravador();
+        publicador.assinar(1, null, lento);
+        publicador.assinar(1, null, rapido);
+
+        publicador.publicar(1, "v1");
+        publicador.despachar();
+        assertTrue(lento.escrevendo.await(5, TimeUnit.SECONDS));
+        assertEquals("v1", rapido.proximo());
+        for (String versao : new String[] { "v2", "v3" }) {
+            publicador.publicar(1, versao);
+            publicador.despachar();
+            assertEquals(versao, rapido.proximo());
+        }
+        liberacao.countDown();
+
+        assertEquals("v1", lento.proximo());
+        assertEquals("v3", lento.proximo());
+        assertNull(lento.nenhumOutro());
+    }
+}